@@ -0,0 +1,74 @@
+package benchmark;
+
+import entity.Character;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the core combat methods of {@link Character}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CharacterBenchmark {
+
+    /** The attacking character. */
+    private Character attacker;
+
+    /** The defending character, reset before every operation. */
+    private Character defender;
+
+    /**
+     * Creates a simple character with the specified stats.
+     */
+    static Character createCharacter(int maxHp, int attackPower, int defense,
+                                     double critChance, double critDamage, double dodgeChance) {
+        return new Character(maxHp, attackPower, defense, critChance, critDamage, dodgeChance) {
+            @Override
+            public void useSpecialAbility(Character target) {
+            }
+        };
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        attacker = createCharacter(120, 25, 8, 0.15, 1.7, 0.10);
+        defender = createCharacter(10_000, 15, 5, 0.10, 1.5, 0.05);
+    }
+
+    /**
+     * Restores the defender so every operation hits a fresh target.
+     */
+    private void resetDefender() {
+        defender.setHp(defender.getMaxHp());
+        defender.setDefense(5);
+        defender.clearPoison();
+    }
+
+    @Benchmark
+    public int basicAttack() {
+        resetDefender();
+        return attacker.basicAttack(defender);
+    }
+
+    @Benchmark
+    public int takeDamageThroughArmor() {
+        resetDefender();
+        return defender.takeDamage(30);
+    }
+
+    @Benchmark
+    public int takeDamageBlockedByArmor() {
+        resetDefender();
+        return defender.takeDamage(3);
+    }
+
+    @Benchmark
+    public int tickStatusEffectsAtTurnStart() {
+        resetDefender();
+        defender.applyPoison(5, 3);
+        defender.tickStatusEffectsAtTurnStart();
+        return defender.getHp();
+    }
+}
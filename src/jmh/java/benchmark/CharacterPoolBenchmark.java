@@ -0,0 +1,70 @@
+package benchmark;
+
+import entity.Character;
+import org.openjdk.jmh.annotations.*;
+import simulation.CharacterPool;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one turn of many independent fights in the object model and in {@link CharacterPool}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CharacterPoolBenchmark {
+
+    @Param({"1000", "10000"})
+    public int fights;
+
+    /** Attackers then defenders, in the object model. */
+    private Character[] objects;
+
+    /** Attackers then defenders, in the pool. */
+    private CharacterPool pool;
+
+    /** Pairs for the batch attack. */
+    private int[] attackers;
+    private int[] targets;
+    private int[] dealt;
+
+    /** Generator for every roll. */
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        objects = new Character[fights * 2];
+        pool = new CharacterPool(fights * 2);
+        attackers = new int[fights];
+        targets = new int[fights];
+        dealt = new int[fights];
+        for (int i = 0; i < fights * 2; i++) {
+            objects[i] = CharacterBenchmark.createCharacter(1_000_000, 25, 8, 0.15, 1.7, 0.10);
+            objects[i].setRandom(random);
+            pool.add(objects[i]);
+        }
+        for (int k = 0; k < fights; k++) {
+            attackers[k] = k;
+            targets[k] = k + fights;
+        }
+    }
+
+    @Benchmark
+    public int objectTurn() {
+        int total = 0;
+        for (int k = 0; k < fights; k++) {
+            objects[targets[k]].tickStatusEffectsAtTurnStart();
+            total += objects[attackers[k]].basicAttack(objects[targets[k]]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int[] poolTurn() {
+        pool.tickStatusEffects(null);
+        pool.resolveAttacks(attackers, targets, fights, random, dealt);
+        return dealt;
+    }
+}
@@ -0,0 +1,33 @@
+package benchmark;
+
+import entity.ZombieKind;
+import interfaces.OrganDroppable;
+import items.OrganParts;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link OrganDroppable#getDropItem()} of every zombie.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DropItemBenchmark {
+
+    @Param({"NORMAL", "ROTTEN", "ARMORED", "RUNNER", "BOSS"})
+    public ZombieKind zombieKind;
+
+    /** The zombie dropping loot. */
+    private OrganDroppable droppable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        droppable = (OrganDroppable) zombieKind.create();
+    }
+
+    @Benchmark
+    public OrganParts getDropItem() {
+        return droppable.getDropItem();
+    }
+}
@@ -0,0 +1,85 @@
+package benchmark;
+
+import entity.ArmoredZombie;
+import entity.EffectivenessTable;
+import entity.RottenZombie;
+import entity.RunnerZombie;
+import entity.Zombie;
+import entity.ZombieKind;
+import items.WeaponType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weapon type × zombie kind lookup: the {@link EffectivenessTable} single indexed load
+ * against the former instanceof/WeaponType branch chain, over a mix of random matchups
+ * so the branch predictor cannot learn one pair.
+ * Both costs should stay flat per hit; the table's also stays flat as weapon types and zombie kinds are added.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EffectivenessBenchmark {
+
+    /** Former constants of Player.basicAttack. */
+    private static final int SHARP_BONUS_DAMAGE = 10;
+    private static final int HEAVY_ARMOR_SHRED = 5;
+    private static final double GUN_DODGE_REDUCTION = 0.05;
+
+    /** Number of matchups per invocation. */
+    private static final int MATCHUPS = 1024;
+
+    /** Attacker weapon type of each matchup. */
+    private WeaponType[] weaponTypes;
+
+    /** Target of each matchup. */
+    private Zombie[] zombies;
+
+    private EffectivenessTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom rng = new SplittableRandom(42);
+        WeaponType[] types = WeaponType.values();
+        ZombieKind[] kinds = ZombieKind.values();
+
+        weaponTypes = new WeaponType[MATCHUPS];
+        zombies = new Zombie[MATCHUPS];
+        for (int i = 0; i < MATCHUPS; i++) {
+            weaponTypes[i] = types[rng.nextInt(types.length)];
+            zombies[i] = kinds[rng.nextInt(kinds.length)].create();
+        }
+        table = EffectivenessTable.getDefault();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MATCHUPS)
+    public double table() {
+        double sum = 0.0;
+        for (int i = 0; i < MATCHUPS; i++) {
+            EffectivenessTable.Entry effect = table.get(weaponTypes[i], zombies[i].getKind());
+            sum += effect.getBonusDamage() + effect.getDefenseShred() + effect.getDodgeShred();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MATCHUPS)
+    public double branchy() {
+        double sum = 0.0;
+        for (int i = 0; i < MATCHUPS; i++) {
+            WeaponType weaponType = weaponTypes[i];
+            Zombie zombie = zombies[i];
+            if (zombie instanceof RottenZombie) {
+                if (weaponType == WeaponType.SHARP) sum += SHARP_BONUS_DAMAGE;
+            } else if (zombie instanceof ArmoredZombie) {
+                if (weaponType == WeaponType.HEAVY) sum += HEAVY_ARMOR_SHRED;
+            } else if (zombie instanceof RunnerZombie) {
+                if (weaponType == WeaponType.GUN) sum += GUN_DODGE_REDUCTION;
+            }
+        }
+        return sum;
+    }
+}
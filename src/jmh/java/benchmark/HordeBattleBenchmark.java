@@ -0,0 +1,49 @@
+package benchmark;
+
+import battle.BattleOutcome;
+import battle.HordeBattle;
+import battle.TargetingMode;
+import entity.Player;
+import entity.Zombie;
+import entity.ZombieKind;
+import items.weapon.Rifle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole horde battles as the wave grows, to check the per-turn cost stays near linear.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HordeBattleBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int hordeSize;
+
+    @Param({"LOWEST_HP", "HIGHEST_THREAT", "FRONT_MOST"})
+    public TargetingMode mode;
+
+    private static final ZombieKind[] KINDS = ZombieKind.values();
+
+    private long seed;
+
+    @Benchmark
+    public BattleOutcome fight() {
+        Player player = new Player("Benchmark");
+        player.equipWeapon(new Rifle());
+        player.setHp(player.getMaxHp());
+
+        List<Zombie> zombies = new ArrayList<>(hordeSize);
+        for (int i = 0; i < hordeSize; i++) {
+            Zombie zombie = KINDS[i % KINDS.length].create();
+            // ซอมบี้ตีเบา ๆ ให้ผู้เล่นอยู่รอดจนจบ horde
+            zombie.setBaseStats(zombie.getMaxHp(), 0, zombie.getDefense(), 0.0, 1.0, 0.0);
+            zombies.add(zombie);
+        }
+        return new HordeBattle(player, zombies, seed++).fight(hordeSize * 10, mode);
+    }
+}
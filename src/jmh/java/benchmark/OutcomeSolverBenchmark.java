@@ -0,0 +1,37 @@
+package benchmark;
+
+import entity.Player;
+import entity.ZombieKind;
+import items.weapon.WoodenStick;
+import org.openjdk.jmh.annotations.*;
+import simulation.OutcomeDistribution;
+import simulation.OutcomeSolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the exact outcome solver on every stage's zombie, with the weakest weapon (the longest battles).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutcomeSolverBenchmark {
+
+    @Param({"NORMAL", "ROTTEN", "ARMORED", "RUNNER", "BOSS"})
+    public ZombieKind kind;
+
+    private Player player;
+    private OutcomeSolver solver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = new Player("Benchmark");
+        player.equipWeapon(new WoodenStick());
+        solver = new OutcomeSolver(200);
+    }
+
+    @Benchmark
+    public OutcomeDistribution solve() {
+        return solver.solve(player, kind.create());
+    }
+}
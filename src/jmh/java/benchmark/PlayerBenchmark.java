@@ -0,0 +1,57 @@
+package benchmark;
+
+import entity.Player;
+import entity.Zombie;
+import entity.ZombieKind;
+import items.Weapon;
+import items.WeaponType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Player#basicAttack} over every weapon type × zombie kind pair.
+ * Equipment swaps do not depend on the matchup and live in {@link PlayerEquipBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PlayerBenchmark {
+
+    @Param({"NORMAL", "SHARP", "HEAVY", "GUN"})
+    public WeaponType weaponType;
+
+    @Param({"NORMAL", "ROTTEN", "ARMORED", "RUNNER", "BOSS"})
+    public ZombieKind zombieKind;
+
+    /** The attacking player. */
+    private Player player;
+
+    /** The target zombie, reset before every operation. */
+    private Zombie zombie;
+
+    /** Initial defense of the zombie. */
+    private int zombieDefense;
+
+    /** Initial dodge chance of the zombie. */
+    private double zombieDodge;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = new Player("Bench");
+        player.equipWeapon(new Weapon("Bench " + weaponType, 10, 0.10, 0.5, 0, 0, weaponType));
+
+        zombie = zombieKind.create();
+        zombie.setHp(zombie.getMaxHp());
+        zombieDefense = zombie.getDefense();
+        zombieDodge = zombie.getDodgeChance();
+    }
+
+    @Benchmark
+    public int basicAttack() {
+        zombie.setHp(zombie.getMaxHp());
+        zombie.setDefense(zombieDefense);
+        zombie.setDodgeChance(zombieDodge);
+        return player.basicAttack(zombie);
+    }
+}
@@ -0,0 +1,56 @@
+package benchmark;
+
+import entity.Player;
+import items.Armor;
+import items.Weapon;
+import items.WeaponType;
+import items.armor.KevlarJacket;
+import items.armor.LeatherJacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Player#equipWeapon} and {@link Player#equipArmor} swaps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PlayerEquipBenchmark {
+
+    /** The player swapping equipment. */
+    private Player player;
+
+    /** Weapons swapped by the equip benchmark. */
+    private Weapon weaponA;
+    private Weapon weaponB;
+
+    /** Armors swapped by the equip benchmark. */
+    private Armor armorA;
+    private Armor armorB;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        weaponA = new Weapon("Bench Main", 10, 0.10, 0.5, 0, 0, WeaponType.SHARP);
+        weaponB = new Weapon("Bench Spare", 5, 0.05, 0.2, 0, 0, WeaponType.NORMAL);
+        armorA = new LeatherJacket();
+        armorB = new KevlarJacket();
+
+        player = new Player("Bench");
+        player.equipWeapon(weaponA);
+    }
+
+    @Benchmark
+    public int equipWeapon() {
+        player.equipWeapon(weaponB);
+        player.equipWeapon(weaponA);
+        return player.getAttackPower();
+    }
+
+    @Benchmark
+    public int equipArmor() {
+        player.equipArmor(armorA);
+        player.equipArmor(armorB);
+        return player.getDefense();
+    }
+}
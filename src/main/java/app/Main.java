@@ -1,18 +1,48 @@
 package app;
 
+import battle.StageCatalog;
+import battle.StageDefinition;
 import controller.GameController;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
+import ui.SplashView;
+import utils.AssetWarmup;
+import utils.ResourceManager;
 import utils.SoundManager;
+import utils.SpriteAtlas;
 
 /**
  * Main application class responsible for starting the game.
  */
 public class Main extends Application {
 
+    /**
+     * Background music of the game.
+     */
+    private static final String BGM = "halloween-retro-gaming-music-no-copyright-401542.mp3";
+
+    /**
+     * Sound effects played during the game, loaded in the background after startup.
+     */
+    private static final String[] SOUNDS = {
+            "sword_slice.wav", "harsh_thud.wav", "shot.wav", "cough_short.wav", "heal.wav",
+            "Zombie_hit_1.wav", "Zombie_dead_1.wav", "Zombie_dead_2.wav",
+            "synth_bass_level_complete.wav", "game-over-417465.mp3"
+    };
+
+    /**
+     * Number of threads loading the assets.
+     */
+    private static final int WARMUP_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
     /**
      * Starts the primary stage of the application.
-     * Sets up the window title, initializes the GameController, plays BGM, and shows the stage.
+     * Shows a splash screen right away and loads the assets on background threads.
+     * Once the assets needed by the first battle are ready it initializes the GameController,
+     * plays BGM and starts the game (which may first offer to resume a saved run);
+     * the remaining assets keep loading in the background.
      *
      * @param primaryStage The primary stage for this application
      */
@@ -20,10 +50,53 @@ public class Main extends Application {
     public void start(Stage primaryStage) {
         primaryStage.setTitle("The Last Withdraw");
         primaryStage.setResizable(false);
-        GameController game = new GameController(primaryStage);
-        SoundManager.playBGM("halloween-retro-gaming-music-no-copyright-401542.mp3", 0.2);
-        game.startGame();
+        SplashView splash = new SplashView();
+        primaryStage.setScene(new Scene(splash.getView(), 800, 600));
         primaryStage.show();
+
+        createWarmup().start(WARMUP_THREADS, Platform::runLater, new AssetWarmup.Listener() {
+            @Override
+            public void onProgress(int done, int total, String label) {
+                splash.setProgress(done, total, label);
+            }
+
+            @Override
+            public void onCriticalReady() {
+                GameController game = new GameController(primaryStage);
+                SoundManager.playBGM(BGM, 0.2);
+                game.startGame();
+            }
+        });
+    }
+
+    /**
+     * Lists the assets to load at startup.
+     * Critical: the character atlas, the first stage's background and the BGM.
+     * In the background: every sound effect. Later backgrounds are prefetched one stage ahead by the controller,
+     * so only the first stage is parsed here.
+     *
+     * @return The warm-up, not started
+     */
+    private static AssetWarmup createWarmup() {
+        AssetWarmup warmup = new AssetWarmup();
+
+        SpriteAtlas atlas = SpriteAtlas.getCharacters();
+        for (int page = 0; page < atlas.getIndex().getPageCount(); page++) {
+            String path = atlas.getPagePath(page);
+            warmup.add(path, true, () -> ResourceManager.pinImage(path));
+        }
+
+        StageDefinition first = StageCatalog.getDefault().get(1);
+        if (first != null && first.getBackground() != null) {
+            String path = first.getBackground();
+            warmup.add(path, true, () -> ResourceManager.getImage(path));
+        }
+
+        warmup.add(BGM, true, () -> SoundManager.prepareBGM(BGM));
+        for (String sound : SOUNDS) {
+            warmup.add(sound, false, () -> SoundManager.preloadSound(sound));
+        }
+        return warmup;
     }
 
     /**
@@ -34,4 +107,4 @@ public class Main extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
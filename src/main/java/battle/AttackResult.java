@@ -0,0 +1,125 @@
+package battle;
+
+/**
+ * Immutable summary of a single attack resolved by the {@link BattleEngine}.
+ */
+public final class AttackResult {
+
+    /** The actual damage dealt to HP. */
+    private final int damage;
+
+    /** Whether the attack was a critical hit. */
+    private final boolean critical;
+
+    /** Whether the attack was dodged. */
+    private final boolean dodged;
+
+    /** Whether the attacker used its special ability instead of a basic attack. */
+    private final boolean specialAbility;
+
+    /** Whether the target was defeated by this attack. */
+    private final boolean targetDefeated;
+
+    /** Whether the attacker was stunned and lost its action. */
+    private final boolean attackerStunned;
+
+    /** Whether the attacker died from its own status effects before acting. */
+    private final boolean attackerDefeated;
+
+    /**
+     * Constructs a new AttackResult for an attack that was carried out.
+     * @param damage Actual damage dealt to HP
+     * @param critical true if the hit was critical
+     * @param dodged true if the attack was dodged
+     * @param specialAbility true if a special ability was used
+     * @param targetDefeated true if the target died
+     */
+    public AttackResult(int damage, boolean critical, boolean dodged, boolean specialAbility, boolean targetDefeated) {
+        this(damage, critical, dodged, specialAbility, targetDefeated, false, false);
+    }
+
+    /**
+     * Constructs a new AttackResult.
+     * @param damage Actual damage dealt to HP
+     * @param critical true if the hit was critical
+     * @param dodged true if the attack was dodged
+     * @param specialAbility true if a special ability was used
+     * @param targetDefeated true if the target died
+     * @param attackerStunned true if the attacker was stunned and did not act
+     * @param attackerDefeated true if the attacker died from its own status effects and did not act
+     */
+    public AttackResult(int damage, boolean critical, boolean dodged, boolean specialAbility, boolean targetDefeated,
+                        boolean attackerStunned, boolean attackerDefeated) {
+        this.damage = damage;
+        this.critical = critical;
+        this.dodged = dodged;
+        this.specialAbility = specialAbility;
+        this.targetDefeated = targetDefeated;
+        this.attackerStunned = attackerStunned;
+        this.attackerDefeated = attackerDefeated;
+    }
+
+    /**
+     * Gets the actual damage dealt.
+     * @return Damage dealt to HP
+     */
+    public int getDamage() {
+        return damage;
+    }
+
+    /**
+     * Checks if the attack was a critical hit.
+     * @return true if critical
+     */
+    public boolean isCritical() {
+        return critical;
+    }
+
+    /**
+     * Checks if the attack was dodged.
+     * @return true if dodged
+     */
+    public boolean isDodged() {
+        return dodged;
+    }
+
+    /**
+     * Checks if the attacker used its special ability.
+     * @return true if a special ability was used
+     */
+    public boolean isSpecialAbility() {
+        return specialAbility;
+    }
+
+    /**
+     * Checks if the target was defeated.
+     * @return true if the target died
+     */
+    public boolean isTargetDefeated() {
+        return targetDefeated;
+    }
+
+    /**
+     * Checks if the attacker was stunned and lost its action.
+     * @return true if stunned
+     */
+    public boolean isAttackerStunned() {
+        return attackerStunned;
+    }
+
+    /**
+     * Checks if the attacker died from its own status effects before acting.
+     * @return true if the attacker died
+     */
+    public boolean isAttackerDefeated() {
+        return attackerDefeated;
+    }
+
+    /**
+     * Checks if the attacker skipped its action (stunned or dead).
+     * @return true if no attack was made
+     */
+    public boolean isSkipped() {
+        return attackerStunned || attackerDefeated;
+    }
+}
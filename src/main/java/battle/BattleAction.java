@@ -0,0 +1,51 @@
+package battle;
+
+/**
+ * Enumeration of the engine calls stored in a {@link BattleRecord}, in the order they were made.
+ * Item actions are followed by the index of the item in the record's item table.
+ */
+public enum BattleAction {
+    /** {@link BattleEngine#playerAttack()} */
+    PLAYER_ATTACK,
+    /** {@link BattleEngine#playerHeal()} */
+    PLAYER_HEAL,
+    /** {@link BattleEngine#usePotion(items.Potion)} */
+    USE_POTION,
+    /** {@link BattleEngine#equipWeapon(items.Weapon)} */
+    EQUIP_WEAPON,
+    /** {@link BattleEngine#equipArmor(items.Armor)} */
+    EQUIP_ARMOR,
+    /** {@link BattleEngine#tickPlayerStatus()} */
+    STATUS_TICK,
+    /** {@link BattleEngine#enemyAttack()} */
+    ENEMY_ATTACK,
+    /** {@link BattleEngine#collectLoot()} */
+    COLLECT_LOOT;
+
+    /**
+     * Cached values, indexed by ordinal.
+     */
+    private static final BattleAction[] VALUES = values();
+
+    /**
+     * Checks if the action refers to an item of the item table.
+     *
+     * @return true for potion and equipment actions
+     */
+    public boolean hasItem() {
+        return this == USE_POTION || this == EQUIP_WEAPON || this == EQUIP_ARMOR;
+    }
+
+    /**
+     * Gets an action from its opcode.
+     *
+     * @param opcode The ordinal of the action
+     * @return The action
+     */
+    public static BattleAction fromOpcode(int opcode) {
+        if (opcode < 0 || opcode >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown battle action: " + opcode);
+        }
+        return VALUES[opcode];
+    }
+}
@@ -0,0 +1,370 @@
+package battle;
+
+import entity.*;
+import event.CombatEventBus;
+import interfaces.OrganDroppable;
+import items.Armor;
+import items.Item;
+import items.OrganParts;
+import items.Potion;
+import items.Weapon;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Pure-model implementation of the battle rules between the player and a single zombie.
+ * The engine has no UI dependencies, so the same rules drive both the JavaFX game
+ * (through {@link controller.GameController}) and headless simulations.
+ */
+public class BattleEngine {
+
+    /**
+     * Chance for the Boss to use its special ability instead of a basic attack.
+     */
+    public static final double BOSS_SKILL_CHANCE = 0.25;
+
+    /**
+     * Result of a turn lost to stun.
+     */
+    static final AttackResult STUNNED = new AttackResult(0, false, false, false, false, true, false);
+
+    /**
+     * Seed of the battle's random generator.
+     */
+    private final long seed;
+
+    /**
+     * Random generator shared by the engine and both fighters, so every roll of the battle
+     * comes from one stream.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * The player entity.
+     */
+    private final Player player;
+
+    /**
+     * The enemy the player is fighting.
+     */
+    private final Zombie enemy;
+
+    /**
+     * Number of turns the player has taken.
+     */
+    private int turns;
+
+    /**
+     * Recording of the battle's actions, or null when not recording.
+     */
+    private BattleRecord record;
+
+    /**
+     * Initialize a new battle with a random seed.
+     *
+     * @param player The player entity
+     * @param enemy  The enemy to fight
+     */
+    public BattleEngine(Player player, Zombie enemy) {
+        this(player, enemy, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Initialize a new battle. Any lingering status effect on the player fades when the battle starts,
+     * so the battle depends only on the state a {@link BattleRecord} stores.
+     * The same seed and the same player actions always reproduce the same battle.
+     *
+     * @param player The player entity
+     * @param enemy  The enemy to fight
+     * @param seed   Seed of the battle's random generator
+     */
+    public BattleEngine(Player player, Zombie enemy, long seed) {
+        this.player = player;
+        this.enemy = enemy;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+
+        player.setRandom(random);
+        enemy.setRandom(random);
+        player.clearStatusEffects();
+
+        // ผู้เล่นเอา event bus ติดตัวมา → ให้ศัตรูตัวใหม่ใช้ bus เดียวกัน
+        CombatEventBus events = player.getEventBus();
+        if (events != null) {
+            events.clearParticipants();
+            player.setEventBus(events);
+            enemy.setEventBus(events);
+        }
+    }
+
+    /**
+     * Creates the enemy for the specified stage of the campaign ({@link StageCatalog}).
+     *
+     * @param stage The stage number
+     * @return A new zombie, or null if the stage does not exist
+     */
+    public static Zombie createStageEnemy(int stage) {
+        StageDefinition def = StageCatalog.getDefault().get(stage);
+        return def == null ? null : def.createEnemy();
+    }
+
+    // -------------------- RECORDING -------------------- //
+
+    /**
+     * Starts recording every following action, from the current state of the battle.
+     *
+     * @return The record, filled as the battle goes on
+     */
+    public BattleRecord startRecording() {
+        record = new BattleRecord(seed, player, enemy);
+        return record;
+    }
+
+    /**
+     * Gets the current recording.
+     *
+     * @return The record, or null when not recording
+     */
+    public BattleRecord getRecord() {
+        return record;
+    }
+
+    /**
+     * Appends an action to the recording, if any.
+     */
+    private void recordAction(BattleAction action, Item item) {
+        if (record != null) {
+            record.append(action, item, this);
+        }
+    }
+
+    // -------------------- PLAYER ACTIONS -------------------- //
+
+    /**
+     * Resolves the player's basic attack on the enemy.
+     * The enemy gets an extra dodge roll before the attack lands. A stunned player loses the turn.
+     *
+     * @return The result of the attack
+     */
+    public AttackResult playerAttack() {
+        turns++;
+
+        if (player.isStunned()) {
+            recordAction(BattleAction.PLAYER_ATTACK, null);
+            return STUNNED;
+        }
+
+        boolean isDodge = random.nextDouble() < enemy.getDodgeChance();
+        if (isDodge) {
+            recordAction(BattleAction.PLAYER_ATTACK, null);
+            return new AttackResult(0, false, true, false, false);
+        }
+
+        int dmg = player.basicAttack(enemy);
+        recordAction(BattleAction.PLAYER_ATTACK, null);
+        return new AttackResult(dmg, player.wasLastAttackCritical(), false, false, !enemy.isAlive());
+    }
+
+    /**
+     * Resolves the player's heal action (Adrenaline Shot). A stunned player loses the turn.
+     *
+     * @return The amount of HP restored
+     */
+    public int playerHeal() {
+        turns++;
+
+        if (player.isStunned()) {
+            recordAction(BattleAction.PLAYER_HEAL, null);
+            return 0;
+        }
+
+        int hpBefore = player.getHp();
+        player.useSpecialAbility(player);
+        recordAction(BattleAction.PLAYER_HEAL, null);
+        return player.getHp() - hpBefore;
+    }
+
+    /**
+     * Uses a potion from the player's inventory. Does not take a turn.
+     *
+     * @param potion The potion to use
+     * @return true if the potion restored HP
+     */
+    public boolean usePotion(Potion potion) {
+        boolean used = player.usePotion(potion);
+        recordAction(BattleAction.USE_POTION, potion);
+        return used;
+    }
+
+    /**
+     * Equips a weapon. Does not take a turn.
+     *
+     * @param weapon The weapon to equip
+     */
+    public void equipWeapon(Weapon weapon) {
+        player.equipWeapon(weapon);
+        recordAction(BattleAction.EQUIP_WEAPON, weapon);
+    }
+
+    /**
+     * Equips an armor. Does not take a turn.
+     *
+     * @param armor The armor to equip
+     */
+    public void equipArmor(Armor armor) {
+        player.equipArmor(armor);
+        recordAction(BattleAction.EQUIP_ARMOR, armor);
+    }
+
+    // -------------------- ENEMY TURN -------------------- //
+
+    /**
+     * Applies the player's status effects at the start of the enemy's turn.
+     *
+     * @return The HP lost by the player
+     */
+    public int tickPlayerStatus() {
+        int hpBefore = player.getHp();
+        player.tickStatusEffectsAtTurnStart();
+        recordAction(BattleAction.STATUS_TICK, null);
+        return hpBefore - player.getHp();
+    }
+
+    /**
+     * Resolves the enemy's attack on the player.
+     * The Boss checks for enrage and may use its skill; a Normal Zombie regenerates after attacking when below half HP.
+     *
+     * @return The result of the attack
+     */
+    public AttackResult enemyAttack() {
+        AttackResult result = resolveEnemyAttack(enemy, player, random);
+        recordAction(BattleAction.ENEMY_ATTACK, null);
+        return result;
+    }
+
+    /**
+     * Resolves one zombie's attack on the player, with its special ability.
+     * The zombie's own status effects tick first; a stunned zombie, or one killed by its own
+     * bleed or poison, skips its attack and the result says so.
+     * Shared with {@link HordeBattle} so both battles follow the same rules.
+     *
+     * @param enemy  The attacking zombie
+     * @param player The player
+     * @param random The battle's random generator
+     * @return The result of the attack
+     */
+    static AttackResult resolveEnemyAttack(Zombie enemy, Player player, RandomGenerator random) {
+        // effect ของซอมบี้นับตอนเริ่มเทิร์นของมันเอง (ไม่มี effect = ไม่มีผลอะไร)
+        if (!enemy.getStatusEffects().isEmpty()) {
+            boolean stunned = enemy.isStunned();
+            enemy.tickStatusEffectsAtTurnStart();
+            if (stunned || !enemy.isAlive()) {
+                return new AttackResult(0, false, false, false, false, stunned && enemy.isAlive(), !enemy.isAlive());
+            }
+        }
+
+        if (enemy instanceof BossZombie boss) {
+            boss.enrage();
+            if (random.nextDouble() <= BOSS_SKILL_CHANCE) {
+                boss.useSpecialAbility(player);
+                return new AttackResult(0, false, false, true, !player.isAlive());
+            }
+        }
+
+        int dmg = enemy.basicAttack(player);
+        boolean crit = enemy.wasLastAttackCritical();
+
+        if (enemy instanceof NormalZombie && enemy.getHp() < enemy.getMaxHp() / 2) {
+            enemy.useSpecialAbility(player);
+        }
+
+        return new AttackResult(dmg, crit, dmg == 0, false, !player.isAlive());
+    }
+
+    // -------------------- RESULT -------------------- //
+
+    /**
+     * Awards the enemy's drop to the player.
+     *
+     * @return The looted organ parts, or null if the enemy drops nothing
+     */
+    public OrganParts collectLoot() {
+        if (!(enemy instanceof OrganDroppable droppable)) return null;
+
+        OrganParts loot = droppable.getDropItem();
+        player.addHearts(loot.getHearts());
+        player.addBrains(loot.getBrains());
+        recordAction(BattleAction.COLLECT_LOOT, null);
+        return loot;
+    }
+
+    /**
+     * Runs the whole battle without any delay, with the player attacking every turn.
+     *
+     * @param maxTurns Maximum number of player turns before giving up
+     * @return The outcome of the battle
+     */
+    public BattleOutcome fight(int maxTurns) {
+        while (turns < maxTurns && player.isAlive() && enemy.isAlive()) {
+            playerAttack();
+            if (!enemy.isAlive()) break;
+
+            tickPlayerStatus();
+            if (!player.isAlive()) break;
+
+            enemyAttack();
+        }
+        return getOutcome();
+    }
+
+    /**
+     * Gets the current outcome of the battle.
+     *
+     * @return The battle outcome
+     */
+    public BattleOutcome getOutcome() {
+        if (!enemy.isAlive()) return BattleOutcome.PLAYER_WON;
+        if (!player.isAlive()) return BattleOutcome.PLAYER_LOST;
+        return BattleOutcome.UNRESOLVED;
+    }
+
+    // -------------------- GETTERS -------------------- //
+
+    /**
+     * Gets the player entity.
+     *
+     * @return The player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the enemy.
+     *
+     * @return The enemy
+     */
+    public Zombie getEnemy() {
+        return enemy;
+    }
+
+    /**
+     * Gets the seed of the battle's random generator.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of turns taken by the player.
+     *
+     * @return Number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+}
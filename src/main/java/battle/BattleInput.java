@@ -0,0 +1,49 @@
+package battle;
+
+import static battle.BattleState.*;
+
+/**
+ * Enumeration of the player inputs checked by {@link BattleStateMachine}, with the states accepting them.
+ */
+public enum BattleInput {
+    /** Attack button. */
+    ATTACK(PLAYER_TURN),
+    /** Heal button. */
+    HEAL(PLAYER_TURN),
+    /** Inventory button, in battle or in the shop. */
+    OPEN_INVENTORY(PLAYER_TURN, SHOP),
+    /** Back button of the inventory. */
+    CLOSE_INVENTORY(INVENTORY),
+    /** Equip or use buttons of the inventory. */
+    USE_ITEM(INVENTORY),
+    /** Next stage button of the shop. */
+    NEXT_STAGE(SHOP);
+
+    /**
+     * Bit set of the accepting states, indexed by ordinal.
+     */
+    private final int acceptedStates;
+
+    /**
+     * Constructs an input accepted in the specified states.
+     *
+     * @param states The accepting states
+     */
+    BattleInput(BattleState... states) {
+        int mask = 0;
+        for (BattleState state : states) {
+            mask |= 1 << state.ordinal();
+        }
+        this.acceptedStates = mask;
+    }
+
+    /**
+     * Checks if the input is accepted in a state.
+     *
+     * @param state The current state
+     * @return true if the input is accepted
+     */
+    public boolean isAcceptedIn(BattleState state) {
+        return (acceptedStates & (1 << state.ordinal())) != 0;
+    }
+}
@@ -0,0 +1,13 @@
+package battle;
+
+/**
+ * Enumeration representing how a battle ended.
+ */
+public enum BattleOutcome {
+    /** The enemy was defeated. */
+    PLAYER_WON,
+    /** The player was defeated. */
+    PLAYER_LOST,
+    /** Both sides are still standing (e.g. the turn limit was reached). */
+    UNRESOLVED
+}
@@ -0,0 +1,654 @@
+package battle;
+
+import entity.Player;
+import entity.Zombie;
+import entity.ZombieKind;
+import items.*;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact recording of one battle: the seed, the starting state of the player and the enemy,
+ * and every engine call in order. Replaying the calls on a fresh {@link BattleEngine} with the
+ * same seed reproduces the exact same state changes (see {@link BattleReplayer}).
+ * <p>
+ * Binary layout (big-endian, {@link DataOutputStream}):
+ * magic, version, seed, enemy kind and stats, player snapshot, item table, action stream, final state.
+ * Version 1 records hold the enemy kind only; their enemy is replayed with its default stats.
+ * Records before version 3 keep only the outcome, both HPs and the turns as final state.
+ * Actions are one byte each, followed by a varint item index for item actions.
+ */
+public class BattleRecord {
+
+    /**
+     * "LWRP" - marks the start of a record.
+     */
+    public static final int MAGIC = 0x4C575250;
+
+    /**
+     * Current version of the binary format.
+     */
+    public static final int FORMAT_VERSION = 3;
+
+    /**
+     * File extension used for saved records.
+     */
+    public static final String FILE_EXTENSION = ".lwrp";
+
+    /**
+     * Item kinds of the item table.
+     */
+    private static final int WEAPON = 0;
+    private static final int ARMOR = 1;
+    private static final int POTION = 2;
+
+    // -------------------- START STATE -------------------- //
+
+    /**
+     * Seed of the battle's random generator.
+     */
+    private final long seed;
+
+    /**
+     * Kind of the enemy, created fresh on replay.
+     */
+    private final ZombieKind enemyKind;
+
+    /**
+     * Snapshot of the enemy at the start of the battle, since scaled and endless enemies
+     * do not have the default stats of their kind.
+     */
+    private final int enemyHp;
+    private final int enemyMaxHp;
+    private final int enemyAttackPower;
+    private final int enemyDefense;
+    private final double enemyCritChance;
+    private final double enemyCritDamage;
+    private final double enemyDodgeChance;
+
+    /**
+     * Snapshot of the player at the start of the battle.
+     */
+    private final String playerName;
+    private final int hp;
+    private final int attackPower;
+    private final int defense;
+    private final double critChance;
+    private final double critDamage;
+    private final double dodgeChance;
+    private final int hearts;
+    private final int brains;
+    private final int weaponIndex;
+    private final int armorIndex;
+    private final int[] potionIndices;
+
+    /**
+     * Every item referenced by the record; actions refer to items by index.
+     */
+    private final List<Item> items = new ArrayList<>();
+
+    // -------------------- ACTIONS -------------------- //
+
+    /**
+     * Encoded action stream.
+     */
+    private byte[] actions = new byte[64];
+
+    /**
+     * Number of used bytes in the action stream.
+     */
+    private int actionBytes;
+
+    /**
+     * Number of recorded actions.
+     */
+    private int actionCount;
+
+    // -------------------- FINAL STATE -------------------- //
+
+    /**
+     * State after the last recorded action, used to verify replays.
+     */
+    private BattleOutcome outcome = BattleOutcome.UNRESOLVED;
+    private int finalPlayerHp;
+    private int finalEnemyHp;
+    private int turns;
+
+    /**
+     * Rest of the final state, compared only if {@link #detailedFinalState} is true.
+     */
+    private int finalPlayerDefense;
+    private int finalPotionCount;
+    private int finalHearts;
+    private int finalBrains;
+    private int finalEnemyDefense;
+    private double finalEnemyDodgeChance;
+
+    /**
+     * false for records written before the whole final state was kept.
+     */
+    private boolean detailedFinalState = true;
+
+    /**
+     * Starts a record from the current state of a battle.
+     *
+     * @param seed   Seed of the battle's random generator
+     * @param player The player at the start of the battle
+     * @param enemy  The enemy at the start of the battle
+     */
+    BattleRecord(long seed, Player player, Zombie enemy) {
+        this.seed = seed;
+        this.enemyKind = enemy.getKind();
+        this.enemyHp = enemy.getHp();
+        this.enemyMaxHp = enemy.getMaxHp();
+        this.enemyAttackPower = enemy.getAttackPower();
+        this.enemyDefense = enemy.getDefense();
+        this.enemyCritChance = enemy.getCritChance();
+        this.enemyCritDamage = enemy.getCritDamage();
+        this.enemyDodgeChance = enemy.getDodgeChance();
+        this.playerName = player.getName();
+        this.hp = player.getHp();
+        this.attackPower = player.getAttackPower();
+        this.defense = player.getDefense();
+        this.critChance = player.getCritChance();
+        this.critDamage = player.getCritDamage();
+        this.dodgeChance = player.getDodgeChance();
+        this.hearts = player.getHeartParts();
+        this.brains = player.getBrainParts();
+        this.weaponIndex = indexOf(player.getWeapon());
+        this.armorIndex = indexOf(player.getArmor());
+        this.potionIndices = new int[player.getPotions().size()];
+        for (int i = 0; i < potionIndices.length; i++) {
+            potionIndices[i] = indexOf(player.getPotions().get(i));
+        }
+        this.finalPlayerHp = hp;
+        this.finalEnemyHp = enemy.getHp();
+        this.finalPlayerDefense = defense;
+        this.finalPotionCount = potionIndices.length;
+        this.finalHearts = hearts;
+        this.finalBrains = brains;
+        this.finalEnemyDefense = enemy.getDefense();
+        this.finalEnemyDodgeChance = enemy.getDodgeChance();
+    }
+
+    /**
+     * Constructor used by {@link #read(InputStream)}.
+     */
+    private BattleRecord(long seed, Zombie enemy, String playerName, int hp, int attackPower, int defense,
+                         double critChance, double critDamage, double dodgeChance, int hearts, int brains,
+                         int weaponIndex, int armorIndex, int[] potionIndices) {
+        this.seed = seed;
+        this.enemyKind = enemy.getKind();
+        this.enemyHp = enemy.getHp();
+        this.enemyMaxHp = enemy.getMaxHp();
+        this.enemyAttackPower = enemy.getAttackPower();
+        this.enemyDefense = enemy.getDefense();
+        this.enemyCritChance = enemy.getCritChance();
+        this.enemyCritDamage = enemy.getCritDamage();
+        this.enemyDodgeChance = enemy.getDodgeChance();
+        this.playerName = playerName;
+        this.hp = hp;
+        this.attackPower = attackPower;
+        this.defense = defense;
+        this.critChance = critChance;
+        this.critDamage = critDamage;
+        this.dodgeChance = dodgeChance;
+        this.hearts = hearts;
+        this.brains = brains;
+        this.weaponIndex = weaponIndex;
+        this.armorIndex = armorIndex;
+        this.potionIndices = potionIndices;
+    }
+
+    // -------------------- RECORDING -------------------- //
+
+    /**
+     * Appends an action and captures the state of the battle after it.
+     *
+     * @param action The action performed
+     * @param item   The item of an item action, or null
+     * @param engine The battle the action was performed on
+     */
+    void append(BattleAction action, Item item, BattleEngine engine) {
+        ensureCapacity(6);
+        actions[actionBytes++] = (byte) action.ordinal();
+        if (action.hasItem()) {
+            int index = indexOf(item);
+            while ((index & ~0x7F) != 0) {
+                actions[actionBytes++] = (byte) ((index & 0x7F) | 0x80);
+                index >>>= 7;
+            }
+            actions[actionBytes++] = (byte) index;
+        }
+        actionCount++;
+
+        outcome = engine.getOutcome();
+        finalPlayerHp = engine.getPlayer().getHp();
+        finalEnemyHp = engine.getEnemy().getHp();
+        turns = engine.getTurns();
+        captureDetails(engine);
+    }
+
+    /**
+     * Captures the final state beyond outcome, HP and turns.
+     */
+    private void captureDetails(BattleEngine engine) {
+        Player player = engine.getPlayer();
+        finalPlayerDefense = player.getDefense();
+        finalPotionCount = player.getPotions().size();
+        finalHearts = player.getHeartParts();
+        finalBrains = player.getBrainParts();
+        finalEnemyDefense = engine.getEnemy().getDefense();
+        finalEnemyDodgeChance = engine.getEnemy().getDodgeChance();
+    }
+
+    /**
+     * Gets the index of an item in the item table, adding it if needed.
+     *
+     * @return The index, or -1 for null
+     */
+    private int indexOf(Item item) {
+        if (item == null) return -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) return i;
+        }
+        items.add(item);
+        return items.size() - 1;
+    }
+
+    /**
+     * Grows the action stream so that the specified number of bytes fit.
+     */
+    private void ensureCapacity(int extra) {
+        if (actionBytes + extra > actions.length) {
+            actions = Arrays.copyOf(actions, Math.max(actions.length * 2, actionBytes + extra));
+        }
+    }
+
+    // -------------------- REPLAY -------------------- //
+
+    /**
+     * Rebuilds the player as it was at the start of the battle.
+     *
+     * @return A new player with the recorded state, equipment and potions
+     */
+    public Player createPlayer() {
+        Player player = new Player(playerName);
+        player.equipWeapon((Weapon) itemAt(weaponIndex));
+        player.equipArmor((Armor) itemAt(armorIndex));
+        for (int index : potionIndices) {
+            player.addPotionToInventory((Potion) itemAt(index));
+        }
+
+        // ค่าที่บันทึกไว้รวมโบนัสอุปกรณ์แล้ว และเกราะอาจถูกใช้ไปบางส่วน → เขียนทับทั้งหมด
+        player.setAttackPower(attackPower);
+        player.restoreUsedShield(defense);
+        player.setCritChance(critChance);
+        player.setCritDamage(critDamage);
+        player.setDodgeChance(dodgeChance);
+        player.setHp(hp);
+        player.addHearts(hearts);
+        player.addBrains(brains);
+        return player;
+    }
+
+    /**
+     * Creates the enemy as it was at the start of the battle.
+     *
+     * @return A new enemy with the recorded stats
+     */
+    public Zombie createEnemy() {
+        Zombie enemy = enemyKind.create();
+        enemy.setBaseStats(enemyMaxHp, enemyAttackPower, enemyDefense,
+                enemyCritChance, enemyCritDamage, enemyDodgeChance);
+        enemy.setHp(enemyHp);
+        return enemy;
+    }
+
+    /**
+     * Calls every recorded action on a battle, in order.
+     *
+     * @param engine A battle created from {@link #createPlayer()}, {@link #createEnemy()} and {@link #getSeed()}
+     */
+    void applyTo(BattleEngine engine) {
+        int pos = 0;
+        while (pos < actionBytes) {
+            BattleAction action = BattleAction.fromOpcode(actions[pos++]);
+            Item item = null;
+            if (action.hasItem()) {
+                int index = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = actions[pos++];
+                    index |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                item = itemAt(index);
+            }
+
+            switch (action) {
+                case PLAYER_ATTACK -> engine.playerAttack();
+                case PLAYER_HEAL -> engine.playerHeal();
+                case USE_POTION -> engine.usePotion((Potion) item);
+                case EQUIP_WEAPON -> engine.equipWeapon((Weapon) item);
+                case EQUIP_ARMOR -> engine.equipArmor((Armor) item);
+                case STATUS_TICK -> engine.tickPlayerStatus();
+                case ENEMY_ATTACK -> engine.enemyAttack();
+                case COLLECT_LOOT -> engine.collectLoot();
+            }
+        }
+    }
+
+    /**
+     * Checks if a replayed battle ended in the recorded state.
+     *
+     * @param engine The replayed battle
+     * @return true if outcome, turns, HP of both fighters, the player's defense, potions and currency,
+     * and the enemy's defense and dodge chance match
+     */
+    public boolean matches(BattleEngine engine) {
+        Player player = engine.getPlayer();
+        Zombie enemy = engine.getEnemy();
+        boolean basic = engine.getOutcome() == outcome
+                && player.getHp() == finalPlayerHp
+                && enemy.getHp() == finalEnemyHp
+                && engine.getTurns() == turns;
+        if (!basic || !detailedFinalState) return basic;
+
+        return player.getDefense() == finalPlayerDefense
+                && player.getPotions().size() == finalPotionCount
+                && player.getHeartParts() == finalHearts
+                && player.getBrainParts() == finalBrains
+                && enemy.getDefense() == finalEnemyDefense
+                && Double.compare(enemy.getDodgeChance(), finalEnemyDodgeChance) == 0;
+    }
+
+    /**
+     * Gets an item of the item table.
+     */
+    private Item itemAt(int index) {
+        return index < 0 ? null : items.get(index);
+    }
+
+    // -------------------- BINARY FORMAT -------------------- //
+
+    /**
+     * Writes the record.
+     *
+     * @param out The stream to write to (not closed)
+     * @throws IOException if the stream fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        data.writeLong(seed);
+        data.writeByte(enemyKind.ordinal());
+        data.writeInt(enemyHp);
+        data.writeInt(enemyMaxHp);
+        data.writeInt(enemyAttackPower);
+        data.writeInt(enemyDefense);
+        data.writeDouble(enemyCritChance);
+        data.writeDouble(enemyCritDamage);
+        data.writeDouble(enemyDodgeChance);
+
+        data.writeUTF(playerName);
+        data.writeInt(hp);
+        data.writeInt(attackPower);
+        data.writeInt(defense);
+        data.writeDouble(critChance);
+        data.writeDouble(critDamage);
+        data.writeDouble(dodgeChance);
+        data.writeInt(hearts);
+        data.writeInt(brains);
+        data.writeInt(weaponIndex);
+        data.writeInt(armorIndex);
+        data.writeInt(potionIndices.length);
+        for (int index : potionIndices) data.writeInt(index);
+
+        data.writeInt(items.size());
+        for (Item item : items) writeItem(data, item);
+
+        data.writeInt(actionCount);
+        data.writeInt(actionBytes);
+        data.write(actions, 0, actionBytes);
+
+        data.writeByte(outcome.ordinal());
+        data.writeInt(finalPlayerHp);
+        data.writeInt(finalEnemyHp);
+        data.writeInt(turns);
+        data.writeInt(finalPlayerDefense);
+        data.writeInt(finalPotionCount);
+        data.writeInt(finalHearts);
+        data.writeInt(finalBrains);
+        data.writeInt(finalEnemyDefense);
+        data.writeDouble(finalEnemyDodgeChance);
+        data.flush();
+    }
+
+    /**
+     * Reads a record written by {@link #write(OutputStream)}.
+     *
+     * @param in The stream to read from (not closed)
+     * @return The record
+     * @throws IOException if the stream fails or does not contain a supported, well-formed record
+     */
+    public static BattleRecord read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a battle record");
+        }
+        int version = data.readUnsignedByte();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported battle record version: " + version);
+        }
+
+        long seed = data.readLong();
+        Zombie enemy = valueAt(ZombieKind.values(), data.readUnsignedByte(), "enemy kind").create();
+        if (version >= 2) {
+            int enemyHp = data.readInt();
+            enemy.setBaseStats(data.readInt(), data.readInt(), data.readInt(),
+                    data.readDouble(), data.readDouble(), data.readDouble());
+            enemy.setHp(enemyHp);
+        }
+        String name = data.readUTF();
+        int hp = data.readInt();
+        int attackPower = data.readInt();
+        int defense = data.readInt();
+        double critChance = data.readDouble();
+        double critDamage = data.readDouble();
+        double dodgeChance = data.readDouble();
+        int hearts = data.readInt();
+        int brains = data.readInt();
+        int weaponIndex = data.readInt();
+        int armorIndex = data.readInt();
+        int[] potionIndices = new int[count(data.readInt(), "potion")];
+        for (int i = 0; i < potionIndices.length; i++) potionIndices[i] = data.readInt();
+
+        BattleRecord record = new BattleRecord(seed, enemy, name, hp, attackPower, defense,
+                critChance, critDamage, dodgeChance, hearts, brains, weaponIndex, armorIndex, potionIndices);
+
+        int itemCount = count(data.readInt(), "item");
+        for (int i = 0; i < itemCount; i++) record.items.add(readItem(data));
+        record.checkItemIndex(weaponIndex);
+        record.checkItemIndex(armorIndex);
+        for (int index : potionIndices) record.checkItemIndex(index);
+
+        record.actionCount = count(data.readInt(), "action");
+        record.actionBytes = count(data.readInt(), "action byte");
+        record.actions = new byte[Math.max(1, record.actionBytes)];
+        data.readFully(record.actions, 0, record.actionBytes);
+        record.checkActions();
+
+        record.outcome = valueAt(BattleOutcome.values(), data.readUnsignedByte(), "outcome");
+        record.finalPlayerHp = data.readInt();
+        record.finalEnemyHp = data.readInt();
+        record.turns = data.readInt();
+        if (version >= 3) {
+            record.finalPlayerDefense = data.readInt();
+            record.finalPotionCount = data.readInt();
+            record.finalHearts = data.readInt();
+            record.finalBrains = data.readInt();
+            record.finalEnemyDefense = data.readInt();
+            record.finalEnemyDodgeChance = data.readDouble();
+        } else {
+            record.detailedFinalState = false;
+        }
+        return record;
+    }
+
+    /**
+     * Gets an enum constant by ordinal, as read from a record.
+     *
+     * @throws IOException if the ordinal is out of range, e.g. in a corrupt or newer record
+     */
+    private static <E> E valueAt(E[] values, int ordinal, String what) throws IOException {
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Corrupt battle record (unknown " + what + " " + ordinal + ")");
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Checks a count read from a record.
+     *
+     * @throws IOException if the count is negative
+     */
+    private static int count(int value, String what) throws IOException {
+        if (value < 0) throw new IOException("Corrupt battle record (negative " + what + " count " + value + ")");
+        return value;
+    }
+
+    /**
+     * Checks an index into the item table read from a record.
+     *
+     * @throws IOException if the index is neither -1 nor in the table
+     */
+    private void checkItemIndex(int index) throws IOException {
+        if (index < -1 || index >= items.size()) {
+            throw new IOException("Corrupt battle record (item index " + index + " out of range)");
+        }
+    }
+
+    /**
+     * Checks that the action stream only holds known actions and item indices in the table.
+     *
+     * @throws IOException if the stream is malformed
+     */
+    private void checkActions() throws IOException {
+        int pos = 0;
+        int count = 0;
+        while (pos < actionBytes) {
+            BattleAction action = valueAt(BattleAction.values(), actions[pos++] & 0xFF, "action");
+            if (action.hasItem()) {
+                int index = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    if (pos >= actionBytes || shift > 28) throw new IOException("Corrupt battle record (bad item index)");
+                    b = actions[pos++];
+                    index |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                if (index < 0 || index >= items.size()) {
+                    throw new IOException("Corrupt battle record (action item index " + index + " out of range)");
+                }
+            }
+            count++;
+        }
+        if (count != actionCount) {
+            throw new IOException("Corrupt battle record (" + count + " actions, header says " + actionCount + ")");
+        }
+    }
+
+    /**
+     * Writes an item of the item table.
+     */
+    private static void writeItem(DataOutputStream data, Item item) throws IOException {
+        if (item instanceof Weapon w) {
+            data.writeByte(WEAPON);
+            data.writeUTF(w.getName());
+            data.writeInt(w.getAttackBonus());
+            data.writeDouble(w.getCritChanceBonus());
+            data.writeDouble(w.getCritDamageBonus());
+            data.writeInt(w.getCostHearts());
+            data.writeInt(w.getCostBrains());
+            data.writeByte(w.getWeaponType().ordinal());
+        } else if (item instanceof Armor a) {
+            data.writeByte(ARMOR);
+            data.writeUTF(a.getName());
+            data.writeInt(a.getDefenseBonus());
+            data.writeDouble(a.getDodgeChanceBonus());
+            data.writeInt(a.getCostHearts());
+            data.writeInt(a.getCostBrains());
+        } else if (item instanceof Potion p) {
+            data.writeByte(POTION);
+            data.writeUTF(p.getName());
+            data.writeInt(p.getHealAmount());
+            data.writeInt(p.getCostHearts());
+            data.writeInt(p.getCostBrains());
+        } else {
+            throw new IllegalArgumentException("Cannot record item: " + item);
+        }
+    }
+
+    /**
+     * Reads an item of the item table.
+     */
+    private static Item readItem(DataInputStream data) throws IOException {
+        int kind = data.readUnsignedByte();
+        switch (kind) {
+            case WEAPON:
+                return new Weapon(data.readUTF(), data.readInt(), data.readDouble(), data.readDouble(),
+                        data.readInt(), data.readInt(), valueAt(WeaponType.values(), data.readUnsignedByte(), "weapon type"));
+            case ARMOR:
+                return new Armor(data.readUTF(), data.readInt(), data.readDouble(), data.readInt(), data.readInt());
+            case POTION:
+                return new Potion(data.readUTF(), data.readInt(), data.readInt(), data.readInt());
+            default:
+                throw new IOException("Unknown item kind: " + kind);
+        }
+    }
+
+    // -------------------- GETTERS -------------------- //
+
+    /**
+     * Gets the seed of the battle.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the kind of the enemy.
+     *
+     * @return The enemy kind
+     */
+    public ZombieKind getEnemyKind() {
+        return enemyKind;
+    }
+
+    /**
+     * Gets the number of recorded actions.
+     *
+     * @return Number of actions
+     */
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    /**
+     * Gets the outcome after the last recorded action.
+     *
+     * @return The recorded outcome
+     */
+    public BattleOutcome getOutcome() {
+        return outcome;
+    }
+}
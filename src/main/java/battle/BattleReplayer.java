@@ -0,0 +1,81 @@
+package battle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Replays {@link BattleRecord}s headlessly, without any UI or delay.
+ */
+public final class BattleReplayer {
+
+    /**
+     * Utility class, not meant to be instantiated.
+     */
+    private BattleReplayer() {
+    }
+
+    /**
+     * Rebuilds the recorded battle and calls every recorded action on it.
+     *
+     * @param record The record to replay
+     * @return The battle in its state after the last action
+     */
+    public static BattleEngine replay(BattleRecord record) {
+        BattleEngine engine = new BattleEngine(record.createPlayer(), record.createEnemy(), record.getSeed());
+        record.applyTo(engine);
+        return engine;
+    }
+
+    /**
+     * Replays a record and checks that it ends in the recorded state.
+     *
+     * @param record The record to replay
+     * @return true if the replay matches the recording
+     */
+    public static boolean verify(BattleRecord record) {
+        return record.matches(replay(record));
+    }
+
+    // -------------------- MAIN -------------------- //
+
+    /**
+     * Replays every record of a directory and reports those that no longer match,
+     * e.g. after a balance change, and those that cannot be read.
+     *
+     * @param args [directory of records]
+     * @throws IOException if the directory cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of(args.length > 0 ? args[0] : "replays");
+
+        int total = 0;
+        int diverged = 0;
+        int unreadable = 0;
+        long start = System.nanoTime();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + BattleRecord.FILE_EXTENSION)) {
+            for (Path file : files) {
+                BattleRecord record;
+                try (InputStream in = Files.newInputStream(file)) {
+                    record = BattleRecord.read(in);
+                } catch (IOException e) {
+                    // ไฟล์เสียไฟล์เดียวไม่ควรทำให้ตรวจทั้งโฟลเดอร์ไม่ได้
+                    unreadable++;
+                    System.out.println("UNREADABLE: " + file.getFileName() + " (" + e.getMessage() + ")");
+                    continue;
+                }
+                total++;
+                if (!verify(record)) {
+                    diverged++;
+                    System.out.println("DIVERGED: " + file.getFileName());
+                }
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Replayed " + total + " battles in " + elapsedMs + " ms, " + diverged + " diverged"
+                + (unreadable > 0 ? ", " + unreadable + " unreadable." : "."));
+    }
+}
@@ -0,0 +1,21 @@
+package battle;
+
+/**
+ * Enumeration of the states of the game flow driven by {@link BattleStateMachine}.
+ */
+public enum BattleState {
+    /** Waiting for the player's action. */
+    PLAYER_TURN,
+    /** The player's action is being resolved and animated. */
+    RESOLVING,
+    /** The enemy is taking its turn. */
+    ENEMY_TURN,
+    /** The enemy has been defeated. */
+    STAGE_CLEAR,
+    /** The game has ended, won or lost. */
+    GAME_OVER,
+    /** The player is browsing the shop between stages. */
+    SHOP,
+    /** The player is browsing the inventory. */
+    INVENTORY
+}
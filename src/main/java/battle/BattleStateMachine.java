@@ -0,0 +1,242 @@
+package battle;
+
+import interfaces.StepScheduler;
+
+import java.util.function.LongSupplier;
+
+import static battle.BattleState.*;
+
+/**
+ * Explicit state machine of the game flow.
+ * Allowed transitions are kept in a table indexed by state ordinals, so both inputs and transitions
+ * are checked in O(1). Delayed steps go through a {@link StepScheduler}: timed in the UI,
+ * immediate in headless play. The time spent in a state before each transition is measured.
+ */
+public class BattleStateMachine {
+
+    /**
+     * Cached states, indexed by ordinal.
+     */
+    private static final BattleState[] STATES = BattleState.values();
+
+    /**
+     * Transition table: ALLOWED[from][to].
+     */
+    private static final boolean[][] ALLOWED = new boolean[STATES.length][STATES.length];
+
+    static {
+        allow(PLAYER_TURN, RESOLVING, INVENTORY);
+        allow(RESOLVING, ENEMY_TURN, STAGE_CLEAR);
+        allow(ENEMY_TURN, PLAYER_TURN, STAGE_CLEAR, GAME_OVER);
+        allow(STAGE_CLEAR, SHOP, GAME_OVER);
+        allow(SHOP, PLAYER_TURN, INVENTORY);
+        allow(INVENTORY, PLAYER_TURN, SHOP);
+    }
+
+    /**
+     * Adds transitions to the table.
+     */
+    private static void allow(BattleState from, BattleState... targets) {
+        for (BattleState to : targets) {
+            ALLOWED[from.ordinal()][to.ordinal()] = true;
+        }
+    }
+
+    /**
+     * Scheduler for delayed steps.
+     */
+    private final StepScheduler scheduler;
+
+    /**
+     * Clock in nanoseconds, used for latency measurement.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * The current state.
+     */
+    private BattleState state;
+
+    /**
+     * Time the current state was entered.
+     */
+    private long enteredAt;
+
+    /**
+     * Number of transitions and total time spent in the source state, indexed [from][to].
+     */
+    private final long[][] transitionCounts = new long[STATES.length][STATES.length];
+    private final long[][] transitionNanos = new long[STATES.length][STATES.length];
+
+    /**
+     * Time spent in the previous state before the last transition.
+     */
+    private long lastTransitionNanos;
+
+    /**
+     * Number of rejected inputs and transitions.
+     */
+    private long rejected;
+
+    /**
+     * Constructs a state machine using the system clock.
+     *
+     * @param initial   The initial state
+     * @param scheduler Scheduler for delayed steps
+     */
+    public BattleStateMachine(BattleState initial, StepScheduler scheduler) {
+        this(initial, scheduler, System::nanoTime);
+    }
+
+    /**
+     * Constructs a state machine.
+     *
+     * @param initial   The initial state
+     * @param scheduler Scheduler for delayed steps
+     * @param clock     Clock in nanoseconds
+     */
+    public BattleStateMachine(BattleState initial, StepScheduler scheduler, LongSupplier clock) {
+        this.state = initial;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.enteredAt = clock.getAsLong();
+    }
+
+    // -------------------- INPUTS -------------------- //
+
+    /**
+     * Checks if an input is accepted in the current state. Rejected inputs are counted.
+     *
+     * @param input The input
+     * @return true if the input should be handled
+     */
+    public boolean accepts(BattleInput input) {
+        if (input.isAcceptedIn(state)) return true;
+        rejected++;
+        return false;
+    }
+
+    // -------------------- TRANSITIONS -------------------- //
+
+    /**
+     * Checks if a transition is allowed from the current state.
+     *
+     * @param to The target state
+     * @return true if the transition table allows it
+     */
+    public boolean canTransition(BattleState to) {
+        return ALLOWED[state.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Moves to another state.
+     *
+     * @param to The target state
+     * @throws IllegalStateException if the transition is not allowed
+     */
+    public void transition(BattleState to) {
+        if (!canTransition(to)) {
+            rejected++;
+            throw new IllegalStateException("Illegal transition " + state + " -> " + to);
+        }
+
+        long now = clock.getAsLong();
+        lastTransitionNanos = now - enteredAt;
+        transitionCounts[state.ordinal()][to.ordinal()]++;
+        transitionNanos[state.ordinal()][to.ordinal()] += lastTransitionNanos;
+
+        state = to;
+        enteredAt = now;
+    }
+
+    /**
+     * Moves to another state after a delay, then runs an action.
+     * If the transition is no longer allowed when the delay expires (e.g. the stage ended),
+     * the step is dropped.
+     *
+     * @param delayMillis The delay time in milliseconds
+     * @param to          The target state
+     * @param onEnter     Action to run once the state is entered (may be null)
+     */
+    public void transitionLater(long delayMillis, BattleState to, Runnable onEnter) {
+        scheduler.runLater(delayMillis, () -> {
+            if (!canTransition(to)) {
+                rejected++;
+                return;
+            }
+            transition(to);
+            if (onEnter != null) onEnter.run();
+        });
+    }
+
+    /**
+     * Runs an action after a delay, without changing state.
+     * The action is dropped if the state has changed in the meantime.
+     *
+     * @param delayMillis The delay time in milliseconds
+     * @param action      The action to run
+     */
+    public void runLater(long delayMillis, Runnable action) {
+        BattleState expected = state;
+        long expectedEnteredAt = enteredAt;
+        scheduler.runLater(delayMillis, () -> {
+            if (state != expected || enteredAt != expectedEnteredAt) {
+                rejected++;
+                return;
+            }
+            action.run();
+        });
+    }
+
+    // -------------------- GETTERS -------------------- //
+
+    /**
+     * Gets the current state.
+     *
+     * @return The current state
+     */
+    public BattleState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the time spent in the previous state before the last transition.
+     *
+     * @return Latency of the last transition in nanoseconds
+     */
+    public long getLastTransitionNanos() {
+        return lastTransitionNanos;
+    }
+
+    /**
+     * Gets the number of transitions between two states.
+     *
+     * @param from The source state
+     * @param to   The target state
+     * @return Number of transitions
+     */
+    public long getTransitionCount(BattleState from, BattleState to) {
+        return transitionCounts[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Gets the average time spent in a state before moving to another.
+     *
+     * @param from The source state
+     * @param to   The target state
+     * @return Average latency in nanoseconds, or 0 if the transition never happened
+     */
+    public long getAverageTransitionNanos(BattleState from, BattleState to) {
+        long count = transitionCounts[from.ordinal()][to.ordinal()];
+        return count == 0 ? 0 : transitionNanos[from.ordinal()][to.ordinal()] / count;
+    }
+
+    /**
+     * Gets the number of rejected inputs and transitions.
+     *
+     * @return Number of rejections
+     */
+    public long getRejectedCount() {
+        return rejected;
+    }
+}
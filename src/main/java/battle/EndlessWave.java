@@ -0,0 +1,143 @@
+package battle;
+
+import entity.Zombie;
+import entity.ZombieKind;
+
+/**
+ * Immutable description of one endless-mode wave, produced by {@link EndlessWaveGenerator}.
+ */
+public final class EndlessWave {
+
+    /**
+     * Wave number (1-based).
+     */
+    private final int number;
+
+    /**
+     * Kind of the wave's zombie.
+     */
+    private final ZombieKind kind;
+
+    /**
+     * The six stats of the wave's zombie.
+     */
+    private final int maxHp;
+    private final int attackPower;
+    private final int defense;
+    private final double critChance;
+    private final double critDamage;
+    private final double dodgeChance;
+
+    /**
+     * Constructs a wave.
+     *
+     * @param number      Wave number
+     * @param kind        Kind of the zombie
+     * @param maxHp       Maximum HP
+     * @param attackPower Attack power
+     * @param defense     Defense
+     * @param critChance  Critical chance
+     * @param critDamage  Critical damage multiplier
+     * @param dodgeChance Dodge chance
+     */
+    EndlessWave(int number, ZombieKind kind, int maxHp, int attackPower, int defense,
+                double critChance, double critDamage, double dodgeChance) {
+        this.number = number;
+        this.kind = kind;
+        this.maxHp = maxHp;
+        this.attackPower = attackPower;
+        this.defense = defense;
+        this.critChance = critChance;
+        this.critDamage = critDamage;
+        this.dodgeChance = dodgeChance;
+    }
+
+    /**
+     * Creates the wave's zombie.
+     *
+     * @return A new zombie with the wave's stats
+     */
+    public Zombie createEnemy() {
+        Zombie zombie = kind.create();
+        zombie.setBaseStats(maxHp, attackPower, defense, critChance, critDamage, dodgeChance);
+        return zombie;
+    }
+
+    /**
+     * Gets the wave number.
+     *
+     * @return The wave number (1-based)
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets the kind of the wave's zombie.
+     *
+     * @return The zombie kind
+     */
+    public ZombieKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the zombie's maximum HP.
+     *
+     * @return Maximum HP
+     */
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    /**
+     * Gets the zombie's attack power.
+     *
+     * @return Attack power
+     */
+    public int getAttackPower() {
+        return attackPower;
+    }
+
+    /**
+     * Gets the zombie's defense.
+     *
+     * @return Defense
+     */
+    public int getDefense() {
+        return defense;
+    }
+
+    /**
+     * Gets the zombie's critical chance.
+     *
+     * @return Critical chance (0.0 - 1.0)
+     */
+    public double getCritChance() {
+        return critChance;
+    }
+
+    /**
+     * Gets the zombie's critical damage multiplier.
+     *
+     * @return Critical damage multiplier
+     */
+    public double getCritDamage() {
+        return critDamage;
+    }
+
+    /**
+     * Gets the zombie's dodge chance.
+     *
+     * @return Dodge chance (0.0 - 1.0)
+     */
+    public double getDodgeChance() {
+        return dodgeChance;
+    }
+
+    @Override
+    public String toString() {
+        return "Wave " + number + ": " + kind + " hp=" + maxHp + " atk=" + attackPower + " def=" + defense
+                + String.format(" crit=%.3f x%.2f dodge=%.3f", critChance, critDamage, dodgeChance);
+    }
+}
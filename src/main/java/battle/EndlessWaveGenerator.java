@@ -0,0 +1,160 @@
+package battle;
+
+import entity.Zombie;
+import entity.ZombieKind;
+
+/**
+ * Procedural waves of the endless survival mode.
+ * Wave N is a pure function of (seed, N): every random value is a SplitMix64 hash of the seed,
+ * the wave number and a stat index, so any wave can be regenerated in O(1) without replaying the
+ * earlier ones, and a run can be verified from its seed alone.
+ */
+public final class EndlessWaveGenerator {
+
+    /**
+     * Every BOSS_INTERVAL-th wave is a boss.
+     */
+    public static final int BOSS_INTERVAL = 10;
+
+    /**
+     * Stat multipliers of wave 1, relative to the zombie's default stats (endless mode starts after the campaign).
+     */
+    private static final double BASE_HP_SCALE = 2.0;
+    private static final double BASE_ATTACK_SCALE = 1.5;
+    private static final double BASE_DEFENSE_SCALE = 1.5;
+
+    /**
+     * Growth of each multiplier per wave.
+     */
+    private static final double HP_GROWTH = 0.10;
+    private static final double ATTACK_GROWTH = 0.05;
+    private static final double DEFENSE_GROWTH = 0.05;
+
+    /**
+     * Random spread of the integer stats (±10%).
+     */
+    private static final double JITTER = 0.10;
+
+    /**
+     * Growth per wave and cap of the chance-based stats.
+     */
+    private static final double CRIT_CHANCE_GROWTH = 0.005;
+    private static final double MAX_CRIT_CHANCE = 0.60;
+    private static final double CRIT_DAMAGE_GROWTH = 0.02;
+    private static final double MAX_CRIT_DAMAGE = 3.0;
+    private static final double DODGE_GROWTH = 0.002;
+    private static final double MAX_DODGE_CHANCE = 0.35;
+
+    /**
+     * Upper bound of the integer stats, so very late waves cannot overflow.
+     */
+    private static final int MAX_STAT = 1_000_000;
+
+    /**
+     * Zombie kinds picked for regular waves.
+     */
+    private static final ZombieKind[] REGULAR_KINDS = {
+            ZombieKind.NORMAL, ZombieKind.ROTTEN, ZombieKind.ARMORED, ZombieKind.RUNNER
+    };
+
+    /**
+     * Default stats of every kind, index = ordinal.
+     */
+    private static final Zombie[] TEMPLATES = new Zombie[ZombieKind.values().length];
+
+    static {
+        for (ZombieKind kind : ZombieKind.values()) {
+            TEMPLATES[kind.ordinal()] = kind.create();
+        }
+    }
+
+    /**
+     * Seed of the run.
+     */
+    private final long seed;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed Seed of the run
+     */
+    public EndlessWaveGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the seed of the run.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Generates a wave.
+     *
+     * @param number The wave number (1-based)
+     * @return The wave
+     * @throws IllegalArgumentException if the number is below 1
+     */
+    public EndlessWave wave(int number) {
+        if (number < 1) throw new IllegalArgumentException("Wave number must be at least 1: " + number);
+
+        ZombieKind kind = number % BOSS_INTERVAL == 0
+                ? ZombieKind.BOSS
+                : REGULAR_KINDS[(int) ((random(number, 0) >>> 1) % REGULAR_KINDS.length)];
+        Zombie base = TEMPLATES[kind.ordinal()];
+        int step = number - 1;
+
+        int maxHp = scale(base.getMaxHp(), BASE_HP_SCALE * (1 + HP_GROWTH * step), unit(number, 1));
+        int attack = scale(base.getAttackPower(), BASE_ATTACK_SCALE * (1 + ATTACK_GROWTH * step), unit(number, 2));
+        int defense = scale(base.getDefense(), BASE_DEFENSE_SCALE * (1 + DEFENSE_GROWTH * step), unit(number, 3));
+        double critChance = Math.min(MAX_CRIT_CHANCE, base.getCritChance() + CRIT_CHANCE_GROWTH * step);
+        double critDamage = Math.min(MAX_CRIT_DAMAGE, base.getCritDamage() + CRIT_DAMAGE_GROWTH * step);
+        double dodgeChance = Math.min(MAX_DODGE_CHANCE, base.getDodgeChance() + DODGE_GROWTH * step);
+
+        return new EndlessWave(number, kind, Math.max(1, maxHp), attack, defense, critChance, critDamage, dodgeChance);
+    }
+
+    /**
+     * Creates the zombie of a wave.
+     *
+     * @param number The wave number (1-based)
+     * @return A new zombie
+     */
+    public Zombie createEnemy(int number) {
+        return wave(number).createEnemy();
+    }
+
+    /**
+     * Scales a default stat, with a random spread.
+     */
+    private static int scale(int base, double multiplier, double unit) {
+        double value = base * multiplier * (1 - JITTER + 2 * JITTER * unit);
+        return (int) Math.min(MAX_STAT, Math.round(value));
+    }
+
+    /**
+     * Uniform value in [0, 1) for a stat of a wave.
+     */
+    private double unit(int number, int stat) {
+        return (random(number, stat) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * 64 random bits for a stat of a wave.
+     */
+    private long random(int number, int stat) {
+        return mix(seed + 0x9E3779B97F4A7C15L * (((long) number << 4) | stat));
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
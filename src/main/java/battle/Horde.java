@@ -0,0 +1,231 @@
+package battle;
+
+import entity.Zombie;
+
+import java.util.Arrays;
+
+/**
+ * The zombies of a horde battle, indexed for targeting.
+ * Every zombie gets a stable slot (its spawn order). Living slots are kept in a dense array that is
+ * compacted as zombies die, and three {@link IndexedHeap}s keep the lowest-HP, most threatening and
+ * front-most zombie on top, so picking a target is O(1) and a change to one zombie costs O(log n).
+ */
+public final class Horde {
+
+    /**
+     * Zombies by slot; null once dead and removed.
+     */
+    private Zombie[] zombies;
+
+    /**
+     * Number of slots handed out.
+     */
+    private int slotCount;
+
+    /**
+     * Living slots, dense (order changes as dead slots are compacted away).
+     */
+    private int[] living;
+
+    /**
+     * Index of each slot in {@link #living}, or -1 once removed.
+     */
+    private int[] livingIndex;
+
+    /**
+     * Number of living slots.
+     */
+    private int livingCount;
+
+    /**
+     * Targeting keys of each slot, cached so the heaps never call back into the entities.
+     */
+    private int[] hpKeys;
+    private double[] threatKeys;
+
+    /**
+     * Targeting heaps.
+     */
+    private final IndexedHeap byHp;
+    private final IndexedHeap byThreat;
+    private final IndexedHeap byFront;
+
+    /**
+     * Constructs an empty horde.
+     *
+     * @param capacity Expected number of zombies
+     */
+    public Horde(int capacity) {
+        int cap = Math.max(1, capacity);
+        zombies = new Zombie[cap];
+        living = new int[cap];
+        livingIndex = new int[cap];
+        hpKeys = new int[cap];
+        threatKeys = new double[cap];
+        byHp = new IndexedHeap((a, b) -> {
+            int c = Integer.compare(hpKeys[a], hpKeys[b]);
+            return c != 0 ? c : Integer.compare(a, b);
+        }, cap);
+        byThreat = new IndexedHeap((a, b) -> {
+            int c = Double.compare(threatKeys[b], threatKeys[a]);
+            return c != 0 ? c : Integer.compare(a, b);
+        }, cap);
+        byFront = new IndexedHeap(Integer::compare, cap);
+    }
+
+    /**
+     * Expected damage of one basic attack of a zombie, before the player's defense.
+     *
+     * @param zombie The zombie
+     * @return The zombie's threat
+     */
+    public static double threatOf(Zombie zombie) {
+        return zombie.getAttackPower() * (1 + zombie.getCritChance() * (zombie.getCritDamage() - 1));
+    }
+
+    /**
+     * Adds a zombie to the back of the horde.
+     *
+     * @param zombie The zombie
+     * @return The slot of the zombie
+     */
+    public int add(Zombie zombie) {
+        int slot = slotCount++;
+        if (slot == zombies.length) {
+            int cap = zombies.length * 2;
+            zombies = Arrays.copyOf(zombies, cap);
+            living = Arrays.copyOf(living, cap);
+            livingIndex = Arrays.copyOf(livingIndex, cap);
+            hpKeys = Arrays.copyOf(hpKeys, cap);
+            threatKeys = Arrays.copyOf(threatKeys, cap);
+        }
+
+        zombies[slot] = zombie;
+        hpKeys[slot] = zombie.getHp();
+        threatKeys[slot] = threatOf(zombie);
+        living[livingCount] = slot;
+        livingIndex[slot] = livingCount++;
+
+        byHp.add(slot);
+        byThreat.add(slot);
+        byFront.add(slot);
+        return slot;
+    }
+
+    /**
+     * Gets the slot of the current target.
+     *
+     * @param mode How to pick the target
+     * @return The slot, or -1 if no zombie is left
+     */
+    public int targetSlot(TargetingMode mode) {
+        return switch (mode) {
+            case LOWEST_HP -> byHp.peek();
+            case HIGHEST_THREAT -> byThreat.peek();
+            case FRONT_MOST -> byFront.peek();
+        };
+    }
+
+    /**
+     * Gets the current target.
+     *
+     * @param mode How to pick the target
+     * @return The zombie, or null if no zombie is left
+     */
+    public Zombie target(TargetingMode mode) {
+        int slot = targetSlot(mode);
+        return slot < 0 ? null : zombies[slot];
+    }
+
+    /**
+     * Updates the targeting of a zombie after its HP or attack changed, and removes it if it died.
+     *
+     * @param slot The slot of the zombie
+     * @return true if the zombie died and was removed
+     */
+    public boolean refresh(int slot) {
+        Zombie zombie = get(slot);
+        if (zombie == null) return false;
+
+        if (!zombie.isAlive()) {
+            remove(slot);
+            return true;
+        }
+
+        int hp = zombie.getHp();
+        if (hp != hpKeys[slot]) {
+            hpKeys[slot] = hp;
+            byHp.update(slot);
+        }
+        double threat = threatOf(zombie);
+        if (threat != threatKeys[slot]) {
+            threatKeys[slot] = threat;
+            byThreat.update(slot);
+        }
+        return false;
+    }
+
+    /**
+     * Removes a slot from the heaps and compacts it out of the living array.
+     */
+    private void remove(int slot) {
+        byHp.remove(slot);
+        byThreat.remove(slot);
+        byFront.remove(slot);
+
+        int index = livingIndex[slot];
+        int last = living[--livingCount];
+        living[index] = last;
+        livingIndex[last] = index;
+        livingIndex[slot] = -1;
+        zombies[slot] = null;
+    }
+
+    /**
+     * Gets the zombie in a slot.
+     *
+     * @param slot The slot
+     * @return The zombie, or null if the slot is empty or its zombie was removed
+     */
+    public Zombie get(int slot) {
+        return (slot >= 0 && slot < slotCount) ? zombies[slot] : null;
+    }
+
+    /**
+     * Gets the slot of the i-th living zombie, e.g. to let each zombie act once per turn.
+     *
+     * @param index Index among the living zombies (0 to {@link #getLivingCount()} - 1)
+     * @return The slot
+     */
+    public int getLivingSlot(int index) {
+        if (index < 0 || index >= livingCount) throw new IndexOutOfBoundsException(index);
+        return living[index];
+    }
+
+    /**
+     * Gets the number of living zombies.
+     *
+     * @return Number of zombies still in the horde
+     */
+    public int getLivingCount() {
+        return livingCount;
+    }
+
+    /**
+     * Gets the number of zombies ever added.
+     *
+     * @return Number of slots handed out
+     */
+    public int size() {
+        return slotCount;
+    }
+
+    /**
+     * Checks if every zombie is dead.
+     *
+     * @return true if the horde is wiped out
+     */
+    public boolean isDefeated() {
+        return livingCount == 0;
+    }
+}
@@ -0,0 +1,293 @@
+package battle;
+
+import entity.Player;
+import entity.Zombie;
+import event.CombatEventBus;
+import interfaces.OrganDroppable;
+import items.OrganParts;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Pure-model battle between the player and a whole horde of zombies.
+ * Each player turn hits one target picked by a {@link TargetingMode}; each enemy turn lets every
+ * living zombie attack with its own special ability, using the same rules as {@link BattleEngine}.
+ * Targeting and removal of the dead go through a {@link Horde}, so a turn costs O(living zombies)
+ * plus O(log n) per zombie whose HP or threat changed. Loot of every kill is pooled until collected.
+ * <p>
+ * Engine only for now: {@code GameController} and {@code BattleView} still run one enemy per stage,
+ * so horde battles are driven by tests, the simulators and the benchmarks. Showing a horde needs its own
+ * view and target picker, and is left for the UI work.
+ */
+public class HordeBattle {
+
+    /**
+     * Seed of the battle's random generator.
+     */
+    private final long seed;
+
+    /**
+     * Random generator shared by the battle and every fighter.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * The player entity.
+     */
+    private final Player player;
+
+    /**
+     * The zombies.
+     */
+    private final Horde horde;
+
+    /**
+     * Loot of the zombies killed and not collected yet.
+     */
+    private OrganParts pendingLoot = new OrganParts();
+
+    /**
+     * Number of turns the player has taken.
+     */
+    private int turns;
+
+    /**
+     * Number of zombies killed.
+     */
+    private int kills;
+
+    /**
+     * The zombie hit by the last player attack.
+     */
+    private Zombie lastTarget;
+
+    /**
+     * Initialize a horde battle. Any lingering status effect on the player fades when the battle starts.
+     *
+     * @param player  The player entity
+     * @param zombies The zombies, front-most first
+     * @param seed    Seed of the battle's random generator
+     */
+    public HordeBattle(Player player, List<? extends Zombie> zombies, long seed) {
+        this.player = player;
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.horde = new Horde(zombies.size());
+
+        player.setRandom(random);
+        player.clearStatusEffects();
+
+        CombatEventBus events = player.getEventBus();
+        if (events != null) {
+            events.clearParticipants();
+            player.setEventBus(events);
+        }
+
+        for (Zombie zombie : zombies) {
+            zombie.setRandom(random);
+            if (events != null) zombie.setEventBus(events);
+            horde.add(zombie);
+        }
+    }
+
+    // -------------------- PLAYER ACTIONS -------------------- //
+
+    /**
+     * Resolves the player's basic attack on a target of the horde.
+     * The target gets an extra dodge roll before the attack lands, and a stunned player loses the turn,
+     * as in {@link BattleEngine#playerAttack()}.
+     *
+     * @param mode How to pick the target
+     * @return The result of the attack, or null if no zombie is left
+     */
+    public AttackResult playerAttack(TargetingMode mode) {
+        int slot = horde.targetSlot(mode);
+        if (slot < 0) return null;
+
+        turns++;
+        if (player.isStunned()) return BattleEngine.STUNNED;
+
+        Zombie target = horde.get(slot);
+        lastTarget = target;
+
+        if (random.nextDouble() < target.getDodgeChance()) {
+            return new AttackResult(0, false, true, false, false);
+        }
+
+        int dmg = player.basicAttack(target);
+        boolean crit = player.wasLastAttackCritical();
+        boolean killed = horde.refresh(slot);
+        if (killed) onKilled(target);
+        return new AttackResult(dmg, crit, false, false, killed);
+    }
+
+    /**
+     * Counts a kill and pools its loot.
+     */
+    private void onKilled(Zombie zombie) {
+        kills++;
+        if (zombie instanceof OrganDroppable droppable) {
+            OrganParts drop = droppable.getDropItem();
+            pendingLoot.addHearts(drop.getHearts());
+            pendingLoot.addBrains(drop.getBrains());
+        }
+    }
+
+    /**
+     * Resolves the player's heal action (Adrenaline Shot). A stunned player loses the turn.
+     *
+     * @return The amount of HP restored
+     */
+    public int playerHeal() {
+        turns++;
+        if (player.isStunned()) return 0;
+
+        int hpBefore = player.getHp();
+        player.useSpecialAbility(player);
+        return player.getHp() - hpBefore;
+    }
+
+    // -------------------- ENEMY TURN -------------------- //
+
+    /**
+     * Applies the player's status effects at the start of the enemy's turn.
+     *
+     * @return The HP lost by the player
+     */
+    public int tickPlayerStatus() {
+        int hpBefore = player.getHp();
+        player.tickStatusEffectsAtTurnStart();
+        return hpBefore - player.getHp();
+    }
+
+    /**
+     * Lets every living zombie attack once, stopping as soon as the player dies.
+     *
+     * @return The HP lost by the player
+     */
+    public int enemyTurn() {
+        int hpBefore = player.getHp();
+        int count = horde.getLivingCount();
+
+        int i = 0;
+        while (i < count && player.isAlive()) {
+            int slot = horde.getLivingSlot(i);
+            Zombie zombie = horde.get(slot);
+            BattleEngine.resolveEnemyAttack(zombie, player, random);
+            // regen / enrage เปลี่ยน key ของ heap; bleed อาจฆ่ามันเอง → ช่องสุดท้ายถูกย้ายมาที่ i
+            if (horde.refresh(slot)) {
+                onKilled(zombie);
+                count--;
+            } else {
+                i++;
+            }
+        }
+        return hpBefore - player.getHp();
+    }
+
+    // -------------------- RESULT -------------------- //
+
+    /**
+     * Awards the pooled loot of every zombie killed so far to the player.
+     *
+     * @return The looted organ parts, or null if there was nothing to collect
+     */
+    public OrganParts collectLoot() {
+        if (pendingLoot.getHearts() == 0 && pendingLoot.getBrains() == 0) return null;
+
+        OrganParts loot = pendingLoot;
+        pendingLoot = new OrganParts();
+        player.addHearts(loot.getHearts());
+        player.addBrains(loot.getBrains());
+        return loot;
+    }
+
+    /**
+     * Runs the whole battle without any delay, with the player attacking every turn.
+     *
+     * @param maxTurns Maximum number of player turns before giving up
+     * @param mode     How the player picks targets
+     * @return The outcome of the battle
+     */
+    public BattleOutcome fight(int maxTurns, TargetingMode mode) {
+        while (turns < maxTurns && player.isAlive() && !horde.isDefeated()) {
+            playerAttack(mode);
+            if (horde.isDefeated()) break;
+
+            tickPlayerStatus();
+            if (!player.isAlive()) break;
+
+            enemyTurn();
+        }
+        return getOutcome();
+    }
+
+    /**
+     * Gets the current outcome of the battle.
+     *
+     * @return The battle outcome
+     */
+    public BattleOutcome getOutcome() {
+        if (horde.isDefeated()) return BattleOutcome.PLAYER_WON;
+        if (!player.isAlive()) return BattleOutcome.PLAYER_LOST;
+        return BattleOutcome.UNRESOLVED;
+    }
+
+    // -------------------- GETTERS -------------------- //
+
+    /**
+     * Gets the player entity.
+     *
+     * @return The player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the horde.
+     *
+     * @return The horde
+     */
+    public Horde getHorde() {
+        return horde;
+    }
+
+    /**
+     * Gets the zombie hit by the last player attack.
+     *
+     * @return The last target, or null before the first attack
+     */
+    public Zombie getLastTarget() {
+        return lastTarget;
+    }
+
+    /**
+     * Gets the seed of the battle's random generator.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of turns taken by the player.
+     *
+     * @return Number of turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the number of zombies killed.
+     *
+     * @return Number of kills
+     */
+    public int getKills() {
+        return kills;
+    }
+}
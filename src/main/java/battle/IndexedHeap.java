@@ -0,0 +1,162 @@
+package battle;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Binary heap of int slots that remembers where each slot sits, so a slot can be
+ * removed or re-ordered after its key changed in O(log n) instead of O(n).
+ * Slots are small non-negative ints (e.g. the index of a zombie in a horde).
+ */
+final class IndexedHeap {
+
+    /**
+     * Orders two slots: negative if the first one belongs closer to the top.
+     */
+    private final IntBinaryOperator order;
+
+    /**
+     * The heap, as slots.
+     */
+    private int[] heap;
+
+    /**
+     * Position of each slot in the heap, or -1 if absent.
+     */
+    private int[] positions;
+
+    /**
+     * Number of slots in the heap.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty heap.
+     *
+     * @param order    Orders two slots, negative if the first one belongs closer to the top
+     * @param capacity Expected number of slots
+     */
+    IndexedHeap(IntBinaryOperator order, int capacity) {
+        this.order = order;
+        this.heap = new int[Math.max(1, capacity)];
+        this.positions = new int[Math.max(1, capacity)];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Adds a slot.
+     *
+     * @param slot The slot, not already in the heap
+     */
+    void add(int slot) {
+        if (slot >= positions.length) {
+            int old = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(slot + 1, old * 2));
+            Arrays.fill(positions, old, positions.length, -1);
+        }
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+
+        heap[size] = slot;
+        positions[slot] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Removes a slot, if present.
+     *
+     * @param slot The slot
+     */
+    void remove(int slot) {
+        int pos = position(slot);
+        if (pos < 0) return;
+
+        positions[slot] = -1;
+        int last = heap[--size];
+        if (pos == size) return;
+
+        heap[pos] = last;
+        positions[last] = pos;
+        if (!siftUp(pos)) siftDown(pos);
+    }
+
+    /**
+     * Restores the order after the key of a slot changed.
+     *
+     * @param slot The slot
+     */
+    void update(int slot) {
+        int pos = position(slot);
+        if (pos >= 0 && !siftUp(pos)) siftDown(pos);
+    }
+
+    /**
+     * Gets the top slot.
+     *
+     * @return The top slot, or -1 if the heap is empty
+     */
+    int peek() {
+        return size == 0 ? -1 : heap[0];
+    }
+
+    /**
+     * Checks if a slot is in the heap.
+     *
+     * @param slot The slot
+     * @return true if present
+     */
+    boolean contains(int slot) {
+        return position(slot) >= 0;
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return Number of slots in the heap
+     */
+    int size() {
+        return size;
+    }
+
+    private int position(int slot) {
+        return (slot >= 0 && slot < positions.length) ? positions[slot] : -1;
+    }
+
+    /**
+     * Moves the slot at a position up.
+     *
+     * @return true if it moved
+     */
+    private boolean siftUp(int pos) {
+        int slot = heap[pos];
+        int start = pos;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (order.applyAsInt(slot, heap[parent]) >= 0) break;
+            heap[pos] = heap[parent];
+            positions[heap[pos]] = pos;
+            pos = parent;
+        }
+        heap[pos] = slot;
+        positions[slot] = pos;
+        return pos != start;
+    }
+
+    /**
+     * Moves the slot at a position down.
+     */
+    private void siftDown(int pos) {
+        int slot = heap[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            int right = child + 1;
+            if (right < size && order.applyAsInt(heap[right], heap[child]) < 0) child = right;
+            if (order.applyAsInt(heap[child], slot) >= 0) break;
+            heap[pos] = heap[child];
+            positions[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = slot;
+        positions[slot] = pos;
+    }
+}
@@ -0,0 +1,194 @@
+package battle;
+
+import entity.ZombieKind;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Campaign stages, loaded from a CSV resource.
+ * Only the raw rows are kept when the catalog is loaded; a row is parsed into a
+ * {@link StageDefinition} the first time its stage is requested, so long campaigns
+ * cost almost nothing at startup.
+ */
+public final class StageCatalog {
+
+    /**
+     * Classpath resource of the campaign.
+     */
+    public static final String DEFAULT_RESOURCE = "/data/stages.csv";
+
+    /**
+     * Number of fields of a row.
+     */
+    private static final int FIELD_COUNT = 7;
+
+    /**
+     * Raw rows, index = stage - 1.
+     */
+    private final String[] rows;
+
+    /**
+     * Source line of each row, for error messages.
+     */
+    private final int[] lineNumbers;
+
+    /**
+     * Parsed stages, filled on first access.
+     */
+    private final AtomicReferenceArray<StageDefinition> stages;
+
+    /**
+     * Lazily loaded campaign of the game.
+     */
+    private static final class DefaultHolder {
+        static final StageCatalog INSTANCE = loadDefault();
+
+        private static StageCatalog loadDefault() {
+            try (InputStream in = StageCatalog.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) throw new IOException("Missing stage table " + DEFAULT_RESOURCE);
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Constructs a catalog from raw rows.
+     *
+     * @param rows        Raw rows, index = stage - 1
+     * @param lineNumbers Source line of each row
+     */
+    private StageCatalog(String[] rows, int[] lineNumbers) {
+        this.rows = rows;
+        this.lineNumbers = lineNumbers;
+        this.stages = new AtomicReferenceArray<>(rows.length);
+    }
+
+    /**
+     * Gets the game's campaign, loading it on first use.
+     *
+     * @return The default catalog
+     * @throws UncheckedIOException if the resource is missing or invalid
+     */
+    public static StageCatalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Loads a campaign from CSV. Blank lines and lines starting with '#' are ignored.
+     * Rows must be numbered 1..N in order; their other fields are only checked when the stage is first used.
+     *
+     * @param in The CSV data (UTF-8)
+     * @return The catalog
+     * @throws IOException if the data cannot be read or the stages are not numbered 1..N
+     */
+    public static StageCatalog load(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> rows = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+
+            int comma = line.indexOf(',');
+            int expected = rows.size() + 1;
+            if (comma < 0 || !line.substring(0, comma).strip().equals(Integer.toString(expected))) {
+                throw new IOException("Expected stage " + expected + " on line " + lineNumber);
+            }
+            rows.add(line);
+            lines.add(lineNumber);
+        }
+
+        int[] lineNumbers = new int[lines.size()];
+        for (int i = 0; i < lineNumbers.length; i++) lineNumbers[i] = lines.get(i);
+        return new StageCatalog(rows.toArray(new String[0]), lineNumbers);
+    }
+
+    /**
+     * Gets a stage, parsing it on first access.
+     *
+     * @param stage The stage number (1-based)
+     * @return The stage, or null if the campaign has no such stage
+     * @throws IllegalStateException if the stage's row is invalid
+     */
+    public StageDefinition get(int stage) {
+        if (!contains(stage)) return null;
+
+        int index = stage - 1;
+        StageDefinition def = stages.get(index);
+        if (def == null) {
+            // parse ซ้ำได้ถ้าสอง thread มาพร้อมกัน แต่ได้ผลเหมือนกันเสมอ
+            def = parse(stage, rows[index], lineNumbers[index]);
+            if (!stages.compareAndSet(index, null, def)) def = stages.get(index);
+        }
+        return def;
+    }
+
+    /**
+     * Checks if the campaign has a stage.
+     *
+     * @param stage The stage number
+     * @return true if the stage exists
+     */
+    public boolean contains(int stage) {
+        return stage >= 1 && stage <= rows.length;
+    }
+
+    /**
+     * Gets the number of stages, i.e. the last stage of the campaign.
+     *
+     * @return Number of stages
+     */
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the number of stages parsed so far.
+     *
+     * @return Number of materialized stages
+     */
+    public int getLoadedCount() {
+        int count = 0;
+        for (int i = 0; i < stages.length(); i++) {
+            if (stages.get(i) != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Parses one row.
+     */
+    private static StageDefinition parse(int stage, String row, int lineNumber) {
+        String[] fields = row.split(",", -1);
+        try {
+            if (fields.length != FIELD_COUNT) {
+                throw new IllegalArgumentException("needs " + FIELD_COUNT + " fields, got " + fields.length);
+            }
+            return new StageDefinition(
+                    stage,
+                    ZombieKind.valueOf(fields[1].strip()),
+                    Double.parseDouble(fields[2].strip()),
+                    Double.parseDouble(fields[3].strip()),
+                    Double.parseDouble(fields[4].strip()),
+                    Integer.parseInt(fields[5].strip()),
+                    fields[6].strip()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid stage on line " + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package battle;
+
+import entity.Zombie;
+import entity.ZombieKind;
+
+/**
+ * Immutable description of one campaign stage, loaded by {@link StageCatalog}.
+ */
+public final class StageDefinition {
+
+    /**
+     * Stage number (1-based).
+     */
+    private final int number;
+
+    /**
+     * Kind of the stage's zombie.
+     */
+    private final ZombieKind enemy;
+
+    /**
+     * Multipliers applied to the zombie's default stats.
+     */
+    private final double hpScale;
+    private final double attackScale;
+    private final double defenseScale;
+
+    /**
+     * Catalog stage whose items stock the shop right before this stage.
+     */
+    private final int shopStage;
+
+    /**
+     * Background image, relative to the assets directory.
+     */
+    private final String background;
+
+    /**
+     * Constructs a stage definition.
+     *
+     * @param number       Stage number
+     * @param enemy        Kind of the stage's zombie
+     * @param hpScale      Max HP multiplier
+     * @param attackScale  Attack power multiplier
+     * @param defenseScale Defense multiplier
+     * @param shopStage    Catalog stage stocking the shop before this stage
+     * @param background   Background image, relative to the assets directory
+     */
+    public StageDefinition(int number, ZombieKind enemy, double hpScale, double attackScale,
+                           double defenseScale, int shopStage, String background) {
+        if (hpScale <= 0 || attackScale < 0 || defenseScale < 0) {
+            throw new IllegalArgumentException("Invalid stat scaling for stage " + number);
+        }
+        this.number = number;
+        this.enemy = enemy;
+        this.hpScale = hpScale;
+        this.attackScale = attackScale;
+        this.defenseScale = defenseScale;
+        this.shopStage = shopStage;
+        this.background = background;
+    }
+
+    /**
+     * Creates the stage's zombie, with its stats scaled.
+     *
+     * @return A new zombie
+     */
+    public Zombie createEnemy() {
+        Zombie zombie = enemy.create();
+        if (hpScale != 1.0 || attackScale != 1.0 || defenseScale != 1.0) {
+            zombie.scaleStats(hpScale, attackScale, defenseScale);
+        }
+        return zombie;
+    }
+
+    /**
+     * Gets the stage number.
+     *
+     * @return The stage number (1-based)
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets the kind of the stage's zombie.
+     *
+     * @return The zombie kind
+     */
+    public ZombieKind getEnemy() {
+        return enemy;
+    }
+
+    /**
+     * Gets the max HP multiplier.
+     *
+     * @return Multiplier of the zombie's default max HP
+     */
+    public double getHpScale() {
+        return hpScale;
+    }
+
+    /**
+     * Gets the attack power multiplier.
+     *
+     * @return Multiplier of the zombie's default attack power
+     */
+    public double getAttackScale() {
+        return attackScale;
+    }
+
+    /**
+     * Gets the defense multiplier.
+     *
+     * @return Multiplier of the zombie's default defense
+     */
+    public double getDefenseScale() {
+        return defenseScale;
+    }
+
+    /**
+     * Gets the catalog stage stocking the shop right before this stage.
+     *
+     * @return Stage number of data/items.csv
+     */
+    public int getShopStage() {
+        return shopStage;
+    }
+
+    /**
+     * Gets the background image.
+     *
+     * @return Path relative to the assets directory
+     */
+    public String getBackground() {
+        return background;
+    }
+}
@@ -0,0 +1,13 @@
+package battle;
+
+/**
+ * Enumeration of the ways the player picks a target in a horde battle.
+ */
+public enum TargetingMode {
+    /** The living zombie with the lowest HP, to thin the horde quickly. */
+    LOWEST_HP,
+    /** The living zombie expected to deal the most damage per attack. */
+    HIGHEST_THREAT,
+    /** The living zombie that joined the horde first. */
+    FRONT_MOST
+}
@@ -1,13 +1,11 @@
 package controller;
 
+import battle.*;
 import entity.*;
-import interfaces.OrganDroppable;
+import event.CombatEventBus;
+import event.ConsoleCombatLogger;
 import items.*;
-import items.armor.KevlarJacket;
-import items.armor.LeatherJacket;
-import items.armor.RiotSuit;
-import items.weapon.*;
-import javafx.application.Platform;
+import items.weapon.WoodenStick;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
@@ -16,14 +14,34 @@ import javafx.scene.paint.Color;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.stage.WindowEvent;
+import save.JournalOp;
+import save.RecoveredRun;
+import save.RunJournal;
+import save.SaveGame;
+import save.SaveHeader;
+import save.SaveSlots;
+import shop.PurchasePlan;
+import shop.PurchasePlanner;
 import ui.BattleView;
 import ui.InventoryView;
 import ui.ShopView;
+import utils.GameScheduler;
+import utils.ResourceManager;
 import utils.SoundManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controls the main game logic, flow, and interactions between models and views.
@@ -33,9 +51,34 @@ public class GameController {
     // -------------------- CONSTANTS & FIELDS -------------------- //
 
     /**
-     * Maximum number of stages in the game.
+     * Stages of the campaign, parsed as they are reached.
      */
-    private static final int MAX_STAGE = 5;
+    private final StageCatalog stages = StageCatalog.getDefault();
+
+    /**
+     * Directory receiving the recording of every finished battle.
+     */
+    private static final Path REPLAY_DIR = Path.of("replays");
+
+    /**
+     * Directory holding the save slots and the autosave journal.
+     */
+    private static final Path SAVE_DIR = Path.of("saves");
+
+    /**
+     * Save slots of the game.
+     */
+    private final SaveSlots saves = new SaveSlots(SAVE_DIR, 3);
+
+    /**
+     * Autosave of the current run, recovered after a crash.
+     */
+    private final RunJournal journal = new RunJournal(SAVE_DIR);
+
+    /**
+     * Format of the save times shown in the slot dialogs.
+     */
+    private static final DateTimeFormatter SAVE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     /**
      * The primary stage of the JavaFX application.
@@ -43,9 +86,9 @@ public class GameController {
     private final Stage primaryStage;
 
     /**
-     * The player entity.
+     * The player entity (replaced when a save is loaded).
      */
-    private final Player player;
+    private Player player;
 
     /**
      * List of weapons owned by the player.
@@ -98,10 +141,51 @@ public class GameController {
     private Zombie currentEnemy;
 
     /**
-     * The current stage number.
+     * The battle engine resolving the rules of the current stage.
+     */
+    private BattleEngine battle;
+
+    /**
+     * Random generator of the session, seeding the generator of every battle.
+     */
+    private final SplittableRandom sessionRandom = new SplittableRandom();
+
+    /**
+     * Scheduler for the delayed steps of the battle flow.
+     */
+    private final GameScheduler scheduler = new GameScheduler();
+
+    /**
+     * State machine of the game flow; delayed steps are timed by the scheduler.
+     * A new game starts like leaving the shop before stage 1.
+     */
+    private final BattleStateMachine flow = new BattleStateMachine(BattleState.SHOP, scheduler);
+
+    /**
+     * Event bus for combat events of the current session.
+     */
+    private final CombatEventBus combatEvents = new CombatEventBus();
+
+    /**
+     * Planner suggesting the purchases for the next stage; keeps its scores for the whole session.
+     */
+    private final PurchasePlanner purchasePlanner = new PurchasePlanner();
+
+    /**
+     * The current stage number (endless waves continue the numbering after the campaign).
      */
     private int currentStage;
 
+    /**
+     * The last stage cleared; saves and the journal resume in the shop after it.
+     */
+    private int clearedStage;
+
+    /**
+     * Wave generator of the endless mode, or null until the player chooses it after the campaign.
+     */
+    private EndlessWaveGenerator endless;
+
     /**
      * Constructor to initialize the game controller and views.
      * Sets up the player, starting items, and UI components.
@@ -110,7 +194,13 @@ public class GameController {
      */
     public GameController(Stage stage) {
         this.primaryStage = stage;
+        primaryStage.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> {
+            scheduler.shutdown();
+            journal.close();
+        });
         this.player = new Player("Survivor");
+        combatEvents.addListener(new ConsoleCombatLogger(combatEvents));
+        player.setEventBus(combatEvents);
 
         // app icon
         try {
@@ -156,9 +246,21 @@ public class GameController {
     // -------------------- GAME FLOW / STAGE FLOW -------------------- //
 
     /**
-     * Runs a runnable action after a specified delay.
+     * Starts the game: offers to resume the run interrupted last time, or a saved run,
+     * otherwise starts a new run at stage 1.
      */
     public void startGame() {
+        RecoveredRun run = recoverRun();
+        if (run != null && showResumeDialog(run)) {
+            restoreRun(run.getPlayer(), run.getOwnedWeapons(), run.getOwnedArmors(),
+                    run.getStage(), run.isEndless(), run.getEndlessSeed());
+            return;
+        }
+        if (saves.hasAny()) {
+            int slot = showSlotDialog(false, "NEW GAME");
+            if (slot > 0 && loadGame(slot)) return;
+        }
+        journal.compact(captureRun());
         startStage(1);
     }
 
@@ -169,34 +271,29 @@ public class GameController {
      * @param stage The stage number to start
      */
     public void startStage(int stage) {
-        player.clearPoison();
         battleView.updateLog("Any lingering poison fades as you move to the next area.");
 
         this.currentStage = stage;
+        scheduler.cancelAll();
 
-        switch (stage) {
-            case 1:
-                currentEnemy = new NormalZombie();
-                break;
-            case 2:
-                currentEnemy = new RottenZombie();
-                break;
-            case 3:
-                currentEnemy = new ArmoredZombie();
-                break;
-            case 4:
-                currentEnemy = new RunnerZombie();
-                break;
-            case 5:
-                currentEnemy = new BossZombie();
-                break;
-            default:
-                showGameWinDialog();
-                return;
+        currentEnemy = createStageEnemy(stage);
+        if (currentEnemy == null) {
+            finishCampaign();
+            return;
         }
+        battle = new BattleEngine(player, currentEnemy, sessionRandom.nextLong());
+        battle.startRecording();
 
+        StageDefinition stageDef = stages.get(stage);
         battleView.resetLog();
-        battleView.updateLog("=== STAGE " + stage + " START ===");
+        battleView.setBackground(stageDef == null ? null : stageDef.getBackground());
+        StageDefinition nextDef = stages.get(stage + 1);
+        if (nextDef != null) ResourceManager.prefetchImage(nextDef.getBackground());
+        if (stageDef == null) {
+            battleView.updateLog("=== ENDLESS WAVE " + (stage - stages.size()) + " START ===");
+        } else {
+            battleView.updateLog("=== STAGE " + stage + " START ===");
+        }
 
         if (mainScene == null) {
             mainScene = new Scene(battleView.getView(), 800, 600);
@@ -206,6 +303,7 @@ public class GameController {
         }
 
         updateBattleUI();
+        flow.transition(BattleState.PLAYER_TURN);
         setPlayerTurn();
     }
 
@@ -213,10 +311,54 @@ public class GameController {
      * Advances to the next stage or wins the game if the last stage is cleared.
      */
     public void nextStage() {
-        if (currentStage < MAX_STAGE) {
+        if (!flow.accepts(BattleInput.NEXT_STAGE)) return;
+
+        if (hasStage(currentStage + 1)) {
             startStage(currentStage + 1);
         } else {
-            showGameWinDialog();
+            finishCampaign();
+        }
+    }
+
+    /**
+     * Checks if a stage exists, in the campaign or as an endless wave.
+     *
+     * @param stage The stage number
+     * @return true if the stage can be played
+     */
+    private boolean hasStage(int stage) {
+        return stages.contains(stage) || (endless != null && stage > stages.size());
+    }
+
+    /**
+     * Creates the enemy of a stage: from the campaign table, or from the endless generator past its end.
+     *
+     * @param stage The stage number
+     * @return A new zombie, or null if the stage does not exist
+     */
+    private Zombie createStageEnemy(int stage) {
+        StageDefinition stageDef = stages.get(stage);
+        if (stageDef != null) return stageDef.createEnemy();
+        if (endless != null && stage > stages.size()) return endless.createEnemy(stage - stages.size());
+        return null;
+    }
+
+    /**
+     * Ends the campaign: shows the victory screen, then either starts the endless mode
+     * or closes the game, as the player chooses.
+     */
+    private void finishCampaign() {
+        if (endless == null && showGameWinDialog()) {
+            endless = new EndlessWaveGenerator(sessionRandom.nextLong());
+            battleView.updateLog("Endless mode! Run seed: " + endless.getSeed());
+            journal(JournalOp.ENDLESS, (int) (endless.getSeed() >>> 32), (int) endless.getSeed());
+            goToShop();
+        } else {
+            journal.discard();
+            if (flow.canTransition(BattleState.GAME_OVER)) flow.transition(BattleState.GAME_OVER);
+            scheduler.shutdown();
+            SoundManager.stopBGM();
+            primaryStage.close();
         }
     }
 
@@ -251,40 +393,40 @@ public class GameController {
      * Calculates damage, handles dodging, and updates the battle log.
      */
     public void handleAttack() {
-        if (!player.isAlive()) return;
+        if (!flow.accepts(BattleInput.ATTACK)) return;
+        flow.transition(BattleState.RESOLVING);
 
         battleView.setControlsDisabled(true);
         battleView.resetPlayerToIdle();
 
-        battleView.playPlayerAttack(() -> {
-            boolean isDodge = Math.random() < currentEnemy.getDodgeChance();
-            int dmg;
-            boolean willDie = false;
-
-            if (!isDodge) {
-                dmg = player.basicAttack(currentEnemy);
-                boolean crit = player.wasLastAttackCritical();
+        if (player.isStunned()) {
+            battle.playerAttack();
+            loseTurnToStun();
+            return;
+        }
 
-                if (crit) {
-                    battleView.updateLog("CRITICAL! Player dealt " + dmg + " damage!");
-                } else {
-                    battleView.updateLog("Player dealt " + dmg + " damage.");
-                }
+        battleView.playPlayerAttack(() -> {
+            AttackResult result = battle.playerAttack();
+            boolean isDodge = result.isDodged();
+            boolean willDie = result.isTargetDefeated();
 
-                willDie = !currentEnemy.isAlive();
-            } else {
+            if (isDodge) {
                 battleView.updateLog(
                         currentEnemy.getClass().getSimpleName() + " dodged your attack!"
                 );
+            } else if (result.isCritical()) {
+                battleView.updateLog("CRITICAL! Player dealt " + result.getDamage() + " damage!");
+            } else {
+                battleView.updateLog("Player dealt " + result.getDamage() + " damage.");
             }
 
             battleView.playEnemyDefend(isDodge, willDie);
             updateBattleUI();
 
             if (willDie) {
-                runLater(1200, this::handleEnemyDeath);
+                flow.transitionLater(1200, BattleState.STAGE_CLEAR, this::handleEnemyDeath);
             } else {
-                runLater(500, this::handleEnemyTurn);
+                flow.transitionLater(500, BattleState.ENEMY_TURN, this::handleEnemyTurn);
             }
         });
     }
@@ -293,14 +435,8 @@ public class GameController {
      * Schedules the start of the enemy's turn action.
      */
     private void handleEnemyTurn() {
-        if (!currentEnemy.isAlive()) return;
-
         setEnemyTurn();
-
-        runLater(1000, () -> {
-            if (!player.isAlive()) return;
-            executeEnemyAttackLogic();
-        });
+        flow.runLater(1000, this::executeEnemyAttackLogic);
     }
 
     /**
@@ -309,7 +445,7 @@ public class GameController {
      */
     private void executeEnemyAttackLogic() {
         int hpBeforePoison = player.getHp();
-        player.tickStatusEffectsAtTurnStart();
+        battle.tickPlayerStatus();
         int hpAfterPoison = player.getHp();
 
         if (hpAfterPoison < hpBeforePoison) {
@@ -323,89 +459,97 @@ public class GameController {
         updateBattleUI();
         if (!player.isAlive()) {
             battleView.playPlayerDefend(false, true);
+            flow.runLater(1000, this::handlePlayerDeath);
+            return;
+        }
 
-            new Thread(() -> {
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                }
-                Platform.runLater(this::handlePlayerDeath);
-            }).start();
-
+        // ตัดสินก่อนเล่นท่าโจมตี: ซอมบี้ที่ติด stun หรือตายจาก bleed/poison ของตัวเองไม่ได้โจมตี
+        AttackResult result = battle.enemyAttack();
+        if (result.isSkipped()) {
+            handleSkippedEnemyAttack(result);
             return;
         }
 
         battleView.playEnemyAttack(() -> {
-            int dmg = 0;
-            boolean willDie = false;
-            boolean isDodge = false;
-
-            if (currentEnemy instanceof BossZombie boss) {
-                boss.enrage();
-                if (Math.random() <= 0.25) {
-                    boss.useSpecialAbility(player);
+            int dmg = result.getDamage();
+            boolean isDodge = result.isDodged();
+            boolean willDie = result.isTargetDefeated();
+
+            if (currentEnemy instanceof BossZombie) {
+                if (result.isSpecialAbility()) {
                     battleView.updateLog("Boss uses Skill!");
+                } else if (isDodge) {
+                    battleView.updateLog("You dodged the Boss's attack!");
+                } else if (result.isCritical()) {
+                    battleView.updateLog("CRITICAL! Boss dealt " + dmg + " damage!");
                 } else {
-                    dmg = boss.basicAttack(player);
-                    boolean crit = boss.wasLastAttackCritical();
-
-                    if (dmg == 0) {
-                        isDodge = true;
-                        battleView.updateLog("You dodged the Boss's attack!");
-                    } else if (crit) {
-                        battleView.updateLog("CRITICAL! Boss dealt " + dmg + " damage!");
-                    } else {
-                        battleView.updateLog("Boss attacked: " + dmg);
-                    }
+                    battleView.updateLog("Boss attacked: " + dmg);
                 }
             } else {
-                dmg = currentEnemy.basicAttack(player);
-                boolean crit = currentEnemy.wasLastAttackCritical();
                 String enemyName = currentEnemy.getClass().getSimpleName();
 
-                if (dmg == 0) {
-                    isDodge = true;
+                if (isDodge) {
                     battleView.updateLog("You dodged " + enemyName + "'s attack!");
-                } else if (crit) {
+                } else if (result.isCritical()) {
                     battleView.updateLog(
                             "CRITICAL! " + enemyName + " dealt " + dmg + " damage!"
                     );
                 } else {
                     battleView.updateLog(enemyName + " attacked: " + dmg);
                 }
-
-                if (currentEnemy instanceof NormalZombie &&
-                        currentEnemy.getHp() < currentEnemy.getMaxHp() / 2) {
-                    currentEnemy.useSpecialAbility(player);
-                }
             }
 
-            willDie = !player.isAlive();
-
             battleView.playPlayerDefend(isDodge, willDie);
             updateBattleUI();
 
             if (willDie) {
                 handlePlayerDeath();
             } else {
-                runLater(1000, this::setPlayerTurn);
+                flow.transitionLater(1000, BattleState.PLAYER_TURN, this::setPlayerTurn);
             }
         });
 
     }
 
+    /**
+     * Handles an enemy turn with no attack: the enemy was stunned, or died from its own status effects.
+     *
+     * @param result The result of the skipped attack
+     */
+    private void handleSkippedEnemyAttack(AttackResult result) {
+        String enemyName = currentEnemy instanceof BossZombie ? "Boss" : currentEnemy.getClass().getSimpleName();
+        updateBattleUI();
+
+        if (result.isAttackerDefeated()) {
+            battleView.updateLog(enemyName + " succumbs to its wounds!");
+            battleView.playEnemyDefend(false, true);
+            flow.transitionLater(1200, BattleState.STAGE_CLEAR, this::handleEnemyDeath);
+        } else {
+            battleView.updateLog(enemyName + " is stunned and skips its turn.");
+            flow.transitionLater(1000, BattleState.PLAYER_TURN, this::setPlayerTurn);
+        }
+    }
+
     /**
      * Handles the player's heal action.
      * Uses the player's special ability to restore HP.
      */
     public void handleHeal() {
+        if (!flow.accepts(BattleInput.HEAL)) return;
+        flow.transition(BattleState.RESOLVING);
+
         battleView.setControlsDisabled(true);
         battleView.resetPlayerToIdle();
 
+        if (player.isStunned()) {
+            battle.playerHeal();
+            loseTurnToStun();
+            return;
+        }
+
         int hpBefore = player.getHp();
-        player.useSpecialAbility(player);
+        int healed = battle.playerHeal();
         int hpAfter = player.getHp();
-        int healed = hpAfter - hpBefore;
 
         if (healed > 0) {
             battleView.updateLog(String.format(
@@ -419,7 +563,16 @@ public class GameController {
         SoundManager.playSound("heal.wav");
         updateBattleUI();
 
-        runLater(1000, this::handleEnemyTurn);
+        flow.transitionLater(1000, BattleState.ENEMY_TURN, this::handleEnemyTurn);
+    }
+
+    /**
+     * Ends a player turn lost to stun and passes the turn to the enemy.
+     */
+    private void loseTurnToStun() {
+        battleView.updateLog("You are stunned and lose your turn!");
+        updateBattleUI();
+        flow.transitionLater(1000, BattleState.ENEMY_TURN, this::handleEnemyTurn);
     }
 
     /**
@@ -430,22 +583,26 @@ public class GameController {
         battleView.updateLog("Enemy Defeated!");
         SoundManager.playSound("Zombie_dead_1.wav");
 
-        if (currentEnemy instanceof OrganDroppable droppable) {
-            OrganParts loot = droppable.getDropItem();
-            player.addHearts(loot.getHearts());
-            player.addBrains(loot.getBrains());
+        OrganParts loot = battle.collectLoot();
+        if (loot != null) {
             battleView.updateLog(
                     "Looted: " + loot.getHearts() + " H, " + loot.getBrains() + " B"
             );
         }
+        saveBattleRecord();
+
+        clearedStage = currentStage;
+        journal(JournalOp.STAGE_CLEARED, currentStage, 0);
+        journal(JournalOp.VITALS, player.getHp(), player.getDefense());
+        journal(JournalOp.CURRENCY, player.getHeartParts(), player.getBrainParts());
 
         battleView.setControlsDisabled(false);
 
-        if (currentStage < MAX_STAGE) {
+        if (hasStage(currentStage + 1)) {
             showStageClearDialog();
             goToShop();
         } else {
-            showGameWinDialog();
+            finishCampaign();
         }
     }
 
@@ -454,8 +611,257 @@ public class GameController {
      * Shows the game over dialog.
      */
     private void handlePlayerDeath() {
+        flow.transition(BattleState.GAME_OVER);
         battleView.updateLog(">>> YOU DIED <<<");
-        runLater(1500, this::showGameOverDialog);
+        saveBattleRecord();
+        journal.discard();
+        flow.runLater(1500, this::showGameOverDialog);
+    }
+
+    /**
+     * Handles equipping a weapon from the inventory.
+     * During a battle the action goes through the engine so that it is recorded.
+     *
+     * @param weapon The weapon to equip
+     */
+    public void equipWeapon(Weapon weapon) {
+        if (!flow.accepts(BattleInput.USE_ITEM)) return;
+
+        if (isBattleOngoing()) {
+            battle.equipWeapon(weapon);
+        } else {
+            player.equipWeapon(weapon);
+        }
+        journal(JournalOp.EQUIP_WEAPON, ownedWeapons.indexOf(weapon), 0);
+    }
+
+    /**
+     * Handles equipping an armor from the inventory.
+     *
+     * @param armor The armor to equip
+     */
+    public void equipArmor(Armor armor) {
+        if (!flow.accepts(BattleInput.USE_ITEM)) return;
+
+        if (isBattleOngoing()) {
+            battle.equipArmor(armor);
+        } else {
+            player.equipArmor(armor);
+        }
+        journal(JournalOp.EQUIP_ARMOR, ownedArmors.indexOf(armor), 0);
+    }
+
+    /**
+     * Handles using a potion from the inventory.
+     *
+     * @param potion The potion to use
+     * @return true if the potion restored HP
+     */
+    public boolean usePotion(Potion potion) {
+        if (!flow.accepts(BattleInput.USE_ITEM)) return false;
+
+        int index = player.getPotions().indexOf(potion);
+        int countBefore = player.getPotions().size();
+        boolean healed = isBattleOngoing() ? battle.usePotion(potion) : player.usePotion(potion);
+        if (player.getPotions().size() < countBefore) {
+            journal(JournalOp.USE_POTION, index, 0);
+            journal(JournalOp.VITALS, player.getHp(), player.getDefense());
+        }
+        return healed;
+    }
+
+    /**
+     * Buys an item of the shop: weapons and armors join the owned equipment, potions the inventory.
+     *
+     * @param item The item on sale
+     * @return true if the player could afford it
+     */
+    public boolean buyItem(Item item) {
+        boolean bought = false;
+        if (item instanceof Weapon w) {
+            bought = player.payCost(w.getCostHearts(), w.getCostBrains());
+            if (bought) {
+                ownedWeapons.add(w);
+                journal(JournalOp.ADD_WEAPON, w.getItemId(), 0);
+            }
+        } else if (item instanceof Armor a) {
+            bought = player.payCost(a.getCostHearts(), a.getCostBrains());
+            if (bought) {
+                ownedArmors.add(a);
+                journal(JournalOp.ADD_ARMOR, a.getItemId(), 0);
+            }
+        } else if (item instanceof Potion p) {
+            bought = player.buyPotionToInventory(p);
+            if (bought) journal(JournalOp.ADD_POTION, p.getItemId(), 0);
+        }
+
+        if (bought) journal(JournalOp.CURRENCY, player.getHeartParts(), player.getBrainParts());
+        return bought;
+    }
+
+    /**
+     * Checks if the current battle is still being fought.
+     *
+     * @return true if both fighters are alive
+     */
+    private boolean isBattleOngoing() {
+        return battle != null && battle.getOutcome() == BattleOutcome.UNRESOLVED;
+    }
+
+    /**
+     * Writes the recording of the current battle to the replay directory.
+     */
+    private void saveBattleRecord() {
+        BattleRecord record = battle.getRecord();
+        if (record == null) return;
+
+        Path file = REPLAY_DIR.resolve(String.format("stage%d-%016x%s",
+                currentStage, record.getSeed(), BattleRecord.FILE_EXTENSION));
+        try {
+            Files.createDirectories(REPLAY_DIR);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                record.write(out);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not save battle record: " + file);
+        }
+    }
+
+    // -------------------- SAVE / LOAD -------------------- //
+
+    /**
+     * Saves the run to a slot. Runs are only saved in the shop, between two stages.
+     *
+     * @param slot The slot (1-based)
+     * @return true if the run was saved
+     */
+    public boolean saveGame(int slot) {
+        if (flow.getState() != BattleState.SHOP) return false;
+
+        try {
+            saves.save(slot, captureRun());
+            return true;
+        } catch (IOException e) {
+            System.err.println("Could not save the game: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Resumes the run of a slot in the shop before its next stage.
+     * Only possible from the shop (or before the first stage).
+     *
+     * @param slot The slot (1-based)
+     * @return true if the run was loaded
+     */
+    public boolean loadGame(int slot) {
+        if (flow.getState() != BattleState.SHOP) return false;
+
+        ItemRegistry registry = ItemRegistry.getDefault();
+        try {
+            SaveGame save = saves.load(slot);
+            if (save == null) return false;
+            List<Weapon> weapons = save.createOwnedWeapons(registry);
+            List<Armor> armors = save.createOwnedArmors(registry);
+            Player loaded = save.createPlayer(weapons, armors, registry);
+            SaveHeader header = save.getHeader();
+            restoreRun(loaded, weapons, armors, header.getStage(), header.isEndless(), header.getEndlessSeed());
+            return true;
+        } catch (IOException e) {
+            System.err.println("Could not load slot " + slot + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the current run and shows the shop before its next stage.
+     * The journal restarts from a snapshot of the restored run.
+     *
+     * @param loaded      The player
+     * @param weapons     Weapons owned by the player
+     * @param armors      Armors owned by the player
+     * @param stage       Last stage cleared
+     * @param isEndless   true in endless mode
+     * @param endlessSeed Seed of the endless waves
+     */
+    private void restoreRun(Player loaded, List<Weapon> weapons, List<Armor> armors,
+                            int stage, boolean isEndless, long endlessSeed) {
+        scheduler.cancelAll();
+        battle = null;
+        currentEnemy = null;
+
+        player = loaded;
+        player.setEventBus(combatEvents);
+        ownedWeapons.clear();
+        ownedWeapons.addAll(weapons);
+        ownedArmors.clear();
+        ownedArmors.addAll(armors);
+        currentStage = stage;
+        clearedStage = stage;
+        endless = isEndless ? new EndlessWaveGenerator(endlessSeed) : null;
+
+        journal.compact(captureRun());
+        showShop();
+    }
+
+    /**
+     * Rebuilds the run interrupted last time from the autosave journal.
+     *
+     * @return The run, or null if there is none or it cannot be read
+     */
+    private RecoveredRun recoverRun() {
+        try {
+            return journal.recover(ItemRegistry.getDefault());
+        } catch (IOException e) {
+            System.err.println("Could not recover the last run: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the current run.
+     *
+     * @return The snapshot
+     */
+    private SaveGame captureRun() {
+        return SaveGame.capture(player, ownedWeapons, ownedArmors, clearedStage,
+                endless != null, endless == null ? 0L : endless.getSeed());
+    }
+
+    /**
+     * Appends a state change to the autosave journal, compacting it when it has grown long enough.
+     *
+     * @param op The state change
+     * @param a  Operand A
+     * @param b  Operand B
+     */
+    private void journal(JournalOp op, int a, int b) {
+        journal.append(op, a, b);
+        if (journal.needsCompaction()) journal.compact(captureRun());
+    }
+
+    /**
+     * Lets the player pick a slot to save the run to.
+     */
+    public void showSaveDialog() {
+        int slot = showSlotDialog(true, "CANCEL");
+        if (slot > 0 && !saveGame(slot)) {
+            showInfoDialog("Save failed", "The game could not be saved to slot " + slot + ".");
+        }
+    }
+
+    /**
+     * Lets the player pick a saved run to resume.
+     */
+    public void showLoadDialog() {
+        if (!saves.hasAny()) {
+            showInfoDialog("Load", "There is no saved game yet.");
+            return;
+        }
+        int slot = showSlotDialog(false, "CANCEL");
+        if (slot > 0 && !loadGame(slot)) {
+            showInfoDialog("Load failed", "The save in slot " + slot + " could not be loaded.");
+        }
     }
 
     // -------------------- NAVIGATION / VIEW SWITCHING -------------------- //
@@ -474,6 +880,14 @@ public class GameController {
      * Generates appropriate items for sale based on the next stage.
      */
     public void goToShop() {
+        flow.transition(BattleState.SHOP);
+        showShop();
+    }
+
+    /**
+     * Shows the Shop screen for the next stage, without changing the flow state.
+     */
+    private void showShop() {
         List<Item> shopItems = getShopItemsForNextStage(currentStage + 1);
         shopView.setupShop(shopItems);
         changeView(shopView.getView());
@@ -485,6 +899,9 @@ public class GameController {
      * @param returnToBattle true if the inventory is accessed from battle, false otherwise
      */
     public void goToInventory(boolean returnToBattle) {
+        if (!flow.accepts(BattleInput.OPEN_INVENTORY)) return;
+        flow.transition(BattleState.INVENTORY);
+
         inventoryView.setReturnToBattle(returnToBattle);
         inventoryView.refreshList();
         changeView(inventoryView.getView());
@@ -496,7 +913,10 @@ public class GameController {
      * @param toBattle true to return to battle, false to return to the shop
      */
     public void backFromInventory(boolean toBattle) {
+        if (!flow.accepts(BattleInput.CLOSE_INVENTORY)) return;
+
         if (toBattle) {
+            flow.transition(BattleState.PLAYER_TURN);
             changeView(battleView.getView());
             updateBattleUI();
         } else {
@@ -513,6 +933,18 @@ public class GameController {
 
     // -------------------- SHOP ITEMS -------------------- //
 
+    /**
+     * Plans the purchases that maximise the chance to win the next stage, in the background.
+     *
+     * @param shopItems Items on sale
+     * @return The best plan once computed, or null if there is no next stage
+     */
+    public CompletableFuture<PurchasePlan> planPurchases(List<Item> shopItems) {
+        Zombie nextEnemy = createStageEnemy(currentStage + 1);
+        if (nextEnemy == null) return CompletableFuture.completedFuture(null);
+        return purchasePlanner.planAsync(player, ownedWeapons, ownedArmors, shopItems, nextEnemy);
+    }
+
     /**
      * Generates a list of items available in the shop for the specified stage.
      *
@@ -520,31 +952,11 @@ public class GameController {
      * @return List of items available for purchase
      */
     private List<Item> getShopItemsForNextStage(int nextStage) {
-        List<Item> items = new ArrayList<>();
-
-        if (nextStage == 2) {
-            items.add(new CombatKnife());
-            items.add(new Machete());
-            items.add(new LeatherJacket());
-            items.add(new Potion("Small Medkit", 30, 3, 1));
-        } else if (nextStage == 3) {
-            items.add(new Hammer());
-            items.add(new KnuckleDusters());
-            items.add(new RiotSuit());
-            items.add(new Potion("Medium Medkit", 50, 5, 2));
-        } else if (nextStage == 4) {
-            items.add(new Revolver());
-            items.add(new ShotGun());
-            items.add(new KevlarJacket());
-            items.add(new Potion("Big Medkit", 80, 7, 3));
-        } else if (nextStage == 5) {
-            items.add(new Rifle());
-            items.add(new Axe());
-            items.add(new RiotSuit());
-            items.add(new Potion("Emergency Kit", 100, 10, 5));
-        }
-
-        return items;
+        StageDefinition stageDef = stages.get(nextStage);
+        // endless waves keep the stock of the campaign's last shop
+        if (stageDef == null && hasStage(nextStage)) stageDef = stages.get(stages.size());
+        if (stageDef == null) return new ArrayList<>();
+        return ItemRegistry.getDefault().createStageItems(stageDef.getShopStage());
     }
 
     // -------------------- DIALOG / UI HELPERS -------------------- //
@@ -656,6 +1068,7 @@ public class GameController {
      * Shows a dialog indicating the game is over.
      */
     private void showGameOverDialog() {
+        scheduler.shutdown();
         SoundManager.stopBGM();
         SoundManager.playSound("game-over-417465.mp3");
 
@@ -716,17 +1129,19 @@ public class GameController {
     }
 
     /**
-     * Shows a dialog indicating the game has been won.
+     * Shows a dialog indicating the game has been won, offering to keep playing in endless mode.
+     *
+     * @return true if the player chose the endless mode
      */
-    private void showGameWinDialog() {
-        SoundManager.stopBGM();
+    private boolean showGameWinDialog() {
+        scheduler.cancelAll();
         SoundManager.playSound("synth_bass_level_complete.wav");
 
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.initOwner(primaryStage);
         alert.setTitle("Victory");
         alert.setHeaderText("YOU SURVIVED!");
-        alert.setContentText("You cleared all stages and obtained the cure.\nHumanity has a chance again.");
+        alert.setContentText("You cleared all stages and obtained the cure.\nHumanity has a chance again.\n\nKeep fighting the endless horde?");
 
         DialogPane pane = getDialogPane(alert, "-fx-background-color: linear-gradient(#047857, #022c22);" +
                 "-fx-border-color: #22C55E;" +
@@ -766,38 +1181,119 @@ public class GameController {
             }
         }
 
+        ButtonType endlessType = new ButtonType("ENDLESS MODE", ButtonBar.ButtonData.OTHER);
+        pane.getButtonTypes().add(endlessType);
+
         Button ok = (Button) pane.lookupButton(ButtonType.OK);
         ok.setText("FINISH");
         stylePrimaryButton(ok);
+        stylePrimaryButton((Button) pane.lookupButton(endlessType));
 
         Stage dialogStage = (Stage) pane.getScene().getWindow();
         dialogStage.initStyle(StageStyle.TRANSPARENT);
         dialogStage.getScene().setFill(Color.TRANSPARENT);
 
-        alert.showAndWait();
-        primaryStage.close();
+        return alert.showAndWait().filter(endlessType::equals).isPresent();
     }
 
-    // -------------------- UTILS -------------------- //
-
     /**
-     * Runs a specified action after a set delay on the JavaFX Application Thread.
+     * Shows the save slots and lets the player pick one.
      *
-     * @param delayMillis The delay time in milliseconds
-     * @param action      The Runnable action to execute
+     * @param saving     true to pick a slot to save to (empty slots can be picked), false to pick a save to load
+     * @param cancelText Text of the button closing the dialog without a slot
+     * @return The slot picked (1-based), or 0 if none
      */
-    private void runLater(long delayMillis, Runnable action) {
-        new Thread(() -> {
-            try {
-                Thread.sleep(delayMillis);
-            } catch (InterruptedException ignored) {
+    private int showSlotDialog(boolean saving, String cancelText) {
+        List<SaveHeader> headers = saves.list();
+
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.initOwner(primaryStage);
+        alert.setTitle(saving ? "Save Game" : "Load Game");
+        alert.setHeaderText(saving ? "SAVE YOUR RUN" : "RESUME A RUN");
+
+        StringBuilder content = new StringBuilder();
+        DialogPane pane = getDialogPane(alert, "-fx-background-color: linear-gradient(#0F172A, #020617);" +
+                "-fx-border-color: #FACC15;" +
+                "-fx-border-width: 3;" +
+                "-fx-border-radius: 18;" +
+                "-fx-background-radius: 18;" +
+                "-fx-padding: 20;", null);
+        pane.getButtonTypes().clear();
+
+        List<ButtonType> slotTypes = new ArrayList<>();
+        for (int i = 0; i < headers.size(); i++) {
+            SaveHeader header = headers.get(i);
+            content.append("Slot ").append(i + 1).append(": ");
+            if (header == null) {
+                content.append("empty");
+            } else {
+                content.append(header.getSummary()).append("  (")
+                        .append(SAVE_TIME_FORMAT.format(Instant.ofEpochMilli(header.getSavedAt())
+                                .atZone(ZoneId.systemDefault()))).append(')');
+            }
+            content.append('\n');
+
+            ButtonType type = new ButtonType("SLOT " + (i + 1), ButtonBar.ButtonData.OTHER);
+            slotTypes.add(type);
+            if (saving || header != null) {
+                pane.getButtonTypes().add(type);
+                stylePrimaryButton((Button) pane.lookupButton(type));
             }
-            Platform.runLater(action);
-        }).start();
+        }
+        alert.setContentText(content.toString());
+
+        ButtonType cancel = new ButtonType(cancelText, ButtonBar.ButtonData.CANCEL_CLOSE);
+        pane.getButtonTypes().add(cancel);
+        stylePrimaryButton((Button) pane.lookupButton(cancel));
+
+        return alert.showAndWait().map(slotTypes::indexOf).orElse(-1) + 1;
+    }
+
+    /**
+     * Asks whether to resume the run interrupted last time.
+     *
+     * @param run The recovered run
+     * @return true to resume it
+     */
+    private boolean showResumeDialog(RecoveredRun run) {
+        ButtonType resume = new ButtonType("RESUME", ButtonBar.ButtonData.OK_DONE);
+        ButtonType discard = new ButtonType("NO", ButtonBar.ButtonData.CANCEL_CLOSE);
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION,
+                "Your last run was interrupted.\n" + run.getSummary(), resume, discard);
+        alert.initOwner(primaryStage);
+        alert.setTitle("Resume");
+        alert.setHeaderText("RESUME YOUR LAST RUN?");
+        stylePrimaryButton((Button) alert.getDialogPane().lookupButton(resume));
+        stylePrimaryButton((Button) alert.getDialogPane().lookupButton(discard));
+        return alert.showAndWait().filter(resume::equals).isPresent();
+    }
+
+    /**
+     * Shows a simple information dialog.
+     *
+     * @param title   The dialog title
+     * @param message The message
+     */
+    private void showInfoDialog(String title, String message) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.initOwner(primaryStage);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
     }
 
     // -------------------- GETTERS -------------------- //
 
+    /**
+     * Gets the state machine of the game flow, e.g. to read transition latencies.
+     *
+     * @return The state machine
+     */
+    public BattleStateMachine getFlow() {
+        return flow;
+    }
+
     /**
      * Gets the player entity.
      *
@@ -1,5 +1,6 @@
 package entity;
 
+import event.CombatEventType;
 import interfaces.OrganDroppable;
 import items.OrganParts;
 
@@ -8,6 +9,12 @@ import items.OrganParts;
  */
 public class BossZombie extends Zombie implements OrganDroppable {
 
+    /** Fraction of the attack power added when the boss enrages. */
+    public static final double ENRAGE_BOOST = 0.5;
+
+    /** Damage multiplier of Toxic Smash. */
+    public static final double SKILL_MULTIPLIER = 1.5;
+
     /** Status indicating if the boss is enraged. */
     private boolean isEnraged;
 
@@ -43,10 +50,10 @@ public class BossZombie extends Zombie implements OrganDroppable {
         if (!isEnraged && getHp() <= getMaxHp() * 0.5) {
             isEnraged = true;
 
-            int boostAmount = (int) (getAttackPower() * 0.5);
+            int boostAmount = (int) (getAttackPower() * ENRAGE_BOOST);
             setAttackPower(getAttackPower() + boostAmount);
 
-            System.out.println(">>> " + getClass().getSimpleName() + " ROARS LOUDLY! It becomes ENRAGED! (Attack UP for 50%)");
+            emit(CombatEventType.ENRAGE, this, this, boostAmount, getAttackPower());
             return;
         }
     }
@@ -59,12 +66,9 @@ public class BossZombie extends Zombie implements OrganDroppable {
     public void useSpecialAbility(Character target) {
         if (!isAlive()) return;
 
-        System.out.println(getClass().getSimpleName() + " uses Toxic Smash!");
-
-        int skillDamage = (int) (getAttackPower() * 1.5);
+        int skillDamage = (int) (getAttackPower() * SKILL_MULTIPLIER);
         int actualDamage = target.takeDamage(skillDamage);
-
-        System.out.println("... smashing " + target.getClass().getSimpleName() + " for " + actualDamage + " damage!");
+        emit(CombatEventType.SPECIAL_ABILITY, this, target, actualDamage, target.getHp());
     }
 
     /**
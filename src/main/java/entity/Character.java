@@ -1,16 +1,19 @@
 package entity;
 
+import event.CombatEventBus;
+import event.CombatEventType;
 import interfaces.Attackable;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Base class representing any character in the game (Player or Zombie).
  */
 public abstract class Character implements Attackable {
 
-    /** Random generator for probability calculations. */
-    protected final Random random = new Random();
+    /** Random generator for probability calculations, replaced by the battle's generator during a fight. */
+    protected RandomGenerator random = new SplittableRandom();
 
     /** Maximum HP of the character. */
     protected int maxHp;
@@ -39,11 +42,14 @@ public abstract class Character implements Attackable {
     /** Status indicating if the last attack was a critical hit. */
     protected boolean lastAttackCritical = false;
 
-    /** Remaining turns for poison effect. */
-    protected int poisonTurns;
+    /** Active status effects (poison, bleed, stun, ...). */
+    protected final StatusEffects statusEffects = new StatusEffects();
 
-    /** Damage taken per turn from poison. */
-    protected int poisonDamagePerTurn;
+    /** Event bus receiving this character's combat events (null when nobody listens). */
+    private CombatEventBus events;
+
+    /** Id of this character on its event bus. */
+    private int eventId = -1;
 
     /**
      * Initialize a new Character with specific stats.
@@ -191,6 +197,22 @@ public abstract class Character implements Attackable {
         this.dodgeChance = clamp01(dodgeChance);
     }
 
+    /**
+     * a getter for random
+     * @return the random generator used for this character's rolls
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * a setter for random, so every roll of a battle can come from one seeded generator.
+     * @param random the random generator to use (ignored if null)
+     */
+    public void setRandom(RandomGenerator random) {
+        if (random != null) this.random = random;
+    }
+
     /**
      * a getter for alive
      * @return
@@ -199,6 +221,49 @@ public abstract class Character implements Attackable {
         return alive;
     }
 
+    /**
+     * a getter for the event bus
+     * @return the event bus, or null if none is attached
+     */
+    public CombatEventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * attaches this character to an event bus, or detaches it when null.
+     * @param events the event bus
+     */
+    public void setEventBus(CombatEventBus events) {
+        this.events = events;
+        this.eventId = (events == null) ? -1 : events.register(this);
+    }
+
+    /**
+     * a getter for eventId
+     * @return the id of this character on its event bus, or -1
+     */
+    public int getEventId() {
+        return eventId;
+    }
+
+    /**
+     * Publishes a combat event on this character's bus, if any.
+     * @param type The event type
+     * @param source The source character, or null
+     * @param target The target character, or null
+     * @param amount The amount of the event
+     * @param after The value after the event
+     */
+    protected final void emit(CombatEventType type, Character source, Character target, int amount, int after) {
+        CombatEventBus bus = events;
+        if (bus != null) {
+            bus.publish(type,
+                    source == null ? -1 : source.eventId,
+                    target == null ? -1 : target.eventId,
+                    amount, after);
+        }
+    }
+
     // ----------------- Core Combat Logic ----------------- //
 
     /**
@@ -231,7 +296,13 @@ public abstract class Character implements Attackable {
     public int takeDamage(int rawDamage) {
         if (rawDamage <= 0 || !alive) return 0;
 
-        if (random.nextDouble() < dodgeChance) {
+        double dodge = dodgeChance;
+        if (!statusEffects.isEmpty()) {
+            dodge += statusEffects.getMagnitude(StatusEffectType.HASTE) / 100.0;
+            rawDamage += statusEffects.getMagnitude(StatusEffectType.ARMOR_BREAK);
+        }
+
+        if (random.nextDouble() < dodge) {
             onDodge();
             return 0;
         }
@@ -243,22 +314,12 @@ public abstract class Character implements Attackable {
             defense -= rawDamage;
             damageToHp = 0;
 
-            System.out.println(
-                    getClass().getSimpleName() +
-                            " blocks the hit with armor. " +
-                            "DEF " + defBefore + " → " + defense +
-                            ", HP " + hp + "/" + maxHp
-            );
+            emit(CombatEventType.ARMOR_BLOCK, null, this, rawDamage, hp);
         } else {
             damageToHp = rawDamage - defense;
             defense = 0;
 
-            System.out.println(
-                    getClass().getSimpleName() +
-                            "'s armor breaks! " +
-                            "DEF " + defBefore + " → 0, " +
-                            "taking " + damageToHp + " damage to HP."
-            );
+            emit(CombatEventType.ARMOR_BREAK, null, this, defBefore, hp);
         }
 
         int actualDamageTaken = Math.min(this.hp, damageToHp);
@@ -293,7 +354,7 @@ public abstract class Character implements Attackable {
      * @param critDamage
      */
     protected void onCriticalHit(Character target, int critDamage) {
-        System.out.println(getClass().getSimpleName() + " lands a CRITICAL hit for " + critDamage + "!");
+        emit(CombatEventType.CRITICAL_HIT, this, target, critDamage, target.hp);
     }
 
     /**
@@ -307,7 +368,7 @@ public abstract class Character implements Attackable {
      * this method call when character dodge
      */
     protected void onDodge() {
-        System.out.println(getClass().getSimpleName() + " dodged the attack!");
+        emit(CombatEventType.DODGE, null, this, 0, hp);
     }
 
     /**
@@ -315,7 +376,7 @@ public abstract class Character implements Attackable {
      * @param damageTaken
      */
     protected void onDamaged(int damageTaken) {
-        System.out.println(getClass().getSimpleName() + " took " + damageTaken + " damage. HP: " + hp + "/" + maxHp);
+        emit(CombatEventType.DAMAGED, null, this, damageTaken, hp);
     }
 
     /**
@@ -324,7 +385,7 @@ public abstract class Character implements Attackable {
      */
     protected void onHeal(int healedAmount) {
         if (healedAmount > 0) {
-            System.out.println(getClass().getSimpleName() + " healed " + healedAmount + " HP. HP: " + hp + "/" + maxHp);
+            emit(CombatEventType.HEALED, null, this, healedAmount, hp);
         }
     }
 
@@ -332,17 +393,60 @@ public abstract class Character implements Attackable {
      * this method call when this character dead
      */
     protected void onDeath() {
-        System.out.println(getClass().getSimpleName() + " has been defeated.");
+        emit(CombatEventType.DEATH, null, this, 0, hp);
     }
 
-    // ----------------- Status Effects: Poison ----------------- //
+    // ----------------- Status Effects ----------------- //
+
+    /**
+     * Gets the active status effects of the character.
+     * @return The status effects
+     */
+    public StatusEffects getStatusEffects() {
+        return statusEffects;
+    }
+
+    /**
+     * Applies a status effect. Re-applying an active effect keeps the stronger magnitude and the longer duration.
+     * @param type The effect
+     * @param magnitude Strength of the effect (see {@link StatusEffectType})
+     * @param turns Number of turns the effect lasts
+     */
+    public void applyStatus(StatusEffectType type, int magnitude, int turns) {
+        if (!alive) return;
+        statusEffects.apply(type, magnitude, turns);
+    }
+
+    /**
+     * Checks if a status effect is active.
+     * @param type The effect
+     * @return true if active
+     */
+    public boolean hasStatus(StatusEffectType type) {
+        return statusEffects.has(type);
+    }
+
+    /**
+     * Checks if the character is stunned and must skip its action.
+     * @return true if stunned
+     */
+    public boolean isStunned() {
+        return statusEffects.has(StatusEffectType.STUN);
+    }
+
+    /**
+     * Clears every status effect.
+     */
+    public void clearStatusEffects() {
+        statusEffects.clearAll();
+    }
 
     /**
      * Checks if the character is currently poisoned.
      * @return true if poison turns > 0
      */
     public boolean isPoisoned() {
-        return poisonTurns > 0;
+        return statusEffects.has(StatusEffectType.POISON);
     }
 
     /**
@@ -351,42 +455,52 @@ public abstract class Character implements Attackable {
      * @param turns Number of turns the poison lasts
      */
     public void applyPoison(int damagePerTurn, int turns) {
-        if (damagePerTurn <= 0 || turns <= 0 || !alive) return;
-
-        poisonDamagePerTurn = Math.max(poisonDamagePerTurn, damagePerTurn);
-        poisonTurns = Math.max(poisonTurns, turns);
+        if (damagePerTurn <= 0) return;
+        applyStatus(StatusEffectType.POISON, damagePerTurn, turns);
     }
 
     /**
      * Clears all poison effects.
      */
     public void clearPoison() {
-        poisonTurns = 0;
-        poisonDamagePerTurn = 0;
+        statusEffects.clear(StatusEffectType.POISON);
     }
 
     /**
-     * Applies status effects (like poison) at the start of the turn.
+     * Applies status effects at the start of the turn: poison and bleed damage, regeneration,
+     * then every active effect loses a turn. Only the active effects are visited.
      */
     public void tickStatusEffectsAtTurnStart() {
-        if (!alive) return;
-
-        if (poisonTurns > 0) {
-            int before = hp;
-
-            int dmg = Math.min(poisonDamagePerTurn, hp);
-            setHp(hp - dmg);
-
-            int actual = before - hp;
-            System.out.println(
-                    getClass().getSimpleName() +
-                            " suffers " + actual + " poison damage. " +
-                            "HP: " + hp + "/" + maxHp +
-                            " (" + poisonTurns + " turns of poison left)"
-            );
-
-            poisonTurns--;
+        if (!alive || statusEffects.isEmpty()) return;
+
+        int active = statusEffects.getActiveMask();
+        while (active != 0 && alive) {
+            int i = Integer.numberOfTrailingZeros(active);
+            active &= active - 1;
+            int magnitude = statusEffects.magnitudeAt(i);
+
+            switch (StatusEffectType.VALUES[i]) {
+                case POISON -> emit(CombatEventType.POISON_TICK, null, this, loseHp(magnitude), hp);
+                case BLEED -> emit(CombatEventType.BLEED_TICK, null, this, loseHp(magnitude), hp);
+                case REGEN -> heal(magnitude);
+                case STUN -> emit(CombatEventType.STUNNED, null, this, 0, hp);
+                default -> {
+                    // armor break / haste มีผลตอนโดนตี ต้นเทิร์นแค่นับเทิร์นลง
+                }
+            }
         }
+        statusEffects.endTurn();
+    }
+
+    /**
+     * Loses HP outside of an attack (no dodge, no armor).
+     * @param amount HP to lose
+     * @return HP actually lost
+     */
+    private int loseHp(int amount) {
+        int before = hp;
+        setHp(hp - Math.min(amount, hp));
+        return before - hp;
     }
 
     // ----------------- Abstract Section ----------------- //
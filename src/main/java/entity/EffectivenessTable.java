@@ -0,0 +1,203 @@
+package entity;
+
+import items.WeaponType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Weapon type × zombie kind effectiveness, loaded from a CSV resource.
+ * Every pair has an entry (pairs missing from the data have no effect), stored in one flat
+ * array indexed by {@code weaponType * kinds + zombieKind}, so a lookup is a single array load
+ * whatever the number of weapon types and zombie kinds.
+ */
+public final class EffectivenessTable {
+
+    /** Classpath resource of the game's table. */
+    public static final String DEFAULT_RESOURCE = "/data/effectiveness.csv";
+
+    /** Number of fields of a row. */
+    private static final int FIELD_COUNT = 5;
+
+    /** Number of zombie kinds, i.e. the row stride of the table. */
+    private static final int KINDS = ZombieKind.values().length;
+
+    /** Shared entry of every pair without effect. */
+    public static final Entry NONE = new Entry(0, 0, 0.0);
+
+    /** Entries indexed by {@link #index}. */
+    private final Entry[] entries;
+
+    /**
+     * Lazily loaded table of the game.
+     */
+    private static final class DefaultHolder {
+        static final EffectivenessTable INSTANCE = loadDefault();
+
+        private static EffectivenessTable loadDefault() {
+            try (InputStream in = EffectivenessTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) throw new IOException("Missing effectiveness table " + DEFAULT_RESOURCE);
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Constructs a table from its entries.
+     * @param entries Entries indexed by {@link #index}
+     */
+    private EffectivenessTable(Entry[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Gets the game's table, loading it on first use.
+     * @return The default table
+     * @throws UncheckedIOException if the resource is missing or invalid
+     */
+    public static EffectivenessTable getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Gets a table where no pair has any effect.
+     * @return An empty table
+     */
+    public static EffectivenessTable empty() {
+        Entry[] entries = new Entry[WeaponType.values().length * KINDS];
+        Arrays.fill(entries, NONE);
+        return new EffectivenessTable(entries);
+    }
+
+    /**
+     * Loads a table from CSV. Blank lines and lines starting with '#' are ignored.
+     * Each row is {@code weaponType,zombieKind,bonusDamage,defenseShred,dodgeShred}; pairs without a row have no effect.
+     * @param in The CSV data (UTF-8)
+     * @return The table
+     * @throws IOException if the data cannot be read, a row is invalid or a pair is listed twice
+     */
+    public static EffectivenessTable load(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        EffectivenessTable table = empty();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+
+            String[] fields = line.split(",", -1);
+            int index;
+            Entry entry;
+            try {
+                if (fields.length != FIELD_COUNT) {
+                    throw new IllegalArgumentException("needs " + FIELD_COUNT + " fields, got " + fields.length);
+                }
+                index = index(WeaponType.valueOf(fields[0].strip()), ZombieKind.valueOf(fields[1].strip()));
+                entry = new Entry(
+                        Integer.parseInt(fields[2].strip()),
+                        Integer.parseInt(fields[3].strip()),
+                        Double.parseDouble(fields[4].strip())
+                );
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid effectiveness on line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            if (table.entries[index] != NONE) {
+                throw new IOException("Duplicate pair " + fields[0].strip() + "," + fields[1].strip()
+                        + " on line " + lineNumber);
+            }
+            table.entries[index] = entry.isNone() ? NONE : entry;
+        }
+        return table;
+    }
+
+    /**
+     * Gets the effect of a weapon type against a zombie kind.
+     * @param weaponType The attacker's weapon type
+     * @param kind The target's kind
+     * @return The entry, {@link #NONE} if the pair has no effect
+     */
+    public Entry get(WeaponType weaponType, ZombieKind kind) {
+        return entries[index(weaponType, kind)];
+    }
+
+    /**
+     * Gets the index of a pair in the flat array.
+     */
+    private static int index(WeaponType weaponType, ZombieKind kind) {
+        return weaponType.ordinal() * KINDS + kind.ordinal();
+    }
+
+    /**
+     * Effect of one weapon type against one zombie kind, applied on every basic attack.
+     */
+    public static final class Entry {
+
+        /** Extra damage added to the attack before the critical roll. */
+        private final int bonusDamage;
+
+        /** Defense removed from the target before the hit. */
+        private final int defenseShred;
+
+        /** Dodge chance removed from the target before the hit. */
+        private final double dodgeShred;
+
+        /**
+         * Constructs an entry.
+         * @param bonusDamage Extra damage (at least 0)
+         * @param defenseShred Defense removed (at least 0)
+         * @param dodgeShred Dodge chance removed (0.0 - 1.0)
+         * @throws IllegalArgumentException if a value is out of range
+         */
+        public Entry(int bonusDamage, int defenseShred, double dodgeShred) {
+            if (bonusDamage < 0) throw new IllegalArgumentException("bonusDamage must be >= 0: " + bonusDamage);
+            if (defenseShred < 0) throw new IllegalArgumentException("defenseShred must be >= 0: " + defenseShred);
+            if (!(dodgeShred >= 0.0 && dodgeShred <= 1.0)) {
+                throw new IllegalArgumentException("dodgeShred must be in 0.0 - 1.0: " + dodgeShred);
+            }
+            this.bonusDamage = bonusDamage;
+            this.defenseShred = defenseShred;
+            this.dodgeShred = dodgeShred;
+        }
+
+        /**
+         * Gets the extra damage.
+         * @return Damage added before the critical roll
+         */
+        public int getBonusDamage() {
+            return bonusDamage;
+        }
+
+        /**
+         * Gets the defense removed from the target.
+         * @return Defense shred per attack
+         */
+        public int getDefenseShred() {
+            return defenseShred;
+        }
+
+        /**
+         * Gets the dodge chance removed from the target.
+         * @return Dodge shred per attack
+         */
+        public double getDodgeShred() {
+            return dodgeShred;
+        }
+
+        /**
+         * Checks if the entry has no effect at all.
+         * @return true if every value is zero
+         */
+        public boolean isNone() {
+            return bonusDamage == 0 && defenseShred == 0 && dodgeShred == 0.0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package entity;
 
+import event.CombatEventType;
 import interfaces.OrganDroppable;
 import items.OrganParts;
 
@@ -8,6 +9,9 @@ import items.OrganParts;
  */
 public class NormalZombie extends Zombie implements OrganDroppable {
 
+    /** HP regenerated after each attack while below half HP. */
+    public static final int REGEN_AMOUNT = 5;
+
     /**
      * Initialize a Normal Zombie by using super(100,15,5,0.10,1.5,0.05).
      */
@@ -32,14 +36,10 @@ public class NormalZombie extends Zombie implements OrganDroppable {
 
         if (getHp() > 0 && getHp() < getMaxHp() / 2) {
             int before = getHp();
-            int regenAmount = 5;
-            heal(regenAmount);
+            heal(REGEN_AMOUNT);
             int healed = getHp() - before;
             if (healed > 0) {
-                System.out.println(
-                        getClass().getSimpleName() + " regenerates " +
-                                healed + " HP! (" + getHp() + "/" + getMaxHp() + ")"
-                );
+                emit(CombatEventType.REGENERATE, this, this, healed, getHp());
             }
         }
     }
@@ -1,10 +1,14 @@
 package entity;
 
+import event.CombatEventType;
 import items.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Represents the main player character controlled by the user.
@@ -27,6 +31,25 @@ public class Player extends Character {
     /** Currently equipped armor. */
     private Armor armor;
 
+    /** Source names of the equipment modifiers. */
+    private static final String WEAPON_SOURCE = "weapon";
+    private static final String ARMOR_SOURCE = "armor";
+
+    /** Base stats plus equipment and buff modifiers; the Character fields hold its clamped total. */
+    private final StatStack stats;
+
+    /** Defense of the base stats used up as a shield since the defense was last set. */
+    private int baseShieldUsed;
+
+    /** Shield used up from each armor piece worn; stays used up when the same piece is re-equipped, a new piece starts full. */
+    private final Map<Armor, Integer> armorShieldUsed = new IdentityHashMap<>();
+
+    /** Defense right after the stats were last applied, to measure the shield used since. */
+    private int appliedDefense;
+
+    /** Weapon type × zombie kind effects applied by basic attacks. */
+    private EffectivenessTable effectiveness = EffectivenessTable.getDefault();
+
     /**
      * Initialize the player with default stats and name.
      * @param name Name of the player
@@ -41,6 +64,8 @@ public class Player extends Character {
                 0.10   // dodgeChance 10%
         );
         this.name = name;
+        this.stats = new StatStack(new StatBlock(attackPower, defense, critChance, critDamage, dodgeChance));
+        this.appliedDefense = defense;
     }
 
     // ---------- Getter / Setter ---------- //
@@ -72,8 +97,7 @@ public class Player extends Character {
      */
     public void addHearts(int amount) {
         organParts.addHearts(amount);
-        System.out.println(name + " gained " + amount +
-                " hearts. Total hearts: " + organParts.getHearts());
+        emit(CombatEventType.HEARTS_GAINED, this, this, amount, organParts.getHearts());
     }
 
     /**
@@ -82,8 +106,7 @@ public class Player extends Character {
      */
     public void addBrains(int amount) {
         organParts.addBrains(amount);
-        System.out.println(name + " gained " + amount +
-                " brains. Total brains: " + organParts.getBrains());
+        emit(CombatEventType.BRAINS_GAINED, this, this, amount, organParts.getBrains());
     }
 
     /**
@@ -91,16 +114,11 @@ public class Player extends Character {
      */
     public boolean payCost(int heartsCost, int brainsCost) {
         if (!organParts.canAfford(heartsCost, brainsCost)) {
-            System.out.println(name + " cannot afford this. " +
-                    "Need H:" + heartsCost + " B:" + brainsCost +
-                    " but has H:" + organParts.getHearts() +
-                    " B:" + organParts.getBrains());
+            emit(CombatEventType.PAYMENT_FAILED, this, this, heartsCost, brainsCost);
             return false;
         }
         organParts.pay(heartsCost, brainsCost);
-        System.out.println(name + " spent H:" + heartsCost +
-                " B:" + brainsCost + ". Now H:" + organParts.getHearts() +
-                " B:" + organParts.getBrains());
+        emit(CombatEventType.PAYMENT, this, this, heartsCost, brainsCost);
         return true;
     }
 
@@ -125,39 +143,163 @@ public class Player extends Character {
      * @param newWeapon
      */
     public void equipWeapon(Weapon newWeapon) {
-        if (this.weapon != null) {
-            setAttackPower(getAttackPower() - this.weapon.getAttackBonus());
-            setCritChance(getCritChance() - this.weapon.getCritChanceBonus());
-            setCritDamage(getCritDamage() - this.weapon.getCritDamageBonus());
-        }
-
         this.weapon = newWeapon;
+        stats.put(WEAPON_SOURCE, newWeapon == null ? null : new StatBlock(newWeapon.getAttackBonus(), 0,
+                newWeapon.getCritChanceBonus(), newWeapon.getCritDamageBonus(), 0.0));
+        applyStats(false);
 
-        if (newWeapon != null) {
-            setAttackPower(getAttackPower() + newWeapon.getAttackBonus());
-            setCritChance(getCritChance() + newWeapon.getCritChanceBonus());
-            setCritDamage(getCritDamage() + newWeapon.getCritDamageBonus());
-        }
-
-        System.out.println(name + " equipped weapon: " +
-                (newWeapon == null ? "None" : newWeapon.getName()));
+        emit(CombatEventType.WEAPON_EQUIPPED, this, this,
+                newWeapon == null ? 0 : newWeapon.getAttackBonus(), getAttackPower());
     }
 
+    /**
+     * this method call when player equip new armor
+     * @param newArmor
+     */
     public void equipArmor(Armor newArmor) {
-        if (this.armor != null) {
-            setDefense(getDefense() - this.armor.getDefenseBonus());
-            setDodgeChance(getDodgeChance() - this.armor.getDodgeChanceBonus());
+        chargeShield(); // เกราะตัวเดิมเป็นคนรับดาเมจที่ผ่านมา
+        this.armor = newArmor;
+        stats.put(ARMOR_SOURCE, newArmor == null ? null : new StatBlock(0, newArmor.getDefenseBonus(),
+                0.0, 0.0, newArmor.getDodgeChanceBonus()));
+        applyStats(false);
+
+        emit(CombatEventType.ARMOR_EQUIPPED, this, this,
+                newArmor == null ? 0 : newArmor.getDefenseBonus(), getDefense());
+    }
+
+    /**
+     * Gets the weapon type × zombie kind effects applied by basic attacks.
+     * @return The effectiveness table
+     */
+    public EffectivenessTable getEffectiveness() {
+        return effectiveness;
+    }
+
+    /**
+     * Sets the weapon type × zombie kind effects applied by basic attacks, e.g. for a rebalanced mode.
+     * @param effectiveness The effectiveness table
+     */
+    public void setEffectiveness(EffectivenessTable effectiveness) {
+        this.effectiveness = Objects.requireNonNull(effectiveness);
+    }
+
+    // ---------- Stats: base + modifiers ---------- //
+
+    /**
+     * Gets the stats of the player: base stats plus equipment and buffs.
+     * @return The stat stack
+     */
+    public StatStack getStats() {
+        return stats;
+    }
+
+    /**
+     * Adds or replaces a temporary stat modifier, e.g. a buff.
+     * @param source Name of the buff
+     * @param modifier The stats it adds
+     */
+    public void addStatModifier(String source, StatBlock modifier) {
+        stats.put(source, modifier);
+        applyStats(false);
+    }
+
+    /**
+     * Removes a temporary stat modifier.
+     * @param source Name of the buff
+     */
+    public void removeStatModifier(String source) {
+        if (stats.remove(source)) applyStats(false);
+    }
+
+    /**
+     * Copies the clamped total of the stat stack into the character's fields.
+     * @param resetShield true if the defense was just set, i.e. no shield is used up
+     */
+    private void applyStats(boolean resetShield) {
+        StatBlock total = stats.getTotal();
+        super.setAttackPower(total.getAttackPower());
+        super.setCritChance(total.getCritChance());
+        super.setCritDamage(total.getCritDamage());
+        super.setDodgeChance(total.getDodgeChance());
+
+        if (resetShield) {
+            baseShieldUsed = 0;
+            if (armor != null) armorShieldUsed.remove(armor);
+        } else {
+            chargeShield();
         }
+        super.setDefense(total.getDefense() - baseShieldUsed - armorShieldUsed.getOrDefault(armor, 0));
+        appliedDefense = defense;
+    }
 
-        this.armor = newArmor;
+    /**
+     * Charges the shield used up since the stats were last applied: to the worn armor first, up to its bonus,
+     * then to the base defense.
+     */
+    private void chargeShield() {
+        int absorbed = Math.max(0, appliedDefense - defense);
+        appliedDefense = defense;
+        if (absorbed == 0) return;
+
+        if (armor != null) {
+            int used = armorShieldUsed.getOrDefault(armor, 0);
+            int charged = Math.min(absorbed, Math.max(0, armor.getDefenseBonus() - used));
+            if (charged > 0) armorShieldUsed.put(armor, used + charged);
+            absorbed -= charged;
+        }
+        baseShieldUsed += absorbed;
+    }
+
+    // setter ของ Player ปรับ base ให้ผลรวมออกมาเท่ากับค่าที่ตั้ง → ถอด/ใส่ของทีหลังก็ไม่เพี้ยน
+
+    @Override
+    public void setAttackPower(int attackPower) {
+        stats.setBase(stats.getBase().withAttackPower(attackPower - stats.getModifierSum().getAttackPower()));
+        applyStats(false);
+    }
+
+    /**
+     * Sets the current defense, as if it was the full (unused) shield.
+     */
+    @Override
+    public void setDefense(int defense) {
+        stats.setBase(stats.getBase().withDefense(defense - stats.getModifierSum().getDefense()));
+        applyStats(true);
+    }
 
-        if (newArmor != null) {
-            setDefense(getDefense() + newArmor.getDefenseBonus());
-            setDodgeChance(getDodgeChance() + newArmor.getDodgeChanceBonus());
+    /**
+     * Restores the current defense from a saved value, e.g. when a save or a battle record is loaded.
+     * The gap to the full defense of the current loadout is charged as used shield the way damage is,
+     * worn armor first, so swapping armor afterwards gives the same defense as in the live game.
+     * A value above the full defense raises the base defense, like {@link #setDefense}.
+     * @param defense The saved current defense
+     */
+    public void restoreUsedShield(int defense) {
+        applyStats(true);
+        if (defense >= this.defense) {
+            if (defense > this.defense) setDefense(defense);
+            return;
         }
+        super.setDefense(defense);
+        chargeShield();
+    }
 
-        System.out.println(name + " equipped armor: " +
-                (newArmor == null ? "None" : newArmor.getName()));
+    @Override
+    public void setCritChance(double critChance) {
+        stats.setBase(stats.getBase().withCritChance(critChance - stats.getModifierSum().getCritChance()));
+        applyStats(false);
+    }
+
+    @Override
+    public void setCritDamage(double critDamage) {
+        stats.setBase(stats.getBase().withCritDamage(critDamage - stats.getModifierSum().getCritDamage()));
+        applyStats(false);
+    }
+
+    @Override
+    public void setDodgeChance(double dodgeChance) {
+        stats.setBase(stats.getBase().withDodgeChance(dodgeChance - stats.getModifierSum().getDodgeChance()));
+        applyStats(false);
     }
 
     // ---------- เมธอดช่วยซื้อของแบบสะดวก (อาวุธ/เกราะ) ---------- //
@@ -206,7 +348,7 @@ public class Player extends Character {
     public void addPotionToInventory(Potion potion) {
         if (potion == null) return;
         potions.add(potion);
-        System.out.println(name + " obtained potion: " + potion.getName());
+        emit(CombatEventType.POTION_OBTAINED, this, this, potion.getHealAmount(), potions.size());
     }
 
     /**
@@ -239,11 +381,7 @@ public class Player extends Character {
 
         potions.remove(potion);
 
-        System.out.println(
-                name + " used " + potion.getName() +
-                        " and healed " + healed +
-                        " HP! (" + getHp() + "/" + getMaxHp() + ")"
-        );
+        emit(CombatEventType.POTION_USED, this, this, healed, getHp());
 
         return healed > 0;
     }
@@ -263,55 +401,14 @@ public class Player extends Character {
         heal(healAmount);
         int healed = getHp() - before;
 
-        if (healed > 0) {
-            System.out.println(
-                    name + " uses Adrenaline Shot and heals " +
-                            healed + " HP! (" + getHp() + "/" + getMaxHp() + ")"
-            );
-        } else {
-            System.out.println(name + " tries to use Adrenaline Shot, but HP is already full.");
-        }
-    }
-
-    // ---------- Override hook methods ให้ log อ่านง่าย ---------- //
-
-    @Override
-    protected void onCriticalHit(Character target, int critDamage) {
-        System.out.println(name + " lands a CRITICAL hit on " +
-                target.getClass().getSimpleName() +
-                " for " + critDamage + " damage!");
-    }
-
-    @Override
-    protected void onDodge() {
-        System.out.println(
-                name + " dodged the attack! HP: " + getHp() + "/" + getMaxHp()
-        );
-    }
-
-    @Override
-    protected void onDamaged(int damageTaken) {
-        System.out.println(name + " took " + damageTaken +
-                " damage. HP: " + getHp() + "/" + getMaxHp());
-    }
-
-    @Override
-    protected void onHeal(int healedAmount) {
-        if (healedAmount > 0) {
-            System.out.println(name + " healed " + healedAmount +
-                    " HP. HP: " + getHp() + "/" + getMaxHp());
-        }
-    }
-
-    @Override
-    protected void onDeath() {
-        System.out.println(name + " has fallen...");
+        emit(CombatEventType.SPECIAL_ABILITY, this, this, healed, getHp());
     }
 
     // ---------- basic attack สำหรับ player vs zombie (แพ้-ชนะตาม type) ---------- //
 
     /**
-     * Performs a basic attack on the target, applying weapon bonuses.
+     * Performs a basic attack on the target, applying the weapon type's effect
+     * against the zombie's kind from the {@link EffectivenessTable}.
      * @param target The character to attack
      * @return The actual damage dealt
      */
@@ -322,22 +419,14 @@ public class Player extends Character {
             return super.basicAttack(target);
         }
 
-        WeaponType weaponType = this.getWeapon().getWeaponType();
-
-        int damage = attackPower;
-
-        if (zombie instanceof RottenZombie) {
-            if (weaponType == WeaponType.SHARP) {
-                damage += 10; // SHARP แรงขึ้นกับ RottenZombie
-            }
-        } else if (zombie instanceof ArmoredZombie) {
-            if (weaponType == WeaponType.HEAVY) {
-                zombie.setDefense(zombie.getDefense() - 5); // HEAVY ลดเกราะก่อน
-            }
-        } else if (zombie instanceof RunnerZombie) {
-            if (weaponType == WeaponType.GUN) {
-                zombie.setDodgeChance(zombie.getDodgeChance() - 0.05); // GUN ลด dodge
-            }
+        EffectivenessTable.Entry effect = effectiveness.get(getWeapon().getWeaponType(), zombie.getKind());
+
+        int damage = attackPower + effect.getBonusDamage();
+        if (effect.getDefenseShred() > 0) {
+            zombie.setDefense(zombie.getDefense() - effect.getDefenseShred()); // ลดเกราะก่อนตี
+        }
+        if (effect.getDodgeShred() > 0.0) {
+            zombie.setDodgeChance(zombie.getDodgeChance() - effect.getDodgeShred()); // ลด dodge ก่อนตี
         }
 
         // --- ส่วนคริ ---
@@ -1,5 +1,6 @@
 package entity;
 
+import event.CombatEventType;
 import interfaces.OrganDroppable;
 import items.OrganParts;
 
@@ -8,6 +9,12 @@ import items.OrganParts;
  */
 public class RottenZombie extends Zombie implements OrganDroppable {
 
+    /** Poison damage per turn inflicted by each attack that hurts the target. */
+    public static final int POISON_DAMAGE = 5;
+
+    /** Number of turns the inflicted poison lasts. */
+    public static final int POISON_TURNS = 3;
+
     /**
      * Initialize a Rotten Zombie by using super(170, 25, 5, 0.1, 1.5, 0.0).
      */
@@ -25,11 +32,8 @@ public class RottenZombie extends Zombie implements OrganDroppable {
         int damageDealt = super.basicAttack(target);
 
         if (damageDealt > 0 && target.isAlive()) {
-            target.applyPoison(5, 3);
-            System.out.println(
-                    getClass().getSimpleName() +
-                            " inflicts poison! Target will take 5 damage for 3 turns."
-            );
+            target.applyPoison(POISON_DAMAGE, POISON_TURNS);
+            emit(CombatEventType.POISON_APPLIED, this, target, POISON_DAMAGE, target.getHp());
         }
         return damageDealt;
     }
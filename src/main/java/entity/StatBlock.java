@@ -0,0 +1,155 @@
+package entity;
+
+/**
+ * Immutable set of combat stats: either a character's base stats or a modifier
+ * (weapon, armor, buff) added on top of them. Values are not clamped, so adding and
+ * removing modifiers always returns to the exact same totals; clamping only happens
+ * when the total is applied to a character.
+ */
+public final class StatBlock {
+
+    /** A block with every stat at zero (no modifier). */
+    public static final StatBlock ZERO = new StatBlock(0, 0, 0.0, 0.0, 0.0);
+
+    /** Attack power. */
+    private final int attackPower;
+
+    /** Defense. */
+    private final int defense;
+
+    /** Critical chance. */
+    private final double critChance;
+
+    /** Critical damage multiplier. */
+    private final double critDamage;
+
+    /** Dodge chance. */
+    private final double dodgeChance;
+
+    /**
+     * Constructs a stat block.
+     * @param attackPower Attack power
+     * @param defense Defense
+     * @param critChance Critical chance
+     * @param critDamage Critical damage multiplier
+     * @param dodgeChance Dodge chance
+     */
+    public StatBlock(int attackPower, int defense, double critChance, double critDamage, double dodgeChance) {
+        this.attackPower = attackPower;
+        this.defense = defense;
+        this.critChance = critChance;
+        this.critDamage = critDamage;
+        this.dodgeChance = dodgeChance;
+    }
+
+    /**
+     * Adds two blocks.
+     * @param other The block to add
+     * @return A new block with the sum of every stat
+     */
+    public StatBlock plus(StatBlock other) {
+        return new StatBlock(attackPower + other.attackPower, defense + other.defense,
+                critChance + other.critChance, critDamage + other.critDamage, dodgeChance + other.dodgeChance);
+    }
+
+    /**
+     * Subtracts a block.
+     * @param other The block to subtract
+     * @return A new block with the difference of every stat
+     */
+    public StatBlock minus(StatBlock other) {
+        return new StatBlock(attackPower - other.attackPower, defense - other.defense,
+                critChance - other.critChance, critDamage - other.critDamage, dodgeChance - other.dodgeChance);
+    }
+
+    /**
+     * Copies the block with another attack power.
+     * @param attackPower The new attack power
+     * @return The copy
+     */
+    public StatBlock withAttackPower(int attackPower) {
+        return new StatBlock(attackPower, defense, critChance, critDamage, dodgeChance);
+    }
+
+    /**
+     * Copies the block with another defense.
+     * @param defense The new defense
+     * @return The copy
+     */
+    public StatBlock withDefense(int defense) {
+        return new StatBlock(attackPower, defense, critChance, critDamage, dodgeChance);
+    }
+
+    /**
+     * Copies the block with another critical chance.
+     * @param critChance The new critical chance
+     * @return The copy
+     */
+    public StatBlock withCritChance(double critChance) {
+        return new StatBlock(attackPower, defense, critChance, critDamage, dodgeChance);
+    }
+
+    /**
+     * Copies the block with another critical damage multiplier.
+     * @param critDamage The new critical damage multiplier
+     * @return The copy
+     */
+    public StatBlock withCritDamage(double critDamage) {
+        return new StatBlock(attackPower, defense, critChance, critDamage, dodgeChance);
+    }
+
+    /**
+     * Copies the block with another dodge chance.
+     * @param dodgeChance The new dodge chance
+     * @return The copy
+     */
+    public StatBlock withDodgeChance(double dodgeChance) {
+        return new StatBlock(attackPower, defense, critChance, critDamage, dodgeChance);
+    }
+
+    /**
+     * a getter for attackPower
+     * @return attackPower
+     */
+    public int getAttackPower() {
+        return attackPower;
+    }
+
+    /**
+     * a getter for defense
+     * @return defense
+     */
+    public int getDefense() {
+        return defense;
+    }
+
+    /**
+     * a getter for critChance
+     * @return critChance
+     */
+    public double getCritChance() {
+        return critChance;
+    }
+
+    /**
+     * a getter for critDamage
+     * @return critDamage
+     */
+    public double getCritDamage() {
+        return critDamage;
+    }
+
+    /**
+     * a getter for dodgeChance
+     * @return dodgeChance
+     */
+    public double getDodgeChance() {
+        return dodgeChance;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ATK %d DEF %d CRIT %.2f x%.2f DODGE %.2f",
+                attackPower, defense, critChance, critDamage, dodgeChance);
+    }
+}
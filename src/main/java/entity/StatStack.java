@@ -0,0 +1,111 @@
+package entity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base stats plus a stack of named modifiers (equipment, buffs).
+ * The total is summed once whenever the stack changes and cached, so reading it is a field load.
+ */
+public final class StatStack {
+
+    /** The base stats. */
+    private StatBlock base;
+
+    /** Modifiers by source, in the order they were added. */
+    private final Map<String, StatBlock> modifiers = new LinkedHashMap<>();
+
+    /** Cached sum of every modifier. */
+    private StatBlock modifierSum = StatBlock.ZERO;
+
+    /** Cached base + modifiers. */
+    private StatBlock total;
+
+    /**
+     * Constructs a stack without modifiers.
+     * @param base The base stats
+     */
+    public StatStack(StatBlock base) {
+        this.base = base;
+        this.total = base;
+    }
+
+    /**
+     * Gets the base stats.
+     * @return The base stats
+     */
+    public StatBlock getBase() {
+        return base;
+    }
+
+    /**
+     * Replaces the base stats.
+     * @param base The new base stats
+     */
+    public void setBase(StatBlock base) {
+        this.base = base;
+        this.total = base.plus(modifierSum);
+    }
+
+    /**
+     * Adds or replaces the modifier of a source.
+     * @param source Name of the source (e.g. "weapon")
+     * @param modifier The modifier, or null to remove it
+     */
+    public void put(String source, StatBlock modifier) {
+        if (modifier == null) {
+            remove(source);
+            return;
+        }
+        modifiers.put(source, modifier);
+        recompute();
+    }
+
+    /**
+     * Removes the modifier of a source.
+     * @param source Name of the source
+     * @return true if a modifier was removed
+     */
+    public boolean remove(String source) {
+        if (modifiers.remove(source) == null) return false;
+        recompute();
+        return true;
+    }
+
+    /**
+     * Gets the modifier of a source.
+     * @param source Name of the source
+     * @return The modifier, or null if none
+     */
+    public StatBlock get(String source) {
+        return modifiers.get(source);
+    }
+
+    /**
+     * Gets the sum of every modifier.
+     * @return The modifier sum
+     */
+    public StatBlock getModifierSum() {
+        return modifierSum;
+    }
+
+    /**
+     * Gets base + modifiers, unclamped.
+     * @return The total stats
+     */
+    public StatBlock getTotal() {
+        return total;
+    }
+
+    /**
+     * Sums the modifiers again.
+     */
+    private void recompute() {
+        StatBlock sum = StatBlock.ZERO;
+        for (StatBlock modifier : modifiers.values()) {
+            sum = sum.plus(modifier);
+        }
+        modifierSum = sum;
+        total = base.plus(sum);
+    }
+}
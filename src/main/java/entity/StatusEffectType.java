@@ -0,0 +1,31 @@
+package entity;
+
+/**
+ * Enumeration of the status effects a character can carry.
+ * Each effect has a magnitude whose meaning depends on the type, and lasts a number of turns.
+ */
+public enum StatusEffectType {
+    /** Loses magnitude HP at the start of each turn. */
+    POISON,
+    /** Loses magnitude HP at the start of each turn; stacks with poison. */
+    BLEED,
+    /** Skips its actions while active. Magnitude unused. */
+    STUN,
+    /** Restores magnitude HP at the start of each turn. */
+    REGEN,
+    /** Takes magnitude extra damage from every hit. */
+    ARMOR_BREAK,
+    /** Gains magnitude percent of dodge chance. */
+    HASTE;
+
+    /** Every type, index = ordinal. */
+    static final StatusEffectType[] VALUES = values();
+
+    /**
+     * Gets the bit of this effect in a {@link StatusEffects} mask.
+     * @return The bit mask of this effect
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,141 @@
+package entity;
+
+/**
+ * Active status effects of one character.
+ * A bitmask says which effects are active and two fixed arrays (one cell per {@link StatusEffectType})
+ * hold their magnitude and remaining turns, so checking an effect is O(1) and ticking only visits
+ * the active ones, without allocating.
+ */
+public final class StatusEffects {
+
+    /** Number of effect types. */
+    private static final int COUNT = StatusEffectType.VALUES.length;
+
+    /** Bit i set when the effect of ordinal i is active. */
+    private int mask;
+
+    /** Remaining turns of each effect. */
+    private final int[] turns = new int[COUNT];
+
+    /** Magnitude of each effect. */
+    private final int[] magnitudes = new int[COUNT];
+
+    /**
+     * Applies an effect. Re-applying an active effect keeps the stronger magnitude and the longer duration.
+     * @param type The effect
+     * @param magnitude Strength of the effect (meaning depends on the type)
+     * @param duration Number of turns
+     * @return true if the effect was applied
+     */
+    public boolean apply(StatusEffectType type, int magnitude, int duration) {
+        if (duration <= 0 || magnitude < 0) return false;
+
+        int i = type.ordinal();
+        if ((mask & (1 << i)) == 0) {
+            magnitudes[i] = magnitude;
+            turns[i] = duration;
+            mask |= 1 << i;
+        } else {
+            magnitudes[i] = Math.max(magnitudes[i], magnitude);
+            turns[i] = Math.max(turns[i], duration);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if an effect is active.
+     * @param type The effect
+     * @return true if active
+     */
+    public boolean has(StatusEffectType type) {
+        return (mask & (1 << type.ordinal())) != 0;
+    }
+
+    /**
+     * Gets the magnitude of an effect.
+     * @param type The effect
+     * @return The magnitude, or 0 if inactive
+     */
+    public int getMagnitude(StatusEffectType type) {
+        return has(type) ? magnitudes[type.ordinal()] : 0;
+    }
+
+    /**
+     * Gets the remaining turns of an effect.
+     * @param type The effect
+     * @return Remaining turns, or 0 if inactive
+     */
+    public int getTurns(StatusEffectType type) {
+        return has(type) ? turns[type.ordinal()] : 0;
+    }
+
+    /**
+     * Removes an effect.
+     * @param type The effect
+     */
+    public void clear(StatusEffectType type) {
+        int i = type.ordinal();
+        mask &= ~(1 << i);
+        turns[i] = 0;
+        magnitudes[i] = 0;
+    }
+
+    /**
+     * Removes every effect.
+     */
+    public void clearAll() {
+        while (mask != 0) {
+            int i = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            turns[i] = 0;
+            magnitudes[i] = 0;
+        }
+    }
+
+    /**
+     * Gets the bitmask of the active effects ({@link StatusEffectType#bit()}).
+     * @return The active mask
+     */
+    public int getActiveMask() {
+        return mask;
+    }
+
+    /**
+     * Checks if no effect is active.
+     * @return true if nothing is active
+     */
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    /**
+     * Gets the number of active effects.
+     * @return Number of active effects
+     */
+    public int getActiveCount() {
+        return Integer.bitCount(mask);
+    }
+
+    /**
+     * Gets the magnitude of an effect by ordinal, for the tick loop.
+     */
+    int magnitudeAt(int ordinal) {
+        return magnitudes[ordinal];
+    }
+
+    /**
+     * Counts one turn down on every active effect and removes the expired ones.
+     */
+    void endTurn() {
+        int active = mask;
+        while (active != 0) {
+            int i = Integer.numberOfTrailingZeros(active);
+            active &= active - 1;
+            if (--turns[i] <= 0) {
+                mask &= ~(1 << i);
+                turns[i] = 0;
+                magnitudes[i] = 0;
+            }
+        }
+    }
+}
@@ -7,12 +7,59 @@ import items.WeaponType;
  */
 public abstract class Zombie extends Character {
 
+    /** Kind of the zombie, resolved once so matchup lookups need no type checks. */
+    private final ZombieKind kind;
+
     /**
      * Initialize a zombie with specific stats.
      */
     public Zombie(int maxHp, int attackPower, int defense,
                   double critChance, double critDamage, double dodgeChance) {
         super(maxHp, attackPower, defense, critChance, critDamage, dodgeChance);
+        this.kind = ZombieKind.of(this);
+    }
+
+    /**
+     * Gets the kind of the zombie.
+     * @return The kind (NORMAL for unknown zombie types)
+     */
+    public ZombieKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Replaces the zombie's base stats, e.g. for a procedurally generated wave.
+     * The zombie is restored to full HP.
+     * @param maxHp Maximum HP (at least 1)
+     * @param attackPower Attack power
+     * @param defense Defense
+     * @param critChance Critical chance (0.0 - 1.0)
+     * @param critDamage Critical damage multiplier
+     * @param dodgeChance Dodge chance (0.0 - 1.0)
+     */
+    public void setBaseStats(int maxHp, int attackPower, int defense,
+                             double critChance, double critDamage, double dodgeChance) {
+        this.maxHp = Math.max(1, maxHp);
+        this.hp = this.maxHp;
+        setAttackPower(attackPower);
+        setDefense(defense);
+        setCritChance(critChance);
+        setCritDamage(critDamage);
+        setDodgeChance(dodgeChance);
+    }
+
+    /**
+     * Scales the zombie's max HP, attack power and defense, e.g. for a harder stage.
+     * The zombie is restored to full HP.
+     * @param hpScale Max HP multiplier
+     * @param attackScale Attack power multiplier
+     * @param defenseScale Defense multiplier
+     */
+    public void scaleStats(double hpScale, double attackScale, double defenseScale) {
+        setBaseStats((int) Math.round(maxHp * hpScale),
+                (int) Math.round(getAttackPower() * attackScale),
+                (int) Math.round(getDefense() * defenseScale),
+                getCritChance(), getCritDamage(), getDodgeChance());
     }
 
     /**
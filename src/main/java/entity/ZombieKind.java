@@ -0,0 +1,51 @@
+package entity;
+
+import java.util.function.Supplier;
+
+/**
+ * Enumeration of every zombie type in the game, in stage order.
+ */
+public enum ZombieKind {
+    /** Standard zombie with regeneration. */
+    NORMAL(NormalZombie::new),
+    /** Poisonous zombie, weak to SHARP weapons. */
+    ROTTEN(RottenZombie::new),
+    /** Tough zombie, weak to HEAVY weapons. */
+    ARMORED(ArmoredZombie::new),
+    /** Fast zombie, weak to GUN weapons. */
+    RUNNER(RunnerZombie::new),
+    /** The final boss with enrage mechanics. */
+    BOSS(BossZombie::new);
+
+    /** Factory creating a zombie with its default stats. */
+    private final Supplier<Zombie> factory;
+
+    /**
+     * Constructs a zombie kind.
+     * @param factory Factory for the default zombie
+     */
+    ZombieKind(Supplier<Zombie> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new zombie of this kind with its default stats.
+     * @return A new zombie
+     */
+    public Zombie create() {
+        return factory.get();
+    }
+
+    /**
+     * Gets the kind of the specified zombie by its type; prefer {@link Zombie#getKind()}, which caches it.
+     * @param zombie The zombie
+     * @return The matching kind (NORMAL for unknown zombie types)
+     */
+    public static ZombieKind of(Zombie zombie) {
+        if (zombie instanceof RottenZombie) return ROTTEN;
+        if (zombie instanceof ArmoredZombie) return ARMORED;
+        if (zombie instanceof RunnerZombie) return RUNNER;
+        if (zombie instanceof BossZombie) return BOSS;
+        return NORMAL;
+    }
+}
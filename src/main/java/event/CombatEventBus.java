@@ -0,0 +1,265 @@
+package event;
+
+import entity.Character;
+import interfaces.CombatEventListener;
+
+import java.util.Arrays;
+
+/**
+ * Typed channel for combat events.
+ * Events are stored as primitive records in a preallocated ring buffer and dispatched synchronously
+ * to the subscribed listeners. When nobody listens, publishing returns immediately and nothing is recorded.
+ * A bus is meant to be used by a single battle thread.
+ */
+public class CombatEventBus {
+
+    /**
+     * Default number of events kept in the ring buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Cached event types, indexed by ordinal.
+     */
+    private static final CombatEventType[] TYPES = CombatEventType.values();
+
+    /**
+     * Mask turning a sequence number into a ring buffer slot.
+     */
+    private final int mask;
+
+    /**
+     * Ring buffer columns: one primitive array per event field.
+     */
+    private final byte[] types;
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] amounts;
+    private final int[] afters;
+
+    /**
+     * Number of events published since creation.
+     */
+    private long published;
+
+    /**
+     * Subscribed listeners (copy-on-write).
+     */
+    private CombatEventListener[] listeners = new CombatEventListener[0];
+
+    /**
+     * Characters registered on this bus, indexed by event id.
+     */
+    private Character[] participants = new Character[4];
+
+    /**
+     * Number of registered characters.
+     */
+    private int participantCount;
+
+    /**
+     * Constructs a bus with the default capacity.
+     */
+    public CombatEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a bus keeping at least the specified number of events.
+     *
+     * @param capacity Minimum ring buffer capacity (rounded up to a power of two)
+     */
+    public CombatEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.types = new byte[size];
+        this.sources = new int[size];
+        this.targets = new int[size];
+        this.amounts = new int[size];
+        this.afters = new int[size];
+    }
+
+    // -------------------- PARTICIPANTS -------------------- //
+
+    /**
+     * Registers a character and gives it an event id.
+     *
+     * @param character The character to register
+     * @return The character's event id
+     */
+    public int register(Character character) {
+        for (int i = 0; i < participantCount; i++) {
+            if (participants[i] == character) return i;
+        }
+        if (participantCount == participants.length) {
+            participants = Arrays.copyOf(participants, participantCount * 2);
+        }
+        participants[participantCount] = character;
+        return participantCount++;
+    }
+
+    /**
+     * Forgets every registered character, e.g. when a new battle starts.
+     */
+    public void clearParticipants() {
+        Arrays.fill(participants, 0, participantCount, null);
+        participantCount = 0;
+    }
+
+    /**
+     * Gets the character registered with the specified event id.
+     *
+     * @param id The event id
+     * @return The character, or null if the id is unknown
+     */
+    public Character getParticipant(int id) {
+        return (id >= 0 && id < participantCount) ? participants[id] : null;
+    }
+
+    // -------------------- LISTENERS -------------------- //
+
+    /**
+     * Subscribes a listener.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(CombatEventListener listener) {
+        if (listener == null) return;
+        CombatEventListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Unsubscribes a listener.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(CombatEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                CombatEventListener[] copy = new CombatEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, copy.length - i);
+                listeners = copy;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if anybody listens to this bus.
+     *
+     * @return true if at least one listener is subscribed
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    // -------------------- PUBLISHING -------------------- //
+
+    /**
+     * Records an event and dispatches it to every listener.
+     *
+     * @param type   The event type
+     * @param source Event id of the source, or -1
+     * @param target Event id of the target, or -1
+     * @param amount The amount of the event
+     * @param after  The value after the event
+     */
+    public void publish(CombatEventType type, int source, int target, int amount, int after) {
+        CombatEventListener[] ls = listeners;
+        if (ls.length == 0) return;
+
+        int slot = (int) (published++ & mask);
+        types[slot] = (byte) type.ordinal();
+        sources[slot] = source;
+        targets[slot] = target;
+        amounts[slot] = amount;
+        afters[slot] = after;
+
+        for (CombatEventListener listener : ls) {
+            listener.onCombatEvent(type, source, target, amount, after);
+        }
+    }
+
+    // -------------------- HISTORY -------------------- //
+
+    /**
+     * Gets the number of events published since creation.
+     *
+     * @return The sequence number of the next event
+     */
+    public long getPublishedCount() {
+        return published;
+    }
+
+    /**
+     * Gets the sequence number of the oldest event still in the ring buffer.
+     *
+     * @return The oldest available sequence number
+     */
+    public long getOldestSequence() {
+        return Math.max(0, published - types.length);
+    }
+
+    /**
+     * Gets the type of a recorded event.
+     *
+     * @param sequence The event's sequence number
+     * @return The event type
+     */
+    public CombatEventType getType(long sequence) {
+        return TYPES[types[slot(sequence)]];
+    }
+
+    /**
+     * Gets the source of a recorded event.
+     *
+     * @param sequence The event's sequence number
+     * @return The source event id
+     */
+    public int getSource(long sequence) {
+        return sources[slot(sequence)];
+    }
+
+    /**
+     * Gets the target of a recorded event.
+     *
+     * @param sequence The event's sequence number
+     * @return The target event id
+     */
+    public int getTarget(long sequence) {
+        return targets[slot(sequence)];
+    }
+
+    /**
+     * Gets the amount of a recorded event.
+     *
+     * @param sequence The event's sequence number
+     * @return The amount
+     */
+    public int getAmount(long sequence) {
+        return amounts[slot(sequence)];
+    }
+
+    /**
+     * Gets the "after" value of a recorded event.
+     *
+     * @param sequence The event's sequence number
+     * @return The value after the event
+     */
+    public int getAfter(long sequence) {
+        return afters[slot(sequence)];
+    }
+
+    /**
+     * Converts a sequence number into a ring buffer slot, rejecting overwritten or future events.
+     */
+    private int slot(long sequence) {
+        if (sequence < getOldestSequence() || sequence >= published) {
+            throw new IndexOutOfBoundsException("Event " + sequence + " is not in the buffer");
+        }
+        return (int) (sequence & mask);
+    }
+}
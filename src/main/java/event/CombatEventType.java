@@ -0,0 +1,52 @@
+package event;
+
+/**
+ * Enumeration of the events published by characters on a {@link CombatEventBus}.
+ * Every event carries a source, a target, an amount and an "after" value whose meaning depends on the type.
+ */
+public enum CombatEventType {
+    /** Source landed a critical hit on target. Amount: critical damage. After: target HP. */
+    CRITICAL_HIT,
+    /** Target dodged an attack. After: target HP. */
+    DODGE,
+    /** Target's armor absorbed the whole hit. Amount: defense consumed. After: target HP. */
+    ARMOR_BLOCK,
+    /** Target's armor broke. Amount: defense before the hit. After: target HP. */
+    ARMOR_BREAK,
+    /** Target lost HP. Amount: damage taken. After: target HP. */
+    DAMAGED,
+    /** Target restored HP. Amount: HP restored. After: target HP. */
+    HEALED,
+    /** Target was defeated. */
+    DEATH,
+    /** Source poisoned target. Amount: damage per turn. After: target HP. */
+    POISON_APPLIED,
+    /** Target suffered poison at turn start. Amount: damage taken. After: target HP. */
+    POISON_TICK,
+    /** Target bled at turn start. Amount: damage taken. After: target HP. */
+    BLEED_TICK,
+    /** Target is stunned at turn start and skips its action. After: target HP. */
+    STUNNED,
+    /** Source regenerated. Amount: HP restored. After: source HP. */
+    REGENERATE,
+    /** Source became enraged. Amount: attack gained. After: attack power. */
+    ENRAGE,
+    /** Source used its special ability on target. Amount: damage dealt or HP healed. After: target HP. */
+    SPECIAL_ABILITY,
+    /** Source gained hearts. Amount: hearts gained. After: total hearts. */
+    HEARTS_GAINED,
+    /** Source gained brains. Amount: brains gained. After: total brains. */
+    BRAINS_GAINED,
+    /** Source paid for an item. Amount: hearts paid. After: brains paid. */
+    PAYMENT,
+    /** Source could not afford an item. Amount: hearts needed. After: brains needed. */
+    PAYMENT_FAILED,
+    /** Source equipped a weapon. Amount: attack bonus. After: attack power. */
+    WEAPON_EQUIPPED,
+    /** Source equipped an armor. Amount: defense bonus. After: defense. */
+    ARMOR_EQUIPPED,
+    /** Source obtained a potion. Amount: heal amount. After: potions owned. */
+    POTION_OBTAINED,
+    /** Source used a potion. Amount: HP restored. After: source HP. */
+    POTION_USED
+}
@@ -0,0 +1,49 @@
+package event;
+
+import interfaces.CombatEventListener;
+
+import java.util.Arrays;
+
+/**
+ * Listener counting events and summing their amounts per event type.
+ */
+public class CombatMetrics implements CombatEventListener {
+
+    /** Number of events per type, indexed by ordinal. */
+    private final long[] counts = new long[CombatEventType.values().length];
+
+    /** Sum of event amounts per type, indexed by ordinal. */
+    private final long[] totals = new long[CombatEventType.values().length];
+
+    @Override
+    public void onCombatEvent(CombatEventType type, int source, int target, int amount, int after) {
+        counts[type.ordinal()]++;
+        totals[type.ordinal()] += amount;
+    }
+
+    /**
+     * Gets the number of events of a type.
+     * @param type The event type
+     * @return Number of events
+     */
+    public long getCount(CombatEventType type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Gets the sum of the amounts of a type.
+     * @param type The event type
+     * @return Sum of amounts
+     */
+    public long getTotal(CombatEventType type) {
+        return totals[type.ordinal()];
+    }
+
+    /**
+     * Resets every counter.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(totals, 0);
+    }
+}
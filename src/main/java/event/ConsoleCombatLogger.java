@@ -0,0 +1,86 @@
+package event;
+
+import entity.Character;
+import entity.Player;
+import interfaces.CombatEventListener;
+
+import java.io.PrintStream;
+
+/**
+ * Listener printing combat events to the console, one line per event.
+ */
+public class ConsoleCombatLogger implements CombatEventListener {
+
+    /** Bus used to resolve event ids into characters. */
+    private final CombatEventBus bus;
+
+    /** Stream receiving the log lines. */
+    private final PrintStream out;
+
+    /**
+     * Constructs a logger printing to System.out.
+     * @param bus The bus the logger is subscribed to
+     */
+    public ConsoleCombatLogger(CombatEventBus bus) {
+        this(bus, System.out);
+    }
+
+    /**
+     * Constructs a logger printing to the specified stream.
+     * @param bus The bus the logger is subscribed to
+     * @param out The output stream
+     */
+    public ConsoleCombatLogger(CombatEventBus bus, PrintStream out) {
+        this.bus = bus;
+        this.out = out;
+    }
+
+    @Override
+    public void onCombatEvent(CombatEventType type, int source, int target, int amount, int after) {
+        String src = nameOf(source);
+        String tgt = nameOf(target);
+
+        switch (type) {
+            case CRITICAL_HIT -> out.println(src + " lands a CRITICAL hit on " + tgt + " for " + amount + " damage!");
+            case DODGE -> out.println(tgt + " dodged the attack! HP: " + after + maxHpSuffix(target));
+            case ARMOR_BLOCK -> out.println(tgt + " blocks the hit with armor, absorbing " + amount + " damage.");
+            case ARMOR_BREAK -> out.println(tgt + "'s armor breaks! DEF " + amount + " → 0");
+            case DAMAGED -> out.println(tgt + " took " + amount + " damage. HP: " + after + maxHpSuffix(target));
+            case HEALED -> out.println(tgt + " healed " + amount + " HP. HP: " + after + maxHpSuffix(target));
+            case DEATH -> out.println(tgt + " has been defeated.");
+            case POISON_APPLIED -> out.println(src + " inflicts poison! " + tgt + " will take " + amount + " damage per turn.");
+            case POISON_TICK -> out.println(tgt + " suffers " + amount + " poison damage. HP: " + after + maxHpSuffix(target));
+            case BLEED_TICK -> out.println(tgt + " bleeds for " + amount + " damage. HP: " + after + maxHpSuffix(target));
+            case STUNNED -> out.println(tgt + " is stunned and cannot act!");
+            case REGENERATE -> out.println(src + " regenerates " + amount + " HP! HP: " + after + maxHpSuffix(source));
+            case ENRAGE -> out.println(">>> " + src + " ROARS LOUDLY! It becomes ENRAGED! (ATK +" + amount + " → " + after + ")");
+            case SPECIAL_ABILITY -> out.println(src + " uses its special ability on " + tgt + " (" + amount + ")");
+            case HEARTS_GAINED -> out.println(src + " gained " + amount + " hearts. Total hearts: " + after);
+            case BRAINS_GAINED -> out.println(src + " gained " + amount + " brains. Total brains: " + after);
+            case PAYMENT -> out.println(src + " spent H:" + amount + " B:" + after);
+            case PAYMENT_FAILED -> out.println(src + " cannot afford this. Need H:" + amount + " B:" + after);
+            case WEAPON_EQUIPPED -> out.println(src + " equipped a weapon. ATK: " + after);
+            case ARMOR_EQUIPPED -> out.println(src + " equipped an armor. DEF: " + after);
+            case POTION_OBTAINED -> out.println(src + " obtained a potion (+" + amount + " HP). Potions: " + after);
+            case POTION_USED -> out.println(src + " used a potion and healed " + amount + " HP! HP: " + after + maxHpSuffix(source));
+        }
+    }
+
+    /**
+     * Resolves an event id into a readable name.
+     */
+    private String nameOf(int id) {
+        Character c = bus.getParticipant(id);
+        if (c == null) return "?";
+        if (c instanceof Player p) return p.getName();
+        return c.getClass().getSimpleName();
+    }
+
+    /**
+     * Builds the "/maxHp" suffix for a character, if known.
+     */
+    private String maxHpSuffix(int id) {
+        Character c = bus.getParticipant(id);
+        return c == null ? "" : "/" + c.getMaxHp();
+    }
+}
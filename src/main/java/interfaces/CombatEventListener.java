@@ -0,0 +1,20 @@
+package interfaces;
+
+import event.CombatEventType;
+
+/**
+ * Interface for subscribers of a {@link event.CombatEventBus}.
+ */
+public interface CombatEventListener {
+
+    /**
+     * Called synchronously for every published event.
+     *
+     * @param type   The event type
+     * @param source Event id of the source character, or -1 if none
+     * @param target Event id of the target character, or -1 if none
+     * @param amount The amount of the event (see {@link CombatEventType})
+     * @param after  The value after the event (see {@link CombatEventType})
+     */
+    void onCombatEvent(CombatEventType type, int source, int target, int amount, int after);
+}
@@ -0,0 +1,20 @@
+package interfaces;
+
+/**
+ * Interface for running delayed steps of the game flow.
+ */
+public interface StepScheduler {
+
+    /**
+     * Runs every step immediately, for headless play.
+     */
+    StepScheduler IMMEDIATE = (delayMillis, step) -> step.run();
+
+    /**
+     * Runs a step after a delay.
+     *
+     * @param delayMillis The delay time in milliseconds
+     * @param step        The step to run
+     */
+    void runLater(long delayMillis, Runnable step);
+}
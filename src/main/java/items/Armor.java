@@ -35,6 +35,17 @@ public class Armor extends Item implements Purchasable {
         this.costBrains = Math.max(0, costBrains);
     }
 
+    /**
+     * Constructs a new Armor from its catalog entry.
+     * @param definition The armor definition
+     */
+    public Armor(ItemDefinition definition) {
+        this(definition.getName(), definition.getDefenseBonus(), definition.getDodgeChanceBonus(),
+                definition.getCostHearts(), definition.getCostBrains());
+        definition.requireKind(ItemKind.ARMOR);
+        setDefinition(definition);
+    }
+
     /**
      * Gets the defense bonus.
      * @return Defense value
@@ -8,6 +8,9 @@ public abstract class Item {
     /** The name of the item. */
     private String name;
 
+    /** The catalog entry the item was created from (null for custom items). */
+    private ItemDefinition definition;
+
     /**
      * Constructs an Item with the specified name.
      * @param name The name of the item
@@ -32,6 +35,30 @@ public abstract class Item {
         this.name = name;
     }
 
+    /**
+     * Gets the catalog entry the item was created from.
+     * @return The definition, or null for custom items
+     */
+    public ItemDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Gets the stable catalog id of the item.
+     * @return The id, or -1 for custom items
+     */
+    public int getItemId() {
+        return definition == null ? -1 : definition.getId();
+    }
+
+    /**
+     * Links the item to its catalog entry.
+     * @param definition The definition
+     */
+    void setDefinition(ItemDefinition definition) {
+        this.definition = definition;
+    }
+
     /**
      * Gets the description of the item.
      * @return A string describing the item details
@@ -0,0 +1,237 @@
+package items;
+
+import java.util.Arrays;
+
+/**
+ * Immutable catalog entry of an item, loaded by {@link ItemRegistry}.
+ * Definitions are shared: every item created from one refers back to it, so its id can be saved.
+ */
+public final class ItemDefinition {
+
+    /** Stable id of the item. */
+    private final int id;
+
+    /** Category of the item. */
+    private final ItemKind kind;
+
+    /** Name of the item (interned). */
+    private final String name;
+
+    /** Stages whose shop sells the item, ascending. */
+    private final int[] stages;
+
+    /** Weapon stats (weapons only). */
+    private final int attackBonus;
+    private final double critChanceBonus;
+    private final double critDamageBonus;
+    private final WeaponType weaponType;
+
+    /** Armor stats (armors only). */
+    private final int defenseBonus;
+    private final double dodgeChanceBonus;
+
+    /** Potion stats (potions only). */
+    private final int healAmount;
+
+    /** Price of the item. */
+    private final int costHearts;
+    private final int costBrains;
+
+    /**
+     * Constructs a definition. Stats that do not apply to the kind are ignored.
+     */
+    ItemDefinition(int id, ItemKind kind, String name, int[] stages,
+                   int attackBonus, double critChanceBonus, double critDamageBonus, WeaponType weaponType,
+                   int defenseBonus, double dodgeChanceBonus, int healAmount,
+                   int costHearts, int costBrains) {
+        this.id = id;
+        this.kind = kind;
+        this.name = name.intern();
+        this.stages = stages.clone();
+        Arrays.sort(this.stages);
+        this.attackBonus = attackBonus;
+        this.critChanceBonus = critChanceBonus;
+        this.critDamageBonus = critDamageBonus;
+        this.weaponType = weaponType;
+        this.defenseBonus = defenseBonus;
+        this.dodgeChanceBonus = dodgeChanceBonus;
+        this.healAmount = healAmount;
+        this.costHearts = costHearts;
+        this.costBrains = costBrains;
+    }
+
+    // -------------------- FACTORY -------------------- //
+
+    /**
+     * Creates a new item from this definition.
+     * @return A new Weapon, Armor or Potion
+     */
+    public Item create() {
+        return switch (kind) {
+            case WEAPON -> new Weapon(this);
+            case ARMOR -> new Armor(this);
+            case POTION -> new Potion(this);
+        };
+    }
+
+    /**
+     * Creates a new weapon from this definition.
+     * @return A new weapon
+     * @throws IllegalStateException if this is not a weapon
+     */
+    public Weapon createWeapon() {
+        requireKind(ItemKind.WEAPON);
+        return new Weapon(this);
+    }
+
+    /**
+     * Creates a new armor from this definition.
+     * @return A new armor
+     * @throws IllegalStateException if this is not an armor
+     */
+    public Armor createArmor() {
+        requireKind(ItemKind.ARMOR);
+        return new Armor(this);
+    }
+
+    /**
+     * Creates a new potion from this definition.
+     * @return A new potion
+     * @throws IllegalStateException if this is not a potion
+     */
+    public Potion createPotion() {
+        requireKind(ItemKind.POTION);
+        return new Potion(this);
+    }
+
+    /**
+     * Checks the kind of this definition.
+     * @param expected The expected kind
+     * @throws IllegalStateException if the kind differs
+     */
+    void requireKind(ItemKind expected) {
+        if (kind != expected) {
+            throw new IllegalStateException(name + " is a " + kind + ", not a " + expected);
+        }
+    }
+
+    // -------------------- GETTERS -------------------- //
+
+    /**
+     * Gets the stable id of the item.
+     * @return The id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the category of the item.
+     * @return The kind
+     */
+    public ItemKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the name of the item.
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if a stage's shop sells the item.
+     * @param stage The stage number
+     * @return true if sold at that stage
+     */
+    public boolean isSoldAt(int stage) {
+        return Arrays.binarySearch(stages, stage) >= 0;
+    }
+
+    /**
+     * Gets the stages whose shop sells the item.
+     * @return The stage numbers, ascending
+     */
+    public int[] getStages() {
+        return stages.clone();
+    }
+
+    /**
+     * Gets the attack bonus (weapons).
+     * @return Attack power bonus
+     */
+    public int getAttackBonus() {
+        return attackBonus;
+    }
+
+    /**
+     * Gets the critical chance bonus (weapons).
+     * @return Critical chance bonus
+     */
+    public double getCritChanceBonus() {
+        return critChanceBonus;
+    }
+
+    /**
+     * Gets the critical damage bonus (weapons).
+     * @return Critical damage multiplier bonus
+     */
+    public double getCritDamageBonus() {
+        return critDamageBonus;
+    }
+
+    /**
+     * Gets the weapon type (weapons).
+     * @return The weapon type, or null for other kinds
+     */
+    public WeaponType getWeaponType() {
+        return weaponType;
+    }
+
+    /**
+     * Gets the defense bonus (armors).
+     * @return Defense bonus
+     */
+    public int getDefenseBonus() {
+        return defenseBonus;
+    }
+
+    /**
+     * Gets the dodge chance bonus (armors).
+     * @return Dodge chance bonus
+     */
+    public double getDodgeChanceBonus() {
+        return dodgeChanceBonus;
+    }
+
+    /**
+     * Gets the heal amount (potions).
+     * @return HP restored
+     */
+    public int getHealAmount() {
+        return healAmount;
+    }
+
+    /**
+     * Gets the price in hearts.
+     * @return Cost in hearts
+     */
+    public int getCostHearts() {
+        return costHearts;
+    }
+
+    /**
+     * Gets the price in brains.
+     * @return Cost in brains
+     */
+    public int getCostBrains() {
+        return costBrains;
+    }
+
+    @Override
+    public String toString() {
+        return kind + "#" + id + " " + name;
+    }
+}
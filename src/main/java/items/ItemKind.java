@@ -0,0 +1,13 @@
+package items;
+
+/**
+ * Enumeration of the item categories of the catalog.
+ */
+public enum ItemKind {
+    /** A {@link Weapon}. */
+    WEAPON,
+    /** An {@link Armor}. */
+    ARMOR,
+    /** A {@link Potion}. */
+    POTION
+}
@@ -0,0 +1,300 @@
+package items;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog of every weapon, armor and potion, loaded from a CSV resource.
+ * Definitions are immutable and indexed when loaded, so lookups by id, name, kind and stage are O(1).
+ * Adding or rebalancing an item only takes a line in {@value #DEFAULT_RESOURCE}.
+ */
+public final class ItemRegistry {
+
+    /**
+     * Classpath resource of the game's catalog.
+     */
+    public static final String DEFAULT_RESOURCE = "/data/items.csv";
+
+    /**
+     * Largest id accepted, so the id index stays a plain array.
+     */
+    private static final int MAX_ID = 1 << 20;
+
+    /**
+     * Definitions indexed by id (null where no item has that id).
+     */
+    private final ItemDefinition[] byId;
+
+    /**
+     * Definitions indexed by name.
+     */
+    private final Map<String, ItemDefinition> byName;
+
+    /**
+     * Definitions by kind, in id order.
+     */
+    private final Map<ItemKind, List<ItemDefinition>> byKind;
+
+    /**
+     * Definitions by stage (index = stage number), in id order.
+     */
+    private final List<List<ItemDefinition>> byStage;
+
+    /**
+     * Every definition, in id order.
+     */
+    private final List<ItemDefinition> all;
+
+    /**
+     * Lazily loaded catalog of the game.
+     */
+    private static final class DefaultHolder {
+        static final ItemRegistry INSTANCE = loadDefault();
+
+        private static ItemRegistry loadDefault() {
+            try (InputStream in = ItemRegistry.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) throw new IOException("Missing item catalog " + DEFAULT_RESOURCE);
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Builds the indexes of a catalog.
+     * @param definitions The definitions, with unique ids and names
+     */
+    private ItemRegistry(List<ItemDefinition> definitions) {
+        List<ItemDefinition> sorted = new ArrayList<>(definitions);
+        sorted.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+        all = Collections.unmodifiableList(sorted);
+
+        int maxId = sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1).getId();
+        byId = new ItemDefinition[maxId + 1];
+        byName = new HashMap<>(sorted.size() * 2);
+
+        Map<ItemKind, List<ItemDefinition>> kinds = new EnumMap<>(ItemKind.class);
+        for (ItemKind kind : ItemKind.values()) kinds.put(kind, new ArrayList<>());
+        List<List<ItemDefinition>> stages = new ArrayList<>();
+
+        for (ItemDefinition def : sorted) {
+            byId[def.getId()] = def;
+            byName.put(def.getName(), def);
+            kinds.get(def.getKind()).add(def);
+            for (int stage : def.getStages()) {
+                while (stages.size() <= stage) stages.add(new ArrayList<>());
+                stages.get(stage).add(def);
+            }
+        }
+
+        for (ItemKind kind : ItemKind.values()) kinds.put(kind, Collections.unmodifiableList(kinds.get(kind)));
+        byKind = kinds;
+        stages.replaceAll(Collections::unmodifiableList);
+        byStage = stages;
+    }
+
+    /**
+     * Gets the game's catalog, loading it on first use.
+     * @return The default registry
+     * @throws UncheckedIOException if the catalog resource is missing or invalid
+     */
+    public static ItemRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    // -------------------- LOADING -------------------- //
+
+    /**
+     * Loads a catalog from CSV. Blank lines and lines starting with '#' are ignored.
+     * <pre>
+     * WEAPON,id,name,stages,attack,critChance,critDamage,costHearts,costBrains,weaponType
+     * ARMOR,id,name,stages,defense,dodgeChance,costHearts,costBrains
+     * POTION,id,name,stages,heal,costHearts,costBrains
+     * </pre>
+     * Stages are separated by ';'.
+     * @param in The CSV data (UTF-8)
+     * @return The registry
+     * @throws IOException if the data cannot be read or is invalid
+     */
+    public static ItemRegistry load(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<ItemDefinition> definitions = new ArrayList<>();
+        Map<String, Integer> names = new HashMap<>();
+        Map<Integer, Integer> ids = new HashMap<>();
+
+        String[] fields = new String[10];
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+
+            try {
+                ItemDefinition def = parse(line, fields);
+                Integer previous = ids.putIfAbsent(def.getId(), lineNumber);
+                if (previous != null) throw new IllegalArgumentException("duplicate id " + def.getId() + " (line " + previous + ")");
+                previous = names.putIfAbsent(def.getName(), lineNumber);
+                if (previous != null) throw new IllegalArgumentException("duplicate name " + def.getName() + " (line " + previous + ")");
+                definitions.add(def);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid item on line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return new ItemRegistry(definitions);
+    }
+
+    /**
+     * Parses one catalog line.
+     */
+    private static ItemDefinition parse(String line, String[] fields) {
+        int count = split(line, fields);
+        ItemKind kind = ItemKind.valueOf(fields[0]);
+        int expected = switch (kind) {
+            case WEAPON -> 10;
+            case ARMOR -> 8;
+            case POTION -> 7;
+        };
+        if (count != expected) {
+            throw new IllegalArgumentException(kind + " needs " + expected + " fields, got " + count);
+        }
+
+        int id = Integer.parseInt(fields[1]);
+        if (id < 0 || id > MAX_ID) throw new IllegalArgumentException("id out of range: " + id);
+        String name = fields[2];
+        int[] stages = parseStages(fields[3]);
+
+        return switch (kind) {
+            case WEAPON -> new ItemDefinition(id, kind, name, stages,
+                    Integer.parseInt(fields[4]), Double.parseDouble(fields[5]), Double.parseDouble(fields[6]),
+                    WeaponType.valueOf(fields[9]), 0, 0.0, 0,
+                    Integer.parseInt(fields[7]), Integer.parseInt(fields[8]));
+            case ARMOR -> new ItemDefinition(id, kind, name, stages,
+                    0, 0.0, 0.0, null, Integer.parseInt(fields[4]), Double.parseDouble(fields[5]), 0,
+                    Integer.parseInt(fields[6]), Integer.parseInt(fields[7]));
+            case POTION -> new ItemDefinition(id, kind, name, stages,
+                    0, 0.0, 0.0, null, 0, 0.0, Integer.parseInt(fields[4]),
+                    Integer.parseInt(fields[5]), Integer.parseInt(fields[6]));
+        };
+    }
+
+    /**
+     * Splits a line on commas into a reusable array, without regex.
+     * @return The number of fields, or fields.length + 1 if there are too many
+     */
+    private static int split(String line, String[] fields) {
+        int count = 0;
+        int start = 0;
+        while (true) {
+            int comma = line.indexOf(',', start);
+            int end = comma < 0 ? line.length() : comma;
+            if (count == fields.length) return count + 1;
+            fields[count++] = line.substring(start, end).strip();
+            if (comma < 0) return count;
+            start = comma + 1;
+        }
+    }
+
+    /**
+     * Parses a ';'-separated stage list.
+     */
+    private static int[] parseStages(String field) {
+        if (field.isEmpty()) return new int[0];
+        String[] parts = field.split(";");
+        int[] stages = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            stages[i] = Integer.parseInt(parts[i].strip());
+            if (stages[i] < 0) throw new IllegalArgumentException("negative stage: " + stages[i]);
+        }
+        return stages;
+    }
+
+    // -------------------- LOOKUP -------------------- //
+
+    /**
+     * Gets a definition by id.
+     * @param id The item id
+     * @return The definition, or null if no item has that id
+     */
+    public ItemDefinition get(int id) {
+        return (id >= 0 && id < byId.length) ? byId[id] : null;
+    }
+
+    /**
+     * Gets a definition by name.
+     * @param name The item name
+     * @return The definition, or null if no item has that name
+     */
+    public ItemDefinition get(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * Gets a definition by name, failing if it does not exist.
+     * @param name The item name
+     * @return The definition
+     * @throws IllegalArgumentException if no item has that name
+     */
+    public ItemDefinition require(String name) {
+        ItemDefinition def = byName.get(name);
+        if (def == null) throw new IllegalArgumentException("Unknown item: " + name);
+        return def;
+    }
+
+    /**
+     * Gets every definition of a kind.
+     * @param kind The item kind
+     * @return The definitions, in id order
+     */
+    public List<ItemDefinition> byKind(ItemKind kind) {
+        return byKind.get(kind);
+    }
+
+    /**
+     * Gets every definition sold at a stage.
+     * @param stage The stage number
+     * @return The definitions, in id order (empty if none)
+     */
+    public List<ItemDefinition> byStage(int stage) {
+        return (stage >= 0 && stage < byStage.size()) ? byStage.get(stage) : List.of();
+    }
+
+    /**
+     * Creates a new item for every definition sold at a stage, e.g. to stock a shop.
+     * @param stage The stage number
+     * @return New items, weapons then armors then potions
+     */
+    public List<Item> createStageItems(int stage) {
+        List<ItemDefinition> defs = byStage(stage);
+        List<Item> items = new ArrayList<>(defs.size());
+        for (ItemDefinition def : defs) items.add(def.create());
+        return items;
+    }
+
+    /**
+     * Gets every definition.
+     * @return The definitions, in id order
+     */
+    public List<ItemDefinition> getAll() {
+        return all;
+    }
+
+    /**
+     * Gets the number of definitions.
+     * @return Number of items in the catalog
+     */
+    public int size() {
+        return all.size();
+    }
+}
@@ -30,6 +30,16 @@ public class Potion extends Item implements Purchasable {
         this.costBrains = Math.max(0, costBrains);
     }
 
+    /**
+     * Constructs a new Potion from its catalog entry.
+     * @param definition The potion definition
+     */
+    public Potion(ItemDefinition definition) {
+        this(definition.getName(), definition.getHealAmount(), definition.getCostHearts(), definition.getCostBrains());
+        definition.requireKind(ItemKind.POTION);
+        setDefinition(definition);
+    }
+
     /**
      * Gets the healing amount of the potion.
      * @return Amount of HP restored
@@ -45,6 +45,18 @@ public class Weapon extends Item implements Purchasable {
         this.weaponType = type;
     }
 
+    /**
+     * Constructs a new Weapon from its catalog entry.
+     * @param definition The weapon definition
+     */
+    public Weapon(ItemDefinition definition) {
+        this(definition.getName(), definition.getAttackBonus(), definition.getCritChanceBonus(),
+                definition.getCritDamageBonus(), definition.getCostHearts(), definition.getCostBrains(),
+                definition.getWeaponType());
+        definition.requireKind(ItemKind.WEAPON);
+        setDefinition(definition);
+    }
+
     /**
      * Gets the type of the weapon.
      * @return The WeaponType enum
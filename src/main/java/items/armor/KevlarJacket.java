@@ -1,6 +1,7 @@
 package items.armor;
 
 import items.Armor;
+import items.ItemRegistry;
 
 /**
  * Specific implementation of Armor: Kevlar Jacket.
@@ -8,9 +9,9 @@ import items.Armor;
 public class KevlarJacket extends Armor {
 
     /**
-     * Constructs a Kevlar Jacket by using super("Kevlar Jacket", 24, 0.1, 24, 4).
+     * Constructs a Kevlar Jacket from its catalog entry in data/items.csv.
      */
     public KevlarJacket() {
-        super("Kevlar Jacket", 24, 0.1, 24, 4);
+        super(ItemRegistry.getDefault().require("Kevlar Jacket"));
     }
 }
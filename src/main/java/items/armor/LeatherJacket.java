@@ -1,6 +1,7 @@
 package items.armor;
 
 import items.Armor;
+import items.ItemRegistry;
 
 /**
  * Specific implementation of Armor: Leather Jacket.
@@ -8,9 +9,9 @@ import items.Armor;
 public class LeatherJacket extends Armor {
 
     /**
-     * Constructs a Leather Jacket by using super("Leather Jacket", 10, 0.05, 10, 0).
+     * Constructs a Leather Jacket from its catalog entry in data/items.csv.
      */
     public LeatherJacket() {
-        super("Leather Jacket", 10, 0.05, 10, 0);
+        super(ItemRegistry.getDefault().require("Leather Jacket"));
     }
 }
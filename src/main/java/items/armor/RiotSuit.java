@@ -1,6 +1,7 @@
 package items.armor;
 
 import items.Armor;
+import items.ItemRegistry;
 
 /**
  * Specific implementation of Armor: Riot Suit.
@@ -8,9 +9,9 @@ import items.Armor;
 public class RiotSuit extends Armor {
 
     /**
-     * Constructs a Riot Suit by using super("Riot Suit", 35, 0.25, 35, 7).
+     * Constructs a Riot Suit from its catalog entry in data/items.csv.
      */
     public RiotSuit() {
-        super("Riot Suit", 35, 0.25, 35, 7);
+        super(ItemRegistry.getDefault().require("Riot Suit"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents an axe.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class Axe extends Weapon {
 
     /**
-     * Constructor to initialize the Axe by using super("Axe", 150, 0.50, 3.0, 350, 150, WeaponType.SHARP).
+     * Constructor to initialize the Axe from its catalog entry in data/items.csv.
      */
     public Axe() {
-        super("Axe", 150, 0.50, 3.0, 350, 150, WeaponType.SHARP);
+        super(ItemRegistry.getDefault().require("Axe"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a combat knife weapon.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class CombatKnife extends Weapon {
 
     /**
-     * Constructor to initialize the Combat Knife by using super("Combat Knife", 12, 0.30, 2.0, 35, 15, WeaponType.SHARP).
+     * Constructor to initialize the Combat Knife from its catalog entry in data/items.csv.
      */
     public CombatKnife() {
-        super("Combat Knife", 12, 0.30, 2.0, 35, 15, WeaponType.SHARP);
+        super(ItemRegistry.getDefault().require("Combat Knife"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a heavy hammer weapon.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class Hammer extends Weapon {
 
     /**
-     * Constructor to initialize the Hammer by using super("Hammer", 50, 0.05, 1.2, 90, 40, WeaponType.HEAVY).
+     * Constructor to initialize the Hammer from its catalog entry in data/items.csv.
      */
     public Hammer() {
-        super("Hammer", 50, 0.05, 1.2, 90, 40, WeaponType.HEAVY);
+        super(ItemRegistry.getDefault().require("Hammer"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents knuckle-dusters.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class KnuckleDusters extends Weapon {
 
     /**
-     * Constructor to initialize the Knuckle-Dusters by using super("Knuckle-Dusters", 45, 0.10, 1.5, 95, 45, WeaponType.HEAVY).
+     * Constructor to initialize the Knuckle-Dusters from its catalog entry in data/items.csv.
      */
     public KnuckleDusters() {
-        super("Knuckle-Dusters", 45, 0.10, 1.5, 95, 45, WeaponType.HEAVY);
+        super(ItemRegistry.getDefault().require("Knuckle-Dusters"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a machete weapon.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class Machete extends Weapon {
 
     /**
-     * Constructor to initialize the Machete by using super("Machete", 25, 0.15, 1.5, 40, 15, WeaponType.SHARP).
+     * Constructor to initialize the Machete from its catalog entry in data/items.csv.
      */
     public Machete() {
-        super("Machete", 25, 0.15, 1.5, 40, 15, WeaponType.SHARP);
+        super(ItemRegistry.getDefault().require("Machete"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a revolver handgun.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class Revolver extends Weapon {
 
     /**
-     * Constructor to initialize the Revolver by using super("Revolver", 80, 0.40, 2.5, 180, 90, WeaponType.GUN).
+     * Constructor to initialize the Revolver from its catalog entry in data/items.csv.
      */
     public Revolver() {
-        super("Revolver", 80, 0.40, 2.5, 180, 90, WeaponType.GUN);
+        super(ItemRegistry.getDefault().require("Revolver"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a high-powered rifle.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class Rifle extends Weapon {
 
     /**
-     * Constructor to initialize the Rifle by using super("Rifle", 150, 0.50, 3.0, 350, 150, WeaponType.GUN).
+     * Constructor to initialize the Rifle from its catalog entry in data/items.csv.
      */
     public Rifle() {
-        super("Rifle", 150, 0.50, 3.0, 350, 150, WeaponType.GUN);
+        super(ItemRegistry.getDefault().require("Rifle"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a shotgun.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class ShotGun extends Weapon {
 
     /**
-     * Constructor to initialize the Shotgun by using super("Shotgun", 85, 0.10, 1.5, 170, 80, WeaponType.GUN).
+     * Constructor to initialize the Shotgun from its catalog entry in data/items.csv.
      */
     public ShotGun() {
-        super("Shotgun", 85, 0.10, 1.5, 170, 80, WeaponType.GUN);
+        super(ItemRegistry.getDefault().require("Shotgun"));
     }
 }
@@ -1,7 +1,7 @@
 package items.weapon;
 
+import items.ItemRegistry;
 import items.Weapon;
-import items.WeaponType;
 
 /**
  * Represents a basic wooden stick weapon.
@@ -10,9 +10,9 @@ import items.WeaponType;
 public class WoodenStick extends Weapon {
 
     /**
-     * Constructor to initialize the Wooden Stick by using super("Wooden Stick", 5, 0.05, 1.2, 0, 0, WeaponType.NORMAL).
+     * Constructor to initialize the Wooden Stick from its catalog entry in data/items.csv.
      */
     public WoodenStick() {
-        super("Wooden Stick", 5, 0.05, 1.2, 0, 0, WeaponType.NORMAL);
+        super(ItemRegistry.getDefault().require("Wooden Stick"));
     }
 }
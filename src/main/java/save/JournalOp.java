@@ -0,0 +1,71 @@
+package save;
+
+/**
+ * State changes recorded in the {@link RunJournal}, with the meaning of their two operands.
+ * Values are absolute where possible, so replaying a record twice does no harm.
+ * Opcodes are stored in journal files: never reorder or reuse one, only append.
+ */
+public enum JournalOp {
+    /** HP and defense of the player. A: HP. B: defense. */
+    VITALS(1),
+    /** Currency of the player. A: heart parts. B: brain parts. */
+    CURRENCY(2),
+    /** A weapon was added to the owned weapons. A: item id. */
+    ADD_WEAPON(3),
+    /** An armor was added to the owned armors. A: item id. */
+    ADD_ARMOR(4),
+    /** A potion was added to the inventory. A: item id. */
+    ADD_POTION(5),
+    /** A potion was used up. A: index in the inventory. */
+    USE_POTION(6),
+    /** A weapon was equipped. A: index in the owned weapons (-1 for none). */
+    EQUIP_WEAPON(7),
+    /** An armor was equipped. A: index in the owned armors (-1 for none). */
+    EQUIP_ARMOR(8),
+    /** A stage was cleared. A: the stage number. */
+    STAGE_CLEARED(9),
+    /** The endless mode started. A: high half of the seed. B: low half of the seed. */
+    ENDLESS(10);
+
+    /**
+     * Opcodes, indexed by code.
+     */
+    private static final JournalOp[] BY_CODE = new JournalOp[256];
+
+    static {
+        for (JournalOp op : values()) BY_CODE[op.code] = op;
+    }
+
+    /**
+     * Code stored in the journal.
+     */
+    private final int code;
+
+    /**
+     * Constructs an opcode.
+     *
+     * @param code Code stored in the journal (1 - 255)
+     */
+    JournalOp(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the code stored in the journal.
+     *
+     * @return The code
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the opcode of a code.
+     *
+     * @param code A stored code
+     * @return The opcode, or null if the code is unknown
+     */
+    public static JournalOp fromCode(int code) {
+        return (code >= 0 && code < BY_CODE.length) ? BY_CODE[code] : null;
+    }
+}
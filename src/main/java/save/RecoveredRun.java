@@ -0,0 +1,131 @@
+package save;
+
+import entity.Player;
+import items.Armor;
+import items.Weapon;
+
+import java.util.List;
+
+/**
+ * A run rebuilt by {@link RunJournal#recover}: its last snapshot with the journal replayed on top.
+ */
+public final class RecoveredRun {
+
+    /**
+     * The player and the owned equipment.
+     */
+    private final Player player;
+    private final List<Weapon> ownedWeapons;
+    private final List<Armor> ownedArmors;
+
+    /**
+     * Last stage cleared.
+     */
+    private final int stage;
+
+    /**
+     * Endless mode state.
+     */
+    private final boolean endless;
+    private final long endlessSeed;
+
+    /**
+     * Number of journal records replayed on top of the snapshot.
+     */
+    private final int recordsReplayed;
+
+    /**
+     * Constructs a recovered run.
+     *
+     * @param player          The player
+     * @param ownedWeapons    Weapons owned by the player
+     * @param ownedArmors     Armors owned by the player
+     * @param stage           Last stage cleared
+     * @param endless         true in endless mode
+     * @param endlessSeed     Seed of the endless waves
+     * @param recordsReplayed Number of journal records replayed
+     */
+    RecoveredRun(Player player, List<Weapon> ownedWeapons, List<Armor> ownedArmors,
+                 int stage, boolean endless, long endlessSeed, int recordsReplayed) {
+        this.player = player;
+        this.ownedWeapons = ownedWeapons;
+        this.ownedArmors = ownedArmors;
+        this.stage = stage;
+        this.endless = endless;
+        this.endlessSeed = endlessSeed;
+        this.recordsReplayed = recordsReplayed;
+    }
+
+    /**
+     * Gets the player.
+     *
+     * @return The player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the owned weapons.
+     *
+     * @return The weapons, in inventory order
+     */
+    public List<Weapon> getOwnedWeapons() {
+        return ownedWeapons;
+    }
+
+    /**
+     * Gets the owned armors.
+     *
+     * @return The armors, in inventory order
+     */
+    public List<Armor> getOwnedArmors() {
+        return ownedArmors;
+    }
+
+    /**
+     * Gets the last stage cleared.
+     *
+     * @return The stage number (0 before the first stage)
+     */
+    public int getStage() {
+        return stage;
+    }
+
+    /**
+     * Checks if the run is in endless mode.
+     *
+     * @return true in endless mode
+     */
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * Gets the seed of the endless waves.
+     *
+     * @return The seed, 0 outside endless mode
+     */
+    public long getEndlessSeed() {
+        return endlessSeed;
+    }
+
+    /**
+     * Gets the number of journal records replayed on top of the snapshot.
+     *
+     * @return Number of records
+     */
+    public int getRecordsReplayed() {
+        return recordsReplayed;
+    }
+
+    /**
+     * Returns a short summary, e.g. "Stage 3 | HP 96 | 12 H, 4 B".
+     *
+     * @return The summary
+     */
+    public String getSummary() {
+        return (endless ? "Endless " : "Stage ") + stage + " | HP " + player.getHp() + " | "
+                + player.getHeartParts() + " H, " + player.getBrainParts() + " B";
+    }
+}
@@ -0,0 +1,515 @@
+package save;
+
+import entity.Player;
+import items.Armor;
+import items.ItemKind;
+import items.ItemRegistry;
+import items.Potion;
+import items.Weapon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only autosave of the current run: a snapshot ({@link SaveGame}) plus a journal of
+ * every state change since, as fixed-size records. After a crash, {@link #recover} loads the
+ * snapshot and replays the journal on top of it.
+ * <p>
+ * {@link #append} only copies a record into a memory buffer; a single background writer thread
+ * writes whatever has accumulated in one call and forces it to disk, so bursts of changes share
+ * one fsync and the calling (JavaFX) thread never touches the disk.
+ * {@link #compact} replaces the snapshot and starts an empty journal of the next generation:
+ * the snapshot {@code run-<generation>.lwsv} is written first, then the journal header naming
+ * that generation, each by atomic rename, so a crash at any point leaves a consistent pair.
+ * <p>
+ * Journal layout (big-endian): a {@value #HEADER_SIZE}-byte header (magic, version, generation),
+ * then {@value #RECORD_SIZE}-byte records (opcode, operand A, operand B, check). Recovery stops at
+ * the first record whose check does not match, i.e. a record torn by the crash.
+ */
+public final class RunJournal implements AutoCloseable {
+
+    /**
+     * "LWJL" - marks the start of a journal.
+     */
+    public static final int MAGIC = 0x4C574A4C;
+
+    /**
+     * Current version of the journal format.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Size of the journal header in bytes.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * Size of one record in bytes.
+     */
+    public static final int RECORD_SIZE = 16;
+
+    /**
+     * Records after which {@link #needsCompaction()} reports true by default.
+     */
+    public static final int DEFAULT_COMPACT_THRESHOLD = 512;
+
+    /**
+     * Name of the journal file.
+     */
+    private static final String JOURNAL_FILE = "run.lwj";
+
+    /**
+     * Prefix and extension of the snapshot files.
+     */
+    private static final String SNAPSHOT_PREFIX = "run-";
+
+    /**
+     * Directory holding the journal and its snapshots.
+     */
+    private final Path directory;
+
+    /**
+     * Records after which a compaction is due.
+     */
+    private final int compactThreshold;
+
+    /**
+     * Single thread doing every file operation, in submission order.
+     */
+    private final ExecutorService writer;
+
+    /**
+     * Guards the fields shared between the caller and the writer thread.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Records appended and not yet handed to the writer.
+     */
+    private ByteBuffer pending = ByteBuffer.allocate(RECORD_SIZE * 64);
+
+    /**
+     * Generation the pending records belong to.
+     */
+    private long pendingGeneration;
+
+    /**
+     * Generation of the journal file currently open for appending.
+     */
+    private long channelGeneration = -1;
+
+    /**
+     * true while a flush is queued on the writer.
+     */
+    private boolean flushScheduled;
+
+    /**
+     * true once a run is being journaled (after the first {@link #compact}).
+     */
+    private boolean active;
+
+    /**
+     * Records appended since the last compaction.
+     */
+    private int recordsSinceCompaction;
+
+    /**
+     * Journal file open for appending (writer thread only).
+     */
+    private FileChannel channel;
+
+    /**
+     * Counters, for tests and diagnostics.
+     */
+    private volatile long recordsWritten;
+    private volatile long flushCount;
+
+    /**
+     * Last write error, or null.
+     */
+    private volatile IOException failure;
+
+    /**
+     * Constructs a journal in a directory, with the default compaction threshold.
+     *
+     * @param directory Directory holding the journal and its snapshots (created on the first compaction)
+     */
+    public RunJournal(Path directory) {
+        this(directory, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a journal in a directory.
+     *
+     * @param directory        Directory holding the journal and its snapshots (created on the first compaction)
+     * @param compactThreshold Records after which a compaction is due (at least 1)
+     */
+    public RunJournal(Path directory, int compactThreshold) {
+        if (compactThreshold < 1) throw new IllegalArgumentException("compactThreshold must be >= 1: " + compactThreshold);
+        this.directory = directory;
+        this.compactThreshold = compactThreshold;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "run-journal-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // -------------------- RECOVERY -------------------- //
+
+    /**
+     * Rebuilds the journaled run: loads its snapshot and replays the records written after it.
+     * Must be called before the first {@link #compact}, so the next generation follows the recovered one.
+     *
+     * @param registry The item registry the ids refer to
+     * @return The run, or null if there is no journal
+     * @throws IOException if the journal or its snapshot cannot be read or refers to unknown items
+     */
+    public RecoveredRun recover(ItemRegistry registry) throws IOException {
+        ByteBuffer data;
+        try {
+            data = SaveSlots.readFully(journalPath());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (data.remaining() < HEADER_SIZE || data.getInt() != MAGIC) {
+            throw new IOException("Not a run journal");
+        }
+        int version = data.getShort() & 0xFFFF;
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported journal version: " + version);
+        }
+        data.getShort();
+        long generation = data.getLong();
+        synchronized (lock) {
+            pendingGeneration = Math.max(pendingGeneration, generation);
+        }
+
+        SaveGame snapshot;
+        try {
+            snapshot = SaveGame.decode(SaveSlots.readFully(snapshotPath(generation)));
+        } catch (NoSuchFileException e) {
+            throw new IOException("Missing snapshot of journal generation " + generation, e);
+        }
+
+        List<Weapon> weapons = snapshot.createOwnedWeapons(registry);
+        List<Armor> armors = snapshot.createOwnedArmors(registry);
+        Player player = snapshot.createPlayer(weapons, armors, registry);
+        int stage = snapshot.getHeader().getStage();
+        boolean endless = snapshot.getHeader().isEndless();
+        long endlessSeed = snapshot.getHeader().getEndlessSeed();
+
+        int replayed = 0;
+        while (data.remaining() >= RECORD_SIZE) {
+            int code = data.getInt();
+            int a = data.getInt();
+            int b = data.getInt();
+            int check = data.getInt();
+            JournalOp op = JournalOp.fromCode(code);
+            if (op == null || check != check(code, a, b)) break; // ส่วนท้ายที่เขียนไม่ครบตอน crash
+
+            switch (op) {
+                case VITALS -> {
+                    player.restoreUsedShield(b);
+                    player.setHp(a);
+                }
+                case CURRENCY -> setCurrency(player, a, b);
+                case ADD_WEAPON -> weapons.add(SaveGame.resolve(registry, a, ItemKind.WEAPON).createWeapon());
+                case ADD_ARMOR -> armors.add(SaveGame.resolve(registry, a, ItemKind.ARMOR).createArmor());
+                case ADD_POTION -> player.addPotionToInventory(SaveGame.resolve(registry, a, ItemKind.POTION).createPotion());
+                case USE_POTION -> {
+                    List<Potion> potions = player.getPotions();
+                    if (a >= 0 && a < potions.size()) player.usePotion(potions.get(a));
+                }
+                case EQUIP_WEAPON -> player.equipWeapon(a >= 0 && a < weapons.size() ? weapons.get(a) : null);
+                case EQUIP_ARMOR -> player.equipArmor(a >= 0 && a < armors.size() ? armors.get(a) : null);
+                case STAGE_CLEARED -> stage = a;
+                case ENDLESS -> {
+                    endless = true;
+                    endlessSeed = ((long) a << 32) | (b & 0xFFFFFFFFL);
+                }
+            }
+            replayed++;
+        }
+        return new RecoveredRun(player, weapons, armors, stage, endless, endlessSeed, replayed);
+    }
+
+    /**
+     * Sets the currency of a player to absolute amounts.
+     */
+    private static void setCurrency(Player player, int hearts, int brains) {
+        int dh = hearts - player.getHeartParts();
+        int db = brains - player.getBrainParts();
+        if (dh < 0 || db < 0) player.payCost(Math.max(0, -dh), Math.max(0, -db));
+        if (dh > 0) player.addHearts(dh);
+        if (db > 0) player.addBrains(db);
+    }
+
+    // -------------------- WRITING -------------------- //
+
+    /**
+     * Appends a record. Only copies it to memory; the writer thread persists it shortly after.
+     * Ignored until a run is started with {@link #compact}.
+     *
+     * @param op The state change
+     * @param a  Operand A
+     * @param b  Operand B
+     */
+    public void append(JournalOp op, int a, int b) {
+        synchronized (lock) {
+            if (!active) return;
+            if (!pending.hasRemaining()) {
+                ByteBuffer grown = ByteBuffer.allocate(pending.capacity() * 2);
+                pending.flip();
+                grown.put(pending);
+                pending = grown;
+            }
+            pending.putInt(op.getCode()).putInt(a).putInt(b).putInt(check(op.getCode(), a, b));
+            recordsSinceCompaction++;
+
+            if (!flushScheduled) {
+                flushScheduled = true;
+                writer.execute(this::flush);
+            }
+        }
+    }
+
+    /**
+     * Checks if enough records were appended since the last compaction to compact again.
+     *
+     * @return true if a compaction is due
+     */
+    public boolean needsCompaction() {
+        synchronized (lock) {
+            return active && recordsSinceCompaction >= compactThreshold;
+        }
+    }
+
+    /**
+     * Replaces the journal with a snapshot of the run and an empty journal, in the background.
+     * Also starts journaling a new run. Records appended before the call are dropped: the snapshot
+     * already contains their effect.
+     *
+     * @param snapshot Snapshot of the run, taken after the last appended record
+     */
+    public void compact(SaveGame snapshot) {
+        long generation;
+        synchronized (lock) {
+            generation = ++pendingGeneration;
+            pending.clear();
+            recordsSinceCompaction = 0;
+            active = true;
+        }
+        writer.execute(() -> writeSnapshot(generation, snapshot));
+    }
+
+    /**
+     * Stops journaling and deletes the journal and its snapshots, e.g. when the run is over.
+     */
+    public void discard() {
+        synchronized (lock) {
+            active = false;
+            pending.clear();
+            recordsSinceCompaction = 0;
+        }
+        writer.execute(() -> {
+            try {
+                closeChannel();
+                Files.deleteIfExists(journalPath());
+                deleteSnapshotsExcept(-1);
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+    }
+
+    /**
+     * Waits until everything appended or compacted so far is on disk.
+     *
+     * @throws IOException if a write failed
+     */
+    public void awaitWrites() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the journal", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        IOException error = failure;
+        if (error != null) throw error;
+    }
+
+    /**
+     * Persists the pending records and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        writer.execute(() -> {
+            try {
+                closeChannel();
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the pending records of the open journal and forces them to disk (writer thread).
+     */
+    private void flush() {
+        ByteBuffer batch;
+        synchronized (lock) {
+            flushScheduled = false;
+            // ถ้ามี compaction รออยู่ จะ flush ให้เองหลังเปิดไฟล์รุ่นใหม่
+            if (pendingGeneration != channelGeneration || pending.position() == 0) return;
+            pending.flip();
+            batch = ByteBuffer.allocate(pending.remaining());
+            batch.put(pending).flip();
+            pending.clear();
+        }
+
+        try {
+            int records = batch.remaining() / RECORD_SIZE;
+            while (batch.hasRemaining()) channel.write(batch);
+            channel.force(false);
+            recordsWritten += records;
+            flushCount++;
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Writes the snapshot of a generation, then switches to its empty journal (writer thread).
+     */
+    private void writeSnapshot(long generation, SaveGame snapshot) {
+        try {
+            Files.createDirectories(directory);
+            SaveSlots.writeAtomically(snapshotPath(generation), snapshot.encode());
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putShort((short) FORMAT_VERSION).putShort((short) 0).putLong(generation).flip();
+            SaveSlots.writeAtomically(journalPath(), header);
+
+            closeChannel();
+            channel = FileChannel.open(journalPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            synchronized (lock) {
+                channelGeneration = generation;
+            }
+            deleteSnapshotsExcept(generation);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        flush();
+    }
+
+    /**
+     * Closes the open journal file, if any (writer thread).
+     */
+    private void closeChannel() throws IOException {
+        synchronized (lock) {
+            channelGeneration = -1;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Deletes the snapshots of every other generation (writer thread).
+     */
+    private void deleteSnapshotsExcept(long generation) throws IOException {
+        if (!Files.isDirectory(directory)) return;
+        String keep = snapshotPath(generation).getFileName().toString();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SNAPSHOT_PREFIX + "*" + SaveSlots.FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().equals(keep)) Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Records a write error.
+     */
+    private void fail(IOException e) {
+        failure = e;
+        System.err.println("Run journal write failed: " + e.getMessage());
+    }
+
+    // -------------------- HELPERS -------------------- //
+
+    /**
+     * Check value of a record; never 0 for a zero-filled record, so a zero-padded torn tail is rejected.
+     */
+    static int check(int code, int a, int b) {
+        int h = code * 0x9E3779B1;
+        h = Integer.rotateLeft(h ^ a * 0x85EBCA6B, 13);
+        h = Integer.rotateLeft(h ^ b * 0xC2B2AE35, 17);
+        return h ^ 0x5A17C0DE;
+    }
+
+    /**
+     * Gets the journal file.
+     */
+    private Path journalPath() {
+        return directory.resolve(JOURNAL_FILE);
+    }
+
+    /**
+     * Gets the snapshot file of a generation.
+     */
+    private Path snapshotPath(long generation) {
+        return directory.resolve(SNAPSHOT_PREFIX + generation + SaveSlots.FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the number of records written to disk so far.
+     *
+     * @return Number of records
+     */
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    /**
+     * Gets the number of batched writes so far; each is followed by one fsync.
+     *
+     * @return Number of flushes
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Gets the generation of the latest compaction (or of the recovered journal).
+     *
+     * @return The generation
+     */
+    public long getGeneration() {
+        synchronized (lock) {
+            return pendingGeneration;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package save;
+
+import entity.Player;
+import items.Armor;
+import items.Item;
+import items.ItemDefinition;
+import items.ItemKind;
+import items.ItemRegistry;
+import items.Potion;
+import items.Weapon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Snapshot of a run between two stages: the player, the owned equipment and the campaign progress.
+ * Items are stored as their {@link ItemRegistry} ids, never as serialized objects, so a save stays
+ * a few hundred bytes and survives rebalancing of the item data.
+ * <p>
+ * Binary layout (big-endian):
+ * a {@value #HEADER_SIZE}-byte header (magic, version, flags, save time, stage, HP, currency,
+ * endless seed, body length, body CRC-32), then the body (player name, defense, equipped indices,
+ * weapon, armor and potion ids). Later versions may only append to the body, so the header
+ * of any version can be read alone.
+ */
+public final class SaveGame {
+
+    /**
+     * "LWSV" - marks the start of a save.
+     */
+    public static final int MAGIC = 0x4C575356;
+
+    /**
+     * Current version of the binary format.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Size of the header in bytes.
+     */
+    public static final int HEADER_SIZE = 48;
+
+    /**
+     * Header flags.
+     */
+    private static final int FLAG_ENDLESS = 1;
+
+    /**
+     * Largest body accepted, to reject corrupt lengths before allocating.
+     */
+    private static final int MAX_BODY_SIZE = 1 << 20;
+
+    /**
+     * Summary of the save.
+     */
+    private final SaveHeader header;
+
+    /**
+     * Name of the player.
+     */
+    private final String playerName;
+
+    /**
+     * Current defense of the player (defense is consumed as a shield, so it may be below the equipped value).
+     */
+    private final int defense;
+
+    /**
+     * Index of the equipped weapon and armor in the owned lists (-1 for none).
+     */
+    private final int weaponIndex;
+    private final int armorIndex;
+
+    /**
+     * Item ids of the owned weapons, owned armors and potions, in inventory order.
+     */
+    private final int[] weaponIds;
+    private final int[] armorIds;
+    private final int[] potionIds;
+
+    /**
+     * Constructs a save.
+     */
+    private SaveGame(SaveHeader header, String playerName, int defense, int weaponIndex, int armorIndex,
+                     int[] weaponIds, int[] armorIds, int[] potionIds) {
+        this.header = header;
+        this.playerName = playerName;
+        this.defense = defense;
+        this.weaponIndex = weaponIndex;
+        this.armorIndex = armorIndex;
+        this.weaponIds = weaponIds;
+        this.armorIds = armorIds;
+        this.potionIds = potionIds;
+    }
+
+    /**
+     * Takes a snapshot of a run.
+     *
+     * @param player       The player
+     * @param ownedWeapons Weapons owned by the player
+     * @param ownedArmors  Armors owned by the player
+     * @param stage        Last stage cleared
+     * @param endless      true in endless mode
+     * @param endlessSeed  Seed of the endless waves (ignored outside endless mode)
+     * @return The snapshot
+     * @throws IllegalArgumentException if an item is not in the item registry
+     */
+    public static SaveGame capture(Player player, List<Weapon> ownedWeapons, List<Armor> ownedArmors,
+                                   int stage, boolean endless, long endlessSeed) {
+        SaveHeader header = new SaveHeader(FORMAT_VERSION, System.currentTimeMillis(), stage, endless,
+                endless ? endlessSeed : 0L, player.getHp(), player.getHeartParts(), player.getBrainParts());
+
+        List<Potion> potions = player.getPotions();
+        int[] potionIds = new int[potions.size()];
+        for (int i = 0; i < potionIds.length; i++) potionIds[i] = idOf(potions.get(i));
+
+        return new SaveGame(header, player.getName(), player.getDefense(),
+                ownedWeapons.indexOf(player.getWeapon()), ownedArmors.indexOf(player.getArmor()),
+                idsOf(ownedWeapons), idsOf(ownedArmors), potionIds);
+    }
+
+    // -------------------- ENCODING -------------------- //
+
+    /**
+     * Encodes the save.
+     *
+     * @return A buffer holding the whole file, positioned at 0
+     */
+    public ByteBuffer encode() {
+        byte[] name = playerName.getBytes(StandardCharsets.UTF_8);
+        int bodySize = 2 + name.length + 4 + 4 + 4
+                + 2 + 4 * weaponIds.length + 2 + 4 * armorIds.length + 2 + 4 * potionIds.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+        buffer.position(HEADER_SIZE);
+        buffer.putShort((short) name.length).put(name);
+        buffer.putInt(defense);
+        buffer.putInt(weaponIndex);
+        buffer.putInt(armorIndex);
+        putIds(buffer, weaponIds);
+        putIds(buffer, armorIds);
+        putIds(buffer, potionIds);
+
+        buffer.position(0);
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) FORMAT_VERSION);
+        buffer.putShort((short) (header.isEndless() ? FLAG_ENDLESS : 0));
+        buffer.putLong(header.getSavedAt());
+        buffer.putInt(header.getStage());
+        buffer.putInt(header.getHp());
+        buffer.putInt(header.getHearts());
+        buffer.putInt(header.getBrains());
+        buffer.putLong(header.getEndlessSeed());
+        buffer.putInt(bodySize);
+        buffer.putInt(crc(buffer.array(), HEADER_SIZE, bodySize));
+        buffer.position(0);
+        return buffer;
+    }
+
+    /**
+     * Reads the header at the start of a save.
+     *
+     * @param buffer At least {@value #HEADER_SIZE} bytes from the start of the file; its position is advanced past the header
+     * @return The header
+     * @throws IOException if the data is not a save of a supported version
+     */
+    public static SaveHeader readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = buffer.getShort() & 0xFFFF;
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported save version: " + version);
+        }
+        int flags = buffer.getShort();
+        long savedAt = buffer.getLong();
+        int stage = buffer.getInt();
+        int hp = buffer.getInt();
+        int hearts = buffer.getInt();
+        int brains = buffer.getInt();
+        long endlessSeed = buffer.getLong();
+        return new SaveHeader(version, savedAt, stage, (flags & FLAG_ENDLESS) != 0, endlessSeed, hp, hearts, brains);
+    }
+
+    /**
+     * Decodes a whole save.
+     *
+     * @param buffer The file contents, from its start
+     * @return The save
+     * @throws IOException if the data is truncated, corrupt or of an unsupported version
+     */
+    public static SaveGame decode(ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        SaveHeader header = readHeader(buffer);
+        int bodySize = buffer.getInt();
+        int expectedCrc = buffer.getInt();
+        if (bodySize < 0 || bodySize > MAX_BODY_SIZE || bodySize > buffer.remaining()) {
+            throw new IOException("Truncated save file");
+        }
+
+        ByteBuffer body = buffer.slice(start + HEADER_SIZE, bodySize);
+        if (crc(body) != expectedCrc) {
+            throw new IOException("Corrupt save file (checksum mismatch)");
+        }
+
+        try {
+            byte[] name = new byte[body.getShort() & 0xFFFF];
+            body.get(name);
+            int defense = body.getInt();
+            int weaponIndex = body.getInt();
+            int armorIndex = body.getInt();
+            int[] weaponIds = getIds(body);
+            int[] armorIds = getIds(body);
+            int[] potionIds = getIds(body);
+            // ข้อมูลที่เวอร์ชันใหม่กว่าต่อท้ายไว้ถูกข้ามไป
+            return new SaveGame(header, new String(name, StandardCharsets.UTF_8), defense,
+                    weaponIndex, armorIndex, weaponIds, armorIds, potionIds);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt save file", e);
+        }
+    }
+
+    // -------------------- RESTORE -------------------- //
+
+    /**
+     * Creates the owned weapons.
+     *
+     * @param registry The item registry the ids refer to
+     * @return New weapons, in inventory order
+     * @throws IOException if an id is not a weapon of the registry
+     */
+    public List<Weapon> createOwnedWeapons(ItemRegistry registry) throws IOException {
+        List<Weapon> weapons = new ArrayList<>(weaponIds.length);
+        for (int id : weaponIds) weapons.add(resolve(registry, id, ItemKind.WEAPON).createWeapon());
+        return weapons;
+    }
+
+    /**
+     * Creates the owned armors.
+     *
+     * @param registry The item registry the ids refer to
+     * @return New armors, in inventory order
+     * @throws IOException if an id is not an armor of the registry
+     */
+    public List<Armor> createOwnedArmors(ItemRegistry registry) throws IOException {
+        List<Armor> armors = new ArrayList<>(armorIds.length);
+        for (int id : armorIds) armors.add(resolve(registry, id, ItemKind.ARMOR).createArmor());
+        return armors;
+    }
+
+    /**
+     * Creates the player as saved, wearing equipment of the given owned lists.
+     *
+     * @param ownedWeapons Weapons from {@link #createOwnedWeapons(ItemRegistry)}
+     * @param ownedArmors  Armors from {@link #createOwnedArmors(ItemRegistry)}
+     * @param registry     The item registry the ids refer to
+     * @return A new player
+     * @throws IOException if a potion id is not a potion of the registry or an equipped index is out of range
+     */
+    public Player createPlayer(List<Weapon> ownedWeapons, List<Armor> ownedArmors, ItemRegistry registry)
+            throws IOException {
+        if (weaponIndex < -1 || weaponIndex >= ownedWeapons.size()
+                || armorIndex < -1 || armorIndex >= ownedArmors.size()) {
+            throw new IOException("Corrupt save file (equipped item out of range)");
+        }
+
+        Player player = new Player(playerName);
+        if (weaponIndex >= 0) player.equipWeapon(ownedWeapons.get(weaponIndex));
+        if (armorIndex >= 0) player.equipArmor(ownedArmors.get(armorIndex));
+        for (int id : potionIds) {
+            player.addPotionToInventory(resolve(registry, id, ItemKind.POTION).createPotion());
+        }
+
+        // เกราะอาจถูกใช้ไปบางส่วนแล้ว → เขียนทับหลังสวมอุปกรณ์
+        player.restoreUsedShield(defense);
+        player.setHp(header.getHp());
+        player.addHearts(header.getHearts());
+        player.addBrains(header.getBrains());
+        return player;
+    }
+
+    /**
+     * Gets the summary of the save.
+     *
+     * @return The header
+     */
+    public SaveHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return The player name
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    // -------------------- HELPERS -------------------- //
+
+    /**
+     * Gets the registry id of an item.
+     */
+    private static int idOf(Item item) {
+        int id = item.getItemId();
+        if (id < 0) throw new IllegalArgumentException("Item is not in the item registry: " + item.getName());
+        return id;
+    }
+
+    /**
+     * Gets the registry ids of items.
+     */
+    private static int[] idsOf(List<? extends Item> items) {
+        int[] ids = new int[items.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = idOf(items.get(i));
+        return ids;
+    }
+
+    /**
+     * Looks up an id, checking its kind.
+     */
+    static ItemDefinition resolve(ItemRegistry registry, int id, ItemKind kind) throws IOException {
+        ItemDefinition def = registry.get(id);
+        if (def == null || def.getKind() != kind) {
+            throw new IOException("Save refers to unknown " + kind.name().toLowerCase() + " id " + id);
+        }
+        return def;
+    }
+
+    /**
+     * Writes a count-prefixed id list.
+     */
+    private static void putIds(ByteBuffer buffer, int[] ids) {
+        buffer.putShort((short) ids.length);
+        for (int id : ids) buffer.putInt(id);
+    }
+
+    /**
+     * Reads a count-prefixed id list.
+     */
+    private static int[] getIds(ByteBuffer buffer) {
+        int[] ids = new int[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < ids.length; i++) ids[i] = buffer.getInt();
+        return ids;
+    }
+
+    /**
+     * CRC-32 of a byte range.
+     */
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * CRC-32 of the remaining bytes of a buffer, without moving its position.
+     */
+    private static int crc(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,145 @@
+package save;
+
+/**
+ * Fixed-size summary at the start of every save file: enough to list the slots
+ * without reading or decoding the rest of the file.
+ */
+public final class SaveHeader {
+
+    /**
+     * Version of the format the file was written with.
+     */
+    private final int version;
+
+    /**
+     * Time of the save, in epoch milliseconds.
+     */
+    private final long savedAt;
+
+    /**
+     * Last stage cleared; the run resumes in the shop before the next one.
+     */
+    private final int stage;
+
+    /**
+     * true if the run is in endless mode.
+     */
+    private final boolean endless;
+
+    /**
+     * Seed of the endless waves (0 outside endless mode).
+     */
+    private final long endlessSeed;
+
+    /**
+     * Player HP and currency.
+     */
+    private final int hp;
+    private final int hearts;
+    private final int brains;
+
+    /**
+     * Constructs a header.
+     *
+     * @param version     Format version
+     * @param savedAt     Time of the save, in epoch milliseconds
+     * @param stage       Last stage cleared
+     * @param endless     true in endless mode
+     * @param endlessSeed Seed of the endless waves
+     * @param hp          Player HP
+     * @param hearts      Heart parts
+     * @param brains      Brain parts
+     */
+    SaveHeader(int version, long savedAt, int stage, boolean endless, long endlessSeed,
+               int hp, int hearts, int brains) {
+        this.version = version;
+        this.savedAt = savedAt;
+        this.stage = stage;
+        this.endless = endless;
+        this.endlessSeed = endlessSeed;
+        this.hp = hp;
+        this.hearts = hearts;
+        this.brains = brains;
+    }
+
+    /**
+     * Gets the version of the format the file was written with.
+     *
+     * @return The format version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the time of the save.
+     *
+     * @return Epoch milliseconds
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /**
+     * Gets the last stage cleared.
+     *
+     * @return The stage number (0 before the first stage)
+     */
+    public int getStage() {
+        return stage;
+    }
+
+    /**
+     * Checks if the run is in endless mode.
+     *
+     * @return true in endless mode
+     */
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * Gets the seed of the endless waves.
+     *
+     * @return The seed, 0 outside endless mode
+     */
+    public long getEndlessSeed() {
+        return endlessSeed;
+    }
+
+    /**
+     * Gets the player's HP.
+     *
+     * @return HP at the time of the save
+     */
+    public int getHp() {
+        return hp;
+    }
+
+    /**
+     * Gets the player's heart parts.
+     *
+     * @return Heart parts at the time of the save
+     */
+    public int getHearts() {
+        return hearts;
+    }
+
+    /**
+     * Gets the player's brain parts.
+     *
+     * @return Brain parts at the time of the save
+     */
+    public int getBrains() {
+        return brains;
+    }
+
+    /**
+     * Returns a short summary, e.g. "Stage 3 | HP 96 | 12 H, 4 B".
+     *
+     * @return The summary
+     */
+    public String getSummary() {
+        return (endless ? "Endless " : "Stage ") + stage + " | HP " + hp + " | " + hearts + " H, " + brains + " B";
+    }
+}
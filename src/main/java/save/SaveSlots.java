@@ -0,0 +1,206 @@
+package save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Numbered save slots, one file per slot in a directory.
+ * A save is written to a temporary file, forced to disk and renamed over the slot atomically,
+ * so a crash during a save leaves either the old or the new save, never a torn file.
+ * Listing the slots only reads the fixed-size header of each file.
+ */
+public final class SaveSlots {
+
+    /**
+     * File extension of save files.
+     */
+    public static final String FILE_EXTENSION = ".lwsv";
+
+    /**
+     * Directory holding the slot files.
+     */
+    private final Path directory;
+
+    /**
+     * Number of slots.
+     */
+    private final int slotCount;
+
+    /**
+     * Constructs the slots of a directory. The directory is created on the first save.
+     *
+     * @param directory Directory holding the slot files
+     * @param slotCount Number of slots (at least 1)
+     */
+    public SaveSlots(Path directory, int slotCount) {
+        if (slotCount < 1) throw new IllegalArgumentException("slotCount must be >= 1: " + slotCount);
+        this.directory = directory;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Writes a save to a slot, replacing its previous save atomically.
+     *
+     * @param slot The slot (1-based)
+     * @param save The save
+     * @throws IOException if the save cannot be written; the slot keeps its previous save
+     */
+    public void save(int slot, SaveGame save) throws IOException {
+        Files.createDirectories(directory);
+        writeAtomically(getPath(slot), save.encode());
+    }
+
+    /**
+     * Reads a whole slot.
+     *
+     * @param slot The slot (1-based)
+     * @return The save, or null if the slot is empty
+     * @throws IOException if the file cannot be read or is not a valid save
+     */
+    public SaveGame load(int slot) throws IOException {
+        try {
+            return SaveGame.decode(readFully(getPath(slot)));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads only the header of a slot.
+     *
+     * @param slot The slot (1-based)
+     * @return The header, or null if the slot is empty
+     * @throws IOException if the file cannot be read or is not a save
+     */
+    public SaveHeader readHeader(int slot) throws IOException {
+        try (FileChannel channel = FileChannel.open(getPath(slot), StandardOpenOption.READ)) {
+            ByteBuffer data = ByteBuffer.allocate(SaveGame.HEADER_SIZE);
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // อ่านจนครบหรือจนจบไฟล์
+            }
+            data.flip();
+            return SaveGame.readHeader(data);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the header of every slot.
+     *
+     * @return One header per slot, in slot order (null if the slot is empty or unreadable)
+     */
+    public List<SaveHeader> list() {
+        List<SaveHeader> headers = new ArrayList<>(slotCount);
+        for (int slot = 1; slot <= slotCount; slot++) {
+            SaveHeader header;
+            try {
+                header = readHeader(slot);
+            } catch (IOException e) {
+                header = null;
+            }
+            headers.add(header);
+        }
+        return Collections.unmodifiableList(headers);
+    }
+
+    /**
+     * Checks if at least one slot holds a readable save.
+     *
+     * @return true if a save can be resumed
+     */
+    public boolean hasAny() {
+        for (SaveHeader header : list()) {
+            if (header != null) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the save of a slot.
+     *
+     * @param slot The slot (1-based)
+     * @return true if a save was deleted
+     * @throws IOException if the file cannot be deleted
+     */
+    public boolean delete(int slot) throws IOException {
+        return Files.deleteIfExists(getPath(slot));
+    }
+
+    /**
+     * Gets the file of a slot.
+     *
+     * @param slot The slot (1-based)
+     * @return The slot file
+     * @throws IllegalArgumentException if the slot does not exist
+     */
+    public Path getPath(int slot) {
+        if (slot < 1 || slot > slotCount) {
+            throw new IllegalArgumentException("Slot must be in 1.." + slotCount + ": " + slot);
+        }
+        return directory.resolve("slot" + slot + FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return Number of slots
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Writes a file through a temporary sibling: written, forced to disk, then renamed over the target,
+     * atomically where the file system supports it.
+     *
+     * @param target The file to replace
+     * @param data   The new contents, from its position to its limit
+     * @throws IOException if the file cannot be written; the target is left unchanged
+     */
+    static void writeAtomically(Path target, ByteBuffer data) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (data.hasRemaining()) channel.write(data);
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a whole file with one channel.
+     *
+     * @param file The file
+     * @return A buffer holding the contents, positioned at 0
+     * @throws IOException if the file cannot be read
+     */
+    static ByteBuffer readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("File too large: " + file);
+
+            ByteBuffer data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // อ่านจนครบหรือจนจบไฟล์
+            }
+            data.flip();
+            return data;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package shop;
+
+import items.Armor;
+import items.Potion;
+import items.Weapon;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Purchases suggested by {@link PurchasePlanner} for the next stage, with the predicted win probability.
+ */
+public final class PurchasePlan {
+
+    /** Weapon to equip for the next stage. */
+    private final Weapon weapon;
+
+    /** Armor to equip for the next stage (null for none). */
+    private final Armor armor;
+
+    /** true if the weapon has to be bought. */
+    private final boolean buyWeapon;
+
+    /** true if the armor has to be bought. */
+    private final boolean buyArmor;
+
+    /** Number of each potion to buy. */
+    private final Map<Potion, Integer> potions;
+
+    /** Total cost of the plan. */
+    private final int costHearts;
+    private final int costBrains;
+
+    /** Predicted win probability with the plan. */
+    private final double winProbability;
+
+    /** Predicted win probability without buying or equipping anything. */
+    private final double baselineWinProbability;
+
+    /**
+     * Constructs a new PurchasePlan.
+     * @param weapon Weapon to equip
+     * @param armor Armor to equip (null for none)
+     * @param buyWeapon true if the weapon has to be bought
+     * @param buyArmor true if the armor has to be bought
+     * @param potions Number of each potion to buy
+     * @param costHearts Total cost in hearts
+     * @param costBrains Total cost in brains
+     * @param winProbability Predicted win probability with the plan
+     * @param baselineWinProbability Predicted win probability without the plan
+     */
+    PurchasePlan(Weapon weapon, Armor armor, boolean buyWeapon, boolean buyArmor, Map<Potion, Integer> potions,
+                 int costHearts, int costBrains, double winProbability, double baselineWinProbability) {
+        this.weapon = weapon;
+        this.armor = armor;
+        this.buyWeapon = buyWeapon;
+        this.buyArmor = buyArmor;
+        this.potions = Collections.unmodifiableMap(potions);
+        this.costHearts = costHearts;
+        this.costBrains = costBrains;
+        this.winProbability = winProbability;
+        this.baselineWinProbability = baselineWinProbability;
+    }
+
+    /**
+     * Gets the weapon to equip.
+     * @return The weapon
+     */
+    public Weapon getWeapon() {
+        return weapon;
+    }
+
+    /**
+     * Gets the armor to equip.
+     * @return The armor, or null for none
+     */
+    public Armor getArmor() {
+        return armor;
+    }
+
+    /**
+     * Checks if the weapon has to be bought.
+     * @return true if the weapon is not owned yet
+     */
+    public boolean isBuyWeapon() {
+        return buyWeapon;
+    }
+
+    /**
+     * Checks if the armor has to be bought.
+     * @return true if the armor is not owned yet
+     */
+    public boolean isBuyArmor() {
+        return buyArmor;
+    }
+
+    /**
+     * Gets the number of each potion to buy.
+     * @return Potion counts, in shop order
+     */
+    public Map<Potion, Integer> getPotions() {
+        return potions;
+    }
+
+    /**
+     * Gets the total cost in hearts.
+     * @return Cost in hearts
+     */
+    public int getCostHearts() {
+        return costHearts;
+    }
+
+    /**
+     * Gets the total cost in brains.
+     * @return Cost in brains
+     */
+    public int getCostBrains() {
+        return costBrains;
+    }
+
+    /**
+     * Gets the predicted win probability with the plan.
+     * @return Win probability (0.0 - 1.0)
+     */
+    public double getWinProbability() {
+        return winProbability;
+    }
+
+    /**
+     * Gets the predicted win probability without buying or equipping anything.
+     * @return Win probability (0.0 - 1.0)
+     */
+    public double getBaselineWinProbability() {
+        return baselineWinProbability;
+    }
+
+    /**
+     * Returns a short summary of the plan, e.g. "Buy Machete, 2x Small Medkit".
+     * @return The summary
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        if (buyWeapon) sb.append("Buy ").append(weapon.getName());
+        if (buyArmor) sb.append(sb.length() == 0 ? "Buy " : ", ").append(armor.getName());
+        for (Map.Entry<Potion, Integer> e : potions.entrySet()) {
+            sb.append(sb.length() == 0 ? "Buy " : ", ").append(e.getValue()).append("x ").append(e.getKey().getName());
+        }
+        if (sb.length() == 0) sb.append("Buy nothing");
+        sb.append(" | Equip ").append(weapon == null ? "no weapon" : weapon.getName());
+        sb.append(" + ").append(armor == null ? "no armor" : armor.getName());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,370 @@
+package shop;
+
+import entity.BossZombie;
+import entity.Player;
+import entity.Zombie;
+import interfaces.Purchasable;
+import items.Armor;
+import items.Item;
+import items.Potion;
+import items.Weapon;
+import simulation.OutcomeDistribution;
+import simulation.OutcomeSolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the purchases that maximise the predicted win probability of the next stage.
+ * The search is a two-constraint knapsack over hearts and brains: one weapon and one armor to equip
+ * (owned ones are free), plus any number of each potion. Every candidate loadout is scored with
+ * {@link OutcomeSolver}; scores are memoized across calls, so re-planning after a purchase is cheap.
+ * Ties are broken by the lower total cost, so the cheapest best plan is suggested.
+ * Thread-safe; {@link #planAsync} copies its inputs first, so the game can go on while it runs.
+ */
+public class PurchasePlanner {
+
+    /**
+     * Maximum number of potions bought by a plan.
+     */
+    public static final int MAX_PLANNED_POTIONS = 6;
+
+    /**
+     * Win probabilities closer than this are considered equal.
+     */
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * Solver scoring each loadout.
+     */
+    private final OutcomeSolver solver;
+
+    /**
+     * Memoized win probabilities, by loadout and enemy.
+     */
+    private final Map<String, Double> scores = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a planner with a 200-turn battle limit.
+     */
+    public PurchasePlanner() {
+        this(new OutcomeSolver(200));
+    }
+
+    /**
+     * Constructs a planner.
+     *
+     * @param solver Solver scoring each loadout
+     */
+    public PurchasePlanner(OutcomeSolver solver) {
+        this.solver = solver;
+    }
+
+    /**
+     * Finds the best purchases for the next stage. The player is not modified.
+     *
+     * @param player       The player, with its wallet, HP, loadout and potions
+     * @param ownedWeapons Weapons the player already owns
+     * @param ownedArmors  Armors the player already owns
+     * @param shopItems    Items on sale
+     * @param enemy        The enemy of the next stage
+     * @return The best plan
+     * @throws IllegalArgumentException if the enemy is too strong to solve exactly (see {@link OutcomeSolver#canSolve})
+     */
+    public PurchasePlan plan(Player player, List<Weapon> ownedWeapons, List<Armor> ownedArmors,
+                             List<Item> shopItems, Zombie enemy) {
+        return new Request(player, ownedWeapons, ownedArmors, shopItems, enemy).solve();
+    }
+
+    /**
+     * Finds the best purchases for the next stage in the background.
+     * The inputs are copied on the calling thread, so they can change while the plan is computed.
+     *
+     * @param player       The player, with its wallet, HP, loadout and potions
+     * @param ownedWeapons Weapons the player already owns
+     * @param ownedArmors  Armors the player already owns
+     * @param shopItems    Items on sale
+     * @param enemy        The enemy of the next stage
+     * @return The best plan, once computed; completes with an {@link IllegalArgumentException}
+     * if the enemy is too strong to solve exactly
+     */
+    public CompletableFuture<PurchasePlan> planAsync(Player player, List<Weapon> ownedWeapons, List<Armor> ownedArmors,
+                                                     List<Item> shopItems, Zombie enemy) {
+        Request request = new Request(player, ownedWeapons, ownedArmors, shopItems, enemy);
+        return CompletableFuture.supplyAsync(request::solve);
+    }
+
+    /**
+     * Gets the number of memoized loadout scores.
+     *
+     * @return Number of cached scores
+     */
+    public int getCachedScoreCount() {
+        return scores.size();
+    }
+
+    // -------------------- SEARCH -------------------- //
+
+    /**
+     * Copy of the inputs of one plan, and the search itself.
+     */
+    private final class Request {
+        private final Player player;
+        private final int hearts;
+        private final int brains;
+        private final int[] ownedPotions;
+        private final List<Weapon> ownedWeapons;
+        private final List<Armor> ownedArmors;
+        private final List<Item> shopItems;
+        private final Zombie enemy;
+        private final String enemyKey;
+
+        Request(Player player, List<Weapon> ownedWeapons, List<Armor> ownedArmors, List<Item> shopItems, Zombie enemy) {
+            this.player = copyWithLoadout(player, player.getWeapon(), player.getArmor());
+            this.hearts = player.getHeartParts();
+            this.brains = player.getBrainParts();
+            this.ownedPotions = player.getPotions().stream().mapToInt(Potion::getHealAmount).toArray();
+            this.ownedWeapons = List.copyOf(ownedWeapons);
+            this.ownedArmors = List.copyOf(ownedArmors);
+            this.shopItems = List.copyOf(shopItems);
+            this.enemy = enemy;
+            this.enemyKey = enemyKey(enemy);
+        }
+
+        PurchasePlan solve() {
+            if (!OutcomeSolver.canSolve(enemy)) {
+                throw new IllegalArgumentException("enemy too strong to solve exactly: HP " + enemy.getHp()
+                        + ", defense " + enemy.getDefense());
+            }
+
+            // ตัวเลือกอาวุธ/เกราะ: ของที่ใส่อยู่ ของที่มี แล้วค่อยของในร้าน
+            List<Option<Weapon>> weapons = new ArrayList<>();
+            addOption(weapons, player.getWeapon(), false);
+            for (Weapon w : ownedWeapons) addOption(weapons, w, false);
+
+            List<Option<Armor>> armors = new ArrayList<>();
+            addOption(armors, player.getArmor(), false);
+            for (Armor a : ownedArmors) addOption(armors, a, false);
+
+            List<Potion> potionTypes = new ArrayList<>();
+            for (Item item : shopItems) {
+                if (item instanceof Weapon w) addOption(weapons, w, true);
+                else if (item instanceof Armor a) addOption(armors, a, true);
+                else if (item instanceof Potion p && potionTypes.stream().noneMatch(o -> o.getName().equals(p.getName()))) {
+                    potionTypes.add(p);
+                }
+            }
+            List<int[]> potionCounts = potionCombinations(potionTypes, hearts, brains);
+
+            double baseline = score(player.getWeapon(), player.getArmor(), potionTypes, new int[potionTypes.size()]);
+
+            Candidate best = null;
+            for (Option<Weapon> w : weapons) {
+                for (Option<Armor> a : armors) {
+                    int itemHearts = w.costHearts() + a.costHearts();
+                    int itemBrains = w.costBrains() + a.costBrains();
+                    if (itemHearts > hearts || itemBrains > brains) continue;
+
+                    // ขอบบน: ซื้อยาให้มากที่สุดเท่าที่เงินพอ ถ้ายังแพ้แผนที่ดีที่สุด ก็ข้ามคู่นี้ไปเลย
+                    int[] most = mostPotions(potionCounts, potionTypes, hearts - itemHearts, brains - itemBrains);
+                    double bound = score(w.item, a.item, potionTypes, most);
+                    if (best != null && bound < best.win - EPSILON) continue;
+
+                    for (int[] counts : potionCounts) {
+                        int h = itemHearts + cost(potionTypes, counts, true);
+                        int b = itemBrains + cost(potionTypes, counts, false);
+                        if (h > hearts || b > brains) continue;
+
+                        double win = score(w.item, a.item, potionTypes, counts);
+                        Candidate c = new Candidate(w, a, counts, h, b, win);
+                        if (best == null || c.isBetterThan(best)) best = c;
+                        if (win >= bound - EPSILON) break; // ถึงค่าสูงสุดของคู่นี้แล้ว ที่เหลือแพงกว่า
+                    }
+                }
+            }
+
+            Map<Potion, Integer> toBuy = new LinkedHashMap<>();
+            for (int i = 0; i < potionTypes.size(); i++) {
+                if (best.potions[i] > 0) toBuy.put(potionTypes.get(i), best.potions[i]);
+            }
+            return new PurchasePlan(best.weapon.item, best.armor.item, best.weapon.buy, best.armor.buy, toBuy,
+                    best.hearts, best.brains, best.win, baseline);
+        }
+
+        /**
+         * Predicts the win probability of a loadout with extra potions, memoized.
+         */
+        private double score(Weapon weapon, Armor armor, List<Potion> potionTypes, int[] counts) {
+            int total = ownedPotions.length;
+            for (int c : counts) total += c;
+            int[] heals = Arrays.copyOf(ownedPotions, total);
+            int k = ownedPotions.length;
+            for (int i = 0; i < counts.length; i++) {
+                for (int n = 0; n < counts[i]; n++) heals[k++] = potionTypes.get(i).getHealAmount();
+            }
+            Arrays.sort(heals);
+
+            String key = (weapon == null ? "-" : weapon.getName()) + '|' + (armor == null ? "-" : armor.getName())
+                    + '|' + player.getHp() + '|' + player.getDefense()
+                    + '|' + Arrays.toString(heals) + '|' + enemyKey;
+            return scores.computeIfAbsent(key, x -> {
+                Player sim = copyWithLoadout(player, weapon, armor);
+                OutcomeDistribution d = solver.solve(sim, enemy, heals);
+                return d.getWinProbability();
+            });
+        }
+    }
+
+    /**
+     * Builds the part of a memo key describing the enemy: every stat the solver reads, since
+     * scaled and endless enemies share their kind with the stage enemies.
+     *
+     * @param enemy The enemy
+     * @return The key
+     */
+    private static String enemyKey(Zombie enemy) {
+        return enemy.getKind() + "|" + enemy.getHp() + '/' + enemy.getMaxHp()
+                + '|' + enemy.getAttackPower() + '|' + enemy.getDefense()
+                + '|' + enemy.getCritChance() + '|' + enemy.getCritDamage() + '|' + enemy.getDodgeChance()
+                + '|' + (enemy instanceof BossZombie boss && boss.isEnraged());
+    }
+
+    /**
+     * A weapon or armor to equip, and whether it has to be bought.
+     */
+    private static final class Option<T extends Item> {
+        final T item;
+        final boolean buy;
+
+        Option(T item, boolean buy) {
+            this.item = item;
+            this.buy = buy;
+        }
+
+        int costHearts() {
+            return buy ? ((Purchasable) item).getCostHearts() : 0;
+        }
+
+        int costBrains() {
+            return buy ? ((Purchasable) item).getCostBrains() : 0;
+        }
+    }
+
+    /**
+     * A scored plan.
+     */
+    private static final class Candidate {
+        final Option<Weapon> weapon;
+        final Option<Armor> armor;
+        final int[] potions;
+        final int hearts;
+        final int brains;
+        final double win;
+
+        Candidate(Option<Weapon> weapon, Option<Armor> armor, int[] potions, int hearts, int brains, double win) {
+            this.weapon = weapon;
+            this.armor = armor;
+            this.potions = potions;
+            this.hearts = hearts;
+            this.brains = brains;
+            this.win = win;
+        }
+
+        boolean isBetterThan(Candidate other) {
+            if (win > other.win + EPSILON) return true;
+            return win >= other.win - EPSILON && hearts + brains < other.hearts + other.brains;
+        }
+    }
+
+    /**
+     * Adds an item option, unless an item of the same name is already listed (owned items come first).
+     */
+    private static <T extends Item> void addOption(List<Option<T>> options, T item, boolean buy) {
+        for (Option<T> o : options) {
+            if (o.item == null ? item == null : item != null && o.item.getName().equals(item.getName())) return;
+        }
+        options.add(new Option<>(item, buy));
+    }
+
+    /**
+     * Lists every affordable potion count vector with at most {@link #MAX_PLANNED_POTIONS} potions,
+     * cheapest first.
+     */
+    private static List<int[]> potionCombinations(List<Potion> types, int hearts, int brains) {
+        List<int[]> result = new ArrayList<>();
+        enumerate(types, new int[types.size()], 0, 0, hearts, brains, result);
+        result.sort(Comparator.comparingInt((int[] c) -> cost(types, c, true) + cost(types, c, false))
+                .thenComparingInt(c -> Arrays.stream(c).sum()));
+        return result;
+    }
+
+    private static void enumerate(List<Potion> types, int[] counts, int index, int total,
+                                  int hearts, int brains, List<int[]> out) {
+        if (index == types.size()) {
+            out.add(counts.clone());
+            return;
+        }
+        Potion p = types.get(index);
+        for (int n = 0; total + n <= MAX_PLANNED_POTIONS; n++) {
+            int h = n * p.getCostHearts();
+            int b = n * p.getCostBrains();
+            if (h > hearts || b > brains) break;
+            counts[index] = n;
+            enumerate(types, counts, index + 1, total + n, hearts - h, brains - b, out);
+        }
+        counts[index] = 0;
+    }
+
+    /**
+     * Finds the affordable combination that heals the most in total, as an upper bound for a loadout.
+     */
+    private static int[] mostPotions(List<int[]> combinations, List<Potion> types, int hearts, int brains) {
+        int[] most = new int[types.size()];
+        int mostHeal = 0;
+        for (int[] c : combinations) {
+            if (cost(types, c, true) > hearts || cost(types, c, false) > brains) continue;
+            int heal = 0;
+            for (int i = 0; i < c.length; i++) heal += c[i] * types.get(i).getHealAmount();
+            if (heal > mostHeal) {
+                mostHeal = heal;
+                most = c;
+            }
+        }
+        return most;
+    }
+
+    /**
+     * Gets the cost of a potion combination in hearts or brains.
+     */
+    private static int cost(List<Potion> types, int[] counts, boolean hearts) {
+        int total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            Potion p = types.get(i);
+            total += counts[i] * (hearts ? p.getCostHearts() : p.getCostBrains());
+        }
+        return total;
+    }
+
+    // -------------------- SCORING -------------------- //
+
+    /**
+     * Copies the player's current stats, then equips another weapon and armor the way the inventory would.
+     */
+    private static Player copyWithLoadout(Player player, Weapon weapon, Armor armor) {
+        Player sim = new Player(player.getName());
+        sim.equipWeapon(player.getWeapon());
+        sim.equipArmor(player.getArmor());
+        sim.restoreUsedShield(player.getDefense());
+        sim.setHp(player.getHp());
+
+        if (weapon != player.getWeapon()) sim.equipWeapon(weapon);
+        if (armor != player.getArmor()) sim.equipArmor(armor);
+        return sim;
+    }
+}
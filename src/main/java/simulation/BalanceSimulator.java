@@ -0,0 +1,248 @@
+package simulation;
+
+import battle.BattleEngine;
+import battle.BattleOutcome;
+import entity.Player;
+import entity.ZombieKind;
+import items.Armor;
+import items.ItemDefinition;
+import items.ItemKind;
+import items.ItemRegistry;
+import items.Weapon;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Monte Carlo balance runner that simulates every weapon × armor × zombie matchup
+ * with {@link BattleEngine} on a fork/join pool.
+ */
+public class BalanceSimulator {
+
+    /**
+     * Every weapon of the item catalog.
+     */
+    public static final List<Supplier<Weapon>> WEAPONS = catalog(ItemKind.WEAPON, Weapon::new, false);
+
+    /**
+     * Every armor of the item catalog, plus no armor at all.
+     */
+    public static final List<Supplier<Armor>> ARMORS = catalog(ItemKind.ARMOR, Armor::new, true);
+
+    /**
+     * Maximum number of trials simulated by a single fork/join leaf task.
+     */
+    private static final int TRIALS_PER_TASK = 1_000;
+
+    /**
+     * Number of battles simulated per matchup.
+     */
+    private final int trialsPerMatchup;
+
+    /**
+     * Maximum player turns before a battle counts as unresolved.
+     */
+    private final int maxTurns;
+
+    /**
+     * Root seed; every task splits its own generator from it, so a run is reproducible
+     * regardless of how the work is scheduled.
+     */
+    private final long seed;
+
+    /**
+     * Constructs a new BalanceSimulator.
+     *
+     * @param trialsPerMatchup Number of battles per matchup
+     * @param maxTurns         Turn limit per battle
+     * @param seed             Root seed of the simulation
+     */
+    public BalanceSimulator(int trialsPerMatchup, int maxTurns, long seed) {
+        this.trialsPerMatchup = Math.max(1, trialsPerMatchup);
+        this.maxTurns = Math.max(1, maxTurns);
+        this.seed = seed;
+    }
+
+    /**
+     * Simulates every matchup on the specified pool.
+     *
+     * @param pool The fork/join pool to run on
+     * @return One result per weapon × armor × zombie matchup
+     */
+    public List<MatchupResult> run(ForkJoinPool pool) {
+        return pool.invoke(new MatrixTask(trialsPerMatchup, maxTurns, seed));
+    }
+
+    /**
+     * Writes the results as CSV.
+     *
+     * @param results The results to write
+     * @param out     The destination
+     * @throws IOException if writing fails
+     */
+    public static void writeCsv(List<MatchupResult> results, Writer out) throws IOException {
+        out.write("weapon,armor,zombie,trials,win_rate,avg_turns,avg_hp_left\n");
+        for (MatchupResult r : results) {
+            MatchupStats s = r.getStats();
+            out.write(String.format(Locale.ROOT, "%s,%s,%s,%d,%.4f,%.2f,%.2f\n",
+                    r.getWeaponName(), r.getArmorName(), r.getZombieKind(),
+                    s.getTrials(), s.getWinRate(), s.getAverageTurns(), s.getAverageHpLeft()));
+        }
+    }
+
+    // -------------------- FORK / JOIN -------------------- //
+
+    /**
+     * Forks one task per matchup and collects the results in matrix order.
+     */
+    private static final class MatrixTask extends RecursiveTask<List<MatchupResult>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int trialsPerMatchup;
+        private final int maxTurns;
+        private final long seed;
+
+        MatrixTask(int trialsPerMatchup, int maxTurns, long seed) {
+            this.trialsPerMatchup = trialsPerMatchup;
+            this.maxTurns = maxTurns;
+            this.seed = seed;
+        }
+
+        @Override
+        protected List<MatchupResult> compute() {
+            SplittableRandom root = new SplittableRandom(seed);
+            List<TrialTask> tasks = new ArrayList<>();
+            for (Supplier<Weapon> weapon : WEAPONS) {
+                for (Supplier<Armor> armor : ARMORS) {
+                    for (ZombieKind kind : ZombieKind.values()) {
+                        tasks.add(new TrialTask(weapon, armor, kind, trialsPerMatchup, maxTurns, root.split()));
+                    }
+                }
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            List<MatchupResult> results = new ArrayList<>(tasks.size());
+            for (TrialTask task : tasks) {
+                Weapon w = task.weapon.get();
+                Armor a = task.armor.get();
+                results.add(new MatchupResult(
+                        w.getName(),
+                        a == null ? "None" : a.getName(),
+                        task.kind,
+                        task.join()
+                ));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Simulates a range of battles for one matchup, splitting until the range is small enough.
+     * Every leaf builds its own entities, accumulator and random generator, so workers never share mutable state.
+     */
+    private static final class TrialTask extends RecursiveTask<MatchupStats> {
+
+        private static final long serialVersionUID = 1L;
+
+        // ไม่เคย serialize จริง แค่ RecursiveTask เป็น Serializable
+        private final transient Supplier<Weapon> weapon;
+        private final transient Supplier<Armor> armor;
+        private final ZombieKind kind;
+        private final int trials;
+        private final int maxTurns;
+        private final transient SplittableRandom random;
+
+        TrialTask(Supplier<Weapon> weapon, Supplier<Armor> armor, ZombieKind kind, int trials, int maxTurns,
+                  SplittableRandom random) {
+            this.weapon = weapon;
+            this.armor = armor;
+            this.kind = kind;
+            this.trials = trials;
+            this.maxTurns = maxTurns;
+            this.random = random;
+        }
+
+        @Override
+        protected MatchupStats compute() {
+            if (trials <= TRIALS_PER_TASK) {
+                return simulate();
+            }
+            int half = trials / 2;
+            TrialTask left = new TrialTask(weapon, armor, kind, half, maxTurns, random.split());
+            TrialTask right = new TrialTask(weapon, armor, kind, trials - half, maxTurns, random.split());
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+
+        private MatchupStats simulate() {
+            MatchupStats stats = new MatchupStats();
+            for (int i = 0; i < trials; i++) {
+                Player player = new Player("Simulated Survivor");
+                player.equipWeapon(weapon.get());
+                Armor a = armor.get();
+                if (a != null) player.equipArmor(a);
+
+                BattleEngine engine = new BattleEngine(player, kind.create(), random.nextLong());
+                BattleOutcome outcome = engine.fight(maxTurns);
+                stats.record(outcome, engine.getTurns(), player.getHp());
+            }
+            return stats;
+        }
+    }
+
+    // -------------------- MAIN -------------------- //
+
+    /**
+     * Runs the full balance matrix and writes it as CSV.
+     *
+     * @param args [output path] [trials per matchup] [max turns] [seed]
+     * @throws IOException if the CSV cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path output = Path.of(args.length > 0 ? args[0] : "balance.csv");
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int maxTurns = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+
+        long start = System.nanoTime();
+        List<MatchupResult> results = new BalanceSimulator(trials, maxTurns, seed).run(ForkJoinPool.commonPool());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writeCsv(results, out);
+        }
+
+        long fights = (long) results.size() * trials;
+        System.out.println("Simulated " + fights + " battles (seed " + seed + ") in " + elapsedMs + " ms -> " + output.toAbsolutePath());
+    }
+
+    /**
+     * Builds a supplier of new items for every catalog entry of a kind.
+     *
+     * @param kind     The item kind
+     * @param factory  Creates an item from its definition
+     * @param withNone true to start the list with a supplier of null (nothing equipped)
+     * @return The suppliers, in catalog id order
+     */
+    private static <T> List<Supplier<T>> catalog(ItemKind kind, Function<ItemDefinition, T> factory, boolean withNone) {
+        List<Supplier<T>> suppliers = new ArrayList<>();
+        if (withNone) suppliers.add(() -> null);
+        for (ItemDefinition def : ItemRegistry.getDefault().byKind(kind)) {
+            suppliers.add(() -> factory.apply(def));
+        }
+        return List.copyOf(suppliers);
+    }
+}
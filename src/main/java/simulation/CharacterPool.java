@@ -0,0 +1,329 @@
+package simulation;
+
+import entity.Character;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Struct-of-arrays store of character combat state, for advancing many fights at once.
+ * Every stat lives in its own primitive array indexed by slot, so batch operations run as
+ * tight loops over contiguous memory. The rules are the ones of {@link Character}:
+ * defense is consumed as a shield before HP, and poison ticks at the start of a turn.
+ * Poison is the only status effect the pool tracks; bleed, stun, regen, armor break and
+ * haste are not modelled, so results match a {@link Character} that carries none of them.
+ * A slot is alive while its HP is above 0.
+ */
+public class CharacterPool {
+
+    /**
+     * Stat columns, one entry per slot.
+     */
+    private int[] maxHp;
+    private int[] hp;
+    private int[] attackPower;
+    private int[] defense;
+    private double[] critChance;
+    private double[] critDamage;
+    private double[] dodgeChance;
+    private int[] poisonTurns;
+    private int[] poisonDamagePerTurn;
+
+    /**
+     * Number of used slots.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param initialCapacity Number of slots allocated up front
+     */
+    public CharacterPool(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    // -------------------- SLOTS -------------------- //
+
+    /**
+     * Adds a character with the specified stats, clamped like the {@link Character} constructor.
+     *
+     * @return The slot of the new character
+     */
+    public int add(int maxHp, int attackPower, int defense,
+                   double critChance, double critDamage, double dodgeChance) {
+        if (size == hp.length) {
+            allocate(size * 2);
+        }
+        int i = size++;
+        this.maxHp[i] = Math.max(1, maxHp);
+        this.hp[i] = this.maxHp[i];
+        this.attackPower[i] = Math.max(0, attackPower);
+        this.defense[i] = Math.max(0, defense);
+        this.critChance[i] = clamp01(critChance);
+        this.critDamage[i] = Math.max(1.0, critDamage);
+        this.dodgeChance[i] = clamp01(dodgeChance);
+        this.poisonTurns[i] = 0;
+        this.poisonDamagePerTurn[i] = 0;
+        return i;
+    }
+
+    /**
+     * Adds a copy of the current state of a character.
+     *
+     * @param c The character to copy
+     * @return The slot of the copy
+     */
+    public int add(Character c) {
+        int i = add(c.getMaxHp(), c.getAttackPower(), c.getDefense(),
+                c.getCritChance(), c.getCritDamage(), c.getDodgeChance());
+        hp[i] = c.isAlive() ? c.getHp() : 0;
+        return i;
+    }
+
+    /**
+     * Removes every character, keeping the allocated arrays.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of characters in the pool.
+     *
+     * @return Number of used slots
+     */
+    public int size() {
+        return size;
+    }
+
+    // -------------------- GETTERS -------------------- //
+
+    /** Gets the maximum HP of a slot. */
+    public int getMaxHp(int i) {
+        return maxHp[i];
+    }
+
+    /** Gets the current HP of a slot. */
+    public int getHp(int i) {
+        return hp[i];
+    }
+
+    /** Gets the attack power of a slot. */
+    public int getAttackPower(int i) {
+        return attackPower[i];
+    }
+
+    /** Gets the remaining defense of a slot. */
+    public int getDefense(int i) {
+        return defense[i];
+    }
+
+    /** Gets the critical chance of a slot. */
+    public double getCritChance(int i) {
+        return critChance[i];
+    }
+
+    /** Gets the critical damage multiplier of a slot. */
+    public double getCritDamage(int i) {
+        return critDamage[i];
+    }
+
+    /** Gets the dodge chance of a slot. */
+    public double getDodgeChance(int i) {
+        return dodgeChance[i];
+    }
+
+    /** Gets the remaining poison turns of a slot. */
+    public int getPoisonTurns(int i) {
+        return poisonTurns[i];
+    }
+
+    /** Gets the poison damage per turn of a slot. */
+    public int getPoisonDamagePerTurn(int i) {
+        return poisonDamagePerTurn[i];
+    }
+
+    /** Checks if the character in a slot is alive. */
+    public boolean isAlive(int i) {
+        return hp[i] > 0;
+    }
+
+    // -------------------- SINGLE SLOT -------------------- //
+
+    /**
+     * Same rules as {@link Character#basicAttack} for a target without armor break or haste:
+     * roll a critical hit, then hit the target.
+     *
+     * @param attacker Slot of the attacker
+     * @param target   Slot of the target
+     * @param random   Generator for the critical and dodge rolls
+     * @return Damage dealt to the target's HP
+     */
+    public int basicAttack(int attacker, int target, RandomGenerator random) {
+        return takeDamage(target, rollAttack(attacker, random), random);
+    }
+
+    /**
+     * Same rules as {@link Character#takeDamage} for a target without armor break or haste:
+     * roll a dodge, then consume defense before HP.
+     *
+     * @param i         Slot of the target
+     * @param rawDamage Incoming damage
+     * @param random    Generator for the dodge roll
+     * @return Damage dealt to HP
+     */
+    public int takeDamage(int i, int rawDamage, RandomGenerator random) {
+        if (rawDamage <= 0 || hp[i] <= 0) return 0;
+        if (random.nextDouble() < dodgeChance[i]) return 0;
+
+        int absorbed = Math.min(defense[i], rawDamage);
+        defense[i] -= absorbed;
+        int actual = Math.min(hp[i], rawDamage - absorbed);
+        hp[i] -= actual;
+        return actual;
+    }
+
+    /**
+     * Same rules as {@link Character#applyPoison}.
+     */
+    public void applyPoison(int i, int damagePerTurn, int turns) {
+        if (damagePerTurn <= 0 || turns <= 0 || hp[i] <= 0) return;
+        poisonDamagePerTurn[i] = Math.max(poisonDamagePerTurn[i], damagePerTurn);
+        poisonTurns[i] = Math.max(poisonTurns[i], turns);
+    }
+
+    /**
+     * Same rules as {@link Character#clearPoison}.
+     */
+    public void clearPoison(int i) {
+        poisonTurns[i] = 0;
+        poisonDamagePerTurn[i] = 0;
+    }
+
+    // -------------------- BATCH -------------------- //
+
+    /**
+     * Resolves one attack per pair: {@code attackers[k]} hits {@code targets[k]}.
+     * Rolls are drawn pair by pair in the same order as {@link #basicAttack}, then the shield
+     * arithmetic runs as one branch-free pass. Targets must be distinct within a batch.
+     *
+     * @param attackers Slots of the attackers
+     * @param targets   Slots of the targets
+     * @param count     Number of pairs
+     * @param random    Generator for the critical and dodge rolls
+     * @param dealt     Receives the damage dealt to each target's HP
+     */
+    public void resolveAttacks(int[] attackers, int[] targets, int count, RandomGenerator random, int[] dealt) {
+        // 1) rolls: ต้องสุ่มตามลำดับเดียวกับ object model ถึงจะได้ผลเหมือนกันเมื่อใช้ seed เดียวกัน
+        for (int k = 0; k < count; k++) {
+            int t = targets[k];
+            int raw = rollAttack(attackers[k], random);
+            if (raw > 0 && hp[t] > 0 && random.nextDouble() < dodgeChance[t]) {
+                raw = 0;
+            }
+            dealt[k] = raw;
+        }
+
+        // 2) shield + HP
+        for (int k = 0; k < count; k++) {
+            int t = targets[k];
+            int raw = hp[t] > 0 ? dealt[k] : 0;
+            int absorbed = Math.min(defense[t], raw);
+            defense[t] -= absorbed;
+            int actual = Math.min(hp[t], raw - absorbed);
+            hp[t] -= actual;
+            dealt[k] = actual;
+        }
+    }
+
+    /**
+     * Applies already-rolled damage to the first {@code count} slots, without dodge rolls.
+     * Slot {@code i} receives {@code rawDamage[i]}; non-positive entries and dead slots are left untouched.
+     *
+     * @param rawDamage Incoming damage per slot
+     * @param dealt     Receives the damage dealt to each slot's HP
+     * @param count     Number of slots to process
+     */
+    public void applyDamage(int[] rawDamage, int[] dealt, int count) {
+        int[] hp = this.hp;
+        int[] defense = this.defense;
+        for (int i = 0; i < count; i++) {
+            int raw = hp[i] > 0 ? Math.max(0, rawDamage[i]) : 0;
+            int absorbed = Math.min(defense[i], raw);
+            defense[i] -= absorbed;
+            int actual = Math.min(hp[i], raw - absorbed);
+            hp[i] -= actual;
+            dealt[i] = actual;
+        }
+    }
+
+    /**
+     * Poison part of {@link Character#tickStatusEffectsAtTurnStart}, for every slot.
+     *
+     * @param damageTaken Receives the poison damage taken by each slot (may be null)
+     */
+    public void tickStatusEffects(int[] damageTaken) {
+        int[] hp = this.hp;
+        int[] turns = this.poisonTurns;
+        int[] perTurn = this.poisonDamagePerTurn;
+        for (int i = 0; i < size; i++) {
+            int active = (hp[i] > 0 && turns[i] > 0) ? 1 : 0;
+            int dmg = Math.min(perTurn[i], hp[i]) * active;
+            hp[i] -= dmg;
+            turns[i] -= active;
+            if (damageTaken != null) damageTaken[i] = dmg;
+        }
+    }
+
+    // -------------------- HELPERS -------------------- //
+
+    /**
+     * Rolls a critical hit for the attacker, as in {@link Character#basicAttack}.
+     */
+    private int rollAttack(int attacker, RandomGenerator random) {
+        int damage = attackPower[attacker];
+        if (random.nextDouble() < critChance[attacker]) {
+            damage = (int) Math.round(damage * critDamage[attacker]);
+        }
+        return damage;
+    }
+
+    /**
+     * Grows every column to the specified capacity.
+     */
+    private void allocate(int capacity) {
+        maxHp = grow(maxHp, capacity);
+        hp = grow(hp, capacity);
+        attackPower = grow(attackPower, capacity);
+        defense = grow(defense, capacity);
+        critChance = grow(critChance, capacity);
+        critDamage = grow(critDamage, capacity);
+        dodgeChance = grow(dodgeChance, capacity);
+        poisonTurns = grow(poisonTurns, capacity);
+        poisonDamagePerTurn = grow(poisonDamagePerTurn, capacity);
+    }
+
+    /**
+     * Copies a column into a larger array, or creates it.
+     */
+    private static int[] grow(int[] column, int capacity) {
+        return column == null ? new int[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    /**
+     * Copies a column into a larger array, or creates it.
+     */
+    private static double[] grow(double[] column, int capacity) {
+        return column == null ? new double[capacity] : Arrays.copyOf(column, capacity);
+    }
+
+    /**
+     * Clamps a double value between 0.0 and 1.0.
+     */
+    private static double clamp01(double value) {
+        if (value < 0.0) return 0.0;
+        if (value > 1.0) return 1.0;
+        return value;
+    }
+}
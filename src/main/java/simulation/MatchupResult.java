@@ -0,0 +1,67 @@
+package simulation;
+
+import entity.ZombieKind;
+
+/**
+ * Aggregated simulation result for one weapon / armor / zombie matchup.
+ */
+public final class MatchupResult {
+
+    /** Name of the player's weapon. */
+    private final String weaponName;
+
+    /** Name of the player's armor ("None" when unarmored). */
+    private final String armorName;
+
+    /** The zombie fought. */
+    private final ZombieKind zombieKind;
+
+    /** The accumulated battle statistics. */
+    private final MatchupStats stats;
+
+    /**
+     * Constructs a new MatchupResult.
+     * @param weaponName Name of the weapon
+     * @param armorName Name of the armor
+     * @param zombieKind The zombie fought
+     * @param stats The accumulated statistics
+     */
+    public MatchupResult(String weaponName, String armorName, ZombieKind zombieKind, MatchupStats stats) {
+        this.weaponName = weaponName;
+        this.armorName = armorName;
+        this.zombieKind = zombieKind;
+        this.stats = stats;
+    }
+
+    /**
+     * Gets the weapon name.
+     * @return Weapon name
+     */
+    public String getWeaponName() {
+        return weaponName;
+    }
+
+    /**
+     * Gets the armor name.
+     * @return Armor name
+     */
+    public String getArmorName() {
+        return armorName;
+    }
+
+    /**
+     * Gets the zombie kind.
+     * @return The zombie kind
+     */
+    public ZombieKind getZombieKind() {
+        return zombieKind;
+    }
+
+    /**
+     * Gets the accumulated statistics.
+     * @return The statistics
+     */
+    public MatchupStats getStats() {
+        return stats;
+    }
+}
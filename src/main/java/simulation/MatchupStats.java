@@ -0,0 +1,90 @@
+package simulation;
+
+import battle.BattleOutcome;
+
+/**
+ * Mutable accumulator for the results of many simulated battles of one matchup.
+ * Each worker owns its own instance; partial results are combined with {@link #merge(MatchupStats)}.
+ */
+public class MatchupStats {
+
+    /** Number of simulated battles. */
+    private long trials;
+
+    /** Number of battles won by the player. */
+    private long wins;
+
+    /** Sum of player turns over all battles. */
+    private long totalTurns;
+
+    /** Sum of the player's remaining HP over all won battles. */
+    private long totalHpLeft;
+
+    /**
+     * Records the result of one battle.
+     * @param outcome The battle outcome
+     * @param turns Number of player turns taken
+     * @param hpLeft Remaining HP of the player
+     */
+    public void record(BattleOutcome outcome, int turns, int hpLeft) {
+        trials++;
+        totalTurns += turns;
+        if (outcome == BattleOutcome.PLAYER_WON) {
+            wins++;
+            totalHpLeft += hpLeft;
+        }
+    }
+
+    /**
+     * Adds the results of another accumulator to this one.
+     * @param other The accumulator to merge
+     * @return this accumulator
+     */
+    public MatchupStats merge(MatchupStats other) {
+        trials += other.trials;
+        wins += other.wins;
+        totalTurns += other.totalTurns;
+        totalHpLeft += other.totalHpLeft;
+        return this;
+    }
+
+    /**
+     * Gets the number of simulated battles.
+     * @return Number of trials
+     */
+    public long getTrials() {
+        return trials;
+    }
+
+    /**
+     * Gets the number of battles won by the player.
+     * @return Number of wins
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Gets the fraction of battles won by the player.
+     * @return Win rate (0.0 - 1.0)
+     */
+    public double getWinRate() {
+        return trials == 0 ? 0.0 : (double) wins / trials;
+    }
+
+    /**
+     * Gets the average number of player turns per battle.
+     * @return Average turns
+     */
+    public double getAverageTurns() {
+        return trials == 0 ? 0.0 : (double) totalTurns / trials;
+    }
+
+    /**
+     * Gets the average remaining HP of the player over won battles.
+     * @return Average HP left, or 0 if no battle was won
+     */
+    public double getAverageHpLeft() {
+        return wins == 0 ? 0.0 : (double) totalHpLeft / wins;
+    }
+}
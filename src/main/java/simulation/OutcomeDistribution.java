@@ -0,0 +1,142 @@
+package simulation;
+
+/**
+ * Exact outcome distribution of one battle, as computed by {@link OutcomeSolver}.
+ */
+public final class OutcomeDistribution {
+
+    /** Probability of winning at each turn (index 0 unused). */
+    private final double[] winsByTurn;
+
+    /** Probability of losing at each turn (index 0 unused). */
+    private final double[] lossesByTurn;
+
+    /** Probability mass still fighting after the turn limit. */
+    private final double unresolved;
+
+    /** Probability mass dropped by pruning. */
+    private final double pruned;
+
+    /** Sum of probability × remaining player HP over every win. */
+    private final double weightedHpLeft;
+
+    /** Number of distinct combat states expanded. */
+    private final int statesExplored;
+
+    /**
+     * Constructs a new OutcomeDistribution.
+     * @param winsByTurn Probability of winning at each turn
+     * @param lossesByTurn Probability of losing at each turn
+     * @param unresolved Probability mass still fighting after the turn limit
+     * @param pruned Probability mass dropped by pruning
+     * @param weightedHpLeft Sum of probability × remaining player HP over every win
+     * @param statesExplored Number of distinct combat states expanded
+     */
+    OutcomeDistribution(double[] winsByTurn, double[] lossesByTurn, double unresolved,
+                        double pruned, double weightedHpLeft, int statesExplored) {
+        this.winsByTurn = winsByTurn;
+        this.lossesByTurn = lossesByTurn;
+        this.unresolved = unresolved;
+        this.pruned = pruned;
+        this.weightedHpLeft = weightedHpLeft;
+        this.statesExplored = statesExplored;
+    }
+
+    /**
+     * Gets the probability that the player wins.
+     * @return Win probability (0.0 - 1.0)
+     */
+    public double getWinProbability() {
+        return sum(winsByTurn);
+    }
+
+    /**
+     * Gets the probability that the player dies.
+     * @return Loss probability (0.0 - 1.0)
+     */
+    public double getLossProbability() {
+        return sum(lossesByTurn);
+    }
+
+    /**
+     * Gets the probability that the battle is still going after the turn limit.
+     * @return Unresolved probability
+     */
+    public double getUnresolvedProbability() {
+        return unresolved;
+    }
+
+    /**
+     * Gets the probability mass dropped by pruning, i.e. the error bound of every other probability.
+     * @return Pruned probability
+     */
+    public double getPrunedProbability() {
+        return pruned;
+    }
+
+    /**
+     * Gets the probability that the player kills the zombie on a specific turn.
+     * @param turn The player turn (1-based)
+     * @return Probability of winning on that turn
+     */
+    public double getWinProbability(int turn) {
+        return (turn > 0 && turn < winsByTurn.length) ? winsByTurn[turn] : 0.0;
+    }
+
+    /**
+     * Gets the probability that the player dies on a specific turn.
+     * @param turn The player turn (1-based)
+     * @return Probability of losing on that turn
+     */
+    public double getLossProbability(int turn) {
+        return (turn > 0 && turn < lossesByTurn.length) ? lossesByTurn[turn] : 0.0;
+    }
+
+    /**
+     * Gets the turn limit the distribution was computed with.
+     * @return Maximum player turns
+     */
+    public int getMaxTurns() {
+        return winsByTurn.length - 1;
+    }
+
+    /**
+     * Gets the expected number of turns to kill the zombie, over won battles.
+     * @return Expected turns to kill, or 0 if the player never wins
+     */
+    public double getExpectedTurnsToKill() {
+        double win = getWinProbability();
+        if (win == 0.0) return 0.0;
+        double total = 0.0;
+        for (int t = 1; t < winsByTurn.length; t++) {
+            total += t * winsByTurn[t];
+        }
+        return total / win;
+    }
+
+    /**
+     * Gets the expected remaining HP of the player, over won battles.
+     * @return Expected HP left, or 0 if the player never wins
+     */
+    public double getExpectedHpLeft() {
+        double win = getWinProbability();
+        return win == 0.0 ? 0.0 : weightedHpLeft / win;
+    }
+
+    /**
+     * Gets the number of distinct combat states the solver expanded.
+     * @return Number of states
+     */
+    public int getStatesExplored() {
+        return statesExplored;
+    }
+
+    /**
+     * Sums an array.
+     */
+    private static double sum(double[] values) {
+        double total = 0.0;
+        for (double v : values) total += v;
+        return total;
+    }
+}
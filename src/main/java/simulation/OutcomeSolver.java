@@ -0,0 +1,605 @@
+package simulation;
+
+import battle.BattleEngine;
+import entity.BossZombie;
+import entity.EffectivenessTable;
+import entity.NormalZombie;
+import entity.Player;
+import entity.RottenZombie;
+import entity.Zombie;
+import entity.ZombieKind;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exact calculator of the outcome of {@link BattleEngine#fight(int)}, without sampling.
+ * The battle is a Markov chain over the combat state (player HP and defense, zombie HP and defense,
+ * poison turns, boss enrage, dodge shred): defense is consumed as a shield and every roll is an
+ * independent Bernoulli trial, so each turn only has a handful of successor states.
+ * The distribution is pushed forward one player turn at a time; identical states are merged,
+ * the successors of each state are memoized, and branches below a probability threshold are pruned
+ * (their total mass is reported as the error bound).
+ * Potions can be taken into account: the player drinks the largest one left, as a free action
+ * before attacking, whenever the zombie's worst hit could be lethal.
+ */
+public class OutcomeSolver {
+
+    /**
+     * Default probability below which a branch is pruned.
+     */
+    public static final double DEFAULT_PRUNE_THRESHOLD = 1e-12;
+
+    /**
+     * Bits per packed HP or defense field, and the largest value it can hold.
+     */
+    private static final int FIELD_BITS = 12;
+    private static final int FIELD_MAX = (1 << FIELD_BITS) - 1;
+
+    /**
+     * Largest number of dodge shreds tracked.
+     */
+    private static final int MAX_DODGE_STEPS = 63;
+
+    /**
+     * Largest number of potions taken into account.
+     */
+    public static final int MAX_POTIONS = 31;
+
+    /**
+     * Kinds of successor.
+     */
+    private static final byte CONTINUE = 0;
+    private static final byte WIN = 1;
+    private static final byte LOSS = 2;
+
+    /**
+     * Maximum number of player turns, as in {@link BattleEngine#fight(int)}.
+     */
+    private final int maxTurns;
+
+    /**
+     * Probability below which a branch is pruned (0 for none).
+     */
+    private final double pruneThreshold;
+
+    /**
+     * Constructs a solver with the default pruning threshold.
+     *
+     * @param maxTurns Maximum number of player turns
+     */
+    public OutcomeSolver(int maxTurns) {
+        this(maxTurns, DEFAULT_PRUNE_THRESHOLD);
+    }
+
+    /**
+     * Constructs a solver.
+     *
+     * @param maxTurns       Maximum number of player turns
+     * @param pruneThreshold Probability below which a branch is pruned (0 for none)
+     */
+    public OutcomeSolver(int maxTurns, double pruneThreshold) {
+        this.maxTurns = Math.max(1, maxTurns);
+        this.pruneThreshold = Math.max(0.0, pruneThreshold);
+    }
+
+    /**
+     * Computes the outcome distribution of a battle where the player attacks every turn.
+     * Neither character is modified.
+     *
+     * @param player The player, with its current loadout and HP
+     * @param zombie The zombie to fight
+     * @return The exact outcome distribution
+     * @throws IllegalArgumentException if a stat is too large to be tracked
+     */
+    public OutcomeDistribution solve(Player player, Zombie zombie) {
+        return solve(player, zombie, new int[0]);
+    }
+
+    /**
+     * Computes the outcome distribution of a battle where the player attacks every turn
+     * and drinks potions when in danger. Neither character is modified.
+     *
+     * @param player      The player, with its current loadout and HP
+     * @param zombie      The zombie to fight
+     * @param potionHeals Heal amount of each potion carried (only the largest {@link #MAX_POTIONS} count)
+     * @return The exact outcome distribution
+     * @throws IllegalArgumentException if a stat is too large to be tracked
+     */
+    public OutcomeDistribution solve(Player player, Zombie zombie, int[] potionHeals) {
+        return new Matchup(player, zombie, potionHeals).solve();
+    }
+
+    /**
+     * Gets the most HP a zombie can take from the player in one turn, ignoring defense and dodge:
+     * a critical hit or the boss skill once enraged, plus poison. The solver drinks potions at or below it.
+     *
+     * @param zombie The zombie
+     * @return The worst damage of one turn
+     */
+    public static int worstTurnDamage(Zombie zombie) {
+        ZombieKind kind = zombie.getKind();
+        int attack = zombie.getAttackPower();
+        if (zombie instanceof BossZombie boss && !boss.isEnraged()) {
+            attack += (int) (attack * BossZombie.ENRAGE_BOOST);
+        }
+
+        int worst = (int) Math.round(attack * zombie.getCritDamage());
+        if (kind == ZombieKind.BOSS) {
+            worst = Math.max(worst, (int) (attack * BossZombie.SKILL_MULTIPLIER));
+        }
+        if (kind == ZombieKind.ROTTEN) worst += RottenZombie.POISON_DAMAGE;
+        return worst;
+    }
+
+    // -------------------- STATE -------------------- //
+
+    /**
+     * Packs a combat state into a long:
+     * player HP | player defense | zombie HP | zombie defense | poison turns | enraged | dodge steps | potions used.
+     */
+    private static long pack(int pHp, int pDef, int zHp, int zDef, int poison, boolean enraged, int dodgeStep,
+                             int potionsUsed) {
+        return pHp
+                | (long) pDef << 12
+                | (long) zHp << 24
+                | (long) zDef << 36
+                | (long) poison << 48
+                | (enraged ? 1L : 0L) << 52
+                | (long) dodgeStep << 53
+                | (long) potionsUsed << 59;
+    }
+
+    private static int playerHp(long s) {
+        return (int) (s & FIELD_MAX);
+    }
+
+    private static int playerDefense(long s) {
+        return (int) (s >>> 12 & FIELD_MAX);
+    }
+
+    private static int zombieHp(long s) {
+        return (int) (s >>> 24 & FIELD_MAX);
+    }
+
+    private static int zombieDefense(long s) {
+        return (int) (s >>> 36 & FIELD_MAX);
+    }
+
+    private static int poisonTurns(long s) {
+        return (int) (s >>> 48 & 0xF);
+    }
+
+    private static boolean enraged(long s) {
+        return (s >>> 52 & 1L) != 0;
+    }
+
+    private static int dodgeStep(long s) {
+        return (int) (s >>> 53 & MAX_DODGE_STEPS);
+    }
+
+    private static int potionsUsed(long s) {
+        return (int) (s >>> 59 & MAX_POTIONS);
+    }
+
+    /**
+     * Checks if battles against a zombie can be solved exactly, i.e. its HP and defense fit in their packed fields.
+     * Late endless waves outgrow them.
+     *
+     * @param zombie The zombie
+     * @return true if {@link #solve} accepts the zombie
+     */
+    public static boolean canSolve(Zombie zombie) {
+        return zombie.getHp() <= FIELD_MAX && zombie.getDefense() <= FIELD_MAX;
+    }
+
+    /**
+     * Checks that a stat fits in a packed field.
+     */
+    private static int checkField(String name, int value) {
+        if (value > FIELD_MAX) {
+            throw new IllegalArgumentException(name + " too large to solve exactly: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Successors of one state: kind, packed state and probability of each.
+     */
+    private static final class Transitions {
+        final byte[] kinds;
+        final long[] states;
+        final double[] probs;
+
+        Transitions(byte[] kinds, long[] states, double[] probs) {
+            this.kinds = kinds;
+            this.states = states;
+            this.probs = probs;
+        }
+    }
+
+    // -------------------- MATCHUP -------------------- //
+
+    /**
+     * Constant stats of one player / zombie matchup, and the memoized transitions of its states.
+     */
+    private final class Matchup {
+
+        // Player
+        private final int startHp;
+        private final int playerMaxHp;
+        private final int startDefense;
+        private final double playerCrit;
+        private final double playerDodge;
+        private final int hitDamage;
+        private final int critDamage;
+        private final int defenseShred;
+
+        // Zombie
+        private final ZombieKind kind;
+        private final int zombieStartHp;
+        private final int zombieMaxHp;
+        private final int zombieStartDefense;
+        private final double zombieCrit;
+        private final double zombieCritDamage;
+        private final boolean startEnraged;
+        private final int baseAttack;
+        private final int enragedAttack;
+
+        /**
+         * Zombie dodge chance after each number of GUN hits.
+         */
+        private final double[] dodgeByStep;
+
+        /**
+         * Heal amount of each potion, largest first, and the HP at or below which one is drunk.
+         */
+        private final int[] potions;
+        private final int dangerHp;
+
+        /**
+         * Memoized successors, by state.
+         */
+        private final Map<Long, Transitions> memo = new HashMap<>();
+
+        /**
+         * Scratch buffers used while expanding a state.
+         */
+        private final byte[] kindBuf = new byte[64];
+        private final long[] stateBuf = new long[64];
+        private final double[] probBuf = new double[64];
+        private int size;
+
+        /**
+         * Potions used in the state being expanded.
+         */
+        private int potionsUsed;
+
+        Matchup(Player player, Zombie zombie, int[] potionHeals) {
+            kind = zombie.getKind();
+            EffectivenessTable.Entry effect = player.getWeapon() == null ? EffectivenessTable.NONE
+                    : player.getEffectiveness().get(player.getWeapon().getWeaponType(), kind);
+
+            startHp = checkField("Player HP", player.getHp());
+            playerMaxHp = player.getMaxHp();
+            startDefense = checkField("Player defense", player.getDefense());
+            playerCrit = player.getCritChance();
+            playerDodge = player.getDodgeChance();
+
+            int damage = player.getAttackPower() + effect.getBonusDamage();
+            hitDamage = damage;
+            critDamage = (int) Math.round(damage * player.getCritDamage());
+            defenseShred = effect.getDefenseShred();
+
+            zombieStartHp = checkField("Zombie HP", zombie.getHp());
+            zombieMaxHp = zombie.getMaxHp();
+            zombieStartDefense = checkField("Zombie defense", zombie.getDefense());
+            zombieCrit = zombie.getCritChance();
+            zombieCritDamage = zombie.getCritDamage();
+            startEnraged = zombie instanceof BossZombie boss && boss.isEnraged();
+            baseAttack = zombie.getAttackPower();
+            enragedAttack = startEnraged ? baseAttack
+                    : baseAttack + (int) (baseAttack * BossZombie.ENRAGE_BOOST);
+
+            // ลด dodge ซ้ำแบบเดียวกับ setDodgeChance เพื่อให้ได้ค่า double ตรงกันทุกบิต
+            double dodgeShred = effect.getDodgeShred();
+            double[] dodge = new double[MAX_DODGE_STEPS + 1];
+            dodge[0] = zombie.getDodgeChance();
+            int steps = 0;
+            while (dodgeShred > 0.0 && steps < MAX_DODGE_STEPS && dodge[steps] > 0.0) {
+                dodge[steps + 1] = Math.max(0.0, dodge[steps] - dodgeShred);
+                steps++;
+            }
+            dodgeByStep = Arrays.copyOf(dodge, steps + 1);
+
+            int[] sorted = potionHeals.clone();
+            Arrays.sort(sorted);
+            potions = new int[Math.min(sorted.length, MAX_POTIONS)];
+            for (int i = 0; i < potions.length; i++) {
+                potions[i] = sorted[sorted.length - 1 - i];
+            }
+            dangerHp = worstTurnDamage(zombie);
+        }
+
+        /**
+         * Pushes the distribution forward turn by turn until every branch is resolved or the limit is hit.
+         */
+        OutcomeDistribution solve() {
+            double[] wins = new double[maxTurns + 1];
+            double[] losses = new double[maxTurns + 1];
+            double pruned = 0.0;
+            double weightedHp = 0.0;
+
+            LongDoubleMap layer = new LongDoubleMap(16);
+            layer.add(pack(startHp, startDefense, zombieStartHp, zombieStartDefense, 0, startEnraged, 0, 0), 1.0);
+
+            for (int turn = 1; turn <= maxTurns && layer.size() > 0; turn++) {
+                LongDoubleMap next = new LongDoubleMap(layer.size() * 2);
+                for (int i = 0; i < layer.capacity(); i++) {
+                    long state = layer.keyAt(i);
+                    if (state == LongDoubleMap.EMPTY) continue;
+                    double p = layer.valueAt(i);
+
+                    Transitions t = memo.computeIfAbsent(state, this::expand);
+                    for (int j = 0; j < t.kinds.length; j++) {
+                        double q = p * t.probs[j];
+                        switch (t.kinds[j]) {
+                            case WIN -> {
+                                wins[turn] += q;
+                                weightedHp += q * playerHp(t.states[j]);
+                            }
+                            case LOSS -> losses[turn] += q;
+                            default -> {
+                                if (q < pruneThreshold) pruned += q;
+                                else next.add(t.states[j], q);
+                            }
+                        }
+                    }
+                }
+                layer = next;
+            }
+
+            double unresolved = 0.0;
+            for (int i = 0; i < layer.capacity(); i++) {
+                if (layer.keyAt(i) != LongDoubleMap.EMPTY) unresolved += layer.valueAt(i);
+            }
+            return new OutcomeDistribution(wins, losses, unresolved, pruned, weightedHp, memo.size());
+        }
+
+        // -------------------- ONE TURN -------------------- //
+
+        /**
+         * Lists the successors of a state after one full turn:
+         * potions, player attack, poison tick, then enemy attack, in {@link BattleEngine} order.
+         */
+        private Transitions expand(long state) {
+            size = 0;
+            state = drinkPotions(state);
+            potionsUsed = potionsUsed(state);
+            int zHp = zombieHp(state);
+            int zDef = zombieDefense(state);
+            int step = dodgeStep(state);
+            double dodge = dodgeByStep[step];
+
+            // หลบตั้งแต่ก่อนโจมตี (pre-dodge ของ BattleEngine)
+            afterPlayerAttack(state, zHp, zDef, step, dodge);
+
+            double landed = 1.0 - dodge;
+            if (landed > 0.0) {
+                int step2 = Math.min(step + 1, dodgeByStep.length - 1);
+                int zDef2 = defenseShred > 0 ? Math.max(0, zDef - defenseShred) : zDef;
+                double dodge2 = dodgeByStep[step2];
+
+                playerHit(state, zHp, zDef2, step2, dodge2, hitDamage, landed * (1.0 - playerCrit));
+                playerHit(state, zHp, zDef2, step2, dodge2, critDamage, landed * playerCrit);
+            }
+
+            return new Transitions(
+                    Arrays.copyOf(kindBuf, size),
+                    Arrays.copyOf(stateBuf, size),
+                    Arrays.copyOf(probBuf, size));
+        }
+
+        /**
+         * Drinks potions, largest first, while the player is hurt and the zombie's worst hit could be lethal.
+         */
+        private long drinkPotions(long state) {
+            int pHp = playerHp(state);
+            int used = potionsUsed(state);
+            if (used >= potions.length || pHp > dangerHp || pHp >= playerMaxHp) return state;
+
+            while (used < potions.length && pHp <= dangerHp && pHp < playerMaxHp) {
+                pHp = Math.min(playerMaxHp, pHp + potions[used]);
+                used++;
+            }
+            return pack(pHp, playerDefense(state), zombieHp(state), zombieDefense(state),
+                    poisonTurns(state), enraged(state), dodgeStep(state), used);
+        }
+
+        /**
+         * Resolves the zombie's dodge roll and shield for one player hit.
+         */
+        private void playerHit(long state, int zHp, int zDef, int step, double dodge, int raw, double p) {
+            if (p == 0.0) return;
+            if (raw <= 0) {
+                afterPlayerAttack(state, zHp, zDef, step, p);
+                return;
+            }
+            afterPlayerAttack(state, zHp, zDef, step, p * dodge);
+            if (zDef >= raw) {
+                afterPlayerAttack(state, zHp, zDef - raw, step, p * (1.0 - dodge));
+            } else {
+                afterPlayerAttack(state, zHp - Math.min(zHp, raw - zDef), 0, step, p * (1.0 - dodge));
+            }
+        }
+
+        /**
+         * Continues a branch after the player's attack: win check, poison tick, then the enemy's attack.
+         */
+        private void afterPlayerAttack(long state, int zHp, int zDef, int step, double p) {
+            if (p == 0.0) return;
+            int pHp = playerHp(state);
+            if (zHp == 0) {
+                add(WIN, pHp, p);
+                return;
+            }
+
+            int poison = poisonTurns(state);
+            if (poison > 0) {
+                pHp -= Math.min(RottenZombie.POISON_DAMAGE, pHp);
+                poison--;
+                if (pHp == 0) {
+                    add(LOSS, 0, p);
+                    return;
+                }
+            }
+
+            int pDef = playerDefense(state);
+            boolean enraged = enraged(state);
+            if (kind == ZombieKind.BOSS) {
+                if (!enraged && zHp <= zombieMaxHp * 0.5) enraged = true;
+                int attack = enraged ? enragedAttack : baseAttack;
+                int skill = (int) (attack * BossZombie.SKILL_MULTIPLIER);
+                double skillChance = BattleEngine.BOSS_SKILL_CHANCE;
+                enemyHit(pHp, pDef, poison, zHp, zDef, enraged, step, skill, false, p * skillChance);
+                enemyBasicAttack(pHp, pDef, poison, zHp, zDef, enraged, step, attack, p * (1.0 - skillChance));
+            } else {
+                enemyBasicAttack(pHp, pDef, poison, zHp, zDef, enraged, step, baseAttack, p);
+            }
+        }
+
+        /**
+         * Splits the enemy's basic attack on its critical roll.
+         */
+        private void enemyBasicAttack(int pHp, int pDef, int poison, int zHp, int zDef, boolean enraged,
+                                      int step, int attack, double p) {
+            int crit = (int) Math.round(attack * zombieCritDamage);
+            enemyHit(pHp, pDef, poison, zHp, zDef, enraged, step, attack, true, p * (1.0 - zombieCrit));
+            enemyHit(pHp, pDef, poison, zHp, zDef, enraged, step, crit, true, p * zombieCrit);
+        }
+
+        /**
+         * Resolves the player's dodge roll and shield for one enemy hit, then the zombie's after-attack effects.
+         */
+        private void enemyHit(int pHp, int pDef, int poison, int zHp, int zDef, boolean enraged,
+                              int step, int raw, boolean basic, double p) {
+            if (p == 0.0) return;
+            if (raw <= 0) {
+                endTurn(pHp, pDef, poison, zHp, zDef, enraged, step, basic, 0, p);
+                return;
+            }
+            endTurn(pHp, pDef, poison, zHp, zDef, enraged, step, basic, 0, p * playerDodge);
+            double hit = p * (1.0 - playerDodge);
+            if (pDef >= raw) {
+                endTurn(pHp, pDef - raw, poison, zHp, zDef, enraged, step, basic, 0, hit);
+            } else {
+                int dealt = Math.min(pHp, raw - pDef);
+                endTurn(pHp - dealt, 0, poison, zHp, zDef, enraged, step, basic, dealt, hit);
+            }
+        }
+
+        /**
+         * Applies poison and regeneration after a basic attack, then records the successor.
+         */
+        private void endTurn(int pHp, int pDef, int poison, int zHp, int zDef, boolean enraged,
+                             int step, boolean basic, int dealt, double p) {
+            if (p == 0.0) return;
+            if (basic && kind == ZombieKind.ROTTEN && dealt > 0 && pHp > 0) {
+                poison = Math.max(poison, RottenZombie.POISON_TURNS);
+            }
+            if (basic && kind == ZombieKind.NORMAL && zHp < zombieMaxHp / 2) {
+                zHp = Math.min(zombieMaxHp, zHp + NormalZombie.REGEN_AMOUNT);
+            }
+            if (pHp == 0) {
+                add(LOSS, 0, p);
+            } else {
+                add(CONTINUE, pack(pHp, pDef, zHp, zDef, poison, enraged, step, potionsUsed), p);
+            }
+        }
+
+        /**
+         * Adds a successor, merging it with an identical one.
+         */
+        private void add(byte kind, long state, double p) {
+            for (int i = 0; i < size; i++) {
+                if (kindBuf[i] == kind && stateBuf[i] == state) {
+                    probBuf[i] += p;
+                    return;
+                }
+            }
+            kindBuf[size] = kind;
+            stateBuf[size] = state;
+            probBuf[size] = p;
+            size++;
+        }
+    }
+
+    // -------------------- LAYER MAP -------------------- //
+
+    /**
+     * Open-addressing map from packed state to probability, without boxing.
+     * Packed states are never 0 (a fighting player has HP), so 0 marks an empty slot.
+     */
+    private static final class LongDoubleMap {
+
+        static final long EMPTY = 0L;
+
+        private long[] keys;
+        private double[] values;
+        private int size;
+
+        LongDoubleMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new double[capacity];
+        }
+
+        void add(long key, double value) {
+            int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != EMPTY) {
+                if (keys[i] == key) {
+                    values[i] += value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 2 > keys.length) grow();
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            double[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new double[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) add(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        long keyAt(int i) {
+            return keys[i];
+        }
+
+        double valueAt(int i) {
+            return values[i];
+        }
+    }
+}
@@ -19,8 +19,13 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.util.Duration;
+import utils.GameSpeed;
 import utils.ResourceManager;
 import utils.SoundManager;
+import utils.Sprite;
+import utils.SpriteAtlas;
+
+import java.util.EnumMap;
 
 /**
  * Manages the UI and animations for the battle scene.
@@ -74,6 +79,22 @@ public class BattleView {
      */
     private final Duration SHAKE_DURATION = Duration.millis(50);
 
+    /**
+     * Duration of each half of the dodge animation.
+     */
+    private final Duration DODGE_DURATION = Duration.millis(100);
+
+    /**
+     * Shortest animation step: one frame at 60 fps.
+     * A zero-length transition is never started, so its onFinished would not run inside a sequence.
+     */
+    private final double MIN_STEP_MILLIS = 1000.0 / 60;
+
+    /**
+     * Background used when a stage has none or its image is missing.
+     */
+    private final String DEFAULT_BACKGROUND = "backgrounds/bgALL.png";
+
     /**
      * Distance to move during attack.
      */
@@ -139,6 +160,11 @@ public class BattleView {
      * Button to open inventory.
      */
     private Button btnInv;
+
+    /**
+     * Button for switching the game speed.
+     */
+    private Button btnSpeed;
     // Characters & Environment
 
     /**
@@ -156,99 +182,125 @@ public class BattleView {
      */
     private ImageView backgroundImageView;
     // --- Cache รูปภาพ ---
+
+    /**
+     * Atlas holding every character frame.
+     */
+    private final SpriteAtlas atlas = SpriteAtlas.getCharacters();
     // Default Player Images
 
     /**
-     * Image for player idle state.
+     * Sprite for player idle state.
      */
-    private Image playerIdleImg;
+    private Sprite playerIdleSprite;
 
     /**
-     * Image for player attack state.
+     * Sprite for player attack state.
      */
-    private Image playerAttackImg;
+    private Sprite playerAttackSprite;
 
     /**
-     * Image for player hurt state.
+     * Sprite for player hurt state.
      */
-    private Image playerHurtImg;
+    private Sprite playerHurtSprite;
 
     /**
-     * Image for player dead state.
+     * Sprite for player dead state.
      */
-    private Image playerDeadImg;
+    private Sprite playerDeadSprite;
     // Weapon Specific Images (เพิ่มใหม่ตามโจทย์)
 
     /**
-     * Image for player knife attack.
+     * Sprite for player knife attack.
      */
-    private Image playerKnifeAttackImg;
+    private Sprite playerKnifeAttackSprite;
 
     /**
-     * Image for player gun idle.
+     * Sprite for player gun idle.
      */
-    private Image playerGunIdleImg;
+    private Sprite playerGunIdleSprite;
 
     /**
-     * Image for player gun attack.
+     * Sprite for player gun attack.
      */
-    private Image playerGunAttackImg;
+    private Sprite playerGunAttackSprite;
 
     /**
-     * Image for player hammer idle.
+     * Sprite for player hammer idle.
      */
-    private Image playerHammerIdleImg;
+    private Sprite playerHammerIdleSprite;
 
     /**
-     * Image for player hammer attack.
+     * Sprite for player hammer attack.
      */
-    private Image playerHammerAttackImg;
+    private Sprite playerHammerAttackSprite;
 
     /**
-     * Image for player axe idle.
+     * Sprite for player axe idle.
      */
-    private Image playerAxeIdleImg;
+    private Sprite playerAxeIdleSprite;
 
     /**
-     * Image for player axe attack.
+     * Sprite for player axe attack.
      */
-    private Image playerAxeAttackImg;
+    private Sprite playerAxeAttackSprite;
 
     /**
-     * Image for player rifle idle.
+     * Sprite for player rifle idle.
      */
-    private Image playerRifleIdleImg;
+    private Sprite playerRifleIdleSprite;
 
     /**
-     * Image for player rifle attack.
+     * Sprite for player rifle attack.
      */
-    private Image playerRifleAttackImg;
+    private Sprite playerRifleAttackSprite;
     // Enemy Images
 
     /**
-     * Image for enemy idle state.
+     * Sprites of every zombie kind, resolved once.
      */
-    private Image enemyIdleImg;
+    private final EnumMap<ZombieKind, ZombieSpriteSet> zombieSprites = ZombieSpriteSet.loadAll(atlas);
 
     /**
-     * Image for enemy attack state.
+     * Sprites of the current enemy.
      */
-    private Image enemyAttackImg;
+    private ZombieSpriteSet enemySprites = zombieSprites.get(ZombieKind.NORMAL);
 
     /**
-     * Image for enemy hurt state.
+     * Sprite for player idle state in each hold weapon
      */
-    private Image enemyHurtImg;
+    private Sprite idleSprite;
 
     /**
-     * Image for enemy dead state.
+     * Sprite currently shown by the player image view.
      */
-    private Image enemyDeadImg;
+    private Sprite playerSprite;
 
     /**
-     * Image for player idle state in each hold weapon
+     * Sprite currently shown by the enemy image view.
      */
-    private Image idleImg;
+    private Sprite enemySprite;
+    // Last values pushed to the UI, so updateStats only touches what changed
+
+    /**
+     * Enemy currently shown, and its label prefix.
+     */
+    private Zombie shownEnemy;
+    private String enemyName;
+
+    /**
+     * HP values and stage currently shown.
+     */
+    private int shownPlayerHp = -1;
+    private int shownPlayerMaxHp = -1;
+    private int shownEnemyHp = -1;
+    private int shownEnemyMaxHp = -1;
+    private int shownStage = -1;
+
+    /**
+     * Background currently shown, relative to the assets directory.
+     */
+    private String backgroundPath;
 
     /**
      * Constructor to initialize the battle view.
@@ -261,90 +313,90 @@ public class BattleView {
     }
 
     /**
-     * Loads all player images including weapon-specific ones.
+     * Loads all player sprites including weapon-specific ones from the character atlas.
      */
     private void loadPlayerImages() {
         // 1. Load Default
-        playerIdleImg = ResourceManager.getImage("characters/player/player_idle.png");
-        playerAttackImg = ResourceManager.getImage("characters/player/player_attack.png");
-        playerHurtImg = ResourceManager.getImage("characters/player/player_hurt.png");
-        playerDeadImg = ResourceManager.getImage("characters/player/player_dead.png");
+        playerIdleSprite = atlas.getSprite("player/player_idle");
+        playerAttackSprite = atlas.getSprite("player/player_attack");
+        playerHurtSprite = atlas.getSprite("player/player_hurt");
+        playerDeadSprite = atlas.getSprite("player/player_dead");
 
         // 2. Load Weapon Specifics (เพิ่มใหม่)
         // Knife / Machete (ใช้ Idle เดิม, Attack ใหม่)
-        playerKnifeAttackImg = ResourceManager.getImage("characters/player/player_knife_attack.png");
+        playerKnifeAttackSprite = atlas.getSprite("player/player_knife_attack");
 
         // Gun (Revolver)
-        playerGunIdleImg = ResourceManager.getImage("characters/player/player_gun_idle.png");
-        playerGunAttackImg = ResourceManager.getImage("characters/player/player_gun_attack.png");
+        playerGunIdleSprite = atlas.getSprite("player/player_gun_idle");
+        playerGunAttackSprite = atlas.getSprite("player/player_gun_attack");
 
         // Hammer
-        playerHammerIdleImg = ResourceManager.getImage("characters/player/player_hammer_idle.png");
-        playerHammerAttackImg = ResourceManager.getImage("characters/player/player_hammer_attack.png");
+        playerHammerIdleSprite = atlas.getSprite("player/player_hammer_idle");
+        playerHammerAttackSprite = atlas.getSprite("player/player_hammer_attack");
 
         // Axe
-        playerAxeIdleImg = ResourceManager.getImage("characters/player/player_axe_idle.png");
-        playerAxeAttackImg = ResourceManager.getImage("characters/player/player_axe_attack.png");
+        playerAxeIdleSprite = atlas.getSprite("player/player_axe_idle");
+        playerAxeAttackSprite = atlas.getSprite("player/player_axe_attack");
 
         // Rifle / Shotgun
-        playerRifleIdleImg = ResourceManager.getImage("characters/player/player_rifle_idle.png");
-        playerRifleAttackImg = ResourceManager.getImage("characters/player/player_rifle_attack.png");
+        playerRifleIdleSprite = atlas.getSprite("player/player_rifle_idle");
+        playerRifleAttackSprite = atlas.getSprite("player/player_rifle_attack");
 
         // --- Fallbacks (กันเหนียว ถ้ารูปไหนหาไม่เจอ ให้ใช้ Default) ---
-        if (playerKnifeAttackImg == null) playerKnifeAttackImg = playerAttackImg;
+        if (playerKnifeAttackSprite == null) playerKnifeAttackSprite = playerAttackSprite;
 
-        if (playerGunIdleImg == null) playerGunIdleImg = playerIdleImg;
-        if (playerGunAttackImg == null) playerGunAttackImg = playerAttackImg;
+        if (playerGunIdleSprite == null) playerGunIdleSprite = playerIdleSprite;
+        if (playerGunAttackSprite == null) playerGunAttackSprite = playerAttackSprite;
 
-        if (playerHammerIdleImg == null) playerHammerIdleImg = playerIdleImg;
-        if (playerHammerAttackImg == null) playerHammerAttackImg = playerAttackImg;
+        if (playerHammerIdleSprite == null) playerHammerIdleSprite = playerIdleSprite;
+        if (playerHammerAttackSprite == null) playerHammerAttackSprite = playerAttackSprite;
 
-        if (playerAxeIdleImg == null) playerAxeIdleImg = playerIdleImg;
-        if (playerAxeAttackImg == null) playerAxeAttackImg = playerAttackImg;
+        if (playerAxeIdleSprite == null) playerAxeIdleSprite = playerIdleSprite;
+        if (playerAxeAttackSprite == null) playerAxeAttackSprite = playerAttackSprite;
 
-        if (playerRifleIdleImg == null) playerRifleIdleImg = playerIdleImg;
-        if (playerRifleAttackImg == null) playerRifleAttackImg = playerAttackImg;
+        if (playerRifleIdleSprite == null) playerRifleIdleSprite = playerIdleSprite;
+        if (playerRifleAttackSprite == null) playerRifleAttackSprite = playerAttackSprite;
 
-        if (playerAttackImg == null) playerAttackImg = playerIdleImg;
-        if (playerHurtImg == null) playerHurtImg = playerIdleImg;
-        if (playerDeadImg == null) playerDeadImg = playerHurtImg;
+        if (playerAttackSprite == null) playerAttackSprite = playerIdleSprite;
+        if (playerHurtSprite == null) playerHurtSprite = playerIdleSprite;
+        if (playerDeadSprite == null) playerDeadSprite = playerHurtSprite;
     }
 
     // --- [NEW] Helper Methods: เลือกรูปตามอาวุธ ---
 
     /**
-     * Gets the correct idle image based on the equipped weapon.
-     * * @return The idle image
+     * Gets the correct idle sprite based on the equipped weapon.
+     * * @return The idle sprite
      */
-    private Image getPlayerCurrentIdleImage() {
+    private Sprite getPlayerCurrentIdleSprite() {
         Weapon w = controller.getPlayer().getWeapon();
-        if (w == null) return playerIdleImg;
+        if (w == null) return playerIdleSprite;
 
         String name = w.getName();
-        if (name.contains("Revolver")) return playerGunIdleImg;
-        if (name.contains("Hammer")) return playerHammerIdleImg;
-        if (name.contains("Axe")) return playerAxeIdleImg;
-        if (name.contains("Shotgun") || name.contains("Rifle")) return playerRifleIdleImg;
+        if (name.contains("Revolver")) return playerGunIdleSprite;
+        if (name.contains("Hammer")) return playerHammerIdleSprite;
+        if (name.contains("Axe")) return playerAxeIdleSprite;
+        if (name.contains("Shotgun") || name.contains("Rifle")) return playerRifleIdleSprite;
 
-        return playerIdleImg;
+        return playerIdleSprite;
     }
 
     /**
-     * Gets the correct attack image based on the equipped weapon.
-     * * @return The attack image
+     * Gets the correct attack sprite based on the equipped weapon.
+     * * @return The attack sprite
      */
-    private Image getPlayerCurrentAttackImage() {
+    private Sprite getPlayerCurrentAttackSprite() {
         Weapon w = controller.getPlayer().getWeapon();
-        if (w == null) return playerAttackImg;
+        if (w == null) return playerAttackSprite;
 
         String name = w.getName();
-        if (name.contains("Combat Knife") || name.contains("Machete")) return playerKnifeAttackImg;
-        if (name.contains("Revolver")) return playerGunAttackImg;
-        if (name.contains("Hammer")) return playerHammerAttackImg;
-        if (name.contains("Axe")) return playerAxeAttackImg;
-        if (name.contains("Shotgun") || name.contains("Rifle")) return playerRifleAttackImg;
+        if (name.contains("Combat Knife") || name.contains("Machete")) return playerKnifeAttackSprite;
+        if (name.contains("Revolver")) return playerGunAttackSprite;
+        if (name.contains("Hammer")) return playerHammerAttackSprite;
+        if (name.contains("Axe")) return playerAxeAttackSprite;
+        if (name.contains("Shotgun") || name.contains("Rifle")) return playerRifleAttackSprite;
 
-        return playerAttackImg;
+        return playerAttackSprite;
     }
 
     // --- [NEW] Helper Method: Play Sound based on Weapon ---
@@ -383,7 +435,8 @@ public class BattleView {
         backgroundImageView.setFitWidth(SCENE_WIDTH);
         backgroundImageView.setFitHeight(SCENE_HEIGHT);
 
-        playerImageView = new ImageView(playerIdleImg);
+        playerImageView = new ImageView();
+        show(playerImageView, playerIdleSprite);
         playerImageView.setFitHeight(CHAR_SIZE);
         playerImageView.setPreserveRatio(true);
         // [แก้ไข] ใช้ setLayoutX/Y (ลบ bind ออกเพื่อให้ค่า Config มีผล)
@@ -447,7 +500,10 @@ public class BattleView {
         btnInv = createButton("INVENTORY", "#3498db");
         btnInv.setOnAction(e -> controller.goToInventory(true));
 
-        btnBox.getChildren().addAll(btnAttack, btnHeal, btnInv);
+        btnSpeed = createButton("SPEED " + GameSpeed.getTimeScale().getLabel(), "#7f8c8d");
+        btnSpeed.setOnAction(e -> btnSpeed.setText("SPEED " + GameSpeed.cycle().getLabel()));
+
+        btnBox.getChildren().addAll(btnAttack, btnHeal, btnInv, btnSpeed);
 
         logArea = new TextArea();
         logArea.setEditable(false);
@@ -520,8 +576,8 @@ public class BattleView {
      * Resets the player image to the idle state.
      */
     public void resetPlayerToIdle() {
-        if (playerImageView.getImage() != playerDeadImg) {
-            playerImageView.setImage(getPlayerCurrentIdleImage());
+        if (playerSprite != playerDeadSprite) {
+            show(playerImageView, getPlayerCurrentIdleSprite());
         }
     }
 
@@ -529,106 +585,147 @@ public class BattleView {
      * Resets the enemy image to the idle state.
      */
     public void resetEnemyToIdle() {
-        if (enemyImageView.getImage() != enemyDeadImg) {
-            enemyImageView.setImage(enemyIdleImg);
+        if (enemySprite != enemySprites.getDead()) {
+            show(enemyImageView, enemySprites.getIdle());
         }
     }
 
     /**
      * Updates the stats and visuals for player and enemy.
+     * Only pushes the values that changed since the last call; the enemy's sprites and name
+     * are looked up once, when a new enemy appears.
      * * @param p The player entity
      * @param z The enemy entity
      * @param stage The current stage number
      */
     public void updateStats(Player p, Zombie z, int stage) {
-        double pp = (double) p.getHp() / p.getMaxHp();
-        playerBar.setProgress(pp);
-        playerLbl.setText("Player HP: " + p.getHp());
+        int hp = p.getHp();
+        if (hp != shownPlayerHp || p.getMaxHp() != shownPlayerMaxHp) {
+            shownPlayerHp = hp;
+            shownPlayerMaxHp = p.getMaxHp();
+            playerBar.setProgress((double) hp / shownPlayerMaxHp);
+            playerLbl.setText("Player HP: " + hp);
+        }
 
         // [UPDATED] เช็คให้ครอบคลุมรูปทุกประเภท เพื่อไม่ให้เด้งผิดจังหวะ
         if (p.isAlive() &&
-                playerImageView.getImage() != playerAttackImg &&
-                playerImageView.getImage() != playerKnifeAttackImg &&
-                playerImageView.getImage() != playerGunAttackImg &&
-                playerImageView.getImage() != playerHammerAttackImg &&
-                playerImageView.getImage() != playerAxeAttackImg &&
-                playerImageView.getImage() != playerRifleAttackImg &&
-                playerImageView.getImage() != playerHurtImg) {
-
-            playerImageView.setImage(getPlayerCurrentIdleImage());
+                playerSprite != playerAttackSprite &&
+                playerSprite != playerKnifeAttackSprite &&
+                playerSprite != playerGunAttackSprite &&
+                playerSprite != playerHammerAttackSprite &&
+                playerSprite != playerAxeAttackSprite &&
+                playerSprite != playerRifleAttackSprite &&
+                playerSprite != playerHurtSprite) {
+
+            show(playerImageView, getPlayerCurrentIdleSprite());
         }
 
         if (z != null) {
-            double ep = (double) z.getHp() / z.getMaxHp();
-            enemyBar.setProgress(ep);
-            enemyLbl.setText(z.getClass().getSimpleName() + " (" + z.getHp() + ")");
-
-            String baseName = "normal_zombie";
-            if (z instanceof RottenZombie) baseName = "rotten_zombie";
-            else if (z instanceof ArmoredZombie) baseName = "armored_zombie";
-            else if (z instanceof RunnerZombie) baseName = "runner_zombie";
-            else if (z instanceof BossZombie) baseName = "boss_zombie";
-
-            // สมมติว่าเก็บรูปซอมบี้ไว้ใน subfolder "zombies" หรือที่เดียวกับ player ก็ได้ (แก้ path ตามจริง)
-            enemyIdleImg = ResourceManager.getImage("characters/zombies/" + baseName + "_idle.png");
-            enemyAttackImg = ResourceManager.getImage("characters/zombies/" + baseName + "_attack.png");
-            enemyHurtImg = ResourceManager.getImage("characters/zombies/" + baseName + "_hurt.png");
-            enemyDeadImg = ResourceManager.getImage("characters/zombies/" + baseName + "_dead.png");
-
-            if (enemyIdleImg == null)
-                enemyIdleImg = ResourceManager.getImage("characters/zombies/normal_zombie_idle.png");
-            if (enemyAttackImg == null) enemyAttackImg = enemyIdleImg;
-            if (enemyHurtImg == null) enemyHurtImg = enemyIdleImg;
-            if (enemyDeadImg == null) enemyDeadImg = enemyHurtImg;
-
-            if (z.isAlive() && enemyImageView.getImage() == null) {
-                enemyImageView.setImage(enemyIdleImg);
+            if (z != shownEnemy) showEnemy(z);
+            if (z.getHp() != shownEnemyHp || z.getMaxHp() != shownEnemyMaxHp) {
+                shownEnemyHp = z.getHp();
+                shownEnemyMaxHp = z.getMaxHp();
+                enemyBar.setProgress((double) shownEnemyHp / shownEnemyMaxHp);
+                enemyLbl.setText(enemyName + " (" + shownEnemyHp + ")");
             }
         }
-        stageLbl.setText("STAGE " + stage);
+        if (stage != shownStage) {
+            shownStage = stage;
+            stageLbl.setText("STAGE " + stage);
+        }
+    }
+
+    /**
+     * Switches the enemy side to a new enemy: picks the sprite set of its kind and shows it idle.
+     * * @param z The new enemy
+     */
+    private void showEnemy(Zombie z) {
+        shownEnemy = z;
+        shownEnemyHp = -1;
+        enemyName = z.getClass().getSimpleName();
+        enemySprites = zombieSprites.get(z.getKind());
+        // ศัตรูตัวใหม่ชนิดเดียวกับตัวที่ตายไป ต้องเปลี่ยนรูปศพกลับเป็นท่ายืนเองตรงนี้
+        if (z.isAlive()) show(enemyImageView, enemySprites.getIdle());
+    }
 
-        Image bg = ResourceManager.getImage("backgrounds/bgALL.png");
-        if (bg == null) bg = ResourceManager.getImage("backgrounds/bgALL.png");
+    /**
+     * Sets the background image of the stage. Does nothing if that background is already shown.
+     * * @param path The image path relative to the assets directory (the default background if missing)
+     */
+    public void setBackground(String path) {
+        String resolved = path == null ? DEFAULT_BACKGROUND : path;
+        if (resolved.equals(backgroundPath)) return;
+
+        Image bg = ResourceManager.getImage(resolved);
+        if (bg == null && !resolved.equals(DEFAULT_BACKGROUND)) bg = ResourceManager.getImage(DEFAULT_BACKGROUND);
         backgroundImageView.setImage(bg);
+        backgroundPath = resolved;
+    }
+
+    /**
+     * Shows a sprite in the player or enemy image view and remembers it as that view's current sprite.
+     * * @param view The player or enemy image view
+     * @param sprite The sprite to show (null to clear the view)
+     */
+    private void show(ImageView view, Sprite sprite) {
+        if (sprite != null) {
+            sprite.applyTo(view);
+        } else {
+            view.setImage(null);
+            view.setViewport(null);
+        }
+        if (view == playerImageView) playerSprite = sprite;
+        else if (view == enemyImageView) enemySprite = sprite;
+    }
+
+    /**
+     * Scales an animation duration with the current game speed, down to one frame at INSTANT speed.
+     * * @param duration The duration at normal speed
+     * @return The duration at the current speed
+     */
+    private Duration scaled(Duration duration) {
+        return Duration.millis(Math.max(MIN_STEP_MILLIS, GameSpeed.scale(duration.toMillis())));
     }
 
     /**
      * Performs the attack animation sequence.
      * * @param attacker The image view of the attacker
-     * @param idleImg The idle image to revert to
+     * @param idleSprite The idle sprite to revert to
      * @param moveX The distance to move on X axis
      * @param cb Callback to run after animation
      */
-    private void animateAttack(ImageView attacker, Image idleImg, double moveX, Runnable cb) {
-        this.idleImg = idleImg;
+    private void animateAttack(ImageView attacker, Sprite idleSprite, double moveX, Runnable cb) {
+        this.idleSprite = idleSprite;
         // [UPDATED] ถ้าเป็น Player ตี ให้ใช้รูปตามอาวุธ
         if (attacker == playerImageView) {
-            attacker.setImage(getPlayerCurrentAttackImage());
+            show(attacker, getPlayerCurrentAttackSprite());
             // [NEW] Play player attack sound
             playWeaponSound();
         } else {
-            attacker.setImage(enemyAttackImg); // ถ้าเป็นศัตรู ใช้รูปตีของศัตรู
+            show(attacker, enemySprites.getAttack()); // ถ้าเป็นศัตรู ใช้รูปตีของศัตรู
             SoundManager.playSound("Zombie_dead_2.wav");
         }
 
-        TranslateTransition lunge = new TranslateTransition(ATTACK_DURATION, attacker);
+        TranslateTransition lunge = new TranslateTransition(scaled(ATTACK_DURATION), attacker);
         lunge.setByX(moveX);
-        lunge.setOnFinished(e -> {
-            if (cb != null) cb.run();
-        });
-        TranslateTransition retreat = new TranslateTransition(ATTACK_DURATION, attacker);
+        TranslateTransition retreat = new TranslateTransition(scaled(ATTACK_DURATION), attacker);
         retreat.setByX(-moveX);
 
         // [UPDATED] เมื่อกลับที่เดิม ให้เปลี่ยนเป็น Idle ที่ถูกต้อง
         retreat.setOnFinished(e -> {
             if (attacker == playerImageView) {
-                attacker.setImage(getPlayerCurrentIdleImage());
+                show(attacker, getPlayerCurrentIdleSprite());
             } else {
-                attacker.setImage(enemyIdleImg);
+                show(attacker, enemySprites.getIdle());
             }
         });
 
-        new SequentialTransition(lunge, retreat).play();
+        // เล่น lunge เป็น animation หลักเอง callback ตอนกระทบจึงทำงานแน่นอนทุกความเร็ว
+        lunge.setOnFinished(e -> {
+            retreat.play();
+            if (cb != null) cb.run();
+        });
+        lunge.play();
     }
 
     /**
@@ -637,9 +734,9 @@ public class BattleView {
      */
     private void animateDodge(ImageView defender) {
         double dir = (defender == playerImageView) ? -40 : 40;
-        TranslateTransition d1 = new TranslateTransition(Duration.millis(100), defender);
+        TranslateTransition d1 = new TranslateTransition(scaled(DODGE_DURATION), defender);
         d1.setByX(dir);
-        TranslateTransition d2 = new TranslateTransition(Duration.millis(100), defender);
+        TranslateTransition d2 = new TranslateTransition(scaled(DODGE_DURATION), defender);
         d2.setByX(-dir);
         new SequentialTransition(d1, d2).play();
     }
@@ -649,14 +746,14 @@ public class BattleView {
     /**
      * Performs the hurt or dead animation.
      * * @param defender The image view of the defender
-     * @param hurtImg The image to show when hurt
-     * @param deadImg The image to show when dead
-     * @param idleImg The image to show when idle
+     * @param hurtSprite The sprite to show when hurt
+     * @param deadSprite The sprite to show when dead
+     * @param idleSprite The sprite to show when idle
      * @param willDie Flag indicating if the character will die
      */
-    private void animateHurtOrDead(ImageView defender, Image hurtImg, Image deadImg, Image idleImg, boolean willDie) {
-        this.idleImg = idleImg;
-        defender.setImage(hurtImg);
+    private void animateHurtOrDead(ImageView defender, Sprite hurtSprite, Sprite deadSprite, Sprite idleSprite, boolean willDie) {
+        this.idleSprite = idleSprite;
+        show(defender, hurtSprite);
 
         // [NEW] Play hurt sound
         if (defender == playerImageView) {
@@ -666,17 +763,17 @@ public class BattleView {
         }
 
         double shakeDist = 10;
-        TranslateTransition t1 = new TranslateTransition(SHAKE_DURATION, defender);
+        TranslateTransition t1 = new TranslateTransition(scaled(SHAKE_DURATION), defender);
         t1.setByX(shakeDist);
-        TranslateTransition t2 = new TranslateTransition(SHAKE_DURATION, defender);
+        TranslateTransition t2 = new TranslateTransition(scaled(SHAKE_DURATION), defender);
         t2.setByX(-shakeDist * 2);
-        TranslateTransition t3 = new TranslateTransition(SHAKE_DURATION, defender);
+        TranslateTransition t3 = new TranslateTransition(scaled(SHAKE_DURATION), defender);
         t3.setByX(shakeDist);
 
         SequentialTransition shakeSeq = new SequentialTransition(t1, t2, t3);
         shakeSeq.setOnFinished(e -> {
             if (willDie) {
-                defender.setImage(deadImg);
+                show(defender, deadSprite);
             }
             // ไม่ตาย -> ค้างรูป Hurt ไว้ รอ Controller สั่ง reset
         });
@@ -696,7 +793,7 @@ public class BattleView {
      * * @param cb Callback when animation finishes
      */
     public void playEnemyAttack(Runnable cb) {
-        animateAttack(enemyImageView, enemyIdleImg, -ATTACK_DISTANCE, cb);
+        animateAttack(enemyImageView, enemySprites.getIdle(), -ATTACK_DISTANCE, cb);
     }
 
     /**
@@ -706,7 +803,7 @@ public class BattleView {
      */
     public void playPlayerDefend(boolean isDodge, boolean willDie) {
         if (isDodge) animateDodge(playerImageView);
-        else animateHurtOrDead(playerImageView, playerHurtImg, playerDeadImg, playerIdleImg, willDie);
+        else animateHurtOrDead(playerImageView, playerHurtSprite, playerDeadSprite, playerIdleSprite, willDie);
     }
 
     /**
@@ -716,7 +813,7 @@ public class BattleView {
      */
     public void playEnemyDefend(boolean isDodge, boolean willDie) {
         if (isDodge) animateDodge(enemyImageView);
-        else animateHurtOrDead(enemyImageView, enemyHurtImg, enemyDeadImg, enemyIdleImg, willDie);
+        else animateHurtOrDead(enemyImageView, enemySprites.getHurt(), enemySprites.getDead(), enemySprites.getIdle(), willDie);
     }
 
     /**
@@ -754,18 +851,18 @@ public class BattleView {
     }
 
     /**
-     * Gets the current idle image.
-     * * @return The idle image
+     * Gets the current idle sprite.
+     * * @return The idle sprite
      */
-    public Image getIdleImg() {
-        return idleImg;
+    public Sprite getIdleSprite() {
+        return idleSprite;
     }
 
     /**
-     * Sets the current idle image.
-     * * @param idleImg The idle image to set
+     * Sets the current idle sprite.
+     * * @param idleSprite The idle sprite to set
      */
-    public void setIdleImg(Image idleImg) {
-        this.idleImg = idleImg;
+    public void setIdleSprite(Sprite idleSprite) {
+        this.idleSprite = idleSprite;
     }
 }
\ No newline at end of file
@@ -145,7 +145,7 @@ public class InventoryView {
         btnEquipW.setOnAction(e -> {
             Weapon w = weaponList.getSelectionModel().getSelectedItem();
             if (w != null) {
-                controller.getPlayer().equipWeapon(w);
+                controller.equipWeapon(w);
                 refreshDisplay();
             }
         });
@@ -180,7 +180,7 @@ public class InventoryView {
         btnEquipA.setOnAction(e -> {
             Armor a = armorList.getSelectionModel().getSelectedItem();
             if (a != null) {
-                controller.getPlayer().equipArmor(a);
+                controller.equipArmor(a);
                 refreshDisplay();
             }
         });
@@ -215,7 +215,7 @@ public class InventoryView {
         btnUsePotion.setOnAction(e -> {
             Potion p = potionList.getSelectionModel().getSelectedItem();
             if (p != null) {
-                boolean used = controller.getPlayer().usePotion(p);
+                boolean used = controller.usePotion(p);
                 if (used) {
                     refreshList(); // อัปเดต list ให้หายไป
                 }
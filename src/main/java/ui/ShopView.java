@@ -4,8 +4,8 @@ import controller.GameController;
 import interfaces.Purchasable;
 import items.Armor;
 import items.Item;
-import items.Potion;
 import items.Weapon;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -20,9 +20,12 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import shop.PurchasePlan;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
 
 /**
  * Manages the UI for the shop/merchant scene.
@@ -66,6 +69,21 @@ public class ShopView {
      */
     private Label brainsLabel;
 
+    /**
+     * Label showing the suggested purchases.
+     */
+    private Label planLabel;
+
+    /**
+     * Items currently on sale.
+     */
+    private List<Item> currentItems = List.of();
+
+    /**
+     * Number of the latest plan request; older answers are ignored.
+     */
+    private long planRequest;
+
     /**
      * Constructor to initialize the shop view.
      * * @param controller The game controller
@@ -96,6 +114,13 @@ public class ShopView {
         // แถบ Hearts / Brains พร้อมไอคอน
         HBox currencyBar = buildCurrencyBar();
 
+        planLabel = new Label();
+        planLabel.setWrapText(true);
+        planLabel.setStyle(
+                "-fx-text-fill: #A3E635;" +   // เขียวมะนาว
+                        "-fx-font-size: 13px;"
+        );
+
         itemContainer = new HBox(15);
         itemContainer.setAlignment(Pos.CENTER);
         itemContainer.setFillHeight(true);
@@ -114,10 +139,23 @@ public class ShopView {
         btnInv.setPrefHeight(40);
         btnInv.setOnAction(e -> controller.goToInventory(false));
 
-        VBox bottomButtons = new VBox(12, btnInv, btnNext);
+        Button btnSave = new Button("SAVE");
+        stylePillButton(btnSave, false);
+        btnSave.setPrefHeight(40);
+        btnSave.setOnAction(e -> controller.showSaveDialog());
+
+        Button btnLoad = new Button("LOAD");
+        stylePillButton(btnLoad, false);
+        btnLoad.setPrefHeight(40);
+        btnLoad.setOnAction(e -> controller.showLoadDialog());
+
+        HBox saveButtons = new HBox(12, btnSave, btnLoad);
+        saveButtons.setAlignment(Pos.CENTER);
+
+        VBox bottomButtons = new VBox(12, saveButtons, btnInv, btnNext);
         bottomButtons.setAlignment(Pos.CENTER);
 
-        layout.getChildren().addAll(title, currencyBar, itemContainer, bottomButtons);
+        layout.getChildren().addAll(title, currencyBar, planLabel, itemContainer, bottomButtons);
     }
 
     /**
@@ -125,7 +163,9 @@ public class ShopView {
      */
     public void setupShop(List<Item> items) {
         itemContainer.getChildren().clear();
+        currentItems = List.copyOf(items);
         updateMoney();
+        refreshPlan();
 
         for (Item item : items) {
             if (item instanceof Purchasable purchasableItem) {
@@ -176,29 +216,7 @@ public class ShopView {
                     // กันคนไปคลิกซ้ำตอน disable
                     if (btnBuy.isDisable()) return;
 
-                    boolean success = false;
-
-                    if (item instanceof Weapon) {
-                        success = controller.getPlayer().payCost(
-                                purchasableItem.getCostHearts(),
-                                purchasableItem.getCostBrains()
-                        );
-                        if (success) {
-                            controller.getOwnedWeapons().add((Weapon) item);
-                        }
-                    } else if (item instanceof Armor) {
-                        success = controller.getPlayer().payCost(
-                                purchasableItem.getCostHearts(),
-                                purchasableItem.getCostBrains()
-                        );
-                        if (success) {
-                            controller.getOwnedArmors().add((Armor) item);
-                        }
-                    } else if (item instanceof Potion) {
-                        // potion ซื้อได้กี่ครั้งก็ได้
-                        success = controller.getPlayer()
-                                .buyPotionToInventory((Potion) item);
-                    }
+                    boolean success = controller.buyItem(item);
 
                     if (success) {
                         // ✅ ให้ “owned” เฉพาะอาวุธเท่านั้น
@@ -207,6 +225,7 @@ public class ShopView {
                             btnBuy.setText("OWNED");
                         }
                         updateMoney();
+                        refreshPlan();
                     } else {
                         showNotEnoughOrgansAlert();
                     }
@@ -218,6 +237,44 @@ public class ShopView {
         }
     }
 
+    /**
+     * Asks the controller for the best purchases and shows them once computed.
+     * Buying something in the meantime starts a new plan.
+     */
+    private void refreshPlan() {
+        long request = ++planRequest;
+        planLabel.setText("Planning the best purchases...");
+
+        controller.planPurchases(currentItems).whenComplete((plan, error) -> Platform.runLater(() -> {
+            if (request != planRequest) return; // มีแผนใหม่กว่าแล้ว
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                // IllegalArgumentException = ศัตรูแกร่งเกินกว่าจะคำนวณแบบ exact ได้ ส่วนอย่างอื่นคือบั๊ก
+                if (!(cause instanceof IllegalArgumentException)) {
+                    System.err.println("[ShopView] Purchase planning failed: " + cause);
+                }
+                planLabel.setText("No suggestion (" + cause.getMessage() + ")");
+            } else if (plan == null) {
+                planLabel.setText("");
+            } else {
+                planLabel.setText(formatPlan(plan));
+            }
+        }));
+    }
+
+    /**
+     * Formats a plan for the plan label.
+     * * @param plan The plan
+     * @return The text to show
+     */
+    private String formatPlan(PurchasePlan plan) {
+        return String.format(Locale.ROOT, "Suggested: %s  (win chance %.1f%% -> %.1f%%, cost %d H / %d B)",
+                plan.getSummary(),
+                plan.getBaselineWinProbability() * 100, plan.getWinProbability() * 100,
+                plan.getCostHearts(), plan.getCostBrains());
+    }
+
     /**
      * Builds the currency display bar.
      * * @return The HBox containing currency info
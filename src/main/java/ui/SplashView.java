@@ -0,0 +1,74 @@
+package ui;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Startup screen shown while the assets load: the title, a progress bar and the asset being loaded.
+ * Built from plain controls only, so it appears before any image is decoded.
+ */
+public class SplashView {
+
+    /**
+     * Main layout container.
+     */
+    private final VBox layout;
+
+    /**
+     * Progress of the critical assets.
+     */
+    private final ProgressBar progressBar;
+
+    /**
+     * Label showing the last asset loaded.
+     */
+    private final Label statusLbl;
+
+    /**
+     * Constructs the splash screen.
+     */
+    public SplashView() {
+        Label titleLbl = new Label("THE LAST WITHDRAW");
+        titleLbl.setFont(Font.font("Impact", FontWeight.BOLD, 48));
+        titleLbl.setTextFill(Color.GOLD);
+        titleLbl.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.8), 12, 0.3, 0, 3); -fx-letter-spacing: 3px;");
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(400);
+        progressBar.setStyle("-fx-accent: #e74c3c;");
+
+        statusLbl = new Label("Loading...");
+        statusLbl.setTextFill(Color.LIGHTGRAY);
+        statusLbl.setFont(Font.font("Consolas", 12));
+
+        layout = new VBox(20, titleLbl, progressBar, statusLbl);
+        layout.setAlignment(Pos.CENTER);
+        layout.setStyle("-fx-background-color: linear-gradient(to bottom, #050816, #151b28);");
+    }
+
+    /**
+     * Shows the loading progress.
+     *
+     * @param done  Number of critical assets loaded
+     * @param total Number of critical assets
+     * @param label The asset just loaded
+     */
+    public void setProgress(int done, int total, String label) {
+        progressBar.setProgress(total == 0 ? 1.0 : (double) done / total);
+        statusLbl.setText("Loading " + label + " (" + done + "/" + total + ")");
+    }
+
+    /**
+     * Returns the main view layout.
+     *
+     * @return The VBox layout
+     */
+    public VBox getView() {
+        return layout;
+    }
+}
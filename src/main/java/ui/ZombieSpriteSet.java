@@ -0,0 +1,109 @@
+package ui;
+
+import entity.ZombieKind;
+import utils.Sprite;
+import utils.SpriteAtlas;
+
+import java.util.EnumMap;
+import java.util.Locale;
+
+/**
+ * The four battle sprites of one zombie kind, resolved once from the character atlas.
+ */
+public final class ZombieSpriteSet {
+
+    /**
+     * Sprites of each state.
+     */
+    private final Sprite idle;
+    private final Sprite attack;
+    private final Sprite hurt;
+    private final Sprite dead;
+
+    /**
+     * Constructs a sprite set.
+     *
+     * @param idle   Sprite while waiting
+     * @param attack Sprite while attacking
+     * @param hurt   Sprite when hit
+     * @param dead   Sprite once dead
+     */
+    public ZombieSpriteSet(Sprite idle, Sprite attack, Sprite hurt, Sprite dead) {
+        this.idle = idle;
+        this.attack = attack;
+        this.hurt = hurt;
+        this.dead = dead;
+    }
+
+    /**
+     * Resolves the sprites of a zombie kind, e.g. "zombies/rotten_zombie_idle" for ROTTEN.
+     * Missing frames fall back like the art does: idle to the normal zombie, attack and hurt to idle, dead to hurt.
+     *
+     * @param atlas The character atlas
+     * @param kind  The zombie kind
+     * @return The sprite set
+     */
+    public static ZombieSpriteSet load(SpriteAtlas atlas, ZombieKind kind) {
+        String prefix = "zombies/" + kind.name().toLowerCase(Locale.ROOT) + "_zombie_";
+        Sprite idle = atlas.getSprite(prefix + "idle");
+        if (idle == null) idle = atlas.getSprite("zombies/normal_zombie_idle");
+        Sprite attack = atlas.getSprite(prefix + "attack");
+        Sprite hurt = atlas.getSprite(prefix + "hurt");
+        Sprite dead = atlas.getSprite(prefix + "dead");
+
+        if (attack == null) attack = idle;
+        if (hurt == null) hurt = idle;
+        if (dead == null) dead = hurt;
+        return new ZombieSpriteSet(idle, attack, hurt, dead);
+    }
+
+    /**
+     * Resolves the sprites of every zombie kind.
+     *
+     * @param atlas The character atlas
+     * @return One sprite set per kind
+     */
+    public static EnumMap<ZombieKind, ZombieSpriteSet> loadAll(SpriteAtlas atlas) {
+        EnumMap<ZombieKind, ZombieSpriteSet> sets = new EnumMap<>(ZombieKind.class);
+        for (ZombieKind kind : ZombieKind.values()) {
+            sets.put(kind, load(atlas, kind));
+        }
+        return sets;
+    }
+
+    /**
+     * Gets the idle sprite.
+     *
+     * @return Sprite while waiting
+     */
+    public Sprite getIdle() {
+        return idle;
+    }
+
+    /**
+     * Gets the attack sprite.
+     *
+     * @return Sprite while attacking
+     */
+    public Sprite getAttack() {
+        return attack;
+    }
+
+    /**
+     * Gets the hurt sprite.
+     *
+     * @return Sprite when hit
+     */
+    public Sprite getHurt() {
+        return hurt;
+    }
+
+    /**
+     * Gets the dead sprite.
+     *
+     * @return Sprite once dead
+     */
+    public Sprite getDead() {
+        return dead;
+    }
+}
@@ -0,0 +1,190 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads assets on background threads before and while the game starts.
+ * Each step is either critical (the game cannot start without it) or not (it only warms a cache);
+ * critical steps are submitted first, and the listener is told once every critical step has finished
+ * while the others keep loading in the background.
+ * A step that throws still counts as finished: the asset falls back to its usual lazy loading.
+ * Listener callbacks run on the callback executor given to {@link #start}, e.g. the JavaFX Application Thread.
+ */
+public final class AssetWarmup {
+
+    /**
+     * Receives the progress of a warm-up.
+     */
+    public interface Listener {
+
+        /**
+         * Called after a critical step has finished.
+         *
+         * @param done  Number of critical steps finished so far
+         * @param total Number of critical steps
+         * @param label Label of the step that just finished
+         */
+        void onProgress(int done, int total, String label);
+
+        /**
+         * Called once, after every critical step has finished.
+         */
+        void onCriticalReady();
+    }
+
+    /**
+     * One loading step.
+     */
+    private static final class Step {
+
+        /**
+         * Label, critical flag and loader of the step.
+         */
+        final String label;
+        final boolean critical;
+        final Runnable load;
+
+        Step(String label, boolean critical, Runnable load) {
+            this.label = label;
+            this.critical = critical;
+            this.load = load;
+        }
+    }
+
+    /**
+     * Steps added so far, in order.
+     */
+    private final List<Step> steps = new ArrayList<>();
+
+    /**
+     * Progress counters, updated by the worker threads.
+     */
+    private final AtomicInteger criticalDone = new AtomicInteger();
+    private final AtomicInteger stepsDone = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * Number of critical steps, fixed by {@link #start}.
+     */
+    private int criticalTotal;
+
+    /**
+     * true once started.
+     */
+    private boolean started;
+
+    /**
+     * Adds a step.
+     *
+     * @param label    Short description shown while it loads, e.g. "sounds/heal.wav"
+     * @param critical true if the game cannot start before this step has finished
+     * @param load     Loads the asset into its cache; runs on a worker thread
+     * @return This warm-up
+     * @throws IllegalStateException if the warm-up has already started
+     */
+    public AssetWarmup add(String label, boolean critical, Runnable load) {
+        if (started) throw new IllegalStateException("Warm-up already started");
+        steps.add(new Step(label, critical, load));
+        return this;
+    }
+
+    /**
+     * Starts loading every step on a pool of daemon threads, critical steps first.
+     * The pool shuts down by itself once every step has finished.
+     *
+     * @param threads   Number of worker threads (at least 1)
+     * @param callbacks Executor running the listener callbacks, e.g. {@code Platform::runLater}
+     * @param listener  Receives the progress
+     * @throws IllegalStateException if the warm-up has already started
+     */
+    public void start(int threads, Executor callbacks, Listener listener) {
+        if (started) throw new IllegalStateException("Warm-up already started");
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1: " + threads);
+        started = true;
+
+        List<Step> ordered = new ArrayList<>(steps.size());
+        for (Step step : steps) if (step.critical) ordered.add(step);
+        criticalTotal = ordered.size();
+        for (Step step : steps) if (!step.critical) ordered.add(step);
+
+        if (criticalTotal == 0) callbacks.execute(listener::onCriticalReady);
+        if (ordered.isEmpty()) return;
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(threads, ordered.size()), daemonThreads());
+        for (Step step : ordered) {
+            pool.execute(() -> {
+                try {
+                    step.load.run();
+                } catch (Throwable e) {
+                    // Error ด้วย (เช่น UnsatisfiedLinkError) ไม่งั้นตัวนับไม่เดินแล้ว splash ค้าง
+                    failures.incrementAndGet();
+                    System.err.println("[AssetWarmup] " + step.label + " failed: " + e);
+                } finally {
+                    if (step.critical) {
+                        int done = criticalDone.incrementAndGet();
+                        // อ่านค่าตอน callback รันจริง จะได้ไม่ถอยหลังถ้า callback มาไม่เรียงกัน
+                        callbacks.execute(() -> listener.onProgress(criticalDone.get(), criticalTotal, step.label));
+                        if (done == criticalTotal) callbacks.execute(listener::onCriticalReady);
+                    }
+                    if (stepsDone.incrementAndGet() == ordered.size()) pool.shutdown();
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates the daemon worker threads, so a warm-up never keeps the JVM alive.
+     */
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "asset-warmup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Gets the number of critical steps.
+     *
+     * @return Number of steps added as critical
+     */
+    public int getCriticalCount() {
+        int count = 0;
+        for (Step step : steps) if (step.critical) count++;
+        return count;
+    }
+
+    /**
+     * Gets the number of steps added.
+     *
+     * @return Number of steps
+     */
+    public int getStepCount() {
+        return steps.size();
+    }
+
+    /**
+     * Gets the number of steps finished so far.
+     *
+     * @return Number of steps finished, failed ones included
+     */
+    public int getDoneCount() {
+        return stepsDone.get();
+    }
+
+    /**
+     * Gets the number of steps that threw.
+     *
+     * @return Number of failed steps
+     */
+    public int getFailureCount() {
+        return failures.get();
+    }
+}
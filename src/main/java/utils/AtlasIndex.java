@@ -0,0 +1,260 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of a texture atlas: where each frame lies on which page.
+ * Written by {@link AtlasPacker} next to the page images and read back by {@link SpriteAtlas}.
+ */
+public final class AtlasIndex {
+
+    /**
+     * Number of fields of a row.
+     */
+    private static final int FIELD_COUNT = 6;
+
+    /**
+     * Frames by name, in index order.
+     */
+    private final Map<String, Frame> frames;
+
+    /**
+     * Number of pages referenced by the frames.
+     */
+    private final int pageCount;
+
+    /**
+     * Constructs an index from its frames.
+     *
+     * @param frames The frames
+     * @throws IllegalArgumentException if two frames have the same name
+     */
+    public AtlasIndex(List<Frame> frames) {
+        Map<String, Frame> byName = new LinkedHashMap<>();
+        int pages = 0;
+        for (Frame frame : frames) {
+            if (byName.put(frame.getName(), frame) != null) {
+                throw new IllegalArgumentException("Duplicate frame " + frame.getName());
+            }
+            pages = Math.max(pages, frame.getPage() + 1);
+        }
+        this.frames = Collections.unmodifiableMap(byName);
+        this.pageCount = pages;
+    }
+
+    /**
+     * Loads an index from CSV. Blank lines and lines starting with '#' are ignored.
+     * Each row is {@code name,page,x,y,width,height}.
+     *
+     * @param in The CSV data (UTF-8)
+     * @return The index
+     * @throws IOException if the data cannot be read, a row is invalid or a frame is listed twice
+     */
+    public static AtlasIndex load(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Frame> frames = new LinkedHashMap<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+
+            String[] fields = line.split(",", -1);
+            Frame frame;
+            try {
+                if (fields.length != FIELD_COUNT) {
+                    throw new IllegalArgumentException("needs " + FIELD_COUNT + " fields, got " + fields.length);
+                }
+                frame = new Frame(
+                        fields[0].strip(),
+                        Integer.parseInt(fields[1].strip()),
+                        Integer.parseInt(fields[2].strip()),
+                        Integer.parseInt(fields[3].strip()),
+                        Integer.parseInt(fields[4].strip()),
+                        Integer.parseInt(fields[5].strip())
+                );
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid frame on line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            if (frames.put(frame.getName(), frame) != null) {
+                throw new IOException("Duplicate frame " + frame.getName() + " on line " + lineNumber);
+            }
+        }
+        return new AtlasIndex(List.copyOf(frames.values()));
+    }
+
+    /**
+     * Writes the index as CSV, in the format read by {@link #load}.
+     *
+     * @param out    Destination of the CSV
+     * @param source Description of where the frames came from, written in the comment header
+     * @throws IOException if the data cannot be written
+     */
+    public void write(Writer out, String source) throws IOException {
+        out.write("# Texture atlas index, generated by utils.AtlasPacker from " + source + ". Do not edit.\n");
+        out.write("# Page N is the image <name>-N.png next to this file.\n");
+        out.write("#\n");
+        out.write("# name,page,x,y,width,height\n");
+        for (Frame frame : frames.values()) {
+            out.write(frame.getName() + "," + frame.getPage() + "," + frame.getX() + "," + frame.getY()
+                    + "," + frame.getWidth() + "," + frame.getHeight() + "\n");
+        }
+        out.flush();
+    }
+
+    /**
+     * Gets a frame by name.
+     *
+     * @param name The frame name, e.g. "player/player_idle"
+     * @return The frame, or null if the atlas does not hold it
+     */
+    public Frame get(String name) {
+        return frames.get(name);
+    }
+
+    /**
+     * Gets every frame.
+     *
+     * @return The frames, in index order
+     */
+    public Collection<Frame> getFrames() {
+        return frames.values();
+    }
+
+    /**
+     * Gets the number of pages.
+     *
+     * @return Number of page images
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Location of one frame in the atlas.
+     */
+    public static final class Frame {
+
+        /**
+         * Name of the frame: its source path without extension.
+         */
+        private final String name;
+
+        /**
+         * Page holding the frame.
+         */
+        private final int page;
+
+        /**
+         * Rectangle of the frame on its page, in pixels.
+         */
+        private final int x;
+        private final int y;
+        private final int width;
+        private final int height;
+
+        /**
+         * Constructs a frame.
+         *
+         * @param name   The frame name
+         * @param page   The page (at least 0)
+         * @param x      Left edge on the page (at least 0)
+         * @param y      Top edge on the page (at least 0)
+         * @param width  Width (at least 1)
+         * @param height Height (at least 1)
+         * @throws IllegalArgumentException if a value is out of range
+         */
+        public Frame(String name, int page, int x, int y, int width, int height) {
+            if (name.isEmpty() || name.indexOf(',') >= 0) throw new IllegalArgumentException("Invalid name: " + name);
+            if (page < 0) throw new IllegalArgumentException("page must be >= 0: " + page);
+            if (x < 0 || y < 0) throw new IllegalArgumentException("x and y must be >= 0: " + x + "," + y);
+            if (width < 1 || height < 1) {
+                throw new IllegalArgumentException("width and height must be >= 1: " + width + "x" + height);
+            }
+            this.name = name;
+            this.page = page;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Gets the frame name.
+         *
+         * @return The name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the page holding the frame.
+         *
+         * @return The page index
+         */
+        public int getPage() {
+            return page;
+        }
+
+        /**
+         * Gets the left edge of the frame.
+         *
+         * @return X on the page
+         */
+        public int getX() {
+            return x;
+        }
+
+        /**
+         * Gets the top edge of the frame.
+         *
+         * @return Y on the page
+         */
+        public int getY() {
+            return y;
+        }
+
+        /**
+         * Gets the width of the frame.
+         *
+         * @return Width in pixels
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Gets the height of the frame.
+         *
+         * @return Height in pixels
+         */
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * Checks if this frame overlaps another one of the same page.
+         *
+         * @param other The other frame
+         * @return true if both frames share at least one pixel
+         */
+        public boolean overlaps(Frame other) {
+            return page == other.page
+                    && x < other.x + other.width && other.x < x + width
+                    && y < other.y + other.height && other.y < y + height;
+        }
+    }
+}
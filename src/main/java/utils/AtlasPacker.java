@@ -0,0 +1,231 @@
+package utils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool packing a directory of PNG frames into texture atlas pages plus an {@link AtlasIndex}.
+ * Frames are placed on shelves, tallest first, and each page is cropped to the area actually used.
+ * Frames taller than a maximum height can be downscaled while packing, since the battle scene
+ * never draws a character larger than that.
+ * Run with {@code ./gradlew packAtlas} after changing the character art.
+ */
+public final class AtlasPacker {
+
+    /**
+     * Default size limit of a page, in pixels per side.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+
+    /**
+     * Default transparent gap around every frame, so filtering never samples a neighbour.
+     */
+    public static final int DEFAULT_PADDING = 2;
+
+    private AtlasPacker() {
+    }
+
+    /**
+     * Places frames on pages with a shelf packer. Frames are sorted by height (then width, then name)
+     * and laid out left to right; a new shelf starts when a row is full and a new page when a shelf would not fit.
+     *
+     * @param names    Frame names
+     * @param widths   Frame widths, parallel to {@code names}
+     * @param heights  Frame heights, parallel to {@code names}
+     * @param pageSize Size limit of a page, in pixels per side
+     * @param padding  Gap around every frame, in pixels
+     * @return The index, frames in name order
+     * @throws IllegalArgumentException if a frame cannot fit on a page
+     */
+    public static AtlasIndex layout(List<String> names, int[] widths, int[] heights, int pageSize, int padding) {
+        int count = names.size();
+        if (widths.length != count || heights.length != count) {
+            throw new IllegalArgumentException("names, widths and heights must have the same length");
+        }
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+            if (widths[i] + 2 * padding > pageSize || heights[i] + 2 * padding > pageSize) {
+                throw new IllegalArgumentException("Frame " + names.get(i) + " (" + widths[i] + "x" + heights[i]
+                        + ") does not fit a " + pageSize + " page");
+            }
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> -heights[i])
+                .thenComparingInt(i -> -widths[i])
+                .thenComparing(names::get));
+
+        AtlasIndex.Frame[] frames = new AtlasIndex.Frame[count];
+        int page = 0;
+        int x = padding;
+        int y = padding;
+        int shelfHeight = 0;
+        for (int i : order) {
+            if (x + widths[i] + padding > pageSize) {
+                // ชั้นเต็ม ขึ้นชั้นใหม่
+                y += shelfHeight + padding;
+                x = padding;
+                shelfHeight = 0;
+            }
+            if (y + heights[i] + padding > pageSize) {
+                page++;
+                x = padding;
+                y = padding;
+                shelfHeight = 0;
+            }
+            frames[i] = new AtlasIndex.Frame(names.get(i), page, x, y, widths[i], heights[i]);
+            x += widths[i] + padding;
+            shelfHeight = Math.max(shelfHeight, heights[i]);
+        }
+
+        List<AtlasIndex.Frame> sorted = new ArrayList<>(Arrays.asList(frames));
+        sorted.sort(Comparator.comparing(AtlasIndex.Frame::getName));
+        return new AtlasIndex(sorted);
+    }
+
+    /**
+     * Gets the size of a page cropped to its frames.
+     *
+     * @param index   The index
+     * @param page    The page
+     * @param padding Gap around every frame, in pixels
+     * @return {@code {width, height}} of the page
+     */
+    public static int[] pageSize(AtlasIndex index, int page, int padding) {
+        int width = 1;
+        int height = 1;
+        for (AtlasIndex.Frame frame : index.getFrames()) {
+            if (frame.getPage() != page) continue;
+            width = Math.max(width, frame.getX() + frame.getWidth() + padding);
+            height = Math.max(height, frame.getY() + frame.getHeight() + padding);
+        }
+        return new int[]{width, height};
+    }
+
+    /**
+     * Packs every PNG below a directory.
+     * Writes {@code <name>.csv} and the pages {@code <name>-0.png}, {@code <name>-1.png}... to the output directory,
+     * replacing the pages of a previous run.
+     *
+     * @param source         Directory of the frames; a frame is named after its path below it, without ".png"
+     * @param output         Directory receiving the atlas
+     * @param name           Base name of the atlas files
+     * @param maxFrameHeight Frames taller than this are downscaled to it (0 keeps every frame at full size)
+     * @param pageSize       Size limit of a page, in pixels per side
+     * @param padding        Gap around every frame, in pixels
+     * @return The index written
+     * @throws IOException if a frame cannot be read or the atlas cannot be written
+     */
+    public static AtlasIndex pack(Path source, Path output, String name, int maxFrameHeight,
+                                  int pageSize, int padding) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(source)) {
+            files = walk.filter(p -> p.getFileName().toString().endsWith(".png")).sorted().toList();
+        }
+
+        List<String> names = new ArrayList<>(files.size());
+        BufferedImage[] images = new BufferedImage[files.size()];
+        int[] widths = new int[files.size()];
+        int[] heights = new int[files.size()];
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            BufferedImage image = ImageIO.read(file.toFile());
+            if (image == null) throw new IOException("Not a readable image: " + file);
+            if (maxFrameHeight > 0 && image.getHeight() > maxFrameHeight) {
+                int width = Math.max(1, Math.round(image.getWidth() * (float) maxFrameHeight / image.getHeight()));
+                image = downscale(image, width, maxFrameHeight);
+            }
+
+            String relative = source.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            names.add(relative.substring(0, relative.length() - ".png".length()));
+            images[i] = image;
+            widths[i] = image.getWidth();
+            heights[i] = image.getHeight();
+        }
+
+        AtlasIndex index = layout(names, widths, heights, pageSize, padding);
+
+        Files.createDirectories(output);
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(output, name + "-*.png")) {
+            for (Path page : stale) Files.delete(page);
+        }
+        for (int page = 0; page < index.getPageCount(); page++) {
+            int[] size = pageSize(index, page, padding);
+            BufferedImage pageImage = new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = pageImage.createGraphics();
+            for (int i = 0; i < images.length; i++) {
+                AtlasIndex.Frame frame = index.get(names.get(i));
+                if (frame.getPage() == page) g.drawImage(images[i], frame.getX(), frame.getY(), null);
+            }
+            g.dispose();
+            ImageIO.write(pageImage, "png", output.resolve(name + "-" + page + ".png").toFile());
+        }
+        try (Writer out = Files.newBufferedWriter(output.resolve(name + ".csv"), StandardCharsets.UTF_8)) {
+            index.write(out, source.getFileName() + "/");
+        }
+        return index;
+    }
+
+    /**
+     * Downscales an image by successive halvings, then one bilinear step to the exact size.
+     * Works on premultiplied pixels so transparent edges do not darken.
+     *
+     * @param image  The image
+     * @param width  Target width
+     * @param height Target height
+     * @return The scaled image
+     */
+    private static BufferedImage downscale(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = next;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    /**
+     * Packs an atlas from the command line.
+     * Arguments: {@code <sourceDir> <outputDir> <name> [maxFrameHeight] [pageSize] [padding]}.
+     *
+     * @param args The arguments
+     * @throws IOException if the atlas cannot be packed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: AtlasPacker <sourceDir> <outputDir> <name> [maxFrameHeight] [pageSize] [padding]");
+            System.exit(2);
+        }
+        Path source = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        int maxFrameHeight = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        int pageSize = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_PAGE_SIZE;
+        int padding = args.length > 5 ? Integer.parseInt(args[5]) : DEFAULT_PADDING;
+
+        AtlasIndex index = pack(source, output, args[2], maxFrameHeight, pageSize, padding);
+        System.out.println("Packed " + index.getFrames().size() + " frames into " + index.getPageCount()
+                + " page(s) -> " + output.resolve(args[2] + ".csv").toAbsolutePath());
+    }
+}
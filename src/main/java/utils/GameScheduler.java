@@ -0,0 +1,207 @@
+package utils;
+
+import interfaces.StepScheduler;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Runs delayed game actions on the JavaFX Application Thread.
+ * Every delay is a {@link PauseTransition} driven by the FX pulse, so no thread is created
+ * or put to sleep. Delays are scaled by the current {@link GameSpeed}.
+ * Actions run in their own event after the pulse, so they may open modal dialogs with {@code showAndWait()}.
+ * Pending actions can be cancelled one by one, all at once when a stage ends,
+ * or for good when the window closes.
+ * Must be used from the JavaFX Application Thread.
+ */
+public class GameScheduler implements StepScheduler {
+
+    /**
+     * Times the delay of an action.
+     */
+    interface Timer {
+
+        /**
+         * Starts timing a delay.
+         *
+         * @param millis The delay time in milliseconds, already scaled
+         * @param fire   Called once the delay has elapsed
+         * @return Stops the timer so that {@code fire} is not called
+         */
+        Runnable start(double millis, Runnable fire);
+    }
+
+    /**
+     * Times the delays.
+     */
+    private final Timer timer;
+
+    /**
+     * Actions scheduled and not yet run or cancelled.
+     */
+    private final Set<Handle> pending = new LinkedHashSet<>();
+
+    /**
+     * true once the scheduler has been shut down.
+     */
+    private boolean shutdown;
+
+    /**
+     * Constructs a scheduler timed by the FX pulse.
+     */
+    public GameScheduler() {
+        this(GameScheduler::startPause);
+    }
+
+    /**
+     * Constructs a scheduler with its own timer, e.g. a fake one in tests.
+     *
+     * @param timer Times the delays
+     */
+    GameScheduler(Timer timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * Times a delay with a {@link PauseTransition}.
+     *
+     * @param millis The delay time in milliseconds
+     * @param fire   Called once the delay has elapsed
+     * @return Stops the pause
+     */
+    private static Runnable startPause(double millis, Runnable fire) {
+        if (millis <= 0) {
+            // ความเร็ว INSTANT: ไม่ต้องรอ pulse แต่ยังรันทีหลัง ไม่รันซ้อนอยู่ในตัวที่เรียก schedule
+            Platform.runLater(fire);
+            return () -> { };
+        }
+        PauseTransition pause = new PauseTransition(Duration.millis(millis));
+        // onFinished รันอยู่ใน animation pulse ซึ่ง showAndWait() ใช้ไม่ได้ จึงต้องเลื่อนออกไปอีก event
+        pause.setOnFinished(e -> Platform.runLater(fire));
+        pause.play();
+        return pause::stop;
+    }
+
+    /**
+     * Runs an action after a delay.
+     *
+     * @param delayMillis The delay time in milliseconds
+     * @param action      The action to run
+     * @return A handle to cancel the action, already cancelled if the scheduler is shut down
+     */
+    public Handle schedule(long delayMillis, Runnable action) {
+        Handle handle = new Handle(action);
+        if (shutdown) {
+            handle.cancelled = true;
+            return handle;
+        }
+
+        pending.add(handle);
+        handle.stop = timer.start(GameSpeed.scale(Math.max(0, delayMillis)), handle::run);
+        return handle;
+    }
+
+    @Override
+    public void runLater(long delayMillis, Runnable step) {
+        schedule(delayMillis, step);
+    }
+
+    /**
+     * Cancels every pending action, e.g. when a stage ends.
+     */
+    public void cancelAll() {
+        for (Handle handle : pending.toArray(new Handle[0])) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * Cancels every pending action and ignores any action scheduled afterwards,
+     * e.g. when the game is over or the window closes.
+     */
+    public void shutdown() {
+        shutdown = true;
+        cancelAll();
+    }
+
+    /**
+     * Gets the number of pending actions.
+     *
+     * @return Number of actions scheduled and not yet run or cancelled
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Handle of a scheduled action.
+     */
+    public final class Handle {
+
+        /**
+         * The action to run.
+         */
+        private final Runnable action;
+
+        /**
+         * Stops the timer driving the delay.
+         */
+        private Runnable stop;
+
+        /**
+         * Status of the action.
+         */
+        private boolean cancelled;
+        private boolean done;
+
+        /**
+         * Constructs a handle for an action.
+         *
+         * @param action The action to run
+         */
+        private Handle(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * Runs the action, unless it was cancelled in the meantime.
+         */
+        private void run() {
+            if (cancelled || done) return;
+            done = true;
+            pending.remove(this);
+            action.run();
+        }
+
+        /**
+         * Cancels the action if it has not run yet.
+         */
+        public void cancel() {
+            if (cancelled || done) return;
+            cancelled = true;
+            if (stop != null) stop.run();
+            pending.remove(this);
+        }
+
+        /**
+         * Checks if the action was cancelled.
+         *
+         * @return true if cancelled before running
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Checks if the action has run.
+         *
+         * @return true if the action has run
+         */
+        public boolean isDone() {
+            return done;
+        }
+    }
+}
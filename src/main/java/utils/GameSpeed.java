@@ -0,0 +1,51 @@
+package utils;
+
+/**
+ * Holds the global game speed.
+ * The initial speed can be set with {@code -Dgame.timeScale=4x}, e.g. for automated UI runs.
+ */
+public class GameSpeed {
+
+    /**
+     * The current time scale.
+     */
+    private static volatile TimeScale timeScale = TimeScale.parse(System.getProperty("game.timeScale"));
+
+    /**
+     * Gets the current time scale.
+     *
+     * @return The time scale
+     */
+    public static TimeScale getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Sets the current time scale.
+     *
+     * @param scale The new time scale (ignored if null)
+     */
+    public static void setTimeScale(TimeScale scale) {
+        if (scale != null) timeScale = scale;
+    }
+
+    /**
+     * Switches to the next time scale.
+     *
+     * @return The new time scale
+     */
+    public static TimeScale cycle() {
+        timeScale = timeScale.next();
+        return timeScale;
+    }
+
+    /**
+     * Scales a duration with the current time scale.
+     *
+     * @param millis The duration at normal speed in milliseconds
+     * @return The duration at the current speed in milliseconds
+     */
+    public static double scale(double millis) {
+        return timeScale.scale(millis);
+    }
+}
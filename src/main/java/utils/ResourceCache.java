@@ -0,0 +1,414 @@
+package utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache of loaded resources, bounded by the memory they use.
+ * <ul>
+ *     <li>Single-flight: concurrent requests for a key that is not cached yet share one load,
+ *     done outside any lock so loads of different keys run in parallel.</li>
+ *     <li>Negative caching: a key whose load returns null or throws is remembered as missing
+ *     and not loaded again until {@link #invalidate} or {@link #clear}.</li>
+ *     <li>Memory budget: each value is weighed when loaded; while the total weight is over the budget
+ *     the least recently used values are evicted (the newest value is always kept, even if larger than the budget).</li>
+ *     <li>Pinning: a value held by a long-lived object (e.g. an atlas page referenced by every sprite) is never evicted,
+ *     since evicting it would free nothing and the next request would decode a second copy.</li>
+ *     <li>Counters of hits, misses, negative hits, evictions and load time, read with {@link #getStats}.</li>
+ * </ul>
+ * A hit only bumps a counter and an access stamp, so lookups never take a lock.
+ *
+ * @param <V> Type of the cached values
+ */
+public final class ResourceCache<V> {
+
+    /**
+     * Entries by key, including loads in progress and missing keys.
+     */
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Loads a value, returning null if the resource does not exist.
+     */
+    private final Function<String, V> loader;
+
+    /**
+     * Weight of a loaded value, e.g. its size in bytes.
+     */
+    private final ToLongFunction<V> weigher;
+
+    /**
+     * Maximum total weight of the cached values.
+     */
+    private volatile long budget;
+
+    /**
+     * Total weight of the cached values.
+     */
+    private final AtomicLong weight = new AtomicLong();
+
+    /**
+     * Logical clock stamping every access, for the LRU order.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * Guards eviction, so two threads never evict for the same overflow.
+     */
+    private final Object evictionLock = new Object();
+
+    /**
+     * Counters.
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * Constructs a cache.
+     *
+     * @param loader  Loads a value, returning null if the resource does not exist
+     * @param weigher Weight of a loaded value, e.g. its size in bytes
+     * @param budget  Maximum total weight of the cached values
+     */
+    public ResourceCache(Function<String, V> loader, ToLongFunction<V> weigher, long budget) {
+        this.loader = loader;
+        this.weigher = weigher;
+        setBudget(budget);
+    }
+
+    /**
+     * Gets a value, loading it on first request. Concurrent first requests for the same key wait for one load.
+     *
+     * @param key The key
+     * @return The value, or null if the resource does not exist
+     */
+    public V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            Entry<V> created = new Entry<>();
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null) return load(key, created);
+        }
+
+        V value = entry.future.join();
+        entry.lastAccess = clock.incrementAndGet();
+        if (value != null) hits.increment();
+        else negativeHits.increment();
+        return value;
+    }
+
+    /**
+     * Gets a value like {@link #get} and keeps it cached: it still counts toward the budget but is never evicted.
+     * Meant for values kept by long-lived holders, so that the cache always hands out the instance they hold.
+     *
+     * @param key The key
+     * @return The value, or null if the resource does not exist
+     */
+    public V pin(String key) {
+        while (true) {
+            V value = get(key);
+            Entry<V> entry = entries.get(key);
+            if (entry == null || !entry.future.isDone() || entry.future.join() != value) continue;
+            synchronized (evictionLock) {
+                // ถ้าโดนไล่ออกไปก่อนจะปักหมุดทัน ก็โหลดใหม่แล้วปักอีกรอบ
+                if (entries.get(key) == entry) {
+                    entry.pinned = true;
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the value of a new entry and publishes it to the threads waiting for it.
+     *
+     * @param key   The key
+     * @param entry The entry created by this thread
+     * @return The value, or null if the resource does not exist
+     */
+    private V load(String key, Entry<V> entry) {
+        misses.increment();
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException e) {
+            value = null;
+        } catch (Error e) {
+            // ไม่จำว่าหาย แต่ต้องปลุก thread ที่รออยู่ด้วย
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+        loadNanos.add(System.nanoTime() - start);
+
+        entry.lastAccess = clock.incrementAndGet();
+        if (value != null) {
+            entry.weight = Math.max(0, weigher.applyAsLong(value));
+            weight.addAndGet(entry.weight);
+        }
+        entry.future.complete(value);
+        if (value != null && weight.get() > budget) evict(entry);
+        return value;
+    }
+
+    /**
+     * Evicts the least recently used values until the total weight fits the budget.
+     *
+     * @param keep The entry just loaded, never evicted
+     */
+    private void evict(Entry<V> keep) {
+        synchronized (evictionLock) {
+            while (weight.get() > budget) {
+                String oldestKey = null;
+                Entry<V> oldest = null;
+                for (Map.Entry<String, Entry<V>> e : entries.entrySet()) {
+                    Entry<V> candidate = e.getValue();
+                    if (candidate == keep || candidate.pinned || candidate.weight == 0 || !candidate.future.isDone()) {
+                        continue;
+                    }
+                    if (oldest == null || candidate.lastAccess < oldest.lastAccess) {
+                        oldestKey = e.getKey();
+                        oldest = candidate;
+                    }
+                }
+                if (oldest == null) return;
+                if (entries.remove(oldestKey, oldest)) {
+                    weight.addAndGet(-oldest.weight);
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops a key, e.g. to retry a resource that was missing. A pinned value is dropped too.
+     *
+     * @param key The key
+     */
+    public void invalidate(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.future.isDone() && entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight);
+        }
+    }
+
+    /**
+     * Drops every loaded or missing key, pinned ones included. Loads in progress finish normally.
+     */
+    public void clear() {
+        for (String key : entries.keySet()) invalidate(key);
+    }
+
+    /**
+     * Sets the maximum total weight. Values over a lowered budget are evicted on the next load.
+     *
+     * @param budget The budget (at least 0)
+     */
+    public void setBudget(long budget) {
+        if (budget < 0) throw new IllegalArgumentException("budget must be >= 0: " + budget);
+        this.budget = budget;
+    }
+
+    /**
+     * Gets the maximum total weight.
+     *
+     * @return The budget
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Takes a snapshot of the counters.
+     *
+     * @return The statistics
+     */
+    public Stats getStats() {
+        int cached = 0;
+        int missing = 0;
+        for (Entry<V> entry : entries.values()) {
+            if (!entry.future.isDone() || entry.future.isCompletedExceptionally()) continue;
+            if (entry.future.join() != null) cached++;
+            else missing++;
+        }
+        return new Stats(hits.sum(), misses.sum(), negativeHits.sum(), evictions.sum(),
+                loadNanos.sum(), cached, missing, weight.get(), budget);
+    }
+
+    /**
+     * A key of the cache: its load (done or in progress), weight and last access.
+     */
+    private static final class Entry<V> {
+
+        /**
+         * Completed with the value, or null if the resource does not exist.
+         */
+        final CompletableFuture<V> future = new CompletableFuture<>();
+
+        /**
+         * Weight of the value, 0 while loading or if missing.
+         */
+        volatile long weight;
+
+        /**
+         * Clock value of the last access.
+         */
+        volatile long lastAccess;
+
+        /**
+         * true if the value is never evicted.
+         */
+        volatile boolean pinned;
+    }
+
+    /**
+     * Snapshot of the counters of a cache.
+     */
+    public static final class Stats {
+
+        /**
+         * Lookups answered with a cached value, lookups that loaded, and lookups answered "missing".
+         */
+        private final long hits;
+        private final long misses;
+        private final long negativeHits;
+
+        /**
+         * Values evicted to stay within the budget.
+         */
+        private final long evictions;
+
+        /**
+         * Total time spent loading, in nanoseconds.
+         */
+        private final long loadNanos;
+
+        /**
+         * Keys currently cached as loaded and as missing.
+         */
+        private final int cachedCount;
+        private final int missingCount;
+
+        /**
+         * Total weight cached and the budget.
+         */
+        private final long weight;
+        private final long budget;
+
+        private Stats(long hits, long misses, long negativeHits, long evictions, long loadNanos,
+                      int cachedCount, int missingCount, long weight, long budget) {
+            this.hits = hits;
+            this.misses = misses;
+            this.negativeHits = negativeHits;
+            this.evictions = evictions;
+            this.loadNanos = loadNanos;
+            this.cachedCount = cachedCount;
+            this.missingCount = missingCount;
+            this.weight = weight;
+            this.budget = budget;
+        }
+
+        /**
+         * Gets the number of lookups answered with a cached value (including waits on another thread's load).
+         *
+         * @return Number of hits
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Gets the number of lookups that loaded the resource.
+         *
+         * @return Number of misses, i.e. loads
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Gets the number of lookups answered "missing" without trying to load again.
+         *
+         * @return Number of negative hits
+         */
+        public long getNegativeHits() {
+            return negativeHits;
+        }
+
+        /**
+         * Gets the number of values evicted to stay within the budget.
+         *
+         * @return Number of evictions
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Gets the total time spent loading.
+         *
+         * @return Load time in nanoseconds
+         */
+        public long getLoadNanos() {
+            return loadNanos;
+        }
+
+        /**
+         * Gets the number of values cached.
+         *
+         * @return Number of loaded keys
+         */
+        public int getCachedCount() {
+            return cachedCount;
+        }
+
+        /**
+         * Gets the number of keys remembered as missing.
+         *
+         * @return Number of missing keys
+         */
+        public int getMissingCount() {
+            return missingCount;
+        }
+
+        /**
+         * Gets the total weight cached.
+         *
+         * @return The weight
+         */
+        public long getWeight() {
+            return weight;
+        }
+
+        /**
+         * Gets the budget.
+         *
+         * @return The maximum total weight
+         */
+        public long getBudget() {
+            return budget;
+        }
+
+        /**
+         * Returns the statistics on one line, e.g. for a debug log.
+         *
+         * @return The statistics
+         */
+        @Override
+        public String toString() {
+            return "hits=" + hits + " misses=" + misses + " negativeHits=" + negativeHits
+                    + " evictions=" + evictions + " loadMs=" + loadNanos / 1_000_000
+                    + " cached=" + cachedCount + " missing=" + missingCount
+                    + " weight=" + weight + "/" + budget;
+        }
+    }
+}
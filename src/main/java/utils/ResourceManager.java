@@ -2,19 +2,32 @@ package utils;
 
 import javafx.scene.image.Image;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages the loading and caching of image resources.
+ * Safe to call from any thread, so images can be decoded in the background before they are shown.
+ * Images are kept in a {@link ResourceCache} bounded by their decoded size (4 bytes per pixel);
+ * the budget defaults to 64 MB and can be set with the system property {@code game.imageCacheBytes}.
+ * Paths that fail to load are remembered and not retried.
  */
 public class ResourceManager {
 
     /**
-     * Cache for storing loaded images to avoid reloading.
+     * Default budget of the image cache, in bytes of decoded pixels.
      */
-    private static final Map<String, Image> imageCache = new HashMap<>();
+    public static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+
+    /**
+     * Cache for storing loaded images to avoid reloading, keyed by classpath resource.
+     */
+    private static final ResourceCache<Image> imageCache = new ResourceCache<>(
+            ResourceManager::loadImage,
+            ResourceManager::decodedBytes,
+            Long.getLong("game.imageCacheBytes", DEFAULT_BUDGET)
+    );
 
     /**
      * Retrieves an image from the cache or loads it from the file system if not present.
@@ -23,18 +36,83 @@ public class ResourceManager {
      * @return The requested Image object, or null if loading fails
      */
     public static Image getImage(String path) {
-        String fullPath = "/assets/" + path;
-        if (imageCache.containsKey(fullPath)) {
-            return imageCache.get(fullPath);
-        }
+        return imageCache.get("/assets/" + path);
+    }
+
+    /**
+     * Retrieves an image like {@link #getImage} and keeps it cached for good, for images held by long-lived objects
+     * such as atlas pages: evicting them would free nothing, and the next request would decode a second copy.
+     *
+     * @param path The relative path to the image file within the assets directory
+     * @return The requested Image object, or null if loading fails
+     */
+    public static Image pinImage(String path) {
+        return imageCache.pin("/assets/" + path);
+    }
+
+    /**
+     * Starts loading an image in the background, e.g. the next stage's background,
+     * so that a later {@link #getImage} finds it cached.
+     *
+     * @param path The relative path to the image file within the assets directory (ignored if null)
+     */
+    public static void prefetchImage(String path) {
+        if (path != null) CompletableFuture.runAsync(() -> getImage(path));
+    }
 
-        try {
-            Image image = new Image(Objects.requireNonNull(ResourceManager.class.getResourceAsStream(fullPath)));
-            if (image.isError()) return null;
-            imageCache.put(fullPath, image);
-            return image;
-        } catch (Exception e) {
+    /**
+     * Decodes an image resource.
+     *
+     * @param fullPath The classpath resource
+     * @return The image, or null if the resource is missing or not a valid image
+     */
+    private static Image loadImage(String fullPath) {
+        try (InputStream in = ResourceManager.class.getResourceAsStream(fullPath)) {
+            if (in == null) {
+                System.err.println("Image not found: " + fullPath);
+                return null;
+            }
+            Image image = new Image(in);
+            return image.isError() ? null : image;
+        } catch (IOException e) {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the memory used by a decoded image.
+     *
+     * @param image The image
+     * @return Its size in bytes, at 4 bytes per pixel
+     */
+    static long decodedBytes(Image image) {
+        return (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4;
+    }
+
+    /**
+     * Sets the memory budget of the image cache. The least recently used images are evicted
+     * once the decoded images exceed it; images still shown stay valid, they are only reloaded on the next request.
+     * Pinned images are never evicted.
+     *
+     * @param bytes The budget in bytes of decoded pixels
+     */
+    public static void setMemoryBudget(long bytes) {
+        imageCache.setBudget(bytes);
+    }
+
+    /**
+     * Gets the counters of the image cache.
+     *
+     * @return Hits, misses, evictions, load time and memory use so far
+     */
+    public static ResourceCache.Stats getStats() {
+        return imageCache.getStats();
+    }
+
+    /**
+     * Drops every cached image and every path remembered as missing.
+     */
+    public static void clear() {
+        imageCache.clear();
+    }
+}
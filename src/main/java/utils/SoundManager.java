@@ -4,19 +4,25 @@ import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages the playback of sound effects and background music.
+ * Clips and music can be loaded ahead from any thread with {@link #preloadSound} and {@link #prepareBGM}.
  */
 public class SoundManager {
 
     /**
      * Cache for storing loaded sound clips.
      */
-    private static final Map<String, AudioClip> soundCache = new HashMap<>();
+    private static final Map<String, AudioClip> soundCache = new ConcurrentHashMap<>();
+
+    /**
+     * Music loaded ahead by {@link #prepareBGM}, by path.
+     */
+    private static final Map<String, Media> bgmCache = new ConcurrentHashMap<>();
 
     /**
      * Player for the background music.
@@ -33,17 +39,10 @@ public class SoundManager {
         String path = "/assets/sounds/" + fileName;
 
         try {
-            AudioClip clip = soundCache.get(path);
-
+            AudioClip clip = loadClip(path);
             if (clip == null) {
-                if (SoundManager.class.getResource(path) == null) {
-                    System.err.println("Sound not found: " + path);
-                    return;
-                }
-
-                String uri = Objects.requireNonNull(SoundManager.class.getResource(path)).toExternalForm();
-                clip = new AudioClip(uri);
-                soundCache.put(path, clip);
+                System.err.println("Sound not found: " + path);
+                return;
             }
 
             clip.setVolume(1.0);
@@ -55,6 +54,60 @@ public class SoundManager {
         }
     }
 
+    /**
+     * Loads a sound effect into the cache without playing it.
+     *
+     * @param fileName The name of the sound file
+     * @return true if the sound is now cached, false if it does not exist
+     */
+    public static boolean preloadSound(String fileName) {
+        return loadClip("/assets/sounds/" + fileName) != null;
+    }
+
+    /**
+     * Gets a sound clip from the cache, loading it on first use.
+     *
+     * @param path The classpath resource of the sound
+     * @return The clip, or null if the sound does not exist
+     */
+    private static AudioClip loadClip(String path) {
+        AudioClip clip = soundCache.get(path);
+        if (clip != null) return clip;
+
+        if (SoundManager.class.getResource(path) == null) return null;
+        String uri = Objects.requireNonNull(SoundManager.class.getResource(path)).toExternalForm();
+        AudioClip loaded = new AudioClip(uri);
+        AudioClip previous = soundCache.putIfAbsent(path, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * Loads background music ahead, so {@link #playBGM} can start it without opening the file.
+     *
+     * @param fileName The name of the music file
+     * @return true if the music is now prepared, false if it does not exist
+     */
+    public static boolean prepareBGM(String fileName) {
+        return loadMedia("/assets/backgrounds/" + fileName) != null;
+    }
+
+    /**
+     * Gets background music from the cache, loading it on first use.
+     *
+     * @param path The classpath resource of the music
+     * @return The media, or null if the music does not exist
+     */
+    private static Media loadMedia(String path) {
+        Media media = bgmCache.get(path);
+        if (media != null) return media;
+
+        if (SoundManager.class.getResource(path) == null) return null;
+        String uri = Objects.requireNonNull(SoundManager.class.getResource(path)).toExternalForm();
+        Media loaded = new Media(uri);
+        Media previous = bgmCache.putIfAbsent(path, loaded);
+        return previous != null ? previous : loaded;
+    }
+
     /**
      * Plays background music in a loop.
      * Stops any currently playing BGM before starting the new one.
@@ -71,14 +124,12 @@ public class SoundManager {
                 bgmPlayer.dispose(); // คืน resource
             }
 
-            if (SoundManager.class.getResource(path) == null) {
+            Media media = loadMedia(path);
+            if (media == null) {
                 System.err.println("BGM not found: " + path);
                 return;
             }
 
-            String uri = Objects.requireNonNull(SoundManager.class.getResource(path)).toExternalForm();
-            Media media = new Media(uri);
-
             bgmPlayer = new MediaPlayer(media);
 
             bgmPlayer.setCycleCount(MediaPlayer.INDEFINITE);
@@ -0,0 +1,60 @@
+package utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * One frame to draw: an image and, for atlas frames, the region of it holding the frame.
+ */
+public final class Sprite {
+
+    /**
+     * Image holding the frame (an atlas page or a standalone image).
+     */
+    private final Image image;
+
+    /**
+     * Region of the image holding the frame, or null for the whole image.
+     */
+    private final Rectangle2D viewport;
+
+    /**
+     * Constructs a sprite.
+     *
+     * @param image    Image holding the frame
+     * @param viewport Region of the image holding the frame, or null for the whole image
+     */
+    public Sprite(Image image, Rectangle2D viewport) {
+        this.image = image;
+        this.viewport = viewport;
+    }
+
+    /**
+     * Shows this frame in an image view.
+     *
+     * @param view The image view
+     */
+    public void applyTo(ImageView view) {
+        view.setImage(image);
+        view.setViewport(viewport);
+    }
+
+    /**
+     * Gets the image holding the frame.
+     *
+     * @return The image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the region of the image holding the frame.
+     *
+     * @return The region, or null for the whole image
+     */
+    public Rectangle2D getViewport() {
+        return viewport;
+    }
+}
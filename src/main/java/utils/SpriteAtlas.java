@@ -0,0 +1,141 @@
+package utils;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runtime side of a texture atlas packed by {@link AtlasPacker}.
+ * Every frame is a viewport on one of a few shared page images, so the frames of all characters
+ * cost one or two decodes and texture uploads instead of one per file.
+ * A frame missing from the atlas (or an atlas missing altogether) falls back to its standalone PNG.
+ */
+public final class SpriteAtlas {
+
+    /**
+     * Atlas of every character frame, relative to the assets directory.
+     */
+    public static final String CHARACTERS = "atlas/characters";
+
+    /**
+     * Directory the character frames were packed from, relative to the assets directory.
+     */
+    public static final String CHARACTERS_SOURCE = "characters/";
+
+    /**
+     * Base path of the atlas files, relative to the assets directory.
+     */
+    private final String name;
+
+    /**
+     * Directory of the standalone frames, relative to the assets directory.
+     */
+    private final String fallbackDir;
+
+    /**
+     * Where each frame lies.
+     */
+    private final AtlasIndex index;
+
+    /**
+     * Sprites already resolved, including misses (null).
+     */
+    private final Map<String, Sprite> sprites = new HashMap<>();
+
+    /**
+     * Lazily loaded atlas of the characters.
+     */
+    private static final class CharactersHolder {
+        static final SpriteAtlas INSTANCE = load(CHARACTERS, CHARACTERS_SOURCE);
+    }
+
+    /**
+     * Constructs an atlas.
+     *
+     * @param name        Base path of the atlas files
+     * @param fallbackDir Directory of the standalone frames
+     * @param index       Where each frame lies
+     */
+    private SpriteAtlas(String name, String fallbackDir, AtlasIndex index) {
+        this.name = name;
+        this.fallbackDir = fallbackDir;
+        this.index = index;
+    }
+
+    /**
+     * Gets the atlas of the characters, loading its index on first use.
+     *
+     * @return The characters atlas
+     */
+    public static SpriteAtlas getCharacters() {
+        return CharactersHolder.INSTANCE;
+    }
+
+    /**
+     * Loads the index of an atlas. Its pages are decoded on first use of one of their frames.
+     * A missing or invalid index gives an atlas where every frame falls back to its standalone PNG.
+     *
+     * @param name        Base path of the atlas files, e.g. "atlas/characters"
+     * @param fallbackDir Directory of the standalone frames, e.g. "characters/"
+     * @return The atlas
+     */
+    public static SpriteAtlas load(String name, String fallbackDir) {
+        String path = "/assets/" + name + ".csv";
+        AtlasIndex index;
+        try (InputStream in = SpriteAtlas.class.getResourceAsStream(path)) {
+            if (in == null) throw new IOException("Missing atlas index " + path);
+            index = AtlasIndex.load(in);
+        } catch (IOException e) {
+            System.err.println("[SpriteAtlas] " + e.getMessage() + ", using standalone frames");
+            index = new AtlasIndex(List.of());
+        }
+        return new SpriteAtlas(name, fallbackDir, index);
+    }
+
+    /**
+     * Gets a frame.
+     *
+     * @param frame The frame name, its path below the packed directory without ".png" (e.g. "player/player_idle")
+     * @return The sprite, or null if the frame exists neither in the atlas nor as a standalone PNG
+     */
+    public Sprite getSprite(String frame) {
+        if (sprites.containsKey(frame)) return sprites.get(frame);
+
+        Sprite sprite = null;
+        AtlasIndex.Frame f = index.get(frame);
+        // หน้า atlas ถูก Sprite ทุกตัวถือไว้ตลอดเกม จึงปักหมุดไว้ใน cache ไม่ให้โดนไล่ออกแล้วโหลดซ้ำ
+        Image page = f == null ? null : ResourceManager.pinImage(getPagePath(f.getPage()));
+        if (page != null) {
+            sprite = new Sprite(page, new Rectangle2D(f.getX(), f.getY(), f.getWidth(), f.getHeight()));
+        } else {
+            Image image = ResourceManager.getImage(fallbackDir + frame + ".png");
+            if (image != null) sprite = new Sprite(image, null);
+        }
+        sprites.put(frame, sprite);
+        return sprite;
+    }
+
+    /**
+     * Gets the image of a page, relative to the assets directory.
+     *
+     * @param page The page
+     * @return The path for {@link ResourceManager#getImage}, e.g. "atlas/characters-0.png"
+     */
+    public String getPagePath(int page) {
+        return name + "-" + page + ".png";
+    }
+
+    /**
+     * Gets the index of the atlas.
+     *
+     * @return The index (empty if the atlas is missing)
+     */
+    public AtlasIndex getIndex() {
+        return index;
+    }
+}
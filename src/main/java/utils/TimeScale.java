@@ -0,0 +1,82 @@
+package utils;
+
+/**
+ * Enumeration of the game speeds applied to every animation and delayed step.
+ */
+public enum TimeScale {
+    /** Normal speed. */
+    NORMAL("1x", 1),
+    /** Twice as fast. */
+    DOUBLE("2x", 2),
+    /** Four times as fast. */
+    QUADRUPLE("4x", 4),
+    /** No delay at all; every step still runs, in order. */
+    INSTANT("INSTANT", 0);
+
+    /**
+     * Label shown on the speed button.
+     */
+    private final String label;
+
+    /**
+     * Speed factor; 0 means no delay at all.
+     */
+    private final int factor;
+
+    /**
+     * Constructs a time scale.
+     *
+     * @param label  Label shown on the speed button
+     * @param factor Speed factor, or 0 for instant
+     */
+    TimeScale(String label, int factor) {
+        this.label = label;
+        this.factor = factor;
+    }
+
+    /**
+     * Scales a duration.
+     *
+     * @param millis The duration at normal speed in milliseconds
+     * @return The duration at this speed in milliseconds
+     */
+    public double scale(double millis) {
+        return factor == 0 ? 0 : millis / factor;
+    }
+
+    /**
+     * Gets the next speed, wrapping around to normal speed.
+     *
+     * @return The next time scale
+     */
+    public TimeScale next() {
+        TimeScale[] values = values();
+        return values[(ordinal() + 1) % values.length];
+    }
+
+    /**
+     * Gets the label shown on the speed button.
+     *
+     * @return The label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Finds a time scale by label or name, ignoring case.
+     *
+     * @param text The label (e.g. "4x") or name (e.g. "INSTANT")
+     * @return The time scale, or NORMAL if none matches
+     */
+    public static TimeScale parse(String text) {
+        if (text != null) {
+            for (TimeScale scale : values()) {
+                if (scale.label.equalsIgnoreCase(text) || scale.name().equalsIgnoreCase(text)) {
+                    return scale;
+                }
+            }
+        }
+        return NORMAL;
+    }
+}
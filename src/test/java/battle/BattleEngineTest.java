@@ -0,0 +1,203 @@
+package battle;
+
+import entity.*;
+import items.OrganParts;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleEngineTest {
+
+    @Test
+    void createStageEnemyShouldFollowStageOrder() {
+        assertInstanceOf(NormalZombie.class, BattleEngine.createStageEnemy(1));
+        assertInstanceOf(RottenZombie.class, BattleEngine.createStageEnemy(2));
+        assertInstanceOf(ArmoredZombie.class, BattleEngine.createStageEnemy(3));
+        assertInstanceOf(RunnerZombie.class, BattleEngine.createStageEnemy(4));
+        assertInstanceOf(BossZombie.class, BattleEngine.createStageEnemy(5));
+        assertNull(BattleEngine.createStageEnemy(StageCatalog.getDefault().size() + 1));
+    }
+
+    @Test
+    void newBattleShouldClearPlayerPoison() {
+        Player p = new Player("Hunter");
+        p.applyPoison(5, 3);
+
+        new BattleEngine(p, new NormalZombie());
+
+        assertFalse(p.isPoisoned());
+    }
+
+    @Test
+    void newBattleShouldClearEveryPlayerStatusEffect() {
+        Player p = new Player("Hunter");
+        p.applyStatus(StatusEffectType.HASTE, 50, 3);
+        p.applyStatus(StatusEffectType.ARMOR_BREAK, 10, 3);
+        p.applyStatus(StatusEffectType.STUN, 0, 1);
+
+        new HordeBattle(p, List.of(new NormalZombie()), 1L);
+        assertTrue(p.getStatusEffects().isEmpty());
+
+        p.applyStatus(StatusEffectType.BLEED, 5, 3);
+        p.applyStatus(StatusEffectType.REGEN, 5, 3);
+        new BattleEngine(p, new NormalZombie(), 1L);
+        assertTrue(p.getStatusEffects().isEmpty());
+    }
+
+    @Test
+    void stunnedPlayerShouldLoseTheTurn() {
+        Player p = new Player("Hunter");
+        p.setHp(50);
+        NormalZombie z = new NormalZombie();
+        z.setDodgeChance(0.0);
+
+        BattleEngine engine = new BattleEngine(p, z, 1L);
+        p.applyStatus(StatusEffectType.STUN, 0, 1);
+
+        AttackResult result = engine.playerAttack();
+        assertTrue(result.isAttackerStunned());
+        assertEquals(0, result.getDamage());
+        assertEquals(z.getMaxHp(), z.getHp());
+        assertEquals(0, engine.playerHeal());
+        assertEquals(50, p.getHp());
+        assertEquals(2, engine.getTurns());
+
+        // stun หมดตอนเริ่มเทิร์นศัตรู
+        engine.tickPlayerStatus();
+        assertFalse(engine.playerAttack().isAttackerStunned());
+        assertTrue(z.getHp() < z.getMaxHp());
+    }
+
+    @Test
+    void enemyKilledByItsOwnBleedShouldNotAttack() {
+        Player p = new Player("Hunter");
+        NormalZombie z = new NormalZombie();
+        BattleEngine engine = new BattleEngine(p, z, 1L);
+        z.setHp(3);
+        z.applyStatus(StatusEffectType.BLEED, 5, 2);
+
+        AttackResult result = engine.enemyAttack();
+
+        assertTrue(result.isAttackerDefeated());
+        assertFalse(result.isAttackerStunned());
+        assertTrue(result.isSkipped());
+        assertFalse(result.isTargetDefeated());
+        assertEquals(p.getMaxHp(), p.getHp());
+        assertEquals(BattleOutcome.PLAYER_WON, engine.getOutcome());
+    }
+
+    @Test
+    void fightShouldResolveWholeBattleIncludingNormalZombieRegen() {
+        Player p = new Player("Hunter");
+        p.setCritChance(0.0);
+        p.setDodgeChance(1.0);   // ไม่โดนตีเลย
+
+        NormalZombie z = new NormalZombie();
+        z.setDodgeChance(0.0);
+
+        BattleEngine engine = new BattleEngine(p, z);
+        BattleOutcome outcome = engine.fight(100);
+
+        // 100 HP + 5 DEF, 20 dmg per hit, +5 regen after each enemy turn below half HP
+        assertEquals(BattleOutcome.PLAYER_WON, outcome);
+        assertEquals(6, engine.getTurns());
+        assertEquals(p.getMaxHp(), p.getHp());
+    }
+
+    @Test
+    void fightShouldStopAtTurnLimit() {
+        Player p = new Player("Hunter");
+        p.setDodgeChance(1.0);
+
+        NormalZombie z = new NormalZombie();
+        z.setDodgeChance(1.0);   // ตีไม่โดนเลย
+
+        BattleEngine engine = new BattleEngine(p, z);
+
+        assertEquals(BattleOutcome.UNRESOLVED, engine.fight(10));
+        assertEquals(10, engine.getTurns());
+    }
+
+    @Test
+    void playerAttackShouldMissWhenEnemyDodges() {
+        Player p = new Player("Hunter");
+        NormalZombie z = new NormalZombie();
+        z.setDodgeChance(1.0);
+
+        AttackResult result = new BattleEngine(p, z).playerAttack();
+
+        assertTrue(result.isDodged());
+        assertEquals(0, result.getDamage());
+        assertEquals(z.getMaxHp(), z.getHp());
+    }
+
+    @Test
+    void rottenZombieAttackShouldPoisonPlayerAndPoisonShouldTick() {
+        Player p = new Player("Hunter");
+        p.setDodgeChance(0.0);
+        p.setDefense(0);
+
+        RottenZombie z = new RottenZombie();
+        z.setCritChance(0.0);
+
+        BattleEngine engine = new BattleEngine(p, z);
+        AttackResult result = engine.enemyAttack();
+
+        assertEquals(25, result.getDamage());
+        assertTrue(p.isPoisoned());
+        assertEquals(5, engine.tickPlayerStatus());
+    }
+
+    @Test
+    void bossShouldEnrageWhenBelowHalfHpOnItsTurn() {
+        Player p = new Player("Hunter");
+        BossZombie boss = new BossZombie();
+        boss.setHp(boss.getMaxHp() / 2);
+
+        BattleEngine engine = new BattleEngine(p, boss);
+        engine.enemyAttack();
+
+        assertTrue(boss.isEnraged());
+    }
+
+    @Test
+    void collectLootShouldAddDropToPlayer() {
+        Player p = new Player("Hunter");
+        BossZombie boss = new BossZombie();
+
+        OrganParts loot = new BattleEngine(p, boss).collectLoot();
+
+        assertEquals(100, loot.getHearts());
+        assertEquals(100, p.getHeartParts());
+        assertEquals(100, p.getBrainParts());
+    }
+
+    @Test
+    void sameSeedShouldReproduceTheSameBattle() {
+        Player p1 = new Player("Hunter");
+        BattleEngine first = new BattleEngine(p1, new BossZombie(), 1234L);
+        BattleOutcome outcome1 = first.fight(200);
+
+        Player p2 = new Player("Hunter");
+        BattleEngine second = new BattleEngine(p2, new BossZombie(), 1234L);
+        BattleOutcome outcome2 = second.fight(200);
+
+        assertEquals(outcome1, outcome2);
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(p1.getHp(), p2.getHp());
+        assertEquals(first.getEnemy().getHp(), second.getEnemy().getHp());
+        assertEquals(1234L, first.getSeed());
+    }
+
+    @Test
+    void battleShouldShareItsRandomGeneratorWithBothFighters() {
+        Player p = new Player("Hunter");
+        NormalZombie z = new NormalZombie();
+
+        new BattleEngine(p, z, 99L);
+
+        assertSame(p.getRandom(), z.getRandom());
+    }
+}
@@ -0,0 +1,195 @@
+package battle;
+
+import entity.BossZombie;
+import entity.Player;
+import entity.Zombie;
+import event.CombatEventBus;
+import items.Potion;
+import items.armor.KevlarJacket;
+import items.armor.LeatherJacket;
+import items.armor.RiotSuit;
+import items.weapon.Axe;
+import items.weapon.CombatKnife;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleRecordTest {
+
+    /**
+     * Attaches a bus recording every event as text to the player.
+     */
+    private static List<String> captureEvents(Player player) {
+        List<String> events = new ArrayList<>();
+        CombatEventBus bus = new CombatEventBus();
+        bus.addListener((type, source, target, amount, after) ->
+                events.add(type + " " + source + "->" + target + " " + amount + "/" + after));
+        player.setEventBus(bus);
+        return events;
+    }
+
+    /**
+     * Plays a battle the way GameController does, with potions and equipment swaps.
+     */
+    private static void playLikeController(BattleEngine engine, Potion potion, LeatherJacket jacket) {
+        int turn = 0;
+        while (engine.getOutcome() == BattleOutcome.UNRESOLVED) {
+            turn++;
+            if (turn == 3) engine.equipArmor(jacket);
+            if (turn == 5) engine.usePotion(potion);
+
+            if (turn % 4 == 0) {
+                engine.playerHeal();
+            } else {
+                engine.playerAttack();
+                if (engine.getOutcome() != BattleOutcome.UNRESOLVED) break;
+            }
+
+            engine.tickPlayerStatus();
+            if (engine.getOutcome() != BattleOutcome.UNRESOLVED) break;
+            engine.enemyAttack();
+        }
+        engine.collectLoot();
+    }
+
+    @Test
+    void replayShouldReproduceEveryStateChange() throws IOException {
+        Player player = new Player("Hunter");
+        player.equipWeapon(new Axe());
+        player.equipArmor(new KevlarJacket());
+        player.addHearts(40);
+        Potion potion = new Potion("Big Medkit", 80, 7, 3);
+        player.addPotionToInventory(potion);
+        player.setHp(90);
+        LeatherJacket jacket = new LeatherJacket();
+
+        List<String> original = captureEvents(player);
+        BattleEngine engine = new BattleEngine(player, new BossZombie(), 777L);
+        BattleRecord record = engine.startRecording();
+        playLikeController(engine, potion, jacket);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        record.write(bytes);
+        BattleRecord loaded = BattleRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        Player replayedPlayer = loaded.createPlayer();
+        List<String> replayed = captureEvents(replayedPlayer);
+        BattleEngine replay = new BattleEngine(replayedPlayer, loaded.createEnemy(), loaded.getSeed());
+        loaded.applyTo(replay);
+
+        assertEquals(original, replayed);
+        assertTrue(loaded.matches(replay));
+        assertEquals(record.getActionCount(), loaded.getActionCount());
+        assertEquals(player.getHeartParts(), replayedPlayer.getHeartParts());
+        assertEquals(player.getDefense(), replayedPlayer.getDefense());
+        assertEquals(player.getPotions().size(), replayedPlayer.getPotions().size());
+    }
+
+    @Test
+    void verifyShouldDetectDivergence() {
+        Player player = new Player("Hunter");
+        player.equipWeapon(new CombatKnife());
+        BattleEngine engine = new BattleEngine(player, new BossZombie(), 5L);
+        BattleRecord record = engine.startRecording();
+        engine.fight(200);
+
+        assertTrue(BattleReplayer.verify(record));
+
+        // เล่นเพิ่มอีกเทิร์นหลัง replay → สถานะไม่ตรงกับที่บันทึกไว้
+        BattleEngine replay = BattleReplayer.replay(record);
+        replay.playerAttack();
+        assertFalse(record.matches(replay));
+    }
+
+    @Test
+    void actionsShouldTakeOneByteEach() throws IOException {
+        Player player = new Player("Hunter");
+        BattleEngine engine = new BattleEngine(player, new BossZombie(), 1L);
+        BattleRecord record = engine.startRecording();
+
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        record.write(empty);
+
+        for (int i = 0; i < 100; i++) engine.playerAttack();
+        ByteArrayOutputStream full = new ByteArrayOutputStream();
+        record.write(full);
+
+        assertEquals(100, full.size() - empty.size());
+    }
+
+    @Test
+    void readShouldRejectOtherData() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+
+        assertThrows(IOException.class, () -> BattleRecord.read(new ByteArrayInputStream(garbage)));
+    }
+
+    @Test
+    void replayShouldRebuildGeneratedEndlessEnemy() throws IOException {
+        Zombie wave = new EndlessWaveGenerator(99L).createEnemy(12);
+        Player player = new Player("Hunter");
+        player.equipWeapon(new Axe());
+        BattleEngine engine = new BattleEngine(player, wave, 12L);
+        BattleRecord record = engine.startRecording();
+        engine.fight(200);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        record.write(bytes);
+        BattleRecord loaded = BattleRecord.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        Zombie rebuilt = new EndlessWaveGenerator(99L).createEnemy(12);
+        Zombie replayed = loaded.createEnemy();
+        assertEquals(rebuilt.getKind(), replayed.getKind());
+        assertEquals(rebuilt.getMaxHp(), replayed.getMaxHp());
+        assertEquals(rebuilt.getAttackPower(), replayed.getAttackPower());
+        assertEquals(rebuilt.getDefense(), replayed.getDefense());
+        assertEquals(rebuilt.getCritChance(), replayed.getCritChance());
+        assertEquals(rebuilt.getCritDamage(), replayed.getCritDamage());
+        assertEquals(rebuilt.getDodgeChance(), replayed.getDodgeChance());
+        assertTrue(BattleReplayer.verify(loaded));
+    }
+
+    @Test
+    void armorSwapDuringBattleShouldReplayTheSameDefense() {
+        Player player = new Player("Hunter");
+        player.equipArmor(new LeatherJacket());
+        player.setDodgeChance(0.0);
+        player.takeDamage(7);
+        BattleEngine engine = new BattleEngine(player, new BossZombie(), 3L);
+        BattleRecord record = engine.startRecording();
+        engine.equipArmor(new RiotSuit());
+        engine.playerAttack();
+
+        BattleEngine replay = BattleReplayer.replay(record);
+        assertEquals(player.getDefense(), replay.getPlayer().getDefense());
+        assertTrue(record.matches(replay));
+
+        // HP กับเทิร์นยังตรงกัน แต่ defense เพี้ยน → ต้องจับได้
+        replay.getPlayer().equipArmor(null);
+        assertFalse(record.matches(replay));
+    }
+
+    @Test
+    void readShouldRejectOutOfRangeValuesWithIOException() throws IOException {
+        Player player = new Player("Hunter");
+        BattleEngine engine = new BattleEngine(player, new BossZombie(), 1L);
+        BattleRecord record = engine.startRecording();
+        engine.playerAttack();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        record.write(out);
+
+        byte[] badKind = out.toByteArray();
+        badKind[13] = (byte) 200;   // magic(4) + version(1) + seed(8) → ชนิดศัตรู
+        assertThrows(IOException.class, () -> BattleRecord.read(new ByteArrayInputStream(badKind)));
+
+        byte[] badOutcome = out.toByteArray();
+        badOutcome[badOutcome.length - 41] = (byte) 99;   // หลัง outcome มี HP/เทิร์น 12 ไบต์ กับรายละเอียดอีก 28 ไบต์
+        assertThrows(IOException.class, () -> BattleRecord.read(new ByteArrayInputStream(badOutcome)));
+    }
+}
@@ -0,0 +1,105 @@
+package battle;
+
+import entity.NormalZombie;
+import entity.Player;
+import interfaces.StepScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleStateMachineTest {
+
+    @Test
+    void inputsShouldOnlyBeAcceptedInTheirStates() {
+        BattleStateMachine flow = new BattleStateMachine(BattleState.PLAYER_TURN, StepScheduler.IMMEDIATE);
+
+        assertTrue(flow.accepts(BattleInput.ATTACK));
+        flow.transition(BattleState.RESOLVING);
+
+        assertFalse(flow.accepts(BattleInput.ATTACK));
+        assertFalse(flow.accepts(BattleInput.HEAL));
+        assertFalse(flow.accepts(BattleInput.OPEN_INVENTORY));
+        assertEquals(3, flow.getRejectedCount());
+    }
+
+    @Test
+    void illegalTransitionShouldThrow() {
+        BattleStateMachine flow = new BattleStateMachine(BattleState.ENEMY_TURN, StepScheduler.IMMEDIATE);
+
+        assertThrows(IllegalStateException.class, () -> flow.transition(BattleState.SHOP));
+        assertEquals(BattleState.ENEMY_TURN, flow.getState());
+        // ศัตรูตายจาก bleed/poison ของตัวเองได้ในเทิร์นของมัน
+        assertTrue(flow.canTransition(BattleState.STAGE_CLEAR));
+
+        flow.transition(BattleState.GAME_OVER);
+        assertFalse(flow.canTransition(BattleState.PLAYER_TURN));
+    }
+
+    @Test
+    void staleDelayedStepsShouldBeDropped() {
+        Deque<Runnable> queue = new ArrayDeque<>();
+        BattleStateMachine flow = new BattleStateMachine(BattleState.ENEMY_TURN, (delay, step) -> queue.add(step));
+        int[] runs = new int[1];
+
+        flow.runLater(1000, () -> runs[0]++);
+        flow.transitionLater(1000, BattleState.PLAYER_TURN, () -> runs[0]++);
+
+        // เกมจบก่อน callback จะทำงาน
+        flow.transition(BattleState.GAME_OVER);
+        while (!queue.isEmpty()) queue.poll().run();
+
+        assertEquals(0, runs[0]);
+        assertEquals(BattleState.GAME_OVER, flow.getState());
+        assertEquals(2, flow.getRejectedCount());
+    }
+
+    @Test
+    void transitionLatencyShouldBeMeasured() {
+        long[] now = {0};
+        BattleStateMachine flow = new BattleStateMachine(BattleState.PLAYER_TURN, StepScheduler.IMMEDIATE, () -> now[0]);
+
+        now[0] = 300;
+        flow.transition(BattleState.RESOLVING);
+        now[0] = 800;
+        flow.transition(BattleState.ENEMY_TURN);
+        now[0] = 900;
+        flow.transition(BattleState.PLAYER_TURN);
+        now[0] = 1000;
+        flow.transition(BattleState.RESOLVING);
+
+        assertEquals(100, flow.getLastTransitionNanos());
+        assertEquals(2, flow.getTransitionCount(BattleState.PLAYER_TURN, BattleState.RESOLVING));
+        assertEquals(200, flow.getAverageTransitionNanos(BattleState.PLAYER_TURN, BattleState.RESOLVING));
+        assertEquals(500, flow.getAverageTransitionNanos(BattleState.RESOLVING, BattleState.ENEMY_TURN));
+    }
+
+    @Test
+    void headlessFlowShouldDriveWholeBattleInstantly() {
+        Player p = new Player("Hunter");
+        BattleEngine engine = new BattleEngine(p, new NormalZombie(), 42L);
+        BattleStateMachine flow = new BattleStateMachine(BattleState.SHOP, StepScheduler.IMMEDIATE);
+        flow.transition(BattleState.PLAYER_TURN);
+
+        while (flow.accepts(BattleInput.ATTACK)) {
+            flow.transition(BattleState.RESOLVING);
+            engine.playerAttack();
+            if (!engine.getEnemy().isAlive()) {
+                flow.transitionLater(1200, BattleState.STAGE_CLEAR, null);
+                break;
+            }
+            flow.transitionLater(500, BattleState.ENEMY_TURN, () -> {
+                engine.tickPlayerStatus();
+                if (p.isAlive()) engine.enemyAttack();
+                flow.transitionLater(1000, p.isAlive() ? BattleState.PLAYER_TURN : BattleState.GAME_OVER, null);
+            });
+        }
+
+        BattleState expected = engine.getOutcome() == BattleOutcome.PLAYER_WON
+                ? BattleState.STAGE_CLEAR : BattleState.GAME_OVER;
+        assertEquals(expected, flow.getState());
+        assertEquals(engine.getTurns(), flow.getTransitionCount(BattleState.PLAYER_TURN, BattleState.RESOLVING));
+    }
+}
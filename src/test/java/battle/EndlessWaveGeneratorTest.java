@@ -0,0 +1,50 @@
+package battle;
+
+import entity.BossZombie;
+import entity.Zombie;
+import entity.ZombieKind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndlessWaveGeneratorTest {
+
+    @Test
+    void sameSeedShouldRegenerateTheSameWaveInAnyOrder() {
+        EndlessWaveGenerator first = new EndlessWaveGenerator(42L);
+        EndlessWaveGenerator second = new EndlessWaveGenerator(42L);
+
+        String late = second.wave(5_000).toString();
+        for (int n = 1; n <= 50; n++) {
+            assertEquals(first.wave(n).toString(), second.wave(n).toString());
+        }
+        assertEquals(late, first.wave(5_000).toString());
+        assertNotEquals(first.wave(3).toString(), new EndlessWaveGenerator(43L).wave(3).toString());
+    }
+
+    @Test
+    void wavesShouldGetHarderAndBossesShouldComeEveryTenWaves() {
+        EndlessWaveGenerator generator = new EndlessWaveGenerator(7L);
+
+        assertEquals(ZombieKind.BOSS, generator.wave(EndlessWaveGenerator.BOSS_INTERVAL).getKind());
+        assertNotEquals(ZombieKind.BOSS, generator.wave(EndlessWaveGenerator.BOSS_INTERVAL + 1).getKind());
+        assertTrue(generator.wave(20).getMaxHp() < generator.wave(200).getMaxHp());
+        assertTrue(generator.wave(1_000_000).getDodgeChance() <= 0.35);
+        assertThrows(IllegalArgumentException.class, () -> generator.wave(0));
+    }
+
+    @Test
+    void createEnemyShouldApplyTheWaveStats() {
+        EndlessWave wave = new EndlessWaveGenerator(99L).wave(30);
+        Zombie zombie = wave.createEnemy();
+
+        assertInstanceOf(BossZombie.class, zombie);
+        assertEquals(wave.getMaxHp(), zombie.getMaxHp());
+        assertEquals(wave.getMaxHp(), zombie.getHp());
+        assertEquals(wave.getAttackPower(), zombie.getAttackPower());
+        assertEquals(wave.getDefense(), zombie.getDefense());
+        assertEquals(wave.getCritChance(), zombie.getCritChance());
+        assertEquals(wave.getCritDamage(), zombie.getCritDamage());
+        assertEquals(wave.getDodgeChance(), zombie.getDodgeChance());
+    }
+}
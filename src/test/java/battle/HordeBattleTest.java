@@ -0,0 +1,93 @@
+package battle;
+
+import entity.*;
+import items.OrganParts;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HordeBattleTest {
+
+    private static Zombie zombie(int hp, int attack) {
+        Zombie z = new NormalZombie();
+        z.setBaseStats(hp, attack, 0, 0.0, 1.0, 0.0);
+        return z;
+    }
+
+    @Test
+    void hordeShouldTrackTargetsAsStatsChange() {
+        Horde horde = new Horde(2);
+        Zombie weak = zombie(30, 5);
+        Zombie strong = zombie(90, 40);
+        Zombie middle = zombie(60, 10);
+        horde.add(weak);
+        horde.add(strong);
+        horde.add(middle);
+
+        assertSame(weak, horde.target(TargetingMode.LOWEST_HP));
+        assertSame(strong, horde.target(TargetingMode.HIGHEST_THREAT));
+        assertSame(weak, horde.target(TargetingMode.FRONT_MOST));
+
+        strong.setHp(10);
+        assertFalse(horde.refresh(1));
+        assertSame(strong, horde.target(TargetingMode.LOWEST_HP));
+
+        weak.takeDamage(1_000);
+        assertTrue(horde.refresh(0));
+        assertSame(strong, horde.target(TargetingMode.FRONT_MOST));
+        assertEquals(2, horde.getLivingCount());
+        assertNull(horde.get(0));
+    }
+
+    @Test
+    void heapsShouldMatchALinearScanUnderRandomUpdates() {
+        SplittableRandom rng = new SplittableRandom(5);
+        Horde horde = new Horde(8);
+        List<Zombie> all = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Zombie z = zombie(1 + rng.nextInt(500), rng.nextInt(100));
+            all.add(z);
+            horde.add(z);
+        }
+
+        for (int step = 0; step < 2_000 && !horde.isDefeated(); step++) {
+            int slot = rng.nextInt(all.size());
+            Zombie z = horde.get(slot);
+            if (z == null) continue;
+            z.setHp(z.getHp() - rng.nextInt(60));
+            z.setAttackPower(rng.nextInt(100));
+            horde.refresh(slot);
+
+            int lowest = Integer.MAX_VALUE;
+            for (int i = 0; i < horde.getLivingCount(); i++) {
+                lowest = Math.min(lowest, horde.get(horde.getLivingSlot(i)).getHp());
+            }
+            if (!horde.isDefeated()) assertEquals(lowest, horde.target(TargetingMode.LOWEST_HP).getHp());
+        }
+    }
+
+    @Test
+    void fightShouldClearTheHordeAndPoolTheLoot() {
+        Player player = new Player("Tester");
+        player.setCritChance(0.0);
+        List<Zombie> zombies = new ArrayList<>();
+        for (int i = 0; i < 50; i++) zombies.add(zombie(10, 0));
+
+        HordeBattle battle = new HordeBattle(player, zombies, 11L);
+        int heartsBefore = player.getHeartParts();
+
+        assertEquals(BattleOutcome.PLAYER_WON, battle.fight(1_000, TargetingMode.LOWEST_HP));
+        assertEquals(50, battle.getKills());
+        assertEquals(0, battle.getHorde().getLivingCount());
+
+        OrganParts loot = battle.collectLoot();
+        assertNotNull(loot);
+        assertTrue(loot.getHearts() >= 50 * 40);
+        assertEquals(heartsBefore + loot.getHearts(), player.getHeartParts());
+        assertNull(battle.collectLoot());
+    }
+}
@@ -0,0 +1,65 @@
+package battle;
+
+import entity.ArmoredZombie;
+import entity.Zombie;
+import entity.ZombieKind;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageCatalogTest {
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void defaultCampaignShouldMatchTheFiveStages() {
+        StageCatalog catalog = StageCatalog.getDefault();
+
+        assertEquals(5, catalog.size());
+        assertEquals(ZombieKind.BOSS, catalog.get(5).getEnemy());
+        assertEquals(3, catalog.get(3).getShopStage());
+        assertNull(catalog.get(0));
+        assertNull(catalog.get(6));
+        assertFalse(catalog.contains(6));
+    }
+
+    @Test
+    void stagesShouldBeParsedOnFirstUse() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int stage = 1; stage <= 500; stage++) {
+            sb.append(stage).append(",ARMORED,2.0,1.5,0.5,").append(stage).append(",backgrounds/bgALL.png\n");
+        }
+        StageCatalog catalog = StageCatalog.load(csv(sb.toString()));
+
+        assertEquals(500, catalog.size());
+        assertEquals(0, catalog.getLoadedCount());
+
+        StageDefinition def = catalog.get(250);
+        assertSame(def, catalog.get(250));
+        assertEquals(1, catalog.getLoadedCount());
+
+        Zombie zombie = def.createEnemy();
+        ArmoredZombie base = new ArmoredZombie();
+        assertInstanceOf(ArmoredZombie.class, zombie);
+        assertEquals(base.getMaxHp() * 2, zombie.getMaxHp());
+        assertEquals(zombie.getMaxHp(), zombie.getHp());
+        assertEquals(Math.round(base.getAttackPower() * 1.5), zombie.getAttackPower());
+        assertEquals(Math.round(base.getDefense() * 0.5), zombie.getDefense());
+    }
+
+    @Test
+    void loadShouldRejectGapsAndInvalidRowsOnUse() throws IOException {
+        assertThrows(IOException.class, () -> StageCatalog.load(csv("1,NORMAL,1,1,1,1,bg.png\n3,BOSS,1,1,1,1,bg.png\n")));
+
+        StageCatalog catalog = StageCatalog.load(csv("1,NORMAL,1,1,1,1,bg.png\n2,DRAGON,1,1,1,1,bg.png\n"));
+        assertNotNull(catalog.get(1));
+        assertThrows(IllegalStateException.class, () -> catalog.get(2));
+    }
+}
@@ -0,0 +1,72 @@
+package entity;
+
+import items.Weapon;
+import items.WeaponType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectivenessTableTest {
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void defaultTableShouldHoldTheClassicMatchups() {
+        EffectivenessTable table = EffectivenessTable.getDefault();
+
+        assertEquals(10, table.get(WeaponType.SHARP, ZombieKind.ROTTEN).getBonusDamage());
+        assertEquals(5, table.get(WeaponType.HEAVY, ZombieKind.ARMORED).getDefenseShred());
+        assertEquals(0.05, table.get(WeaponType.GUN, ZombieKind.RUNNER).getDodgeShred(), 1e-12);
+
+        int effective = 0;
+        for (WeaponType type : WeaponType.values()) {
+            for (ZombieKind kind : ZombieKind.values()) {
+                EffectivenessTable.Entry entry = table.get(type, kind);
+                assertNotNull(entry, type + " vs " + kind);
+                if (!entry.isNone()) effective++;
+            }
+        }
+        assertEquals(3, effective);
+    }
+
+    @Test
+    void zombieKindShouldBeResolvedOnceAtConstruction() {
+        for (ZombieKind kind : ZombieKind.values()) {
+            Zombie zombie = kind.create();
+            assertEquals(kind, zombie.getKind());
+            assertEquals(ZombieKind.of(zombie), zombie.getKind());
+        }
+    }
+
+    @Test
+    void playerShouldApplyACustomTable() throws IOException {
+        Player p = new Player("Hunter");
+        p.setCritChance(0.0);
+        p.setEffectiveness(EffectivenessTable.load(csv("NORMAL,BOSS,7,3,0.5\n")));
+        p.equipWeapon(new Weapon("Club", 0, 0.0, 0.0, 0, 0, WeaponType.NORMAL));
+
+        BossZombie boss = new BossZombie();
+        boss.setDefense(3);
+        boss.setDodgeChance(0.5);
+        int expected = p.getAttackPower() + 7;
+
+        assertEquals(expected, p.basicAttack(boss));
+        assertEquals(0, boss.getDefense());
+        assertEquals(0.0, boss.getDodgeChance(), 1e-12);
+    }
+
+    @Test
+    void loadShouldRejectInvalidRows() {
+        assertThrows(IOException.class, () -> EffectivenessTable.load(csv("SHARP,ROTTEN,10,0,0\nSHARP,ROTTEN,1,0,0\n")));
+        assertThrows(IOException.class, () -> EffectivenessTable.load(csv("LASER,ROTTEN,10,0,0\n")));
+        assertThrows(IOException.class, () -> EffectivenessTable.load(csv("SHARP,ROTTEN,-1,0,0\n")));
+        assertThrows(IOException.class, () -> EffectivenessTable.load(csv("SHARP,ROTTEN,10,0\n")));
+    }
+}
@@ -192,4 +192,74 @@ class PlayerTest {
 
         assertEquals(0.45, zombie.getDodgeChance(), 1e-9);
     }
-}
\ No newline at end of file
+
+    @Test
+    void repeatedEquipmentSwapsShouldNotDriftStats() {
+        Player p = new Player("Hunter");
+        double baseCrit = p.getCritChance();
+        double baseDodge = p.getDodgeChance();
+
+        Weapon lucky = new Weapon("Lucky Blade", 5, 0.95, 0.0, 0, 0, WeaponType.SHARP);
+        Armor cloak = new Armor("Ghost Cloak", 0, 0.95, 0, 0);
+
+        for (int i = 0; i < 5; i++) {
+            p.equipWeapon(lucky);
+            p.equipArmor(cloak);
+            assertEquals(1.0, p.getCritChance(), 1e-9);   // clamp ตอนใส่
+            assertEquals(1.0, p.getDodgeChance(), 1e-9);
+            p.equipWeapon(null);
+            p.equipArmor(null);
+        }
+
+        assertEquals(baseCrit, p.getCritChance(), 1e-9);
+        assertEquals(baseDodge, p.getDodgeChance(), 1e-9);
+    }
+
+    @Test
+    void reEquippingArmorShouldNotRefillAUsedShield() {
+        Player p = new Player("Hunter");
+        Armor jacket = new Armor("Jacket", 10, 0.0, 0, 0);
+        p.equipArmor(jacket);
+        p.setDodgeChance(0.0);
+
+        p.takeDamage(p.getDefense());   // ใช้เกราะหมด
+        assertEquals(0, p.getDefense());
+
+        p.equipArmor(null);
+        p.equipArmor(jacket);
+        assertEquals(0, p.getDefense());
+
+        p.addStatModifier("buff", new StatBlock(7, 0, 0.0, 0.0, 0.0));
+        int attack = p.getAttackPower();
+        p.removeStatModifier("buff");
+        assertEquals(attack - 7, p.getAttackPower());
+    }
+
+    @Test
+    void newArmorShouldStartWithAFullShield() {
+        Player p = new Player("Hunter");
+        int baseDefense = p.getDefense();
+        Armor jacket = new Armor("Jacket", 10, 0.0, 0, 0);
+        p.equipArmor(jacket);
+        p.setDodgeChance(0.0);
+
+        p.takeDamage(4);                // เกราะรับไปก่อน
+        assertEquals(baseDefense + 6, p.getDefense());
+        p.takeDamage(p.getDefense());   // ใช้หมดทั้งเกราะและ defense พื้นฐาน
+        assertEquals(0, p.getDefense());
+
+        Armor kevlar = new Armor("Kevlar", 15, 0.0, 0, 0);
+        p.equipArmor(kevlar);
+        assertEquals(15, p.getDefense());
+
+        p.takeDamage(5);
+        p.equipArmor(jacket);
+        assertEquals(0, p.getDefense());
+        p.equipArmor(kevlar);
+        assertEquals(10, p.getDefense());
+
+        // ชิ้นใหม่ที่ชื่อเหมือนกันก็เป็นของใหม่ เต็มหลอด
+        p.equipArmor(new Armor("Jacket", 10, 0.0, 0, 0));
+        assertEquals(10, p.getDefense());
+    }
+}
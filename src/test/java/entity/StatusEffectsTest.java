@@ -0,0 +1,78 @@
+package entity;
+
+import battle.AttackResult;
+import battle.BattleEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusEffectsTest {
+
+    @Test
+    void applyShouldKeepTheStrongestMagnitudeAndLongestDuration() {
+        StatusEffects effects = new StatusEffects();
+        assertTrue(effects.isEmpty());
+
+        effects.apply(StatusEffectType.BLEED, 4, 2);
+        effects.apply(StatusEffectType.BLEED, 2, 5);
+        effects.apply(StatusEffectType.HASTE, 10, 1);
+
+        assertEquals(4, effects.getMagnitude(StatusEffectType.BLEED));
+        assertEquals(5, effects.getTurns(StatusEffectType.BLEED));
+        assertEquals(StatusEffectType.BLEED.bit() | StatusEffectType.HASTE.bit(), effects.getActiveMask());
+        assertEquals(2, effects.getActiveCount());
+        assertFalse(effects.apply(StatusEffectType.STUN, 0, 0));
+
+        effects.clearAll();
+        assertTrue(effects.isEmpty());
+        assertEquals(0, effects.getMagnitude(StatusEffectType.BLEED));
+    }
+
+    @Test
+    void tickShouldApplyDamageAndRegenThenExpire() {
+        Zombie z = new NormalZombie();
+        z.setHp(50);
+
+        z.applyStatus(StatusEffectType.POISON, 5, 1);
+        z.applyStatus(StatusEffectType.BLEED, 3, 2);
+        z.applyStatus(StatusEffectType.REGEN, 10, 3);
+
+        z.tickStatusEffectsAtTurnStart();
+        assertEquals(50 - 5 - 3 + 10, z.getHp());
+        assertFalse(z.isPoisoned());
+        assertTrue(z.hasStatus(StatusEffectType.BLEED));
+
+        z.tickStatusEffectsAtTurnStart();
+        z.tickStatusEffectsAtTurnStart();
+        assertEquals(52 - 3 + 10 + 10, z.getHp());
+        assertTrue(z.getStatusEffects().isEmpty());
+    }
+
+    @Test
+    void armorBreakAndHasteShouldChangeIncomingHits() {
+        Zombie z = new NormalZombie();
+        z.setDefense(0);
+        z.setDodgeChance(0.0);
+        z.applyStatus(StatusEffectType.ARMOR_BREAK, 7, 2);
+        assertEquals(17, z.takeDamage(10));
+
+        z.applyStatus(StatusEffectType.HASTE, 100, 2);
+        assertEquals(0, z.takeDamage(10));
+    }
+
+    @Test
+    void stunnedZombieShouldSkipItsAttack() {
+        Player p = new Player("Tester");
+        Zombie z = new NormalZombie();
+        z.applyStatus(StatusEffectType.STUN, 0, 1);
+
+        int hp = p.getHp();
+        AttackResult result = new BattleEngine(p, z, 1L).enemyAttack();
+
+        assertTrue(result.isAttackerStunned());
+        assertFalse(result.isAttackerDefeated());
+        assertEquals(0, result.getDamage());
+        assertEquals(hp, p.getHp());
+        assertFalse(z.isStunned());
+    }
+}
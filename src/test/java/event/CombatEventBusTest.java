@@ -0,0 +1,109 @@
+package event;
+
+import battle.BattleEngine;
+import entity.NormalZombie;
+import entity.Player;
+import interfaces.CombatEventListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombatEventBusTest {
+
+    @Test
+    void publishWithoutListenersShouldRecordNothing() {
+        CombatEventBus bus = new CombatEventBus();
+
+        bus.publish(CombatEventType.DAMAGED, 0, 1, 10, 90);
+
+        assertFalse(bus.hasListeners());
+        assertEquals(0, bus.getPublishedCount());
+    }
+
+    @Test
+    void publishShouldRecordAndDispatchEvents() {
+        CombatEventBus bus = new CombatEventBus();
+        List<CombatEventType> seen = new ArrayList<>();
+        CombatEventListener listener = (type, source, target, amount, after) -> seen.add(type);
+        bus.addListener(listener);
+
+        bus.publish(CombatEventType.CRITICAL_HIT, 0, 1, 34, 66);
+        bus.publish(CombatEventType.DAMAGED, -1, 1, 34, 66);
+
+        assertEquals(List.of(CombatEventType.CRITICAL_HIT, CombatEventType.DAMAGED), seen);
+        assertEquals(2, bus.getPublishedCount());
+        assertEquals(CombatEventType.CRITICAL_HIT, bus.getType(0));
+        assertEquals(0, bus.getSource(0));
+        assertEquals(1, bus.getTarget(1));
+        assertEquals(34, bus.getAmount(1));
+        assertEquals(66, bus.getAfter(1));
+
+        bus.removeListener(listener);
+        assertFalse(bus.hasListeners());
+    }
+
+    @Test
+    void ringBufferShouldKeepOnlyLatestEvents() {
+        CombatEventBus bus = new CombatEventBus(4);
+        bus.addListener(new CombatMetrics());
+
+        for (int i = 0; i < 10; i++) {
+            bus.publish(CombatEventType.DAMAGED, -1, 0, i, 0);
+        }
+
+        assertEquals(6, bus.getOldestSequence());
+        assertEquals(9, bus.getAmount(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> bus.getAmount(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> bus.getAmount(10));
+    }
+
+    @Test
+    void takeDamageShouldEmitArmorBreakAndDamaged() {
+        CombatEventBus bus = new CombatEventBus();
+        CombatMetrics metrics = new CombatMetrics();
+        bus.addListener(metrics);
+
+        NormalZombie z = new NormalZombie();   // DEF 5
+        z.setDodgeChance(0.0);
+        z.setEventBus(bus);
+        z.takeDamage(20);
+
+        assertEquals(1, metrics.getCount(CombatEventType.ARMOR_BREAK));
+        assertEquals(1, metrics.getCount(CombatEventType.DAMAGED));
+        assertEquals(15, metrics.getTotal(CombatEventType.DAMAGED));
+        assertSame(z, bus.getParticipant(bus.getTarget(bus.getPublishedCount() - 1)));
+    }
+
+    @Test
+    void battleShouldRegisterBothFightersOnPlayerBus() {
+        CombatEventBus bus = new CombatEventBus();
+        bus.addListener(new CombatMetrics());
+        Player p = new Player("Hunter");
+        p.setEventBus(bus);
+        NormalZombie z = new NormalZombie();
+
+        new BattleEngine(p, z, 7L);
+
+        assertSame(bus, z.getEventBus());
+        assertSame(p, bus.getParticipant(p.getEventId()));
+        assertSame(z, bus.getParticipant(z.getEventId()));
+    }
+
+    @Test
+    void consoleLoggerShouldUsePlayerName() {
+        CombatEventBus bus = new CombatEventBus();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        bus.addListener(new ConsoleCombatLogger(bus, new PrintStream(buffer, true)));
+        Player p = new Player("Hunter");
+        p.setEventBus(bus);
+
+        p.addHearts(12);
+
+        assertTrue(buffer.toString().contains("Hunter gained 12 hearts"));
+    }
+}
@@ -0,0 +1,76 @@
+package items;
+
+import items.weapon.Axe;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemRegistryTest {
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void defaultCatalogShouldIndexByIdNameAndStage() {
+        ItemRegistry registry = ItemRegistry.getDefault();
+
+        ItemDefinition axe = registry.require("Axe");
+        assertSame(axe, registry.get(axe.getId()));
+        assertEquals(ItemKind.WEAPON, axe.getKind());
+        assertEquals(WeaponType.SHARP, axe.getWeaponType());
+        assertNull(registry.get(-1));
+        assertNull(registry.get("Lightsaber"));
+        assertThrows(IllegalArgumentException.class, () -> registry.require("Lightsaber"));
+
+        List<String> stage3 = registry.byStage(3).stream().map(ItemDefinition::getName).toList();
+        assertEquals(List.of("Hammer", "Knuckle-Dusters", "Riot Suit", "Medium Medkit"), stage3);
+        assertTrue(registry.require("Riot Suit").isSoldAt(5));
+        assertTrue(registry.byStage(99).isEmpty());
+        assertEquals(9, registry.byKind(ItemKind.WEAPON).size());
+    }
+
+    @Test
+    void createdItemsShouldKeepTheirDefinition() {
+        Axe axe = new Axe();
+        ItemDefinition def = ItemRegistry.getDefault().require("Axe");
+
+        assertSame(def, axe.getDefinition());
+        assertEquals(def.getId(), axe.getItemId());
+        assertEquals(150, axe.getAttackBonus());
+        assertNotSame(axe, def.create());
+        assertEquals(-1, new Potion("Custom", 1, 0, 0).getItemId());
+        assertThrows(IllegalStateException.class, def::createArmor);
+    }
+
+    @Test
+    void loadShouldRejectDuplicateIds() {
+        String text = "POTION,1,A,2,10,1,0\nPOTION,1,B,2,10,1,0\n";
+        IOException e = assertThrows(IOException.class, () -> ItemRegistry.load(csv(text)));
+        assertTrue(e.getMessage().contains("line 2"));
+    }
+
+    @Test
+    void loadShouldHandleLargeCatalogs() throws IOException {
+        StringBuilder sb = new StringBuilder("# generated\n");
+        for (int i = 0; i < 10_000; i++) {
+            sb.append("WEAPON,").append(i).append(",Weapon ").append(i).append(',').append(i % 50)
+                    .append(",10,0.1,1.5,5,1,NORMAL\n");
+        }
+
+        long start = System.nanoTime();
+        ItemRegistry registry = ItemRegistry.load(csv(sb.toString()));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(10_000, registry.size());
+        assertEquals(200, registry.byStage(7).size());
+        assertEquals("Weapon 4321", registry.get(4321).getName());
+        assertTrue(elapsedMs < 2_000, "load took " + elapsedMs + " ms");
+    }
+}
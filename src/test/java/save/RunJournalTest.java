@@ -0,0 +1,137 @@
+package save;
+
+import entity.Player;
+import items.Armor;
+import items.ItemRegistry;
+import items.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private final ItemRegistry registry = ItemRegistry.getDefault();
+
+    private SaveGame newRun() {
+        Player player = new Player("Tester");
+        List<Weapon> weapons = new ArrayList<>();
+        weapons.add(registry.require("Wooden Stick").createWeapon());
+        player.equipWeapon(weapons.get(0));
+        player.addHearts(100);
+        player.addBrains(50);
+        return SaveGame.capture(player, weapons, new ArrayList<Armor>(), 0, false, 0L);
+    }
+
+    @Test
+    void recoverShouldReplayTheJournalOnTopOfTheSnapshot() throws IOException {
+        int machete = registry.require("Machete").getId();
+        int jacket = registry.require("Leather Jacket").getId();
+        int medkit = registry.require("Small Medkit").getId();
+
+        try (RunJournal journal = new RunJournal(dir)) {
+            journal.append(JournalOp.STAGE_CLEARED, 9, 0); // ignored until the run is started
+            journal.compact(newRun());
+            journal.append(JournalOp.ADD_WEAPON, machete, 0);
+            journal.append(JournalOp.ADD_ARMOR, jacket, 0);
+            journal.append(JournalOp.ADD_POTION, medkit, 0);
+            journal.append(JournalOp.ADD_POTION, medkit, 0);
+            journal.append(JournalOp.CURRENCY, 20, 30);
+            journal.append(JournalOp.EQUIP_WEAPON, 1, 0);
+            journal.append(JournalOp.EQUIP_ARMOR, 0, 0);
+            journal.append(JournalOp.STAGE_CLEARED, 1, 0);
+            journal.append(JournalOp.USE_POTION, 0, 0);
+            journal.append(JournalOp.VITALS, 64, 3);
+            journal.append(JournalOp.ENDLESS, 0x12345678, 0x9ABCDEF0);
+            journal.awaitWrites();
+            assertEquals(11, journal.getRecordsWritten());
+            assertTrue(journal.getFlushCount() >= 1 && journal.getFlushCount() <= 11);
+        }
+
+        RecoveredRun run = new RunJournal(dir).recover(registry);
+        assertNotNull(run);
+        assertEquals(11, run.getRecordsReplayed());
+        assertEquals(1, run.getStage());
+        assertTrue(run.isEndless());
+        assertEquals(0x123456789ABCDEF0L, run.getEndlessSeed());
+
+        Player player = run.getPlayer();
+        assertEquals(List.of("Wooden Stick", "Machete"), run.getOwnedWeapons().stream().map(Weapon::getName).toList());
+        assertSame(run.getOwnedWeapons().get(1), player.getWeapon());
+        assertSame(run.getOwnedArmors().get(0), player.getArmor());
+        assertEquals(1, player.getPotions().size());
+        assertEquals(20, player.getHeartParts());
+        assertEquals(30, player.getBrainParts());
+        assertEquals(64, player.getHp());
+        assertEquals(3, player.getDefense());
+    }
+
+    @Test
+    void recoverShouldStopAtATornRecord() throws IOException {
+        try (RunJournal journal = new RunJournal(dir)) {
+            journal.compact(newRun());
+            journal.append(JournalOp.CURRENCY, 10, 10);
+            journal.awaitWrites();
+        }
+        // ครึ่ง record ที่เขียนไม่ทันตอนเครื่องดับ + record ที่เป็นศูนย์ทั้งหมด
+        Files.write(dir.resolve("run.lwj"), new byte[RunJournal.RECORD_SIZE + 7], StandardOpenOption.APPEND);
+
+        RecoveredRun run = new RunJournal(dir).recover(registry);
+        assertEquals(1, run.getRecordsReplayed());
+        assertEquals(10, run.getPlayer().getHeartParts());
+    }
+
+    @Test
+    void compactionShouldStartANewGenerationAndDropTheOldOne() throws IOException {
+        try (RunJournal journal = new RunJournal(dir, 3)) {
+            journal.compact(newRun());
+            journal.append(JournalOp.STAGE_CLEARED, 1, 0);
+            journal.append(JournalOp.STAGE_CLEARED, 2, 0);
+            assertFalse(journal.needsCompaction());
+            journal.append(JournalOp.STAGE_CLEARED, 3, 0);
+            assertTrue(journal.needsCompaction());
+
+            journal.compact(newRun());
+            journal.append(JournalOp.STAGE_CLEARED, 4, 0);
+            journal.awaitWrites();
+            assertEquals(2, journal.getGeneration());
+        }
+
+        assertFalse(Files.exists(dir.resolve("run-1" + SaveSlots.FILE_EXTENSION)));
+        assertTrue(Files.exists(dir.resolve("run-2" + SaveSlots.FILE_EXTENSION)));
+        assertEquals(RunJournal.HEADER_SIZE + RunJournal.RECORD_SIZE, Files.size(dir.resolve("run.lwj")));
+
+        RunJournal next = new RunJournal(dir);
+        RecoveredRun run = next.recover(registry);
+        assertEquals(1, run.getRecordsReplayed());
+        assertEquals(4, run.getStage());
+        assertEquals(2, next.getGeneration());
+        next.close();
+    }
+
+    @Test
+    void discardShouldRemoveTheRun() throws IOException {
+        try (RunJournal journal = new RunJournal(dir)) {
+            assertNull(journal.recover(registry));
+            journal.compact(newRun());
+            journal.append(JournalOp.STAGE_CLEARED, 1, 0);
+            journal.discard();
+            journal.append(JournalOp.STAGE_CLEARED, 2, 0);
+            journal.awaitWrites();
+        }
+        assertNull(new RunJournal(dir).recover(registry));
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package save;
+
+import entity.Player;
+import items.Armor;
+import items.ItemRegistry;
+import items.Weapon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveSlotsTest {
+
+    @TempDir
+    Path dir;
+
+    private final ItemRegistry registry = ItemRegistry.getDefault();
+
+    private Player player;
+    private final List<Weapon> weapons = new ArrayList<>();
+    private final List<Armor> armors = new ArrayList<>();
+
+    private void setUpRun() {
+        player = new Player("Tester");
+        weapons.add(registry.require("Wooden Stick").createWeapon());
+        weapons.add(registry.require("Machete").createWeapon());
+        armors.add(registry.require("Leather Jacket").createArmor());
+        player.equipWeapon(weapons.get(1));
+        player.equipArmor(armors.get(0));
+        player.addPotionToInventory(registry.require("Small Medkit").createPotion());
+        player.addPotionToInventory(registry.require("Small Medkit").createPotion());
+        player.addHearts(12);
+        player.addBrains(4);
+        player.setHp(77);
+    }
+
+    @Test
+    void saveShouldRoundTripTheRun() throws IOException {
+        setUpRun();
+        SaveSlots slots = new SaveSlots(dir, 3);
+        slots.save(2, SaveGame.capture(player, weapons, armors, 3, true, 1234L));
+
+        SaveGame save = slots.load(2);
+        assertNotNull(save);
+        assertEquals(3, save.getHeader().getStage());
+        assertTrue(save.getHeader().isEndless());
+        assertEquals(1234L, save.getHeader().getEndlessSeed());
+
+        List<Weapon> loadedWeapons = save.createOwnedWeapons(registry);
+        List<Armor> loadedArmors = save.createOwnedArmors(registry);
+        Player loaded = save.createPlayer(loadedWeapons, loadedArmors, registry);
+
+        assertEquals("Tester", loaded.getName());
+        assertEquals(List.of("Wooden Stick", "Machete"), loadedWeapons.stream().map(Weapon::getName).toList());
+        assertSame(loadedWeapons.get(1), loaded.getWeapon());
+        assertSame(loadedArmors.get(0), loaded.getArmor());
+        assertEquals(2, loaded.getPotions().size());
+        assertEquals(77, loaded.getHp());
+        assertEquals(12, loaded.getHeartParts());
+        assertEquals(4, loaded.getBrainParts());
+        assertEquals(player.getAttackPower(), loaded.getAttackPower());
+        assertEquals(player.getDefense(), loaded.getDefense());
+    }
+
+    @Test
+    void loadedShieldShouldMatchTheLiveGameAfterSwappingArmor() throws IOException {
+        setUpRun();
+        int baseDefense = new Player("Base").getDefense();
+        player.setDodgeChance(0.0);
+        player.takeDamage(7);           // เสื้อหนังรับไปบางส่วน
+        SaveSlots slots = new SaveSlots(dir, 3);
+        slots.save(1, SaveGame.capture(player, weapons, armors, 2, false, 0L));
+
+        SaveGame save = slots.load(1);
+        List<Armor> loadedArmors = save.createOwnedArmors(registry);
+        Player loaded = save.createPlayer(save.createOwnedWeapons(registry), loadedArmors, registry);
+        assertEquals(player.getDefense(), loaded.getDefense());
+
+        Armor riot = registry.require("Riot Suit").createArmor();
+        player.equipArmor(riot);
+        loaded.equipArmor(registry.require("Riot Suit").createArmor());
+        assertEquals(player.getDefense(), loaded.getDefense());
+
+        // ถอดเกราะแล้ว defense พื้นฐานต้องไม่หายไป
+        loaded.equipArmor(null);
+        assertEquals(baseDefense, loaded.getDefense());
+        loaded.equipArmor(loadedArmors.get(0));
+        assertEquals(player.getDefense() - riot.getDefenseBonus() + loadedArmors.get(0).getDefenseBonus() - 7,
+                loaded.getDefense());
+    }
+
+    @Test
+    void listShouldReadHeadersAndReportEmptySlots() throws IOException {
+        setUpRun();
+        SaveSlots slots = new SaveSlots(dir, 3);
+        assertFalse(slots.hasAny());
+        assertNull(slots.load(1));
+
+        slots.save(1, SaveGame.capture(player, weapons, armors, 1, false, 99L));
+        slots.save(1, SaveGame.capture(player, weapons, armors, 2, false, 99L));
+
+        List<SaveHeader> headers = slots.list();
+        assertEquals(3, headers.size());
+        assertEquals(2, headers.get(0).getStage());
+        assertEquals(0L, headers.get(0).getEndlessSeed());
+        assertNull(headers.get(1));
+        assertTrue(slots.hasAny());
+
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count(), "no temporary file should be left behind");
+        }
+        assertThrows(IllegalArgumentException.class, () -> slots.getPath(4));
+    }
+
+    @Test
+    void loadShouldRejectCorruptOrUnknownData() throws IOException {
+        setUpRun();
+        SaveSlots slots = new SaveSlots(dir, 1);
+        slots.save(1, SaveGame.capture(player, weapons, armors, 1, false, 0L));
+        Path file = slots.getPath(1);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x55;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> slots.load(1));
+        assertNotNull(slots.readHeader(1), "the header alone is still readable");
+
+        ByteBuffer future = SaveGame.capture(player, weapons, armors, 1, false, 0L).encode();
+        future.putShort(4, (short) (SaveGame.FORMAT_VERSION + 1));
+        Files.write(file, future.array());
+        assertThrows(IOException.class, () -> slots.load(1));
+        assertNull(slots.list().get(0));
+
+        Files.write(file, new byte[10]);
+        assertThrows(IOException.class, () -> slots.readHeader(1));
+    }
+
+    @Test
+    void captureShouldRejectItemsOutsideTheRegistry() {
+        setUpRun();
+        weapons.add(new Weapon("Prototype", 1, 0.0, 0.0, 0, 0, items.WeaponType.NORMAL));
+        assertThrows(IllegalArgumentException.class,
+                () -> SaveGame.capture(player, weapons, armors, 1, false, 0L));
+    }
+}
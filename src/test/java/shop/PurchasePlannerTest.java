@@ -0,0 +1,127 @@
+package shop;
+
+import entity.ArmoredZombie;
+import entity.BossZombie;
+import entity.Player;
+import entity.RottenZombie;
+import items.Item;
+import items.Potion;
+import items.Weapon;
+import items.armor.LeatherJacket;
+import items.weapon.CombatKnife;
+import items.weapon.Hammer;
+import items.weapon.Machete;
+import items.weapon.WoodenStick;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PurchasePlannerTest {
+
+    private static Player survivor(int hearts, int brains) {
+        Player player = new Player("Hunter");
+        player.equipWeapon(new WoodenStick());
+        player.addHearts(hearts);
+        player.addBrains(brains);
+        return player;
+    }
+
+    @Test
+    void emptyWalletShouldBuyNothing() {
+        Player player = survivor(0, 0);
+        List<Item> shop = List.of(new CombatKnife(), new LeatherJacket(), new Potion("Small Medkit", 30, 3, 1));
+
+        PurchasePlan plan = new PurchasePlanner().plan(player, List.of(player.getWeapon()), List.of(), shop, new RottenZombie());
+
+        assertFalse(plan.isBuyWeapon());
+        assertFalse(plan.isBuyArmor());
+        assertTrue(plan.getPotions().isEmpty());
+        assertEquals(plan.getBaselineWinProbability(), plan.getWinProbability(), 1e-12);
+    }
+
+    @Test
+    void planShouldStayWithinBudgetAndImproveTheOdds() {
+        Player player = survivor(50, 18);
+        player.setHp(90);
+        Potion medkit = new Potion("Small Medkit", 30, 3, 1);
+        List<Item> shop = List.of(new CombatKnife(), new Machete(), new LeatherJacket(), medkit);
+
+        PurchasePlan plan = new PurchasePlanner().plan(player, List.of(player.getWeapon()), List.of(), shop, new RottenZombie());
+
+        assertTrue(plan.getCostHearts() <= 50 && plan.getCostBrains() <= 18);
+        assertTrue(plan.getWinProbability() > plan.getBaselineWinProbability());
+        assertTrue(plan.getPotions().getOrDefault(medkit, 0) <= PurchasePlanner.MAX_PLANNED_POTIONS);
+        assertEquals(50, player.getHeartParts(), "Planning must not spend anything");
+        assertEquals(90, player.getHp());
+    }
+
+    @Test
+    void ownedItemsShouldBeFree() {
+        Player player = survivor(0, 0);
+        Weapon hammer = new Hammer();
+
+        PurchasePlan plan = new PurchasePlanner().plan(player, List.of(player.getWeapon(), hammer), List.of(), List.of(), new ArmoredZombie());
+
+        // ค้อนดีกว่าไม้กับ ArmoredZombie และมีอยู่แล้ว → แนะนำให้ใส่โดยไม่ต้องซื้อ
+        assertEquals("Hammer", plan.getWeapon().getName());
+        assertFalse(plan.isBuyWeapon());
+        assertEquals(0, plan.getCostHearts());
+        assertTrue(plan.getWinProbability() > plan.getBaselineWinProbability());
+    }
+
+    @Test
+    void scoresShouldBeMemoizedAcrossPlans() {
+        Player player = survivor(50, 18);
+        List<Item> shop = List.of(new CombatKnife(), new Machete(), new Potion("Small Medkit", 30, 3, 1));
+        PurchasePlanner planner = new PurchasePlanner();
+
+        PurchasePlan first = planner.plan(player, List.of(player.getWeapon()), List.of(), shop, new RottenZombie());
+        int cached = planner.getCachedScoreCount();
+        PurchasePlan second = planner.planAsync(player, List.of(player.getWeapon()), List.of(), shop, new RottenZombie()).join();
+
+        assertEquals(cached, planner.getCachedScoreCount());
+        assertEquals(first.getWinProbability(), second.getWinProbability());
+        assertEquals(first.getSummary(), second.getSummary());
+    }
+
+    @Test
+    void scaledEnemyWithSameKindAndHpShouldNotReuseScores() {
+        Player player = survivor(50, 18);
+        List<Item> shop = List.of(new CombatKnife(), new Potion("Small Medkit", 30, 3, 1));
+        PurchasePlanner planner = new PurchasePlanner();
+
+        RottenZombie stage = new RottenZombie();
+        RottenZombie scaled = new RottenZombie();
+        // HP เท่ากัน แต่ตีแรงขึ้น เหมือนศัตรูใน endless
+        scaled.setBaseStats(stage.getMaxHp(), stage.getAttackPower() * 3, stage.getDefense() + 5,
+                stage.getCritChance(), stage.getCritDamage(), stage.getDodgeChance());
+
+        PurchasePlan easy = planner.plan(player, List.of(player.getWeapon()), List.of(), shop, stage);
+        int cached = planner.getCachedScoreCount();
+        PurchasePlan hard = planner.plan(player, List.of(player.getWeapon()), List.of(), shop, scaled);
+
+        assertTrue(planner.getCachedScoreCount() > cached);
+        assertTrue(hard.getWinProbability() < easy.getWinProbability());
+    }
+
+    @Test
+    void enemyTooStrongToSolveShouldFailWithAReason() {
+        Player player = survivor(50, 18);
+        List<Item> shop = List.of(new CombatKnife());
+        PurchasePlanner planner = new PurchasePlanner();
+        BossZombie boss = new BossZombie();   // เหมือนบอสใน endless รอบท้าย ๆ
+        boss.setBaseStats(5000, boss.getAttackPower(), boss.getDefense(),
+                boss.getCritChance(), boss.getCritDamage(), boss.getDodgeChance());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> planner.plan(player, List.of(player.getWeapon()), List.of(), shop, boss));
+        assertTrue(e.getMessage().startsWith("enemy too strong to solve exactly"));
+
+        CompletionException async = assertThrows(CompletionException.class,
+                () -> planner.planAsync(player, List.of(player.getWeapon()), List.of(), shop, boss).join());
+        assertInstanceOf(IllegalArgumentException.class, async.getCause());
+    }
+}
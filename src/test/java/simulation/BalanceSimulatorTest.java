@@ -0,0 +1,70 @@
+package simulation;
+
+import battle.BattleOutcome;
+import entity.ZombieKind;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceSimulatorTest {
+
+    @Test
+    void runShouldCoverEveryWeaponArmorAndZombie() {
+        List<MatchupResult> results = new BalanceSimulator(5, 200, 42L).run(new ForkJoinPool(2));
+
+        int expected = BalanceSimulator.WEAPONS.size()
+                * BalanceSimulator.ARMORS.size()
+                * ZombieKind.values().length;
+        assertEquals(expected, results.size());
+
+        for (MatchupResult r : results) {
+            assertEquals(5, r.getStats().getTrials());
+            assertTrue(r.getStats().getWinRate() >= 0.0 && r.getStats().getWinRate() <= 1.0);
+        }
+    }
+
+    @Test
+    void writeCsvShouldWriteHeaderAndOneLinePerMatchup() throws Exception {
+        List<MatchupResult> results = new BalanceSimulator(2, 200, 42L).run(new ForkJoinPool(2));
+
+        StringWriter out = new StringWriter();
+        BalanceSimulator.writeCsv(results, out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals("weapon,armor,zombie,trials,win_rate,avg_turns,avg_hp_left", lines[0]);
+        assertEquals(results.size() + 1, lines.length);
+        assertTrue(lines[1].startsWith("Wooden Stick,None,NORMAL,2,"));
+    }
+
+    @Test
+    void runShouldBeReproducibleFromSeedRegardlessOfParallelism() {
+        List<MatchupResult> single = new BalanceSimulator(1_500, 200, 7L).run(new ForkJoinPool(1));
+        List<MatchupResult> parallel = new BalanceSimulator(1_500, 200, 7L).run(new ForkJoinPool(4));
+
+        for (int i = 0; i < single.size(); i++) {
+            assertEquals(single.get(i).getStats().getWins(), parallel.get(i).getStats().getWins());
+            assertEquals(single.get(i).getStats().getAverageTurns(), parallel.get(i).getStats().getAverageTurns(), 1e-12);
+        }
+    }
+
+    @Test
+    void matchupStatsShouldMergeAndAverage() {
+        MatchupStats a = new MatchupStats();
+        a.record(BattleOutcome.PLAYER_WON, 4, 60);
+        a.record(BattleOutcome.PLAYER_LOST, 6, 0);
+
+        MatchupStats b = new MatchupStats();
+        b.record(BattleOutcome.PLAYER_WON, 2, 100);
+
+        a.merge(b);
+
+        assertEquals(3, a.getTrials());
+        assertEquals(2.0 / 3.0, a.getWinRate(), 1e-9);
+        assertEquals(4.0, a.getAverageTurns(), 1e-9);
+        assertEquals(80.0, a.getAverageHpLeft(), 1e-9);
+    }
+}
@@ -0,0 +1,148 @@
+package simulation;
+
+import entity.Character;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterPoolTest {
+
+    /**
+     * Creates a plain character without special ability.
+     */
+    private static Character createCharacter(int maxHp, int attackPower, int defense,
+                                             double critChance, double critDamage, double dodgeChance) {
+        return new Character(maxHp, attackPower, defense, critChance, critDamage, dodgeChance) {
+            @Override
+            public void useSpecialAbility(Character target) {
+            }
+        };
+    }
+
+    private static void assertSameState(Character c, CharacterPool pool, int i) {
+        assertEquals(c.getHp(), pool.getHp(i));
+        assertEquals(c.getDefense(), pool.getDefense(i));
+        assertEquals(c.isAlive(), pool.isAlive(i));
+        assertEquals(c.isPoisoned(), pool.getPoisonTurns(i) > 0);
+    }
+
+    @Test
+    void takeDamageShouldConsumeDefenseBeforeHp() {
+        CharacterPool pool = new CharacterPool(1);
+        int i = pool.add(100, 10, 20, 0.0, 1.5, 0.0);
+        SplittableRandom random = new SplittableRandom(1);
+
+        assertEquals(0, pool.takeDamage(i, 15, random));
+        assertEquals(5, pool.getDefense(i));
+        assertEquals(25, pool.takeDamage(i, 30, random));
+        assertEquals(0, pool.getDefense(i));
+        assertEquals(75, pool.getHp(i));
+    }
+
+    @Test
+    void tickShouldApplyPoisonOnlyWhileActive() {
+        CharacterPool pool = new CharacterPool(2);
+        int a = pool.add(100, 10, 0, 0.0, 1.5, 0.0);
+        int b = pool.add(3, 10, 0, 0.0, 1.5, 0.0);
+        pool.applyPoison(a, 5, 2);
+        pool.applyPoison(b, 5, 2);
+        int[] taken = new int[2];
+
+        pool.tickStatusEffects(taken);
+        assertArrayEquals(new int[]{5, 3}, taken);
+        assertFalse(pool.isAlive(b));
+
+        pool.tickStatusEffects(taken);
+        pool.tickStatusEffects(taken);
+        assertEquals(90, pool.getHp(a));
+        assertEquals(0, pool.getPoisonTurns(a));
+        assertArrayEquals(new int[]{0, 0}, taken);
+    }
+
+    @Test
+    void poolShouldGrowBeyondInitialCapacity() {
+        CharacterPool pool = new CharacterPool(1);
+        for (int k = 0; k < 10; k++) {
+            pool.add(50 + k, 10, 5, 0.1, 1.5, 0.1);
+        }
+
+        assertEquals(10, pool.size());
+        assertEquals(59, pool.getMaxHp(9));
+    }
+
+    @Test
+    void poolShouldMatchObjectModelTurnByTurn() {
+        SplittableRandom setup = new SplittableRandom(2024);
+        int n = 64;
+        Character[] objects = new Character[n];
+        CharacterPool pool = new CharacterPool(n);
+        for (int i = 0; i < n; i++) {
+            objects[i] = createCharacter(
+                    50 + setup.nextInt(200), 5 + setup.nextInt(40), setup.nextInt(30),
+                    setup.nextDouble(0.5), 1.0 + setup.nextDouble(), setup.nextDouble(0.4));
+            assertEquals(i, pool.add(objects[i]));
+        }
+
+        SplittableRandom objectRandom = new SplittableRandom(99);
+        SplittableRandom poolRandom = new SplittableRandom(99);
+        for (Character c : objects) c.setRandom(objectRandom);
+
+        // จับคู่ครึ่งแรกตีครึ่งหลัง สลับฝั่งทุกเทิร์น
+        int half = n / 2;
+        int[] attackers = new int[half];
+        int[] targets = new int[half];
+        int[] dealt = new int[half];
+
+        for (int turn = 0; turn < 40; turn++) {
+            for (int k = 0; k < half; k++) {
+                attackers[k] = (turn % 2 == 0) ? k : k + half;
+                targets[k] = (turn % 2 == 0) ? k + half : k;
+            }
+
+            for (int i = 0; i < n; i++) objects[i].tickStatusEffectsAtTurnStart();
+            pool.tickStatusEffects(null);
+
+            for (int k = 0; k < half; k++) {
+                int expected = objects[attackers[k]].basicAttack(objects[targets[k]]);
+                if (turn % 3 == 0) {
+                    objects[targets[k]].applyPoison(3 + k % 4, 2);
+                }
+                dealt[k] = expected;
+            }
+            int[] expectedDealt = dealt.clone();
+
+            pool.resolveAttacks(attackers, targets, half, poolRandom, dealt);
+            if (turn % 3 == 0) {
+                for (int k = 0; k < half; k++) pool.applyPoison(targets[k], 3 + k % 4, 2);
+            }
+
+            assertArrayEquals(expectedDealt, dealt, "turn " + turn);
+            for (int i = 0; i < n; i++) {
+                assertSameState(objects[i], pool, i);
+            }
+        }
+    }
+
+    @Test
+    void applyDamageShouldMatchTakeDamageWithoutDodge() {
+        int n = 16;
+        Character[] objects = new Character[n];
+        CharacterPool pool = new CharacterPool(n);
+        int[] raw = new int[n];
+        for (int i = 0; i < n; i++) {
+            objects[i] = createCharacter(30, 10, i * 3, 0.0, 1.5, 0.0);
+            pool.add(objects[i]);
+            raw[i] = i * 5 - 10;   // รวมค่าติดลบ/ศูนย์ด้วย
+        }
+        int[] dealt = new int[n];
+
+        pool.applyDamage(raw, dealt, n);
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(objects[i].takeDamage(raw[i]), dealt[i]);
+            assertSameState(objects[i], pool, i);
+        }
+    }
+}
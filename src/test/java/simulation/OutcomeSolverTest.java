@@ -0,0 +1,132 @@
+package simulation;
+
+import battle.BattleEngine;
+import battle.BattleOutcome;
+import entity.Player;
+import entity.ZombieKind;
+import items.Potion;
+import items.armor.KevlarJacket;
+import items.weapon.Hammer;
+import items.weapon.Machete;
+import items.weapon.Revolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutcomeSolverTest {
+
+    /**
+     * Plays many seeded battles and checks that the solver agrees with them.
+     */
+    private static void assertMatchesSampling(Player template, ZombieKind kind) {
+        OutcomeDistribution exact = new OutcomeSolver(200).solve(template, kind.create());
+
+        int trials = 20_000;
+        SplittableRandom seeds = new SplittableRandom(99);
+        MatchupStats sampled = new MatchupStats();
+        for (int i = 0; i < trials; i++) {
+            Player player = copyLoadout(template);
+            BattleEngine engine = new BattleEngine(player, kind.create(), seeds.nextLong());
+            BattleOutcome outcome = engine.fight(200);
+            sampled.record(outcome, engine.getTurns(), player.getHp());
+        }
+
+        assertEquals(exact.getWinProbability(), sampled.getWinRate(), 0.015, kind + " win rate");
+        if (exact.getWinProbability() > 0.2) {
+            assertEquals(exact.getExpectedHpLeft(), sampled.getAverageHpLeft(), 2.0, kind + " hp left");
+        }
+    }
+
+    private static Player copyLoadout(Player template) {
+        Player player = new Player("Copy");
+        if (template.getWeapon() != null) player.equipWeapon(template.getWeapon());
+        if (template.getArmor() != null) player.equipArmor(template.getArmor());
+        return player;
+    }
+
+    @Test
+    void solverShouldMatchSamplingForEveryZombie() {
+        Player unarmed = new Player("Hunter");
+        for (ZombieKind kind : ZombieKind.values()) {
+            assertMatchesSampling(unarmed, kind);
+        }
+    }
+
+    @Test
+    void solverShouldApplyWeaponMatchups() {
+        Player sharp = new Player("Hunter");
+        sharp.equipWeapon(new Machete());
+        assertMatchesSampling(sharp, ZombieKind.ROTTEN);
+
+        Player heavy = new Player("Hunter");
+        heavy.equipWeapon(new Hammer());
+        heavy.equipArmor(new KevlarJacket());
+        assertMatchesSampling(heavy, ZombieKind.ARMORED);
+
+        Player gun = new Player("Hunter");
+        gun.equipWeapon(new Revolver());
+        assertMatchesSampling(gun, ZombieKind.RUNNER);
+    }
+
+    @Test
+    void potionPolicyShouldMatchSampling() {
+        int[] heals = {50, 30, 30};
+        Player template = new Player("Hunter");
+        OutcomeDistribution withPotions = new OutcomeSolver(200).solve(template, ZombieKind.ROTTEN.create(), heals);
+        OutcomeDistribution without = new OutcomeSolver(200).solve(template, ZombieKind.ROTTEN.create());
+
+        int danger = OutcomeSolver.worstTurnDamage(ZombieKind.ROTTEN.create());
+        SplittableRandom seeds = new SplittableRandom(3);
+        MatchupStats sampled = new MatchupStats();
+        for (int i = 0; i < 20_000; i++) {
+            Player player = copyLoadout(template);
+            Potion[] potions = {new Potion("A", 50, 0, 0), new Potion("B", 30, 0, 0), new Potion("C", 30, 0, 0)};
+            for (Potion potion : potions) player.addPotionToInventory(potion);
+
+            BattleEngine engine = new BattleEngine(player, ZombieKind.ROTTEN.create(), seeds.nextLong());
+            int used = 0;
+            while (engine.getTurns() < 200 && engine.getOutcome() == BattleOutcome.UNRESOLVED) {
+                while (used < potions.length && player.getHp() <= danger && player.getHp() < player.getMaxHp()) {
+                    engine.usePotion(potions[used++]);
+                }
+                engine.playerAttack();
+                if (engine.getOutcome() != BattleOutcome.UNRESOLVED) break;
+                engine.tickPlayerStatus();
+                if (engine.getOutcome() != BattleOutcome.UNRESOLVED) break;
+                engine.enemyAttack();
+            }
+            sampled.record(engine.getOutcome(), engine.getTurns(), player.getHp());
+        }
+
+        assertTrue(withPotions.getWinProbability() > without.getWinProbability());
+        assertEquals(withPotions.getWinProbability(), sampled.getWinRate(), 0.015);
+        assertEquals(withPotions.getExpectedHpLeft(), sampled.getAverageHpLeft(), 2.0);
+    }
+
+    @Test
+    void probabilitiesShouldSumToOne() {
+        Player player = new Player("Hunter");
+        player.equipWeapon(new Machete());
+        OutcomeDistribution d = new OutcomeSolver(200, 0.0).solve(player, ZombieKind.BOSS.create());
+
+        double total = d.getWinProbability() + d.getLossProbability() + d.getUnresolvedProbability();
+        assertEquals(1.0, total, 1e-9);
+        assertEquals(0.0, d.getPrunedProbability());
+
+        double byTurn = 0.0;
+        for (int t = 1; t <= d.getMaxTurns(); t++) byTurn += d.getWinProbability(t);
+        assertEquals(d.getWinProbability(), byTurn, 1e-12);
+    }
+
+    @Test
+    void turnLimitShouldLeaveMassUnresolved() {
+        OutcomeDistribution d = new OutcomeSolver(2).solve(new Player("Hunter"), ZombieKind.BOSS.create());
+
+        // บอส 350 HP ตายใน 2 เทิร์นไม่ได้
+        assertEquals(0.0, d.getWinProbability());
+        assertTrue(d.getUnresolvedProbability() > 0.99);
+        assertEquals(0.0, d.getExpectedHpLeft());
+    }
+}
@@ -0,0 +1,111 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetWarmupTest {
+
+    /**
+     * Records the callbacks of a warm-up.
+     */
+    private static final class Recorder implements AssetWarmup.Listener {
+        final List<Integer> progress = new CopyOnWriteArrayList<>();
+        final AtomicInteger readyCalls = new AtomicInteger();
+        final CountDownLatch ready = new CountDownLatch(1);
+
+        @Override
+        public void onProgress(int done, int total, String label) {
+            progress.add(done);
+        }
+
+        @Override
+        public void onCriticalReady() {
+            readyCalls.incrementAndGet();
+            ready.countDown();
+        }
+    }
+
+    @Test
+    void criticalReadyShouldFireOnceAfterEveryCriticalStepWithoutWaitingForTheOthers() throws InterruptedException {
+        CountDownLatch releaseBackground = new CountDownLatch(1);
+        AtomicInteger criticalLoaded = new AtomicInteger();
+        AssetWarmup warmup = new AssetWarmup();
+        warmup.add("slow", false, () -> {
+            try {
+                releaseBackground.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 5; i++) {
+            warmup.add("critical" + i, true, criticalLoaded::incrementAndGet);
+        }
+        warmup.add("broken", true, () -> {
+            throw new IllegalStateException("missing");
+        });
+        assertEquals(6, warmup.getCriticalCount());
+
+        // callback executor แบบ thread ไหนก็ได้ (แทน Platform::runLater)
+        Recorder recorder = new Recorder();
+        warmup.start(2, Runnable::run, recorder);
+        assertTrue(recorder.ready.await(5, TimeUnit.SECONDS));
+
+        assertEquals(5, criticalLoaded.get());
+        assertEquals(1, warmup.getFailureCount());
+        assertEquals(6, recorder.progress.size());
+        assertTrue(warmup.getDoneCount() < warmup.getStepCount(), "background step still loading");
+
+        releaseBackground.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (warmup.getDoneCount() < warmup.getStepCount() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(7, warmup.getDoneCount());
+        assertEquals(1, recorder.readyCalls.get());
+    }
+
+    @Test
+    void stepThrowingAnErrorShouldStillCountAsDone() throws InterruptedException {
+        AssetWarmup warmup = new AssetWarmup();
+        warmup.add("native", true, () -> {
+            throw new UnsatisfiedLinkError("no gstreamer");
+        });
+        warmup.add("font", true, () -> {
+            throw new ExceptionInInitializerError("bad static init");
+        });
+        warmup.add("sound", false, () -> {
+            throw new NoClassDefFoundError("utils/SoundManager");
+        });
+
+        Recorder recorder = new Recorder();
+        warmup.start(1, Runnable::run, recorder);
+
+        assertTrue(recorder.ready.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2), recorder.progress);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (warmup.getDoneCount() < warmup.getStepCount() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(3, warmup.getDoneCount());
+        assertEquals(3, warmup.getFailureCount());
+    }
+
+    @Test
+    void warmupWithoutCriticalStepsShouldBeReadyAtOnce() throws InterruptedException {
+        Recorder recorder = new Recorder();
+        AssetWarmup warmup = new AssetWarmup();
+        warmup.add("sound", false, () -> { });
+        warmup.start(1, Runnable::run, recorder);
+
+        assertTrue(recorder.ready.await(5, TimeUnit.SECONDS));
+        assertTrue(recorder.progress.isEmpty());
+        assertThrows(IllegalStateException.class, () -> warmup.add("late", true, () -> { }));
+    }
+}
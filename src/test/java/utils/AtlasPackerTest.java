@@ -0,0 +1,95 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AtlasPackerTest {
+
+    private static InputStream csv(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void layoutShouldPlaceEveryFrameInsideItsPageWithoutOverlap() {
+        List<String> names = new ArrayList<>();
+        int[] widths = new int[40];
+        int[] heights = new int[40];
+        for (int i = 0; i < 40; i++) {
+            names.add("frame" + i);
+            widths[i] = 20 + (i * 37) % 90;
+            heights[i] = 30 + (i * 53) % 120;
+        }
+
+        AtlasIndex index = AtlasPacker.layout(names, widths, heights, 256, 2);
+        assertEquals(40, index.getFrames().size());
+        assertTrue(index.getPageCount() > 1);
+
+        List<AtlasIndex.Frame> frames = new ArrayList<>(index.getFrames());
+        for (int i = 0; i < frames.size(); i++) {
+            AtlasIndex.Frame a = frames.get(i);
+            int source = names.indexOf(a.getName());
+            assertEquals(widths[source], a.getWidth());
+            assertEquals(heights[source], a.getHeight());
+            assertTrue(a.getX() >= 2 && a.getY() >= 2, a.getName());
+            assertTrue(a.getX() + a.getWidth() + 2 <= 256 && a.getY() + a.getHeight() + 2 <= 256, a.getName());
+            for (int j = i + 1; j < frames.size(); j++) {
+                assertFalse(a.overlaps(frames.get(j)), a.getName() + " overlaps " + frames.get(j).getName());
+            }
+        }
+        int[] size = AtlasPacker.pageSize(index, 0, 2);
+        assertTrue(size[0] <= 256 && size[1] <= 256);
+    }
+
+    @Test
+    void layoutShouldRejectAFrameLargerThanAPage() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AtlasPacker.layout(List.of("big"), new int[]{300}, new int[]{10}, 256, 2));
+    }
+
+    @Test
+    void indexShouldRoundTripThroughCsv() throws IOException {
+        AtlasIndex index = AtlasPacker.layout(List.of("player/idle", "zombies/idle"),
+                new int[]{87, 54}, new int[]{128, 96}, 2048, 2);
+        StringWriter out = new StringWriter();
+        index.write(out, "characters/");
+
+        AtlasIndex read = AtlasIndex.load(csv(out.toString()));
+        assertEquals(1, read.getPageCount());
+        AtlasIndex.Frame frame = read.get("zombies/idle");
+        assertEquals(index.get("zombies/idle").getX(), frame.getX());
+        assertEquals(96, frame.getHeight());
+        assertNull(read.get("missing"));
+    }
+
+    @Test
+    void loadShouldReportTheLineOfAnInvalidRow() {
+        IOException e = assertThrows(IOException.class,
+                () -> AtlasIndex.load(csv("# header\na,0,0,0,10,10\nb,0,0,x,10,10\n")));
+        assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+        assertThrows(IOException.class, () -> AtlasIndex.load(csv("a,0,0,0,10,10\na,0,20,0,10,10\n")));
+    }
+
+    @Test
+    void charactersAtlasShouldHoldEveryBattleFrame() throws IOException {
+        try (InputStream in = AtlasPackerTest.class.getResourceAsStream("/assets/atlas/characters.csv")) {
+            assertNotNull(in);
+            AtlasIndex index = AtlasIndex.load(in);
+            assertEquals(1, index.getPageCount());
+            for (String kind : List.of("normal", "rotten", "armored", "runner", "boss")) {
+                for (String state : List.of("idle", "attack", "hurt", "dead")) {
+                    assertNotNull(index.get("zombies/" + kind + "_zombie_" + state), kind + " " + state);
+                }
+            }
+            assertNotNull(index.get("player/player_rifle_attack"));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSchedulerTest {
+
+    /**
+     * Fake timer: keeps every started delay until the test fires it.
+     */
+    private final List<Runnable> fires = new ArrayList<>();
+    private final List<Double> delays = new ArrayList<>();
+    private int stops;
+
+    private final GameScheduler scheduler = new GameScheduler((millis, fire) -> {
+        delays.add(millis);
+        fires.add(fire);
+        return () -> stops++;
+    });
+
+    @AfterEach
+    void resetSpeed() {
+        GameSpeed.setTimeScale(TimeScale.NORMAL);
+    }
+
+    private void fireAll() {
+        for (Runnable fire : new ArrayList<>(fires)) fire.run();
+    }
+
+    @Test
+    void actionsShouldRunOnceWhenTheirDelayElapses() {
+        GameSpeed.setTimeScale(TimeScale.DOUBLE);
+        int[] runs = new int[1];
+
+        GameScheduler.Handle handle = scheduler.schedule(1000, () -> runs[0]++);
+        assertEquals(0, runs[0]);
+        assertEquals(1, scheduler.getPendingCount());
+        assertEquals(500.0, (double) delays.get(0));
+
+        fireAll();
+        fireAll();
+        assertEquals(1, runs[0]);
+        assertTrue(handle.isDone());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void cancelledActionShouldNotRun() {
+        int[] runs = new int[1];
+
+        GameScheduler.Handle cancelled = scheduler.schedule(1000, () -> runs[0]++);
+        GameScheduler.Handle kept = scheduler.schedule(1000, () -> runs[0] += 10);
+        cancelled.cancel();
+        fireAll();
+
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.isDone());
+        assertTrue(kept.isDone());
+        assertEquals(10, runs[0]);
+        assertEquals(1, stops);
+
+        // ยกเลิกหลังรันแล้วไม่มีผล
+        kept.cancel();
+        assertFalse(kept.isCancelled());
+        assertEquals(1, stops);
+    }
+
+    @Test
+    void cancelAllShouldDropPendingActionsButAcceptNewOnes() {
+        int[] runs = new int[1];
+        scheduler.schedule(100, () -> runs[0]++);
+        scheduler.schedule(200, () -> runs[0]++);
+
+        scheduler.cancelAll();
+        assertEquals(0, scheduler.getPendingCount());
+        assertEquals(2, stops);
+
+        GameScheduler.Handle later = scheduler.schedule(100, () -> runs[0] += 10);
+        fireAll();
+        assertEquals(10, runs[0]);
+        assertTrue(later.isDone());
+    }
+
+    @Test
+    void shutdownShouldCancelPendingAndIgnoreLaterActions() {
+        int[] runs = new int[1];
+        scheduler.schedule(100, () -> runs[0]++);
+
+        scheduler.shutdown();
+        GameScheduler.Handle ignored = scheduler.schedule(100, () -> runs[0]++);
+        fireAll();
+
+        assertEquals(0, runs[0]);
+        assertTrue(ignored.isCancelled());
+        assertEquals(1, fires.size());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+}
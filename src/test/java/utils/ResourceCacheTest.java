@@ -0,0 +1,124 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceCacheTest {
+
+    @Test
+    void concurrentRequestsShouldShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ResourceCache<String> cache = new ResourceCache<>(key -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return key.toUpperCase();
+        }, String::length, 1000);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) results.add(pool.submit(() -> cache.get("atlas")));
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<String> result : results) assertEquals("ATLAS", result.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        ResourceCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getMisses());
+        assertEquals(7, stats.getHits());
+        assertEquals(5, stats.getWeight());
+    }
+
+    @Test
+    void missingKeysShouldNotBeLoadedAgainUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceCache<String> cache = new ResourceCache<>(key -> {
+            loads.incrementAndGet();
+            if (key.equals("broken")) throw new IllegalStateException("corrupt");
+            return null;
+        }, String::length, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(cache.get("missing"));
+            assertNull(cache.get("broken"));
+        }
+        assertEquals(2, loads.get());
+        assertEquals(4, cache.getStats().getNegativeHits());
+        assertEquals(2, cache.getStats().getMissingCount());
+
+        cache.invalidate("missing");
+        assertNull(cache.get("missing"));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void overBudgetShouldEvictTheLeastRecentlyUsedValues() {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceCache<String> cache = new ResourceCache<>(key -> {
+            loads.incrementAndGet();
+            return key;
+        }, String::length, 10);
+
+        cache.get("aaaa");
+        cache.get("bbbb");
+        cache.get("aaaa"); // bbbb กลายเป็นตัวที่ใช้นานสุด
+        cache.get("cccc");
+
+        ResourceCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getEvictions());
+        assertEquals(8, stats.getWeight());
+        assertEquals(3, loads.get());
+
+        cache.get("aaaa");
+        assertEquals(3, loads.get());
+        cache.get("bbbb");
+        assertEquals(4, loads.get());
+
+        // ค่าที่ใหญ่กว่างบทั้งหมดยังเก็บไว้ได้ แต่ไล่ตัวอื่นออกหมด
+        cache.get("dddddddddddd");
+        assertEquals(1, cache.getStats().getCachedCount());
+        assertEquals(12, cache.getStats().getWeight());
+    }
+
+    @Test
+    void pinnedValuesShouldSurviveEvictionWhileHeld() {
+        AtomicInteger loads = new AtomicInteger();
+        ResourceCache<StringBuilder> cache = new ResourceCache<>(key -> {
+            loads.incrementAndGet();
+            return new StringBuilder(key);
+        }, StringBuilder::length, 10);
+
+        // เหมือน SpriteAtlas ที่ถือหน้า atlas ไว้ทั้งเกม
+        StringBuilder page = cache.pin("page");
+        cache.get("bg-1");
+        cache.get("bg-2");
+        cache.get("bg-3");
+
+        assertTrue(cache.getStats().getEvictions() >= 2);
+        assertSame(page, cache.get("page"));
+        assertSame(page, cache.pin("page"));
+        assertEquals(4, loads.get());
+
+        // ค่าที่ไม่ได้ปักหมุดยังโดนไล่ตามปกติ
+        cache.get("bg-1");
+        assertEquals(5, loads.get());
+    }
+}
@@ -0,0 +1,33 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeScaleTest {
+
+    @Test
+    void scaleShouldDivideDelaysByFactor() {
+        assertEquals(1200, TimeScale.NORMAL.scale(1200));
+        assertEquals(600, TimeScale.DOUBLE.scale(1200));
+        assertEquals(62.5, TimeScale.QUADRUPLE.scale(250));
+        assertEquals(0, TimeScale.INSTANT.scale(1500));
+    }
+
+    @Test
+    void nextShouldCycleBackToNormal() {
+        TimeScale scale = TimeScale.NORMAL;
+        for (int i = 0; i < TimeScale.values().length; i++) scale = scale.next();
+
+        assertEquals(TimeScale.NORMAL, scale);
+        assertEquals(TimeScale.INSTANT, TimeScale.QUADRUPLE.next());
+    }
+
+    @Test
+    void parseShouldAcceptLabelsAndNames() {
+        assertEquals(TimeScale.QUADRUPLE, TimeScale.parse("4X"));
+        assertEquals(TimeScale.INSTANT, TimeScale.parse("instant"));
+        assertEquals(TimeScale.NORMAL, TimeScale.parse(null));
+        assertEquals(TimeScale.NORMAL, TimeScale.parse("warp"));
+    }
+}